@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# Genera un archivo AppCDS para AccountMsApplication y deja un script de arranque que lo usa.
+#
+# AppCDS solo admite JARs en el classpath (ni directorios ni JARs anidados del fat jar), así que
+# la aplicación se empaqueta como JAR plano + dependencias en target/cds/app. Después se hace una
+# ejecución de entrenamiento que arranca el contexto completo (necesita la misma base de datos y
+# variables de entorno que un arranque normal), se cierra sola al estar lista y vuelca la lista de
+# clases cargadas. Compatible con Java 11.
+#
+# Uso: scripts/build-cds-archive.sh [perfil spring, por defecto "lazy"]
+set -euo pipefail
+
+PROFILE="${1:-lazy}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+OUT="$ROOT/target/cds"
+APP="$OUT/app"
+MAIN_CLASS=org.banking.accountms.AccountMsApplication
+
+cd "$ROOT"
+./mvnw -B -q -DskipTests package dependency:copy-dependencies \
+    -DincludeScope=runtime -DoutputDirectory="$APP/lib"
+
+rm -f "$APP/accountms.jar"
+jar --create --file "$APP/accountms.jar" -C target/classes .
+
+# Mismo classpath, en el mismo orden, al volcar y al arrancar; si no, la JVM descarta el archivo.
+CLASSPATH="$APP/accountms.jar"
+for dependency in $(ls "$APP/lib" | sort); do
+    CLASSPATH="$CLASSPATH:$APP/lib/$dependency"
+done
+echo "$CLASSPATH" > "$OUT/classpath.txt"
+
+echo "Ejecución de entrenamiento (perfil $PROFILE)..."
+java -Xshare:off -XX:DumpLoadedClassList="$OUT/classes.lst" -cp "$CLASSPATH" \
+    "$MAIN_CLASS" --spring.profiles.active="$PROFILE" --account.startup.exit-after-ready=true
+
+echo "Volcando archivo CDS..."
+java -Xshare:dump -XX:SharedClassListFile="$OUT/classes.lst" -XX:SharedArchiveFile="$OUT/accountms.jsa" \
+    -cp "$CLASSPATH" > "$OUT/dump.log" 2>&1
+
+cat > "$OUT/run.sh" <<RUN
+#!/usr/bin/env bash
+exec java -Xshare:auto -XX:SharedArchiveFile="$OUT/accountms.jsa" -cp "\$(cat "$OUT/classpath.txt")" \\
+    $MAIN_CLASS --spring.profiles.active=$PROFILE "\$@"
+RUN
+chmod +x "$OUT/run.sh"
+
+echo "Archivo generado en $OUT/accountms.jsa; arrancar con $OUT/run.sh"
+echo "Comparar el tiempo de 'Aplicación lista para recibir tráfico' con y sin el archivo."
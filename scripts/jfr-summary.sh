@@ -0,0 +1,23 @@
+#!/usr/bin/env bash
+# Resume por etapa los eventos de creación de cuentas de una grabación JFR.
+#
+# Los eventos vienen deshabilitados; se graban con el perfil incluido en la aplicación
+# (src/main/resources/jfr/accountms.jfc, copiado a target/classes/jfr al compilar):
+#
+#   java -XX:StartFlightRecording=settings=target/classes/jfr/accountms.jfc,filename=accountms.jfr,dumponexit=true \
+#       -jar target/AccountMS-0.0.1-SNAPSHOT.jar
+#
+# o en caliente sobre un proceso en marcha:
+#
+#   jcmd <pid> JFR.start settings=target/classes/jfr/accountms.jfc duration=5m filename=accountms.jfr
+#
+# Uso: scripts/jfr-summary.sh accountms.jfr
+set -euo pipefail
+
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+if [ ! -f "$ROOT/target/classes/org/banking/accountms/service/jfr/JfrStageSummary.class" ]; then
+    (cd "$ROOT" && ./mvnw -B -q compile)
+fi
+
+exec java -cp "$ROOT/target/classes" org.banking.accountms.service.jfr.JfrStageSummary "$@"
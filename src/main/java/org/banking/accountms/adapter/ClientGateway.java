@@ -2,6 +2,7 @@ package org.banking.accountms.adapter;
 
 import lombok.AllArgsConstructor;
 import org.banking.accountms.config.ClientProperties;
+import org.banking.accountms.service.jfr.ClientLookupEvent;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
@@ -17,6 +18,19 @@ public class ClientGateway {
     private final ClientProperties clientProperties;
 
     public boolean exists(Long clientId) {
+        ClientLookupEvent event = new ClientLookupEvent(clientId);
+        event.begin();
+        try {
+            boolean exists = lookup(clientId);
+            event.finish(null, exists ? ClientLookupEvent.FOUND : ClientLookupEvent.NOT_FOUND);
+            return exists;
+        } catch (RuntimeException e) {
+            event.finish(null, ClientLookupEvent.ERROR);
+            throw e;
+        }
+    }
+
+    private boolean lookup(Long clientId) {
         try {
             ResponseEntity<Void> response = restTemplate.getForEntity(
                     clientProperties.getServiceUrl() + "/clientes/" + clientId,
@@ -0,0 +1,36 @@
+package org.banking.accountms.adapter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+/**
+ * Equivalente no bloqueante de {@link ClientGateway}: mismas reglas (2xx existe, 4xx no existe,
+ * error de conexión como {@link IllegalStateException}) sin ocupar un hilo mientras responde.
+ */
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveClientGateway {
+
+    private final WebClient clientServiceWebClient;
+
+    public Mono<Boolean> exists(Long clientId) {
+        return clientServiceWebClient.get()
+                .uri("/clientes/{id}", clientId)
+                .exchangeToMono(response -> {
+                    if (response.statusCode().is2xxSuccessful()) {
+                        return response.releaseBody().thenReturn(true);
+                    }
+                    if (response.statusCode().is4xxClientError()) {
+                        return response.releaseBody().thenReturn(false);
+                    }
+                    return response.createException().flatMap(Mono::error);
+                })
+                .onErrorMap(WebClientRequestException.class,
+                        e -> new IllegalStateException("No se pudo conectar al servicio de clientes", e));
+    }
+}
@@ -0,0 +1,18 @@
+package org.banking.accountms.adapter.cache;
+
+import java.util.function.Consumer;
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+
+/**
+ * Transporte de invalidaciones de caché entre instancias. La entrega es best-effort: un mensaje
+ * perdido deja el dato obsoleto como mucho hasta que expire su región.
+ */
+public interface CacheInvalidationChannel {
+
+    void broadcast(CacheInvalidationMessage message);
+
+    /**
+     * Registra quién procesa los mensajes recibidos de otras instancias.
+     */
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
@@ -0,0 +1,30 @@
+package org.banking.accountms.adapter.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Entrega cada mensaje a los suscriptores del mismo proceso, como si viniera de otra instancia.
+ * Sirve para una sola instancia y para probar el camino de invalidación remota. Hay que pedirlo
+ * explícitamente: con varias instancias dejaría la caché de segundo nivel de las demás sin invalidar.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.cache", name = "channel", havingValue = "loopback")
+public class LoopbackInvalidationChannel implements CacheInvalidationChannel {
+
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void broadcast(CacheInvalidationMessage message) {
+        listeners.forEach(listener -> listener.accept(message));
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
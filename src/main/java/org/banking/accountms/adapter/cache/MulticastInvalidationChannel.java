@@ -0,0 +1,150 @@
+package org.banking.accountms.adapter.cache;
+
+import java.io.IOException;
+import java.net.DatagramPacket;
+import java.net.InetAddress;
+import java.net.MulticastSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.CacheProperties;
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Difunde invalidaciones por UDP multicast dentro de la red de las instancias, sin broker.
+ * Formato del datagrama: {@code origen|idCuenta}, con el id vacío para invalidar todas,
+ * {@code origen|id,id,...} para invalidar varias, o {@code origen||numero,numero,...} para anunciar altas.
+ * Las listas se reparten en tantos datagramas como haga falta.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "account.cache", name = "channel", havingValue = "multicast", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MulticastInvalidationChannel implements CacheInvalidationChannel {
+
+    /** Cabe en un paquete Ethernet sin fragmentar. */
+    static final int MAX_DATAGRAM = 1_400;
+
+    private final CacheProperties properties;
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    private MulticastSocket socket;
+    private InetAddress group;
+
+    @PostConstruct
+    @SuppressWarnings("deprecation")
+    public void start() throws IOException {
+        group = InetAddress.getByName(properties.getMulticastGroup());
+        socket = new MulticastSocket(properties.getMulticastPort());
+        socket.joinGroup(group);
+        Thread receiver = new Thread(this::receive, "cache-invalidation-receiver");
+        receiver.setDaemon(true);
+        receiver.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        socket.close();
+    }
+
+    @Override
+    public void broadcast(CacheInvalidationMessage message) {
+        for (String payload : encode(message)) {
+            byte[] data = payload.getBytes(StandardCharsets.UTF_8);
+            try {
+                socket.send(new DatagramPacket(data, data.length, group, properties.getMulticastPort()));
+            } catch (IOException e) {
+                log.warn("No se pudo difundir la invalidación de caché {}: {}", payload, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+
+    private void receive() {
+        byte[] buffer = new byte[MAX_DATAGRAM];
+        while (!socket.isClosed()) {
+            DatagramPacket packet = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(packet);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.warn("Error recibiendo invalidaciones de caché: {}", e.getMessage());
+                }
+                continue;
+            }
+            CacheInvalidationMessage message = decode(new String(packet.getData(), 0, packet.getLength(),
+                    StandardCharsets.UTF_8));
+            if (message != null && !properties.getNodeId().equals(message.getOrigin())) {
+                listeners.forEach(listener -> listener.accept(message));
+            }
+        }
+    }
+
+    static List<String> encode(CacheInvalidationMessage message) {
+        if (message.getAccountIds() != null) {
+            return pack(message.getOrigin() + "|", message.getAccountIds());
+        }
+        String accountId = message.getAccountId() == null ? "" : message.getAccountId().toString();
+        String prefix = message.getOrigin() + "|" + accountId;
+        if (message.getCreatedNumbers() == null) {
+            return List.of(prefix);
+        }
+        return pack(prefix + "|", message.getCreatedNumbers());
+    }
+
+    /**
+     * Reparte los valores, separados por comas tras el prefijo, en tantos datagramas como haga falta.
+     */
+    private static List<String> pack(String prefix, List<?> values) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(prefix);
+        int empty = payload.length();
+        for (Object value : values) {
+            String text = value.toString();
+            if (payload.length() > empty && payload.length() + 1 + text.length() > MAX_DATAGRAM) {
+                payloads.add(payload.toString());
+                payload.setLength(empty);
+            }
+            payload.append(payload.length() > empty ? "," : "").append(text);
+        }
+        if (payload.length() > empty) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    static CacheInvalidationMessage decode(String payload) {
+        String[] parts = payload.split("\\|", -1);
+        if (parts.length < 2 || parts.length > 3 || parts[0].isEmpty()) {
+            return null;
+        }
+        List<String> createdNumbers = parts.length == 3 ? Arrays.asList(parts[2].split(",")) : null;
+        try {
+            if (parts.length == 2 && parts[1].contains(",")) {
+                List<Long> accountIds = new ArrayList<>();
+                for (String id : parts[1].split(",")) {
+                    accountIds.add(Long.valueOf(id));
+                }
+                return CacheInvalidationMessage.builder().origin(parts[0]).accountIds(accountIds).build();
+            }
+            return CacheInvalidationMessage.builder().origin(parts[0])
+                    .accountId(parts[1].isEmpty() ? null : Long.valueOf(parts[1]))
+                    .createdNumbers(createdNumbers).build();
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.banking.accountms.adapter.event;
+
+import java.util.List;
+import org.banking.accountms.dto.event.AccountEvent;
+
+/**
+ * Destino de los eventos del outbox. Recibe lotes en orden de creación; si lanza una excepción
+ * el lote completo se reintenta, así que la entrega es al-menos-una-vez (deduplicar por eventId).
+ */
+public interface EventSink {
+    void publish(List<AccountEvent> events);
+}
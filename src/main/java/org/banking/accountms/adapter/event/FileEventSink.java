@@ -0,0 +1,53 @@
+package org.banking.accountms.adapter.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import org.banking.accountms.config.OutboxProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escribe cada evento como una línea JSON al final de un archivo local. Es el destino por defecto.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.outbox", name = "sink", havingValue = "file", matchIfMissing = true)
+public class FileEventSink implements EventSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileEventSink(ObjectMapper objectMapper, OutboxProperties properties) {
+        this.objectMapper = objectMapper;
+        this.file = Paths.get(properties.getFilePath());
+    }
+
+    @Override
+    public synchronized void publish(List<AccountEvent> events) {
+        StringBuilder lines = new StringBuilder();
+        for (AccountEvent event : events) {
+            try {
+                lines.append(objectMapper.writeValueAsString(event)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("No se pudo serializar el evento " + event.getEventId(), e);
+            }
+        }
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.banking.accountms.adapter.event;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.banking.accountms.config.OutboxProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Destino para tests y desarrollo local ({@code account.outbox.sink=memory}). Guarda solo los últimos
+ * {@code memory-capacity} eventos: los más antiguos se descartan.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.outbox", name = "sink", havingValue = "memory")
+public class InMemoryEventSink implements EventSink {
+
+    private final int capacity;
+    private final Deque<AccountEvent> published = new ArrayDeque<>();
+
+    public InMemoryEventSink(OutboxProperties properties) {
+        this.capacity = Math.max(1, properties.getMemoryCapacity());
+    }
+
+    @Override
+    public synchronized void publish(List<AccountEvent> events) {
+        for (AccountEvent event : events) {
+            if (published.size() == capacity) {
+                published.removeFirst();
+            }
+            published.addLast(event);
+        }
+    }
+
+    public synchronized List<AccountEvent> getPublished() {
+        return new ArrayList<>(published);
+    }
+
+    public synchronized void clear() {
+        published.clear();
+    }
+}
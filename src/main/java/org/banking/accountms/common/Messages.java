@@ -8,19 +8,47 @@ public final class Messages {
 
     // ========= General =========
     public static final String INTERNAL_ERROR = "Error interno del servidor";
+    public static final String SERVICE_OVERLOADED = "El servicio está saturado; intente nuevamente en unos segundos.";
+    public static final String MOVEMENT_BATCH_CHUNK_FAILED = "No se pudo registrar el bloque que contenía este movimiento; reintente la entrada.";
+    public static final String IMPORT_FILE_NOT_FOUND = "El archivo de importación no existe en el directorio de importaciones.";
+    public static final String IMPORT_FILE_INVALID = "El nombre del archivo de importación no es válido.";
+    public static final String IMPORT_FILE_CHANGED = "El archivo cambió desde la importación anterior; renómbrelo para importarlo desde el principio.";
+    public static final String IMPORT_IN_PROGRESS = "Ya hay una importación en curso de este archivo.";
+    public static final String IMPORT_LINE_TOO_LONG = "La línea supera la longitud máxima admitida.";
+    public static final String LEDGER_STRIPED_ACCOUNT = "La cuenta tiene particiones de saldo y no admite movimientos con el motor de ledger activo.";
+    public static final String LEDGER_RESULT_UNKNOWN = "No se confirmó el resultado de la operación; consulte el saldo antes de reintentar.";
 
     // ========= Account =========
     public static final String ACCOUNT_NOT_FOUND = "Cuenta no encontrada";
     public static final String ACCOUNT_ALREADY_ACTIVE = "La cuenta ya está activa";
     public static final String ACCOUNT_ALREADY_INACTIVE = "La cuenta ya está inactiva";
     public static final String ACCOUNT_BALANCE_NOT_ZERO = "No se puede eliminar una cuenta con saldo distinto de 0";
+    public static final String BULK_STATUS_TARGET_REQUIRED = "Debe indicar la lista de IDs o el clientId, pero no ambos.";
+    public static final String BULK_STATUS_CLIENT_TOO_MANY = "El cliente tiene más de 1000 cuentas; indique la lista de IDs en solicitudes de hasta 1000.";
+    public static final String PURGE_FILTER_REQUIRED = "Debe indicar el clientId, el tipo de cuenta o ambos.";
+    public static final String ACCOUNT_INACTIVE = "La cuenta está inactiva";
+    public static final String INVALID_STRIPE_COUNT = "El número de particiones de saldo está fuera del rango permitido.";
     public static final String ACCOUNT_NUMBER_GENERATION_FAILED = "El sistema no pudo generar un número de cuenta válido";
 
+    public static final String CREATION_QUEUE_FULL = "Hay demasiadas altas de cuenta en cola; intente nuevamente en unos segundos.";
+    public static final String CREATION_JOB_NOT_FOUND = "Trabajo de alta no encontrado";
+    public static final String CREATION_JOB_FAILED = "No se pudo registrar la cuenta; envíe la solicitud de nuevo.";
+    public static final String CREATION_JOB_RETRIES_EXHAUSTED = "No se pudo registrar la cuenta tras varios intentos; envíe la solicitud de nuevo.";
+
+    public static final String RATE_LIMIT_EXCEEDED = "Demasiadas solicitudes de creación de cuentas; intente más tarde.";
+
     // ========= Client =========
     public static final String CLIENT_NOT_FOUND = "El cliente no existe";
 
     // ========= Validation =========
     public static final String BALANCE_MUST_BE_POSITIVE = "El saldo inicial debe ser mayor que 0.";
+    public static final String AMOUNT_MUST_BE_POSITIVE = "El monto debe ser mayor que 0.";
+    public static final String INVALID_AMOUNT_SCALE = "El monto admite como máximo 2 decimales.";
+    public static final String INVALID_MOVEMENT_TYPE = "Valor inválido para el campo 'type'. Valores permitidos: DEPOSIT, WITHDRAWAL.";
+    public static final String MOVEMENT_BATCH_TOO_LARGE = "El lote supera el máximo de movimientos por solicitud.";
     public static final String INVALID_FORMAT = "Formato de datos inválido.";
+    public static final String INVALID_CURSOR = "Cursor de paginación inválido.";
+    public static final String INVALID_BALANCE_RANGE = "El saldo mínimo no puede ser mayor que el saldo máximo.";
+    public static final String INVALID_PAGE_SIZE = "El tamaño de página debe estar entre 1 y 100.";
     public static final String INVALID_ACCOUNT_TYPE = "Valor inválido para el campo 'type'. Valores permitidos: SAVINGS, CHECKING.";
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.import")
+public class AccountImportProperties {
+    /** Solo se importan archivos de este directorio; el endpoint recibe el nombre, no una ruta. */
+    private String directory = "imports";
+    private int chunkSize = 2000;
+    /** Tamaño del buffer de lectura; también es la longitud máxima de una línea. */
+    private int readBufferBytes = 1024 * 1024;
+}
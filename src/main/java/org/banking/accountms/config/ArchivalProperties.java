@@ -0,0 +1,15 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.archival")
+public class ArchivalProperties {
+    private boolean enabled = true;
+    private int inactiveDays = 365;
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 1_000;
+}
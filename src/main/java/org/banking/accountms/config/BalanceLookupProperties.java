@@ -0,0 +1,12 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.balance-lookup")
+public class BalanceLookupProperties {
+    private int chunkSize = 500;
+}
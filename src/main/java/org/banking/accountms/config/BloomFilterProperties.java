@@ -0,0 +1,20 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.bloom")
+public class BloomFilterProperties {
+    private boolean enabled = true;
+    private long expectedInsertions = 1_000_000;
+    private double falsePositiveRate = 0.01;
+    private int loadBatchSize = 10_000;
+    private long syncIntervalMs = 5_000;
+    /** Tiempo que la sincronización sigue releyendo un hueco de IDs por si lo confirma una transacción lenta. */
+    private long gapTimeoutMs = 60_000;
+    /** Fracción de borrados sobre el tamaño del filtro a partir de la cual se reconstruye. */
+    private double rebuildRemovedRatio = 0.1;
+}
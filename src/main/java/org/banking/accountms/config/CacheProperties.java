@@ -0,0 +1,19 @@
+package org.banking.accountms.config;
+
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.cache")
+public class CacheProperties {
+    /**
+     * Canal de invalidación entre instancias: {@code multicast} o {@code loopback} (una sola instancia, tests).
+     */
+    private String channel = "multicast";
+    private String multicastGroup = "230.0.0.10";
+    private int multicastPort = 4446;
+    private String nodeId = UUID.randomUUID().toString();
+}
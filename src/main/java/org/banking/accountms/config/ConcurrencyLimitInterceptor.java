@@ -0,0 +1,57 @@
+package org.banking.accountms.config;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.service.concurrency.AdaptiveConcurrencyLimiter;
+import org.banking.accountms.service.concurrency.ConcurrencyLimiters;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Aplica un límite de concurrencia adaptativo por ruta, identificada por el método y el patrón que
+ * resolvió el handler. Lo que excede el límite se rechaza antes de tocar la base de datos y termina
+ * en 503 vía GlobalExceptionHandler.
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".start";
+    private static final String LIMITER_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".limiter";
+
+    private final ConcurrencyLimiters limiters;
+
+    public ConcurrencyLimitInterceptor(ConcurrencyLimiters limiters) {
+        this.limiters = limiters;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        AdaptiveConcurrencyLimiter limiter = limiters.forRoute(routeOf(request));
+        Long start = limiter.tryAcquire()
+                .orElseThrow(() -> new ServiceOverloadedException(Messages.SERVICE_OVERLOADED));
+        request.setAttribute(START_ATTRIBUTE, start);
+        request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        Object limiter = request.getAttribute(LIMITER_ATTRIBUTE);
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (limiter instanceof AdaptiveConcurrencyLimiter && start instanceof Long) {
+            request.removeAttribute(LIMITER_ATTRIBUTE);
+            boolean failed = ex != null || response.getStatus() >= 500;
+            ((AdaptiveConcurrencyLimiter) limiter).release((Long) start, failed);
+        }
+    }
+
+    /**
+     * {@code "POST /cuentas/{id}/deposito"}: el patrón y no la URI, para no crear un limitador por cuenta.
+     */
+    static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "sin-ruta");
+    }
+}
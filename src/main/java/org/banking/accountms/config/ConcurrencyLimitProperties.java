@@ -0,0 +1,18 @@
+package org.banking.accountms.config;
+
+import java.util.Set;
+import lombok.Data;
+import org.banking.accountms.service.concurrency.LimitSettings;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private LimitSettings reads = new LimitSettings();
+    private LimitSettings writes = new LimitSettings();
+    /** Rutas que no son GET/HEAD pero solo leen ({@code "MÉTODO /patrón"}); usan la configuración de lecturas. */
+    private Set<String> readRoutes = Set.of("POST /cuentas/saldos");
+}
@@ -0,0 +1,22 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.creation-jobs")
+public class CreationJobProperties {
+    private boolean workerEnabled = true;
+    /** Trabajos PENDING a partir de los cuales las nuevas altas asíncronas se rechazan con 503. */
+    private int maxPending = 10000;
+    private int workers = 2;
+    private int batchSize = 100;
+    private long pollIntervalMs = 200;
+    /** Un trabajo en RUNNING más tiempo que esto se considera abandonado y se vuelve a reclamar. */
+    private long staleAfterMs = 300000;
+    /** Reclamos tras los que un fallo transitorio deja el trabajo en FAILED en vez de devolverlo a PENDING. */
+    private int maxAttempts = 5;
+    private int retentionHours = 72;
+}
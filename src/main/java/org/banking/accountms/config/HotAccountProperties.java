@@ -0,0 +1,14 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.hot")
+public class HotAccountProperties {
+    private int maxStripes = 64;
+    private boolean foldEnabled = true;
+    private long foldIntervalMs = 10_000;
+}
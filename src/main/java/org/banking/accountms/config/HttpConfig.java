@@ -1,5 +1,7 @@
 package org.banking.accountms.config;
 
+import org.banking.accountms.service.tracing.Tracer;
+import org.banking.accountms.service.tracing.TracingClientInterceptor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -7,7 +9,9 @@ import org.springframework.web.client.RestTemplate;
 @Configuration
 public class HttpConfig {
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(Tracer tracer) {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new TracingClientInterceptor(tracer));
+        return restTemplate;
     }
 }
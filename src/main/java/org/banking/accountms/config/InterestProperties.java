@@ -0,0 +1,17 @@
+package org.banking.accountms.config;
+
+import java.math.BigDecimal;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.interest")
+public class InterestProperties {
+    private boolean enabled = true;
+    private BigDecimal annualRate = new BigDecimal("0.03");
+    private long partitionSize = 10_000;
+    private int parallelism = 4;
+    private boolean dryRun = false;
+}
@@ -0,0 +1,26 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.ledger")
+public class LedgerProperties {
+    private boolean enabled = false;
+    /** Identifica el checkpoint de esta instancia; solo una instancia debe tener el motor activo. */
+    private String nodeId = "ledger";
+    /** Potencia de 2. */
+    private int ringSize = 8_192;
+    private String journalPath = "data/ledger.journal";
+    /** fsync del journal antes de confirmar cada lote de comandos. */
+    private boolean fsync = true;
+    private long journalMaxBytes = 64L * 1024 * 1024;
+    private int flushBatchSize = 1_000;
+    private long flushIntervalMs = 200;
+    private int flushQueueSize = 16;
+    private long commandTimeoutMs = 5_000;
+    /** Cuentas que el motor mantiene en memoria; por encima descarta las menos usadas ya escritas. */
+    private int maxCachedAccounts = 100_000;
+}
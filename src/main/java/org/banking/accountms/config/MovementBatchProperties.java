@@ -0,0 +1,13 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.movement-batch")
+public class MovementBatchProperties {
+    private int chunkSize = 1000;
+    private int maxEntries = 500_000;
+}
@@ -0,0 +1,20 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.outbox")
+public class OutboxProperties {
+    private boolean relayEnabled = true;
+    /** {@code file} o {@code memory} (solo tests y desarrollo local). */
+    private String sink = "file";
+    private String filePath = "data/outbox/account-events.jsonl";
+    /** Eventos que conserva el destino {@code memory}. */
+    private int memoryCapacity = 10_000;
+    private int batchSize = 200;
+    private int maxBatchesPerRun = 50;
+    private int retentionHours = 72;
+}
@@ -0,0 +1,13 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.purge")
+public class PurgeProperties {
+    private int batchSize = 500;
+    private int maxBatchesPerRequest = 100;
+}
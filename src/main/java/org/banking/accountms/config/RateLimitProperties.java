@@ -0,0 +1,17 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private double clientPermitsPerSecond = 5;
+    private int clientBurst = 10;
+    private double callerPermitsPerSecond = 20;
+    private int callerBurst = 40;
+    private int maxBuckets = 100_000;
+}
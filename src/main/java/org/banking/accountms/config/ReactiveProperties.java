@@ -0,0 +1,22 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.reactive")
+public class ReactiveProperties {
+    private String url;
+    private String username;
+    private String password;
+    private int poolInitialSize = 10;
+    private int poolMaxSize = 50;
+    private long clientTimeoutMs = 2_000;
+    /**
+     * Conexiones simultáneas hacia el servicio de clientes. El valor por defecto de Reactor Netty (16)
+     * se convierte en el cuello de botella en cuanto ese servicio tarda unos milisegundos.
+     */
+    private int clientMaxConnections = 500;
+}
@@ -0,0 +1,20 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.read-model")
+public class ReadModelProperties {
+    private boolean enabled = false;
+    /** Directorio de los archivos mapeados; se vacía al arrancar. */
+    private String directory = "data/read-model";
+    /** Registros por región mapeada (64 bytes cada uno). */
+    private int segmentRecords = 1 << 20;
+    private int loadBatchSize = 10_000;
+    private long refreshIntervalMs = 500;
+    /** Tras una invalidación de todas las cuentas, tiempo mínimo entre dos reconstrucciones. */
+    private long rebuildMinIntervalMs = 60_000;
+}
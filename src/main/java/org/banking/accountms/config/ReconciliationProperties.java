@@ -0,0 +1,18 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.reconciliation")
+public class ReconciliationProperties {
+    private boolean enabled = true;
+    /** {@code movements} (suma de account_movements) o {@code snapshot} (fichero CSV en snapshot-path). */
+    private String source = "movements";
+    private String snapshotPath;
+    private long partitionSize = 10_000;
+    private int parallelism = 4;
+    private int maxReportedMismatches = 1000;
+}
@@ -0,0 +1,52 @@
+package org.banking.accountms.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.banking.accountms.service.sql.CountingDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * Recuento de sentencias SQL. Envuelve el {@link DataSource} en {@link CountingDataSource}, la única fuente del
+ * recuento, para contar también las sentencias de {@code JdbcTemplate}, que no pasan por Hibernate: alimenta
+ * los tramos de las trazas ({@code account.tracing.enabled}) y la cabecera y métrica por petición
+ * ({@code account.sql-statements.enabled}).
+ */
+@Configuration
+public class SqlStatementConfig {
+
+    @Bean
+    @ConditionalOnExpression("${account.sql-statements.enabled:false} or ${account.tracing.enabled:true}")
+    public static BeanPostProcessor countingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource((DataSource) bean);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Justo detrás del filtro de trazas, para que el recuento cubra todo lo que hace la petición.
+     */
+    @Bean
+    @Profile("!reactive")
+    @ConditionalOnProperty(prefix = "account.sql-statements", name = "enabled", havingValue = "true")
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(MeterRegistry registry,
+                                                                         SqlStatementProperties properties) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+                new SqlStatementFilter(registry, properties.getWarnThreshold()));
+        registration.addUrlPatterns("/cuentas/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
@@ -0,0 +1,116 @@
+package org.banking.accountms.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.PrintWriter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.service.sql.SqlStatementCounter;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Cuenta las sentencias SQL de cada petición, las devuelve en {@value #STATEMENTS_HEADER} y las registra en
+ * {@code http.server.sql.statements} por ruta. La cabecera se escribe justo antes de enviar el cuerpo, así
+ * que no incluye lo que se ejecute al serializarlo; la métrica sí lo incluye.
+ */
+@Slf4j
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+
+    private final MeterRegistry registry;
+    private final int warnThreshold;
+
+    public SqlStatementFilter(MeterRegistry registry, int warnThreshold) {
+        this.registry = registry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        CountingResponse countingResponse = new CountingResponse(response);
+        try {
+            chain.doFilter(request, countingResponse);
+        } finally {
+            countingResponse.writeHeader();
+            int statements = SqlStatementCounter.stop();
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = route != null ? route.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.server.sql.statements")
+                    .description("Sentencias SQL ejecutadas por petición")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(registry)
+                    .record(statements);
+            if (warnThreshold > 0 && statements > warnThreshold) {
+                log.warn("{} {} ejecutó {} sentencias SQL (umbral {})", request.getMethod(), uri, statements,
+                        warnThreshold);
+            }
+        }
+    }
+
+    /**
+     * Fija la cabecera antes de que la respuesta se confirme: al pedir el cuerpo, al vaciar el búfer o al
+     * enviar un error o una redirección.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private boolean headerWritten;
+
+        private CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        void writeHeader() {
+            if (!headerWritten && !isCommitted()) {
+                headerWritten = true;
+                setHeader(STATEMENTS_HEADER, Integer.toString(SqlStatementCounter.current()));
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeader();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeader();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeader();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeader();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeader();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeader();
+            super.sendRedirect(location);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.sql-statements")
+public class SqlStatementProperties {
+    /** Cuenta las sentencias SQL de cada petición (cabecera y métrica). Pensado para entornos no productivos. */
+    private boolean enabled = false;
+    /** Peticiones que superan este número de sentencias se registran como aviso; 0 lo desactiva. */
+    private int warnThreshold = 25;
+}
@@ -0,0 +1,16 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.startup")
+public class StartupProperties {
+    /**
+     * Cierra la aplicación en cuanto termina de arrancar. Lo usa la ejecución de entrenamiento
+     * que genera la lista de clases del archivo AppCDS.
+     */
+    private boolean exitAfterReady = false;
+}
@@ -0,0 +1,33 @@
+package org.banking.accountms.config;
+
+import java.lang.management.ManagementFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registra cuánto tarda la instancia en poder atender tráfico, tanto desde que arrancó la JVM
+ * como desde que Spring empezó a levantar el contexto.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StartupTimeLogger {
+
+    private final StartupProperties properties;
+
+    @EventListener
+    public void onReady(ApplicationReadyEvent event) {
+        long jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        log.info("Aplicación lista para recibir tráfico: {} ms desde el inicio de la JVM, {} ms de arranque de Spring",
+                jvmUptimeMs, event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis());
+
+        if (properties.isExitAfterReady()) {
+            log.info("Arranque de entrenamiento completado, cerrando la aplicación");
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+}
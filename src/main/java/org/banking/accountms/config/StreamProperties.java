@@ -0,0 +1,14 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.stream")
+public class StreamProperties {
+    private int bufferSize = 256;
+    private int senderThreads = 4;
+    private long timeoutMs = 30 * 60 * 1000L;
+}
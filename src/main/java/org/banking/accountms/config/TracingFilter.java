@@ -0,0 +1,60 @@
+package org.banking.accountms.config;
+
+import java.io.IOException;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.banking.accountms.service.tracing.Span;
+import org.banking.accountms.service.tracing.SpanKind;
+import org.banking.accountms.service.tracing.TraceContext;
+import org.banking.accountms.service.tracing.Tracer;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Abre el tramo raíz (SERVER) de cada petición, continuando el {@code traceparent} entrante si lo hay,
+ * y devuelve el id de traza en {@value #TRACE_ID_HEADER} para poder buscarla en el fichero exportado.
+ */
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    public TracingFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Span root = tracer.startTrace(request.getMethod() + " " + request.getRequestURI(), SpanKind.SERVER,
+                request.getHeader(TraceContext.TRACEPARENT));
+        if (root == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(TRACE_ID_HEADER, root.getTraceId());
+        root.attribute("http.method", request.getMethod())
+                .attribute("http.target", request.getRequestURI());
+        Throwable error = null;
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (route != null) {
+                root.rename(request.getMethod() + " " + route).attribute("http.route", route);
+            }
+            int status = error != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+            root.attribute("http.status_code", status);
+            if (status >= 500 && error == null) {
+                root.fail("HTTP " + status);
+            }
+            tracer.end(root, error);
+        }
+    }
+}
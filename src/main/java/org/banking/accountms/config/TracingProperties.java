@@ -0,0 +1,22 @@
+package org.banking.accountms.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "account.tracing")
+public class TracingProperties {
+    private boolean enabled = true;
+    private String serviceName = "AccountMS";
+    /** Trazas con la raíz por encima de este umbral (o con error) se exportan siempre. */
+    private long slowThresholdMs = 500;
+    /** Fracción de las trazas rápidas y sin error que también se exportan. */
+    private double sampleRate = 0.0;
+    private int maxSpansPerTrace = 256;
+    private String exportPath = "logs/traces.jsonl";
+    private long maxFileBytes = 10 * 1024 * 1024;
+    private int maxFiles = 5;
+    private int queueSize = 1000;
+}
@@ -0,0 +1,46 @@
+package org.banking.accountms.config;
+
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.service.concurrency.ConcurrencyLimiters;
+import org.banking.accountms.service.tracing.Tracer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final ConcurrencyLimiters concurrencyLimiters;
+
+    /**
+     * Primer filtro de la cadena, para que el tramo raíz cubra también el límite de concurrencia.
+     */
+    @Bean
+    public FilterRegistrationBean<TracingFilter> tracingFilter(Tracer tracer) {
+        FilterRegistrationBean<TracingFilter> registration = new FilterRegistrationBean<>(new TracingFilter(tracer));
+        registration.addUrlPatterns("/cuentas/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (!concurrencyLimitProperties.isEnabled()) {
+            return;
+        }
+        // El stream SSE es de larga duración y retendría un hueco del límite mientras siga abierto. Las operaciones
+        // masivas duran segundos o minutos, así que su latencia no dice nada de la carga, y ya tienen sus propios
+        // tamaños de bloque.
+        registry.addInterceptor(new ConcurrencyLimitInterceptor(concurrencyLimiters))
+                .addPathPatterns("/cuentas/**")
+                .excludePathPatterns("/cuentas/stream", "/cuentas/importacion", "/cuentas/movimientos/batch",
+                        "/cuentas/purga");
+    }
+}
@@ -1,36 +1,106 @@
 package org.banking.accountms.controller;
 
+import java.io.IOException;
+import java.net.URI;
+import java.security.Principal;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.dto.request.AmountRequest;
+import org.banking.accountms.dto.request.BalanceLookupRequest;
+import org.banking.accountms.dto.request.BulkStatusRequest;
 import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.request.MovementBatchEntry;
+import org.banking.accountms.dto.response.AccountCreationJobResponse;
+import org.banking.accountms.dto.response.AccountImportResponse;
+import org.banking.accountms.dto.response.AccountPageResponse;
 import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.BalanceLookupResponse;
+import org.banking.accountms.dto.response.BulkStatusResponse;
+import org.banking.accountms.dto.response.MovementBatchResponse;
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.dto.response.PurgeResponse;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.AccountCreationJobService;
+import org.banking.accountms.service.AccountPurgeService;
 import org.banking.accountms.service.AccountService;
+import org.banking.accountms.service.AccountStreamService;
+import org.banking.accountms.service.MovementBatchService;
+import org.banking.accountms.service.MovementService;
+import org.banking.accountms.service.importing.AccountImportService;
+import org.banking.accountms.service.ledger.LedgerEngine;
+import org.banking.accountms.service.ratelimit.AccountCreationRateLimiter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Tag(name = "Accounts", description = "Operations related to bank accounts")
 @RestController
+@Profile("!reactive")
 @RequestMapping("/cuentas")
 @RequiredArgsConstructor
 public class AccountController {
 
     private final AccountService accountService;
+    private final MovementService movementService;
+    private final AccountStreamService accountStreamService;
+    private final AccountCreationRateLimiter rateLimiter;
+    private final AccountPurgeService accountPurgeService;
+    private final AccountBalanceService balanceService;
+    private final ObjectProvider<LedgerEngine> ledgerEngine;
+    private final MovementBatchService movementBatchService;
+    private final AccountCreationJobService creationJobService;
+    private final AccountImportService accountImportService;
 
     @Operation(summary = "Crear una nueva cuenta")
     @ApiResponse(responseCode = "200", description = "Cuenta creada con éxito",
             content = @Content(mediaType = "application/json",
                     schema = @Schema(implementation = AccountResponse.class)))
+    @ApiResponse(responseCode = "429", description = "Límite de creación excedido; ver cabecera Retry-After")
     @PostMapping
-    public ResponseEntity<AccountResponse> create(@Valid @RequestBody CreateAccountRequest request) {
+    public ResponseEntity<AccountResponse> create(@Valid @RequestBody CreateAccountRequest request,
+                                                  HttpServletRequest httpRequest) {
+        rateLimiter.acquire(request.getClientId(), callerOf(httpRequest));
         return ResponseEntity.ok(accountService.createAccount(request));
     }
 
+    @Operation(summary = "Crear una cuenta de forma asíncrona")
+    @ApiResponse(responseCode = "202", description = "Solicitud validada y encolada; consultar el trabajo en Location",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountCreationJobResponse.class)))
+    @ApiResponse(responseCode = "503", description = "Cola de altas llena; ver cabecera Retry-After")
+    @PostMapping(params = "async=true")
+    public ResponseEntity<AccountCreationJobResponse> createAsync(@Valid @RequestBody CreateAccountRequest request,
+                                                                  HttpServletRequest httpRequest) {
+        rateLimiter.acquire(request.getClientId(), callerOf(httpRequest));
+        AccountCreationJobResponse job = creationJobService.submit(request);
+        return ResponseEntity.accepted().location(URI.create("/cuentas/jobs/" + job.getId())).body(job);
+    }
+
+    @Operation(summary = "Consultar el estado de un alta asíncrona")
+    @ApiResponse(responseCode = "200", description = "Estado del trabajo y, si terminó, la cuenta creada",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountCreationJobResponse.class)))
+    @ApiResponse(responseCode = "404", description = "No existe un trabajo con ese ID")
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<AccountCreationJobResponse> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(creationJobService.get(id));
+    }
+
     @Operation(summary = "Obtener cuenta por ID")
     @ApiResponse(responseCode = "200", description = "Cuenta encontrada",
             content = @Content(mediaType = "application/json",
@@ -47,6 +117,25 @@ public class AccountController {
                 .build());
     }
 
+    @Operation(summary = "Obtener cuenta por número de cuenta")
+    @ApiResponse(responseCode = "200", description = "Cuenta encontrada",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountResponse.class)))
+    @ApiResponse(responseCode = "404", description = "No existe una cuenta con ese número")
+    @GetMapping("/numero/{accountNumber}")
+    public ResponseEntity<AccountResponse> getByNumber(@PathVariable String accountNumber) {
+        return ResponseEntity.ok(accountService.getByNumber(accountNumber));
+    }
+
+    @Operation(summary = "Consultar el saldo de varias cuentas por ID")
+    @ApiResponse(responseCode = "200", description = "Saldos encontrados y lista de IDs inexistentes",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BalanceLookupResponse.class)))
+    @PostMapping("/saldos")
+    public ResponseEntity<BalanceLookupResponse> balances(@Valid @RequestBody BalanceLookupRequest request) {
+        return ResponseEntity.ok(accountService.balances(request.getIds()));
+    }
+
     @Operation(summary = "Listar todas las cuentas")
     @ApiResponse(responseCode = "200", description = "Lista de cuentas obtenida")
     @GetMapping
@@ -54,6 +143,25 @@ public class AccountController {
         return ResponseEntity.ok(accountService.listAll());
     }
 
+    @Operation(summary = "Buscar cuentas por tipo, estado, cliente y rango de saldo (paginación por cursor)")
+    @ApiResponse(responseCode = "200", description = "Página de cuentas en orden de ID",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountPageResponse.class)))
+    @GetMapping("/buscar")
+    public ResponseEntity<AccountPageResponse> search(AccountSearchCriteria criteria,
+                                                      @RequestParam(required = false) String cursor,
+                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(accountService.search(criteria, cursor, size));
+    }
+
+    @Operation(summary = "Suscribirse a los cambios de cuentas (Server-Sent Events)")
+    @ApiResponse(responseCode = "200", description = "Flujo de eventos de cuentas")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long clientId,
+                             @RequestParam(required = false) AccountType type) {
+        return accountStreamService.subscribe(clientId, type);
+    }
+
     @Operation(summary = "Listar cuentas por cliente ID")
     @ApiResponse(responseCode = "200", description = "Cuentas obtenidas por cliente")
     @GetMapping("/clientes/{clientId}")
@@ -61,24 +169,129 @@ public class AccountController {
         return ResponseEntity.ok(accountService.listByClient(clientId));
     }
 
+    @Operation(summary = "Extracto de movimientos de una cuenta (paginación por cursor)")
+    @ApiResponse(responseCode = "200", description = "Página de movimientos, del más reciente al más antiguo",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovementPageResponse.class)))
+    @GetMapping("/{id}/movimientos")
+    public ResponseEntity<MovementPageResponse> movements(@PathVariable Long id,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(required = false) Integer size) {
+        accountService.get(id);
+        return ResponseEntity.ok(movementService.statement(id, cursor, size));
+    }
+
+    @Operation(summary = "Depositar en una cuenta")
+    @ApiResponse(responseCode = "200", description = "Saldo actualizado",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountResponse.class)))
+    @PostMapping("/{id}/deposito")
+    public ResponseEntity<AccountResponse> deposit(@PathVariable Long id, @Valid @RequestBody AmountRequest request) {
+        LedgerEngine engine = ledgerEngine.getIfAvailable();
+        return ResponseEntity.ok(engine != null
+                ? engine.deposit(id, request.getAmount())
+                : balanceService.deposit(id, request.getAmount()));
+    }
+
+    @Operation(summary = "Retirar de una cuenta")
+    @ApiResponse(responseCode = "200", description = "Saldo actualizado",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountResponse.class)))
+    @ApiResponse(responseCode = "400", description = "El retiro viola el límite de sobregiro del tipo de cuenta")
+    @PostMapping("/{id}/retiro")
+    public ResponseEntity<AccountResponse> withdraw(@PathVariable Long id, @Valid @RequestBody AmountRequest request) {
+        LedgerEngine engine = ledgerEngine.getIfAvailable();
+        return ResponseEntity.ok(engine != null
+                ? engine.withdraw(id, request.getAmount())
+                : balanceService.withdraw(id, request.getAmount()));
+    }
+
+    @Operation(summary = "Registrar en lote depósitos y retiros (arreglo JSON leído en streaming)")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = "application/json",
+            array = @ArraySchema(schema = @Schema(implementation = MovementBatchEntry.class))))
+    @ApiResponse(responseCode = "200", description = "Resultado por entrada (ACCEPTED o REJECTED) y rendimiento del lote",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = MovementBatchResponse.class)))
+    @ApiResponse(responseCode = "413", description = "Más entradas que max-entries antes de confirmar ningún bloque")
+    @PostMapping(value = "/movimientos/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<MovementBatchResponse> postBatch(HttpServletRequest httpRequest) throws IOException {
+        return ResponseEntity.ok(movementBatchService.post(httpRequest.getInputStream()));
+    }
+
+    @Operation(summary = "Importar cuentas desde un CSV del directorio de importaciones (reanuda si se interrumpió)")
+    @ApiResponse(responseCode = "200", description = "Filas importadas y rechazadas, y rendimiento de la importación",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = AccountImportResponse.class)))
+    @PostMapping("/importacion")
+    public ResponseEntity<AccountImportResponse> importAccounts(@RequestParam String archivo) throws IOException {
+        return ResponseEntity.ok(accountImportService.importFile(archivo));
+    }
+
+    @Operation(summary = "Activar (stripes > 0) o desactivar (stripes = 0) el modo cuenta caliente")
+    @PatchMapping("/{id}/particiones")
+    public ResponseEntity<AccountResponse> changeStripes(@PathVariable Long id, @RequestParam int stripes) {
+        return ResponseEntity.ok(throughLedger(List.of(id), () -> balanceService.changeStripes(id, stripes)));
+    }
+
     @Operation(summary = "Eliminar cuenta por ID")
     @ApiResponse(responseCode = "204", description = "Cuenta eliminada con éxito")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        accountService.delete(id);
+        throughLedger(List.of(id), () -> {
+            accountService.delete(id);
+            return null;
+        });
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(summary = "Eliminar en lotes las cuentas inactivas con saldo 0 de un cliente y/o tipo")
+    @ApiResponse(responseCode = "200", description = "Cuentas eliminadas; complete=false si quedan lotes pendientes",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = PurgeResponse.class)))
+    @DeleteMapping("/purga")
+    public ResponseEntity<PurgeResponse> purge(@RequestParam(required = false) Long clientId,
+                                               @RequestParam(required = false) AccountType type) {
+        return ResponseEntity.ok(throughLedger(null, () -> accountPurgeService.purge(clientId, type)));
+    }
+
     @PatchMapping("/{id}/deactivate")
     @Operation(summary = "Desactivar cuenta")
     public ResponseEntity<AccountResponse> deactivate(@PathVariable Long id) {
-        return ResponseEntity.ok(accountService.deactivate(id));
+        return ResponseEntity.ok(throughLedger(List.of(id), () -> accountService.deactivate(id)));
     }
 
     @PatchMapping("/{id}/activate")
     @Operation(summary = "Activar cuenta")
     public ResponseEntity<AccountResponse> activate(@PathVariable Long id) {
-        return ResponseEntity.ok(accountService.activate(id));
+        return ResponseEntity.ok(throughLedger(List.of(id), () -> accountService.activate(id)));
     }
 
+    @PatchMapping("/estado")
+    @Operation(summary = "Activar o desactivar cuentas en bloque (lista de IDs o clientId)")
+    @ApiResponse(responseCode = "200", description = "Resultado por cuenta: UPDATED, UNCHANGED o NOT_FOUND",
+            content = @Content(mediaType = "application/json",
+                    schema = @Schema(implementation = BulkStatusResponse.class)))
+    public ResponseEntity<BulkStatusResponse> changeStatus(@Valid @RequestBody BulkStatusRequest request) {
+        // Por clientId no se conocen los IDs de antemano: el motor recarga todas sus cuentas.
+        return ResponseEntity.ok(throughLedger(request.getIds(), () -> accountService.changeStatus(request)));
+    }
+
+    /**
+     * El motor de ledger guarda en memoria el saldo y el estado de las cuentas que toca: los cambios que no son
+     * depósitos ni retiros se ejecutan entre sus comandos, con sus movimientos ya escritos, y después recarga
+     * esas cuentas ({@code null}: todas). Sin motor se ejecutan directamente.
+     */
+    private <T> T throughLedger(Collection<Long> accountIds, Supplier<T> action) {
+        LedgerEngine engine = ledgerEngine.getIfAvailable();
+        return engine != null ? engine.exclusive(accountIds, action) : action.get();
+    }
+
+    /**
+     * Clave del límite por llamante: la identidad autenticada o, sin ella, la dirección remota. Nunca una cabecera
+     * del cliente, que bastaría con cambiar en cada petición para saltarse el límite.
+     */
+    private static String callerOf(HttpServletRequest httpRequest) {
+        Principal principal = httpRequest.getUserPrincipal();
+        return principal != null ? principal.getName() : httpRequest.getRemoteAddr();
+    }
 }
@@ -0,0 +1,88 @@
+package org.banking.accountms.controller;
+
+import java.net.InetSocketAddress;
+import java.security.Principal;
+import javax.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.service.ReactiveAccountService;
+import org.banking.accountms.service.ratelimit.AccountCreationRateLimiter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Rutas de {@link AccountController} servidas con WebFlux cuando el perfil {@code reactive} está activo.
+ * El flujo SSE de {@code /cuentas/stream} solo existe en la variante servlet.
+ */
+@RestController
+@RequestMapping("/cuentas")
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAccountController {
+
+    private final ReactiveAccountService accountService;
+    private final AccountCreationRateLimiter rateLimiter;
+
+    @PostMapping
+    public Mono<ResponseEntity<AccountResponse>> create(@Valid @RequestBody CreateAccountRequest request,
+                                                        ServerWebExchange exchange) {
+        return callerOf(exchange)
+                .doOnNext(caller -> rateLimiter.acquire(request.getClientId(), caller))
+                .then(Mono.defer(() -> accountService.createAccount(request)))
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/id/{id}")
+    public Mono<ResponseEntity<AccountResponse>> getById(@PathVariable Long id) {
+        return accountService.get(id).map(AccountMapper::toResponse).map(ResponseEntity::ok);
+    }
+
+    @GetMapping
+    public Flux<AccountResponse> listAll() {
+        return accountService.listAll();
+    }
+
+    @GetMapping("/clientes/{clientId}")
+    public Flux<AccountResponse> listByClient(@PathVariable Long clientId) {
+        return accountService.listByClient(clientId);
+    }
+
+    @GetMapping("/{id}/movimientos")
+    public Mono<ResponseEntity<MovementPageResponse>> movements(@PathVariable Long id,
+                                                                @RequestParam(required = false) String cursor,
+                                                                @RequestParam(required = false) Integer size) {
+        return accountService.statement(id, cursor, size).map(ResponseEntity::ok);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return accountService.delete(id).then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+    @PatchMapping("/{id}/deactivate")
+    public Mono<ResponseEntity<AccountResponse>> deactivate(@PathVariable Long id) {
+        return accountService.deactivate(id).map(ResponseEntity::ok);
+    }
+
+    @PatchMapping("/{id}/activate")
+    public Mono<ResponseEntity<AccountResponse>> activate(@PathVariable Long id) {
+        return accountService.activate(id).map(ResponseEntity::ok);
+    }
+
+    /**
+     * Igual que en {@link AccountController}: la identidad autenticada o, sin ella, la dirección remota.
+     */
+    private static Mono<String> callerOf(ServerWebExchange exchange) {
+        InetSocketAddress remote = exchange.getRequest().getRemoteAddress();
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .defaultIfEmpty(remote == null ? "unknown" : remote.getHostString());
+    }
+}
@@ -0,0 +1,24 @@
+package org.banking.accountms.dto.event;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountEventType;
+
+/**
+ * Cambio de una cuenta tal como se entrega a los consumidores externos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountEvent {
+    private Long eventId;
+    private Long accountId;
+    private AccountEventType type;
+    private AccountResponse account;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,31 @@
+package org.banking.accountms.dto.event;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Aviso a las demás instancias de que una cuenta ({@code accountId}) o varias ({@code accountIds}) cambiaron.
+ * Sin ninguna de las dos invalida todas, salvo que solo anuncie números de cuenta dados de alta
+ * ({@code createdNumbers}), que no invalida nada.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private String origin;
+    private Long accountId;
+    private List<String> createdNumbers;
+    private List<Long> accountIds;
+
+    public CacheInvalidationMessage(String origin, Long accountId) {
+        this(origin, accountId, null, null);
+    }
+
+    public boolean isAll() {
+        return accountId == null && accountIds == null && createdNumbers == null;
+    }
+}
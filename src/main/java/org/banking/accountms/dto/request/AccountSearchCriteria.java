@@ -0,0 +1,23 @@
+package org.banking.accountms.dto.request;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.accountms.model.AccountType;
+
+/**
+ * Filtros opcionales de /cuentas/buscar; los que llegan vacíos no se aplican.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountSearchCriteria {
+    private AccountType type;
+    private Boolean active;
+    private Long clientId;
+    private BigDecimal minBalance;
+    private BigDecimal maxBalance;
+}
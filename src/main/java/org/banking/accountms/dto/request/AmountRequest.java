@@ -0,0 +1,19 @@
+package org.banking.accountms.dto.request;
+
+import java.math.BigDecimal;
+import javax.validation.constraints.Digits;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AmountRequest {
+    @NotNull(message = "El monto es obligatorio.")
+    @Positive(message = "El monto debe ser mayor a 0.")
+    @Digits(integer = 17, fraction = 2, message = "El monto admite como máximo 2 decimales.")
+    private BigDecimal amount;
+}
@@ -0,0 +1,17 @@
+package org.banking.accountms.dto.request;
+
+import java.util.List;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BalanceLookupRequest {
+    @NotEmpty(message = "Debe indicar al menos un ID de cuenta.")
+    @Size(max = 1000, message = "No se pueden consultar más de 1000 cuentas por solicitud.")
+    private List<Long> ids;
+}
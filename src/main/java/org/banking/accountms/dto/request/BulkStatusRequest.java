@@ -0,0 +1,25 @@
+package org.banking.accountms.dto.request;
+
+import java.util.List;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio de estado en bloque: se indica una lista de IDs o un clientId, no ambos.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusRequest {
+    /** Cuentas que puede cambiar una solicitud, tanto por lista de IDs como por clientId. */
+    public static final int MAX_ACCOUNTS = 1000;
+
+    @Size(max = MAX_ACCOUNTS, message = "No se pueden modificar más de 1000 cuentas por solicitud.")
+    private List<@NotNull(message = "Los IDs de cuenta no pueden ser nulos.") Long> ids;
+    private Long clientId;
+    @NotNull(message = "El estado 'active' es obligatorio.")
+    private Boolean active;
+}
@@ -0,0 +1,21 @@
+package org.banking.accountms.dto.request;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.accountms.model.MovementType;
+
+/**
+ * Un elemento del arreglo de {@code POST /cuentas/movimientos/batch}. {@code reference} es opcional y se
+ * devuelve tal cual en el resultado para que el emisor pueda conciliarlo.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementBatchEntry {
+    private String reference;
+    private Long accountId;
+    private MovementType type;
+    private BigDecimal amount;
+}
@@ -0,0 +1,19 @@
+package org.banking.accountms.dto.response;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Proyección de solo lectura: la construyen directamente las consultas, sin cargar entidades.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountBalanceItem {
+    private Long id;
+    private String accountNumber;
+    private BigDecimal balance;
+    private boolean active;
+}
@@ -0,0 +1,24 @@
+package org.banking.accountms.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.accountms.model.AccountCreationJobStatus;
+
+/**
+ * {@code account} solo viene informado con estado DONE y {@code error} con estado FAILED.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AccountCreationJobResponse {
+    private Long id;
+    private AccountCreationJobStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+    private String error;
+    private AccountResponse account;
+}
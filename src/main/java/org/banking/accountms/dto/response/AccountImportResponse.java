@@ -0,0 +1,26 @@
+package org.banking.accountms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una ejecución de la importación. {@code resumedFromOffset > 0} si continuó una importación
+ * interrumpida; los totales incluyen las ejecuciones anteriores del mismo archivo.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class AccountImportResponse {
+    private String file;
+    private long resumedFromOffset;
+    private long bytesRead;
+    private long rowsRead;
+    private long imported;
+    private long rejected;
+    private long totalImported;
+    private long totalRejected;
+    private String rejectFile;
+    private long elapsedMs;
+    private long rowsPerSecond;
+}
@@ -0,0 +1,13 @@
+package org.banking.accountms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusItem {
+    private Long id;
+    private BulkStatusOutcome outcome;
+}
@@ -0,0 +1,7 @@
+package org.banking.accountms.dto.response;
+
+public enum BulkStatusOutcome {
+    UPDATED,
+    UNCHANGED,
+    NOT_FOUND
+}
@@ -0,0 +1,15 @@
+package org.banking.accountms.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkStatusResponse {
+    private boolean active;
+    private int updated;
+    private List<BulkStatusItem> results;
+}
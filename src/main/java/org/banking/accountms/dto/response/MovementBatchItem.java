@@ -0,0 +1,22 @@
+package org.banking.accountms.dto.response;
+
+import java.math.BigDecimal;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una entrada del lote, en la posición {@code index} del arreglo recibido. {@code balance} es el
+ * saldo tras el movimiento; es null si se rechazó o si la cuenta tiene particiones de saldo.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementBatchItem {
+    private int index;
+    private String reference;
+    private Long accountId;
+    private MovementBatchOutcome outcome;
+    private String message;
+    private BigDecimal balance;
+}
@@ -0,0 +1,6 @@
+package org.banking.accountms.dto.response;
+
+public enum MovementBatchOutcome {
+    ACCEPTED,
+    REJECTED
+}
@@ -0,0 +1,24 @@
+package org.banking.accountms.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code complete=false} si el cuerpo tenía JSON mal formado o superaba {@code max-entries} después de confirmar
+ * algún bloque: solo se procesaron las entradas anteriores al error o al límite.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementBatchResponse {
+    private int received;
+    private int accepted;
+    private int rejected;
+    private int chunks;
+    private long elapsedMs;
+    private long entriesPerSecond;
+    private boolean complete;
+    private List<MovementBatchItem> results;
+}
@@ -0,0 +1,14 @@
+package org.banking.accountms.dto.response;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MovementPageResponse {
+    private List<MovementResponse> items;
+    private String nextCursor;
+}
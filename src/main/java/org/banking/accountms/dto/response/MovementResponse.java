@@ -0,0 +1,21 @@
+package org.banking.accountms.dto.response;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.banking.accountms.model.MovementType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MovementResponse {
+    private Long id;
+    private BigDecimal amount;
+    private BigDecimal resultingBalance;
+    private MovementType type;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package org.banking.accountms.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * {@code complete} es false si la purga se cortó en el máximo de lotes; basta con repetir la llamada.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PurgeResponse {
+    private long deleted;
+    private boolean complete;
+}
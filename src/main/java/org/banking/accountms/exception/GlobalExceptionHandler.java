@@ -4,12 +4,15 @@ import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import javax.validation.ValidationException;
 import lombok.extern.slf4j.Slf4j;
 import org.banking.accountms.common.Messages;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.server.ServerWebInputException;
 
 @Slf4j
 @ControllerAdvice
@@ -22,6 +25,29 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("NOT_FOUND", Messages.ACCOUNT_NOT_FOUND));
     }
 
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimit(RateLimitExceededException ex) {
+        log.warn("Error RATE_LIMITED: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(new ErrorResponse("RATE_LIMITED", ex.getMessage()));
+    }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ErrorResponse> handleOverloaded(ServiceOverloadedException ex) {
+        log.warn("Error OVERLOADED: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponse("OVERLOADED", ex.getMessage()));
+    }
+
+    @ExceptionHandler(PayloadTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handlePayloadTooLarge(PayloadTooLargeException ex) {
+        log.warn("Error PAYLOAD_TOO_LARGE: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE)
+                .body(new ErrorResponse("PAYLOAD_TOO_LARGE", ex.getMessage()));
+    }
+
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidation(ValidationException ex) {
         log.error("Error VALIDATION: {}", ex.getMessage());
@@ -37,6 +63,14 @@ public class GlobalExceptionHandler {
                 .body(new ErrorResponse("DTO_VALIDATION_ERROR", message));
     }
 
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleReactiveDtoValidation(WebExchangeBindException ex) {
+        String message = ex.getBindingResult().getFieldError().getDefaultMessage();
+        log.error("Error DTO_VALIDATION: {}", message);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("DTO_VALIDATION_ERROR", message));
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgument(IllegalArgumentException ex) {
         log.error("Error VALIDATION: {}", ex.getMessage());
@@ -73,4 +107,18 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("INVALID_FORMAT", message));
     }
+
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleReactiveInvalidFormat(ServerWebInputException ex) {
+        String message = Messages.INVALID_FORMAT;
+
+        Throwable cause = ex.getMostSpecificCause();
+        if (cause instanceof InvalidFormatException && ((InvalidFormatException) cause).getTargetType().isEnum()) {
+            message = Messages.INVALID_ACCOUNT_TYPE;
+        }
+
+        log.error("Error INVALID_FORMAT: {}", message, ex);
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body(new ErrorResponse("INVALID_FORMAT", message));
+    }
 }
@@ -0,0 +1,61 @@
+package org.banking.accountms.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.ArchivalProperties;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.AccountArchiveService;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Archiva por lotes las cuentas inactivas con saldo cero cuya desactivación supera el umbral configurado.
+ * Recorre la tabla por keyset (id &gt; último id) para que cada lote cueste lo mismo sin importar su posición.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccountArchivalJob {
+
+    private final AccountRepository accountRepository;
+    private final AccountArchiveService accountArchiveService;
+    private final ArchivalProperties properties;
+    private final AccountCacheInvalidator cacheInvalidator;
+
+    @Scheduled(cron = "${account.archival.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            run();
+        }
+    }
+
+    public long run() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(properties.getInactiveDays());
+        PageRequest page = PageRequest.of(0, properties.getBatchSize());
+        long start = System.nanoTime();
+        long moved = 0;
+        long lastId = 0;
+
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            List<Long> ids = accountRepository.findArchivableIds(lastId, cutoff, page);
+            if (ids.isEmpty()) {
+                break;
+            }
+            moved += accountArchiveService.archiveBatch(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+        if (moved > 0) {
+            // El borrado masivo solo vacía la caché de esta instancia.
+            cacheInvalidator.evictAll();
+        }
+
+        double seconds = Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+        log.info("Archivado finalizado: {} cuentas movidas en {} s ({} filas/s)",
+                moved, String.format("%.2f", seconds), String.format("%.1f", moved / seconds));
+        return moved;
+    }
+}
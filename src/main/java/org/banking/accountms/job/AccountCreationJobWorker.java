@@ -0,0 +1,301 @@
+package org.banking.accountms.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.annotation.PreDestroy;
+import javax.validation.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.CreationJobProperties;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountCreationJob;
+import org.banking.accountms.model.AccountCreationJobStatus;
+import org.banking.accountms.repository.AccountCreationJobRepository;
+import org.banking.accountms.service.AccountCreationJobService;
+import org.banking.accountms.service.AccountService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drena {@code account_creation_jobs} con {@code workers} hilos. Cada hilo reclama un lote en orden de ID,
+ * comprueba las solicitudes (reglas y cliente) fuera de transacción y da de alta las válidas en una sola
+ * transacción que también cierra los trabajos, así una cuenta y el DONE de su trabajo se confirman juntos.
+ *
+ * <p>Un trabajo que sigue en RUNNING pasado {@code stale-after-ms} puede reclamarlo otro worker mientras el
+ * primero aún lo procesa. Antes de crear cuentas se bloquean los trabajos del lote y se compara su versión
+ * con la reclamada: los que cambiaron de dueño se descartan sin crear su cuenta ni tocar su estado.</p>
+ *
+ * <p>Si el lote falla al escribir, se reintenta trabajo a trabajo para que una solicitud mala no arrastre
+ * al resto. Un fallo del servicio de clientes devuelve el trabajo a PENDING y se reintenta en la siguiente
+ * ronda, hasta {@code max-attempts} reclamos; después termina en FAILED. Las solicitudes rechazadas por validación o por cliente inexistente terminan
+ * en FAILED con el motivo.</p>
+ */
+@Slf4j
+@Component
+public class AccountCreationJobWorker {
+
+    private final AccountCreationJobRepository jobRepository;
+    private final AccountService accountService;
+    private final AccountCreationJobService jobService;
+    private final CreationJobProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService pool;
+    private final ExecutorService coordinator;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final Counter done;
+    private final Counter failed;
+    private final Timer latency;
+
+    public AccountCreationJobWorker(AccountCreationJobRepository jobRepository,
+                                    AccountService accountService,
+                                    AccountCreationJobService jobService,
+                                    CreationJobProperties properties,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry registry) {
+        this.jobRepository = jobRepository;
+        this.accountService = accountService;
+        this.jobService = jobService;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger threads = new AtomicInteger();
+        this.pool = Executors.newFixedThreadPool(Math.max(1, properties.getWorkers()), runnable -> {
+            Thread thread = new Thread(runnable, "creation-job-worker-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "creation-job-drain");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.done = Counter.builder("account.creation.jobs.completed").tag("outcome", "done")
+                .description("Altas asíncronas completadas").register(registry);
+        this.failed = Counter.builder("account.creation.jobs.completed").tag("outcome", "failed")
+                .description("Altas asíncronas rechazadas").register(registry);
+        this.latency = Timer.builder("account.creation.jobs.latency")
+                .description("Tiempo desde que se encola un alta hasta que termina").register(registry);
+    }
+
+    /**
+     * Lanza una ronda en su propio hilo y vuelve enseguida: en un pico de altas la ronda dura lo que tarde
+     * en vaciarse la cola y no debe ocupar el hilo de las demás tareas programadas. Si la ronda anterior
+     * sigue en marcha no se lanza otra.
+     */
+    @Scheduled(fixedDelayString = "${account.creation-jobs.poll-interval-ms:200}")
+    public void scheduledRun() {
+        if (properties.isWorkerEnabled() && draining.compareAndSet(false, true)) {
+            coordinator.execute(() -> {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    log.error("Altas asíncronas: falló la ronda", e);
+                } finally {
+                    draining.set(false);
+                }
+            });
+        }
+    }
+
+    /**
+     * Una ronda: cada hilo procesa lotes hasta que uno sale incompleto. Devuelve los trabajos terminados.
+     */
+    public long drain() {
+        List<Future<Long>> results = new ArrayList<>();
+        for (int i = 0; i < Math.max(1, properties.getWorkers()); i++) {
+            results.add(pool.submit(() -> {
+                long finished = 0;
+                int batch;
+                do {
+                    batch = processBatch();
+                    finished += batch;
+                } while (batch == properties.getBatchSize());
+                return finished;
+            }));
+        }
+        long finished = 0;
+        for (Future<Long> result : results) {
+            try {
+                finished += result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                log.error("Altas asíncronas: fallo en un worker", e.getCause());
+            }
+        }
+        jobService.refreshPending();
+        if (finished > 0) {
+            log.info("Altas asíncronas: {} trabajos terminados", finished);
+        }
+        return finished;
+    }
+
+    @Scheduled(cron = "${account.creation-jobs.cleanup-cron:0 40 * * * *}")
+    public void purgeCompleted() {
+        Integer removed = transactionTemplate.execute(status -> jobRepository
+                .deleteCompletedBefore(LocalDateTime.now().minusHours(properties.getRetentionHours())));
+        log.debug("Altas asíncronas: {} trabajos terminados eliminados", removed);
+    }
+
+    @PreDestroy
+    public void stop() {
+        coordinator.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    /**
+     * Devuelve cuántos trabajos del lote terminaron (DONE o FAILED).
+     */
+    int processBatch() {
+        List<AccountCreationJob> jobs = transactionTemplate.execute(status -> claim());
+        if (jobs == null || jobs.isEmpty()) {
+            return 0;
+        }
+        List<AccountCreationJob> accepted = new ArrayList<>();
+        List<AccountCreationJob> settled = new ArrayList<>();
+        for (AccountCreationJob job : jobs) {
+            try {
+                accountService.checkCreatable(toRequest(job));
+                accepted.add(job);
+            } catch (IllegalArgumentException | ValidationException e) {
+                settled.add(finish(job, AccountCreationJobStatus.FAILED, null, e.getMessage()));
+            } catch (RuntimeException e) {
+                settled.add(retryOrFail(job, e));
+            }
+        }
+        Set<Long> lost = new HashSet<>();
+        try {
+            lost.addAll(complete(accepted, settled));
+        } catch (RuntimeException e) {
+            log.warn("Altas asíncronas: falló el lote de {} trabajos, se reintentan uno a uno: {}",
+                    accepted.size(), e.getMessage());
+            lost.addAll(complete(List.of(), settled));
+            for (AccountCreationJob job : accepted) {
+                try {
+                    lost.addAll(complete(List.of(job), List.of()));
+                } catch (RuntimeException single) {
+                    log.error("Alta asíncrona {} fallida", job.getId(), single);
+                    lost.addAll(complete(List.of(),
+                            List.of(finish(job, AccountCreationJobStatus.FAILED, null, Messages.CREATION_JOB_FAILED))));
+                }
+            }
+        }
+        int finished = 0;
+        for (AccountCreationJob job : jobs) {
+            if (lost.contains(job.getId())) {
+                continue;
+            }
+            if (job.getStatus() == AccountCreationJobStatus.DONE || job.getStatus() == AccountCreationJobStatus.FAILED) {
+                (job.getStatus() == AccountCreationJobStatus.DONE ? done : failed).increment();
+                latency.record(Duration.between(job.getCreatedAt(), job.getCompletedAt()));
+                finished++;
+            }
+        }
+        return finished;
+    }
+
+    private AccountCreationJob retryOrFail(AccountCreationJob job, RuntimeException cause) {
+        if (job.getAttempts() >= properties.getMaxAttempts()) {
+            log.error("Alta asíncrona {} fallida tras {} intentos: {}", job.getId(), job.getAttempts(),
+                    cause.getMessage());
+            return finish(job, AccountCreationJobStatus.FAILED, null, Messages.CREATION_JOB_RETRIES_EXHAUSTED);
+        }
+        log.warn("Alta asíncrona {} devuelta a la cola (intento {} de {}): {}", job.getId(), job.getAttempts(),
+                properties.getMaxAttempts(), cause.getMessage());
+        job.setStatus(AccountCreationJobStatus.PENDING);
+        job.setStartedAt(null);
+        return job;
+    }
+
+    private List<AccountCreationJob> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<AccountCreationJob> jobs = jobRepository.claimable(
+                now.minusNanos(properties.getStaleAfterMs() * 1_000_000L), PageRequest.of(0, properties.getBatchSize()));
+        for (AccountCreationJob job : jobs) {
+            job.setStatus(AccountCreationJobStatus.RUNNING);
+            job.setStartedAt(now);
+            job.setAttempts(job.getAttempts() + 1);
+        }
+        return jobs;
+    }
+
+    /**
+     * Crea las cuentas de {@code accepted} y guarda el estado de todos los trabajos en una transacción.
+     * Devuelve los IDs de los trabajos que otro worker reclamó entretanto, que se quedan como estaban.
+     */
+    private Set<Long> complete(List<AccountCreationJob> accepted, List<AccountCreationJob> settled) {
+        return transactionTemplate.execute(status -> {
+            List<AccountCreationJob> all = new ArrayList<>(settled);
+            all.addAll(accepted);
+            Set<Long> lost = lost(all);
+            List<AccountCreationJob> owned = new ArrayList<>(accepted.size());
+            List<CreateAccountRequest> requests = new ArrayList<>(accepted.size());
+            for (AccountCreationJob job : accepted) {
+                if (!lost.contains(job.getId())) {
+                    owned.add(job);
+                    requests.add(toRequest(job));
+                }
+            }
+            List<AccountResponse> created = requests.isEmpty() ? List.of() : accountService.createChecked(requests);
+            for (int i = 0; i < owned.size(); i++) {
+                finish(owned.get(i), AccountCreationJobStatus.DONE, created.get(i).getId(), null);
+            }
+            all.removeIf(job -> lost.contains(job.getId()));
+            jobRepository.saveAll(all);
+            return lost;
+        });
+    }
+
+    private Set<Long> lost(List<AccountCreationJob> jobs) {
+        if (jobs.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Long> versions = new HashMap<>();
+        for (AccountCreationJob locked : jobRepository.lockAll(jobs.stream().map(AccountCreationJob::getId)
+                .collect(Collectors.toList()))) {
+            versions.put(locked.getId(), locked.getVersion());
+        }
+        Set<Long> lost = new HashSet<>();
+        for (AccountCreationJob job : jobs) {
+            Long version = versions.get(job.getId());
+            if (version == null || version != job.getVersion()) {
+                log.warn("Alta asíncrona {} reclamada por otro worker; se descarta este intento", job.getId());
+                lost.add(job.getId());
+            }
+        }
+        return lost;
+    }
+
+    private static AccountCreationJob finish(AccountCreationJob job, AccountCreationJobStatus status,
+                                             Long accountId, String error) {
+        job.setStatus(status);
+        job.setAccountId(accountId);
+        job.setError(error == null || error.length() <= 500 ? error : error.substring(0, 500));
+        job.setCompletedAt(LocalDateTime.now());
+        return job;
+    }
+
+    private static CreateAccountRequest toRequest(AccountCreationJob job) {
+        return new CreateAccountRequest(job.getClientId(), job.getType(), job.getInitialBalance());
+    }
+}
@@ -0,0 +1,45 @@
+package org.banking.accountms.job;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.HotAccountProperties;
+import org.banking.accountms.repository.AccountBalanceStripeRepository;
+import org.banking.accountms.service.AccountBalanceService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pliega periódicamente las particiones de saldo de las cuentas calientes, una transacción corta por cuenta,
+ * para que {@code accounts.balance} (listados, búsquedas, intereses) no se aleje del saldo real.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceStripeFoldJob {
+
+    private final AccountBalanceStripeRepository stripeRepository;
+    private final AccountBalanceService balanceService;
+    private final HotAccountProperties properties;
+
+    @Scheduled(fixedDelayString = "${account.hot.fold-interval-ms:10000}")
+    public void scheduledRun() {
+        if (properties.isFoldEnabled()) {
+            run();
+        }
+    }
+
+    public int run() {
+        List<Long> accountIds = stripeRepository.findAccountIdsWithPendingBalance();
+        int folded = 0;
+        for (Long accountId : accountIds) {
+            if (balanceService.fold(accountId).signum() != 0) {
+                folded++;
+            }
+        }
+        if (folded > 0) {
+            log.debug("Particiones de saldo plegadas en {} cuentas", folded);
+        }
+        return folded;
+    }
+}
@@ -0,0 +1,18 @@
+package org.banking.accountms.job;
+
+import lombok.Value;
+
+@Value
+public class BatchRunReport {
+    String jobName;
+    String period;
+    int partitions;
+    int skippedPartitions;
+    long rows;
+    double seconds;
+    boolean dryRun;
+
+    public double rowsPerSecond() {
+        return seconds > 0 ? rows / seconds : rows;
+    }
+}
@@ -0,0 +1,32 @@
+package org.banking.accountms.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Value;
+
+/**
+ * Rango cerrado de IDs [start, end] procesado como una unidad por los jobs por particiones.
+ */
+@Value
+public class IdRange {
+    long start;
+    long end;
+
+    /**
+     * Divide [minId, maxId] en rangos alineados a múltiplos de {@code size}, de modo que
+     * las particiones sean estables entre ejecuciones aunque crezca la tabla.
+     */
+    public static List<IdRange> partition(long minId, long maxId, long size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("El tamaño de partición debe ser mayor que 0");
+        }
+        List<IdRange> ranges = new ArrayList<>();
+        if (maxId < minId) {
+            return ranges;
+        }
+        for (long start = Math.floorDiv(minId, size) * size; start <= maxId; start += size) {
+            ranges.add(new IdRange(start, start + size - 1));
+        }
+        return ranges;
+    }
+}
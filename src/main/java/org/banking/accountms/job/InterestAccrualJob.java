@@ -0,0 +1,97 @@
+package org.banking.accountms.job;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.InterestProperties;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Abona el interés mensual a las cuentas SAVINGS con un UPDATE por partición de IDs,
+ * sin cargar entidades. Las particiones se procesan en paralelo a través de {@link PartitionedBatchRunner}.
+ * El interés se calcula sobre el saldo efectivo: el de {@code accounts} más lo pendiente de plegar en las
+ * particiones de las cuentas calientes, y se abona en {@code accounts} sin tocar las particiones.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InterestAccrualJob {
+
+    static final String JOB_NAME = "interest-accrual";
+
+    private static final String BOUNDS_SQL =
+            "SELECT MIN(id), MAX(id) FROM accounts WHERE type = 'SAVINGS'";
+    private static final String EFFECTIVE_BALANCE = "(balance + COALESCE((SELECT SUM(s.balance) "
+            + "FROM account_balance_stripes s WHERE s.account_id = accounts.id), 0))";
+    private static final String RECORD_MOVEMENTS_SQL =
+            "INSERT INTO account_movements (account_id, amount, resulting_balance, type, created_at) "
+                    + "SELECT id, ROUND(" + EFFECTIVE_BALANCE + " * ?, 2), "
+                    + EFFECTIVE_BALANCE + " + ROUND(" + EFFECTIVE_BALANCE + " * ?, 2), 'INTEREST', ? "
+                    + "FROM accounts WHERE id BETWEEN ? AND ? AND type = 'SAVINGS' AND " + EFFECTIVE_BALANCE + " > 0";
+    private static final String APPLY_SQL =
+            "UPDATE accounts SET balance = balance + ROUND(" + EFFECTIVE_BALANCE + " * ?, 2) "
+                    + "WHERE id BETWEEN ? AND ? AND type = 'SAVINGS' AND " + EFFECTIVE_BALANCE + " > 0";
+    private static final String CREDITED_IDS_SQL =
+            "SELECT id FROM accounts WHERE id BETWEEN ? AND ? AND type = 'SAVINGS' AND " + EFFECTIVE_BALANCE + " > 0";
+    private static final String PREVIEW_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(ROUND(" + EFFECTIVE_BALANCE + " * ?, 2)), 0) FROM accounts "
+                    + "WHERE id BETWEEN ? AND ? AND type = 'SAVINGS' AND " + EFFECTIVE_BALANCE + " > 0";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitionedBatchRunner runner;
+    private final InterestProperties properties;
+    private final AccountCacheInvalidator cacheInvalidator;
+
+    @Scheduled(cron = "${account.interest.cron:0 0 2 1 * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            run(YearMonth.now().minusMonths(1), properties.isDryRun());
+        }
+    }
+
+    public BatchRunReport run(YearMonth period, boolean dryRun) {
+        BigDecimal monthlyRate = properties.getAnnualRate().divide(BigDecimal.valueOf(12), 10, RoundingMode.HALF_UP);
+        List<IdRange> ranges = jdbcTemplate.query(BOUNDS_SQL, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? List.of() : IdRange.partition(min, rs.getLong(2), properties.getPartitionSize());
+        });
+
+        if (!dryRun) {
+            return runner.run(JOB_NAME, period.toString(), ranges, properties.getParallelism(), false,
+                    range -> applyInterest(range, monthlyRate));
+        }
+
+        AtomicReference<BigDecimal> totalInterest = new AtomicReference<>(BigDecimal.ZERO);
+        BatchRunReport report = runner.run(JOB_NAME, period.toString(), ranges, properties.getParallelism(), true,
+                range -> jdbcTemplate.query(PREVIEW_SQL, rs -> {
+                    rs.next();
+                    totalInterest.accumulateAndGet(rs.getBigDecimal(2), BigDecimal::add);
+                    return rs.getLong(1);
+                }, monthlyRate, range.getStart(), range.getEnd()));
+        log.info("Dry-run de intereses {}: {} cuentas, interés total {}", period, report.getRows(), totalInterest.get());
+        return report;
+    }
+
+    /**
+     * Registra los movimientos de interés y luego actualiza los saldos del rango, ambos set-based
+     * dentro de la transacción de la partición. Los saldos cambian con SQL directo, sin pasar por la caché
+     * de Hibernate, así que se invalidan las cuentas abonadas al confirmar la partición.
+     */
+    private long applyInterest(IdRange range, BigDecimal monthlyRate) {
+        List<Long> credited = jdbcTemplate.queryForList(CREDITED_IDS_SQL, Long.class,
+                range.getStart(), range.getEnd());
+        cacheInvalidator.evictAccounts(credited);
+        jdbcTemplate.update(RECORD_MOVEMENTS_SQL, monthlyRate, monthlyRate, LocalDateTime.now(),
+                range.getStart(), range.getEnd());
+        return jdbcTemplate.update(APPLY_SQL, monthlyRate, range.getStart(), range.getEnd());
+    }
+}
@@ -0,0 +1,95 @@
+package org.banking.accountms.job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.adapter.event.EventSink;
+import org.banking.accountms.config.OutboxProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.model.OutboxEvent;
+import org.banking.accountms.repository.OutboxEventRepository;
+import org.banking.accountms.service.AccountEventPublisher;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drena el outbox por lotes en orden de ID, lo que conserva el orden de los eventos de cada cuenta.
+ * Un lote solo se marca como publicado si el sink lo aceptó completo; si falla, el relay se detiene
+ * y lo reintenta en la siguiente ejecución. Cada lote se reclama con bloqueo de fila, así que si varias
+ * instancias tienen el relay activo se turnan lote a lote en vez de entregar los mismos eventos dos veces.
+ */
+@Slf4j
+@Component
+public class OutboxRelayJob {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final AccountEventPublisher accountEventPublisher;
+    private final EventSink eventSink;
+    private final OutboxProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public OutboxRelayJob(OutboxEventRepository outboxEventRepository,
+                          AccountEventPublisher accountEventPublisher,
+                          EventSink eventSink,
+                          OutboxProperties properties,
+                          PlatformTransactionManager transactionManager) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.accountEventPublisher = accountEventPublisher;
+        this.eventSink = eventSink;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${account.outbox.relay-interval-ms:1000}")
+    public void scheduledRun() {
+        if (!properties.isRelayEnabled()) {
+            return;
+        }
+        try {
+            drain();
+        } catch (PessimisticLockingFailureException e) {
+            log.debug("Outbox: otro relay retiene el lote pendiente, se reintenta en la siguiente ejecución");
+        }
+    }
+
+    public long drain() {
+        long delivered = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            Integer sent = transactionTemplate.execute(status -> relayBatch());
+            if (sent == null || sent == 0) {
+                break;
+            }
+            delivered += sent;
+        }
+        if (delivered > 0) {
+            log.info("Outbox: {} eventos entregados", delivered);
+        }
+        return delivered;
+    }
+
+    @Scheduled(cron = "${account.outbox.cleanup-cron:0 30 * * * *}")
+    public void purgePublished() {
+        Integer removed = transactionTemplate.execute(status -> outboxEventRepository
+                .deletePublishedBefore(LocalDateTime.now().minusHours(properties.getRetentionHours())));
+        log.debug("Outbox: {} eventos publicados eliminados", removed);
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> pending = outboxEventRepository.findPending(PageRequest.of(0, properties.getBatchSize()));
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<AccountEvent> events = pending.stream()
+                .map(accountEventPublisher::toEvent)
+                .collect(Collectors.toList());
+        eventSink.publish(events);
+        outboxEventRepository.markPublished(
+                pending.stream().map(OutboxEvent::getId).collect(Collectors.toList()), LocalDateTime.now());
+        return pending.size();
+    }
+}
@@ -0,0 +1,10 @@
+package org.banking.accountms.job;
+
+@FunctionalInterface
+public interface PartitionProcessor {
+
+    /**
+     * Procesa un rango de IDs dentro de la transacción abierta por el runner y devuelve las filas afectadas.
+     */
+    long process(IdRange range);
+}
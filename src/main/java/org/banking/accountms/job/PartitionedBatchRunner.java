@@ -0,0 +1,107 @@
+package org.banking.accountms.job;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.model.BatchCheckpoint;
+import org.banking.accountms.repository.BatchCheckpointRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ejecuta un job por particiones de IDs en un pool acotado. Cada partición corre en su propia
+ * transacción junto con su checkpoint, así que un reintento del mismo periodo solo procesa lo pendiente.
+ */
+@Slf4j
+@Component
+public class PartitionedBatchRunner {
+
+    private final BatchCheckpointRepository checkpointRepository;
+    private final TransactionTemplate writeTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public PartitionedBatchRunner(BatchCheckpointRepository checkpointRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.checkpointRepository = checkpointRepository;
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    public BatchRunReport run(String jobName, String period, List<IdRange> ranges,
+                              int parallelism, boolean dryRun, PartitionProcessor processor) {
+        Set<Long> completed = new HashSet<>(checkpointRepository.findCompletedStarts(jobName, period));
+        List<IdRange> pending = ranges.stream()
+                .filter(range -> !completed.contains(range.getStart()))
+                .collect(Collectors.toList());
+
+        long start = System.nanoTime();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, pending.size())));
+        try {
+            List<Future<Long>> futures = new ArrayList<>(pending.size());
+            for (IdRange range : pending) {
+                futures.add(pool.submit(() -> processPartition(jobName, period, range, dryRun, processor)));
+            }
+            long rows = collect(jobName, futures);
+            BatchRunReport report = new BatchRunReport(jobName, period, pending.size(),
+                    ranges.size() - pending.size(), rows, (System.nanoTime() - start) / 1e9, dryRun);
+            log.info("Job {} periodo {}{}: {} particiones ({} ya completadas), {} filas en {} s ({} filas/s)",
+                    jobName, period, dryRun ? " [dry-run]" : "", report.getPartitions(),
+                    report.getSkippedPartitions(), rows, String.format("%.2f", report.getSeconds()),
+                    String.format("%.1f", report.rowsPerSecond()));
+            return report;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long processPartition(String jobName, String period, IdRange range,
+                                  boolean dryRun, PartitionProcessor processor) {
+        if (dryRun) {
+            return readOnlyTemplate.execute(status -> processor.process(range));
+        }
+        return writeTemplate.execute(status -> {
+            long rows = processor.process(range);
+            checkpointRepository.save(BatchCheckpoint.builder()
+                    .id(BatchCheckpoint.idOf(jobName, period, range.getStart()))
+                    .jobName(jobName)
+                    .period(period)
+                    .rangeStart(range.getStart())
+                    .rangeEnd(range.getEnd())
+                    .rowsAffected(rows)
+                    .completedAt(LocalDateTime.now())
+                    .build());
+            return rows;
+        });
+    }
+
+    private long collect(String jobName, List<Future<Long>> futures) {
+        long rows = 0;
+        int failures = 0;
+        for (Future<Long> future : futures) {
+            try {
+                rows += future.get();
+            } catch (ExecutionException e) {
+                failures++;
+                log.error("Job {}: falló una partición", jobName, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Job " + jobName + " interrumpido", e);
+            }
+        }
+        if (failures > 0) {
+            throw new IllegalStateException("Job " + jobName + ": " + failures + " particiones fallidas; "
+                    + "vuelva a ejecutarlo para reanudar desde el último checkpoint");
+        }
+        return rows;
+    }
+}
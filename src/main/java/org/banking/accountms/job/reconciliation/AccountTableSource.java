@@ -0,0 +1,84 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.job.IdRange;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Saldos de {@code accounts}, incluido lo pendiente de plegar en las particiones de las cuentas calientes.
+ * El resumen de cada partición lo calcula la base de datos, sin traer las filas; como es lineal en los
+ * saldos, el de {@code account_balance_stripes} se suma aparte en lugar de unir cada cuenta con las suyas.
+ */
+@RequiredArgsConstructor
+public class AccountTableSource implements BalanceSource {
+
+    static final String BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM accounts";
+    private static final String CHECKSUM_SQL =
+            "SELECT COUNT(*), COALESCE(SUM(balance), 0), COALESCE(SUM(id * balance), 0) FROM accounts "
+                    + "WHERE id BETWEEN ? AND ?";
+    private static final String STRIPES_CHECKSUM_SQL =
+            "SELECT 0, COALESCE(SUM(balance), 0), COALESCE(SUM(account_id * balance), 0) "
+                    + "FROM account_balance_stripes WHERE account_id BETWEEN ? AND ?";
+    private static final String BALANCES_SQL =
+            "SELECT a.id, a.balance + COALESCE(s.pending, 0) FROM accounts a "
+                    + "LEFT JOIN (SELECT account_id, SUM(balance) AS pending FROM account_balance_stripes "
+                    + "WHERE account_id BETWEEN ? AND ? GROUP BY account_id) s ON s.account_id = a.id "
+                    + "WHERE a.id BETWEEN ? AND ? ORDER BY a.id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "accounts";
+    }
+
+    @Override
+    public IdRange bounds() {
+        return bounds(jdbcTemplate, BOUNDS_SQL);
+    }
+
+    @Override
+    public PartitionChecksum checksum(IdRange range) {
+        PartitionChecksum accounts = checksum(jdbcTemplate, CHECKSUM_SQL, range.getStart(), range.getEnd());
+        PartitionChecksum stripes = checksum(jdbcTemplate, STRIPES_CHECKSUM_SQL, range.getStart(), range.getEnd());
+        return new PartitionChecksum(accounts.getCount(), accounts.getSum().add(stripes.getSum()),
+                accounts.getWeightedSum().add(stripes.getWeightedSum()));
+    }
+
+    @Override
+    public SortedMap<Long, BigDecimal> balances(IdRange range) {
+        return balances(jdbcTemplate, BALANCES_SQL, range.getStart(), range.getEnd(), range.getStart(), range.getEnd());
+    }
+
+    static IdRange bounds(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.query(sql, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new IdRange(min, rs.getLong(2));
+        });
+    }
+
+    /**
+     * Lee un resumen de la forma {@code COUNT, SUM(saldo), SUM(id * saldo)}.
+     */
+    static PartitionChecksum checksum(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        return jdbcTemplate.query(sql, rs -> {
+            rs.next();
+            return new PartitionChecksum(rs.getLong(1), rs.getBigDecimal(2), rs.getBigDecimal(3));
+        }, args);
+    }
+
+    /**
+     * Lee filas {@code id, saldo}.
+     */
+    static SortedMap<Long, BigDecimal> balances(JdbcTemplate jdbcTemplate, String sql, Object... args) {
+        SortedMap<Long, BigDecimal> balances = new TreeMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            balances.put(rs.getLong(1), rs.getBigDecimal(2));
+        }, args);
+        return balances;
+    }
+}
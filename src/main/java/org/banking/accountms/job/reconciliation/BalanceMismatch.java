@@ -0,0 +1,15 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import lombok.Value;
+
+/**
+ * Cuenta que no cuadra. {@code actual} es null si la cuenta solo está en la fuente esperada y
+ * {@code expected} es null si la fuente no la tiene.
+ */
+@Value
+public class BalanceMismatch {
+    long accountId;
+    BigDecimal actual;
+    BigDecimal expected;
+}
@@ -0,0 +1,53 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.nio.file.Paths;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.ReconciliationProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Conciliación nocturna de {@code accounts.balance} contra el registro de movimientos o contra un snapshot
+ * exportado. Solo informa: los descuadres se registran en el log y no se corrige nada.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceReconciliationJob {
+
+    static final String SNAPSHOT = "snapshot";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ReconciliationProperties properties;
+
+    @Scheduled(cron = "${account.reconciliation.cron:0 0 3 * * *}")
+    public void scheduledRun() {
+        if (properties.isEnabled()) {
+            run();
+        }
+    }
+
+    public ReconciliationReport run() {
+        BalanceSource expected = SNAPSHOT.equalsIgnoreCase(properties.getSource())
+                ? new SnapshotFileSource(Paths.get(properties.getSnapshotPath()), properties.getPartitionSize())
+                : new MovementLogSource(jdbcTemplate);
+        ReconciliationReport report = new ReconciliationEngine(new AccountTableSource(jdbcTemplate), expected,
+                transactionManager, properties.getParallelism(), properties.getMaxReportedMismatches())
+                .run(properties.getPartitionSize());
+        if (report.isClean()) {
+            log.info("Conciliación contra {}: {} cuentas en {} particiones cuadran ({} s)", report.getSource(),
+                    report.getAccounts(), report.getPartitions(), String.format("%.2f", report.getSeconds()));
+        } else {
+            log.warn("Conciliación contra {}: {} cuentas descuadradas en {} de {} particiones ({} s)",
+                    report.getSource(), report.getMismatchCount(), report.getMismatchedPartitions(),
+                    report.getPartitions(), String.format("%.2f", report.getSeconds()));
+            report.getMismatches().forEach(mismatch -> log.warn("Cuenta {}: saldo {}, esperado {}",
+                    mismatch.getAccountId(), mismatch.getActual(), mismatch.getExpected()));
+        }
+        return report;
+    }
+}
@@ -0,0 +1,25 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import java.util.SortedMap;
+import org.banking.accountms.job.IdRange;
+
+/**
+ * Un lado de la conciliación: los saldos de {@code accounts} o una fuente independiente de ellos.
+ */
+public interface BalanceSource {
+
+    String name();
+
+    /**
+     * Menor y mayor ID de cuenta de la fuente, o null si está vacía.
+     */
+    IdRange bounds();
+
+    PartitionChecksum checksum(IdRange range);
+
+    /**
+     * Saldo por ID de las cuentas del rango; solo se pide para las particiones que no cuadran.
+     */
+    SortedMap<Long, BigDecimal> balances(IdRange range);
+}
@@ -0,0 +1,46 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import java.util.SortedMap;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.job.IdRange;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Saldo esperado de cada cuenta como suma de sus movimientos (el de apertura incluido). Solo cuenta las
+ * cuentas que siguen en {@code accounts}: las archivadas o purgadas conservan sus movimientos.
+ */
+@RequiredArgsConstructor
+public class MovementLogSource implements BalanceSource {
+
+    private static final String LIVE_MOVEMENTS =
+            "FROM account_movements m WHERE m.account_id BETWEEN ? AND ? "
+                    + "AND EXISTS (SELECT 1 FROM accounts a WHERE a.id = m.account_id)";
+    private static final String CHECKSUM_SQL =
+            "SELECT COUNT(DISTINCT m.account_id), COALESCE(SUM(m.amount), 0), "
+                    + "COALESCE(SUM(m.account_id * m.amount), 0) " + LIVE_MOVEMENTS;
+    private static final String BALANCES_SQL =
+            "SELECT m.account_id, SUM(m.amount) " + LIVE_MOVEMENTS + " GROUP BY m.account_id ORDER BY m.account_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String name() {
+        return "account_movements";
+    }
+
+    @Override
+    public IdRange bounds() {
+        return AccountTableSource.bounds(jdbcTemplate, AccountTableSource.BOUNDS_SQL);
+    }
+
+    @Override
+    public PartitionChecksum checksum(IdRange range) {
+        return AccountTableSource.checksum(jdbcTemplate, CHECKSUM_SQL, range.getStart(), range.getEnd());
+    }
+
+    @Override
+    public SortedMap<Long, BigDecimal> balances(IdRange range) {
+        return AccountTableSource.balances(jdbcTemplate, BALANCES_SQL, range.getStart(), range.getEnd());
+    }
+}
@@ -0,0 +1,32 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import lombok.Value;
+
+/**
+ * Resumen de los saldos de una partición: número de cuentas, suma de saldos y suma de {@code id * saldo}.
+ * La suma ponderada detecta importes movidos entre cuentas de la misma partición, que no cambian la suma.
+ */
+@Value
+public class PartitionChecksum {
+
+    public static final PartitionChecksum EMPTY = new PartitionChecksum(0, BigDecimal.ZERO, BigDecimal.ZERO);
+
+    long count;
+    BigDecimal sum;
+    BigDecimal weightedSum;
+
+    public PartitionChecksum add(long accountId, BigDecimal balance) {
+        return new PartitionChecksum(count + 1, sum.add(balance),
+                weightedSum.add(balance.multiply(BigDecimal.valueOf(accountId))));
+    }
+
+    /**
+     * Compara por valor: la base de datos y el fichero pueden devolver escalas distintas.
+     */
+    public boolean matches(PartitionChecksum other) {
+        return count == other.count
+                && sum.compareTo(other.sum) == 0
+                && weightedSum.compareTo(other.weightedSum) == 0;
+    }
+}
@@ -0,0 +1,147 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.banking.accountms.job.IdRange;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Compara dos {@link BalanceSource} por particiones de IDs en un {@link ForkJoinPool}: la lista de
+ * particiones se divide por mitades hasta llegar a una, y cada partición compara los resúmenes de ambos
+ * lados. Solo si no coinciden se traen los saldos de esa partición para listar las cuentas que no cuadran,
+ * así que una ejecución limpia lee cada fila una vez y no transfiere ninguna.
+ *
+ * <p>Cada partición se lee en una transacción de solo lectura REPEATABLE_READ: con las dos fuentes en la
+ * base de datos ambas ven la misma foto, y un movimiento concurrente no aparece como descuadre.</p>
+ */
+public class ReconciliationEngine {
+
+    private final BalanceSource actual;
+    private final BalanceSource expected;
+    private final TransactionTemplate snapshotTemplate;
+    private final int parallelism;
+    private final int maxReportedMismatches;
+
+    public ReconciliationEngine(BalanceSource actual, BalanceSource expected,
+                                PlatformTransactionManager transactionManager,
+                                int parallelism, int maxReportedMismatches) {
+        this.actual = actual;
+        this.expected = expected;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setReadOnly(true);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.parallelism = Math.max(1, parallelism);
+        this.maxReportedMismatches = maxReportedMismatches;
+    }
+
+    public ReconciliationReport run(long partitionSize) {
+        long start = System.nanoTime();
+        List<IdRange> ranges = ranges(partitionSize);
+        Tally tally;
+        if (ranges.isEmpty()) {
+            tally = new Tally();
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                tally = pool.invoke(new PartitionTask(ranges));
+            } finally {
+                pool.shutdownNow();
+            }
+        }
+        return new ReconciliationReport(expected.name(), ranges.size(), tally.mismatchedPartitions,
+                tally.accounts, tally.mismatchCount, tally.mismatches, (System.nanoTime() - start) / 1e9);
+    }
+
+    private List<IdRange> ranges(long partitionSize) {
+        IdRange a = actual.bounds();
+        IdRange b = expected.bounds();
+        if (a == null && b == null) {
+            return List.of();
+        }
+        long min = Math.min(a == null ? Long.MAX_VALUE : a.getStart(), b == null ? Long.MAX_VALUE : b.getStart());
+        long max = Math.max(a == null ? Long.MIN_VALUE : a.getEnd(), b == null ? Long.MIN_VALUE : b.getEnd());
+        return IdRange.partition(min, max, partitionSize);
+    }
+
+    private Tally reconcile(IdRange range) {
+        return snapshotTemplate.execute(status -> {
+            Tally tally = new Tally();
+            PartitionChecksum actualChecksum = actual.checksum(range);
+            tally.accounts = actualChecksum.getCount();
+            if (actualChecksum.matches(expected.checksum(range))) {
+                return tally;
+            }
+            tally.mismatchedPartitions = 1;
+            SortedMap<Long, BigDecimal> actualBalances = actual.balances(range);
+            SortedMap<Long, BigDecimal> expectedBalances = expected.balances(range);
+            TreeSet<Long> ids = new TreeSet<>(actualBalances.keySet());
+            ids.addAll(expectedBalances.keySet());
+            for (Long id : ids) {
+                BigDecimal a = actualBalances.get(id);
+                BigDecimal e = expectedBalances.get(id);
+                if (a == null || e == null || a.compareTo(e) != 0) {
+                    tally.add(new BalanceMismatch(id, a, e));
+                }
+            }
+            return tally;
+        });
+    }
+
+    private final class PartitionTask extends RecursiveTask<Tally> {
+
+        private final List<IdRange> ranges;
+
+        private PartitionTask(List<IdRange> ranges) {
+            this.ranges = ranges;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (ranges.size() == 1) {
+                return reconcile(ranges.get(0));
+            }
+            int middle = ranges.size() / 2;
+            PartitionTask left = new PartitionTask(ranges.subList(0, middle));
+            left.fork();
+            Tally right = new PartitionTask(ranges.subList(middle, ranges.size())).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private final class Tally {
+        private int mismatchedPartitions;
+        private long accounts;
+        private long mismatchCount;
+        private final List<BalanceMismatch> mismatches = new ArrayList<>();
+
+        private void add(BalanceMismatch mismatch) {
+            mismatchCount++;
+            if (mismatches.size() < maxReportedMismatches) {
+                mismatches.add(mismatch);
+            }
+        }
+
+        /**
+         * {@code this} es la mitad de IDs menores, así la lista sale en orden de ID.
+         */
+        private Tally merge(Tally other) {
+            mismatchedPartitions += other.mismatchedPartitions;
+            accounts += other.accounts;
+            mismatchCount += other.mismatchCount;
+            for (BalanceMismatch mismatch : other.mismatches) {
+                if (mismatches.size() >= maxReportedMismatches) {
+                    break;
+                }
+                mismatches.add(mismatch);
+            }
+            return this;
+        }
+    }
+}
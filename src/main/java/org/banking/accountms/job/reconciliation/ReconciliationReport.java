@@ -0,0 +1,22 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.util.List;
+import lombok.Value;
+
+/**
+ * {@code mismatches} se corta en {@code max-reported-mismatches}; {@code mismatchCount} es el total.
+ */
+@Value
+public class ReconciliationReport {
+    String source;
+    int partitions;
+    int mismatchedPartitions;
+    long accounts;
+    long mismatchCount;
+    List<BalanceMismatch> mismatches;
+    double seconds;
+
+    public boolean isClean() {
+        return mismatchCount == 0 && mismatchedPartitions == 0;
+    }
+}
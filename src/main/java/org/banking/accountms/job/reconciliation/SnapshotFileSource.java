@@ -0,0 +1,100 @@
+package org.banking.accountms.job.reconciliation;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BiConsumer;
+import org.banking.accountms.job.IdRange;
+
+/**
+ * Saldos de un snapshot exportado en CSV, una cuenta por línea: {@code account_id,balance}. Se ignoran las
+ * líneas vacías y una cabecera opcional. Los resúmenes de todas las particiones se calculan en una sola
+ * lectura del fichero al construir la fuente; solo se vuelve a leer para detallar una partición que no cuadra.
+ */
+public class SnapshotFileSource implements BalanceSource {
+
+    private final Path file;
+    private final long partitionSize;
+    private final Map<Long, PartitionChecksum> checksums = new HashMap<>();
+    private long minId = Long.MAX_VALUE;
+    private long maxId = Long.MIN_VALUE;
+
+    public SnapshotFileSource(Path file, long partitionSize) {
+        this.file = file;
+        this.partitionSize = partitionSize;
+        read((id, balance) -> {
+            checksums.merge(Math.floorDiv(id, partitionSize) * partitionSize,
+                    PartitionChecksum.EMPTY.add(id, balance), SnapshotFileSource::combine);
+            minId = Math.min(minId, id);
+            maxId = Math.max(maxId, id);
+        });
+    }
+
+    @Override
+    public String name() {
+        return file.getFileName().toString();
+    }
+
+    @Override
+    public IdRange bounds() {
+        return checksums.isEmpty() ? null : new IdRange(minId, maxId);
+    }
+
+    @Override
+    public PartitionChecksum checksum(IdRange range) {
+        if (range.getEnd() - range.getStart() + 1 != partitionSize || Math.floorMod(range.getStart(), partitionSize) != 0) {
+            throw new IllegalArgumentException("El rango " + range + " no coincide con las particiones del snapshot");
+        }
+        return checksums.getOrDefault(range.getStart(), PartitionChecksum.EMPTY);
+    }
+
+    @Override
+    public SortedMap<Long, BigDecimal> balances(IdRange range) {
+        SortedMap<Long, BigDecimal> balances = new TreeMap<>();
+        read((id, balance) -> {
+            if (id >= range.getStart() && id <= range.getEnd()) {
+                balances.put(id, balance);
+            }
+        });
+        return balances;
+    }
+
+    private void read(BiConsumer<Long, BigDecimal> consumer) {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int number = 0;
+            while ((line = reader.readLine()) != null) {
+                number++;
+                line = line.trim();
+                if (line.isEmpty() || (number == 1 && !Character.isDigit(line.charAt(0)))) {
+                    continue;
+                }
+                int comma = line.indexOf(',');
+                if (comma < 0) {
+                    throw new IllegalArgumentException("Línea " + number + " de " + file + " sin separador");
+                }
+                try {
+                    consumer.accept(Long.parseLong(line.substring(0, comma).trim()),
+                            new BigDecimal(line.substring(comma + 1).trim()));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Línea " + number + " de " + file + " inválida: " + line, e);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer el snapshot " + file, e);
+        }
+    }
+
+    private static PartitionChecksum combine(PartitionChecksum a, PartitionChecksum b) {
+        return new PartitionChecksum(a.getCount() + b.getCount(), a.getSum().add(b.getSum()),
+                a.getWeightedSum().add(b.getWeightedSum()));
+    }
+}
@@ -3,6 +3,7 @@ package org.banking.accountms.mapper;
 import org.banking.accountms.dto.request.CreateAccountRequest;
 import org.banking.accountms.dto.response.AccountResponse;
 import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountArchive;
 
 public class AccountMapper {
 
@@ -33,4 +34,19 @@ public class AccountMapper {
                 .balance(request.getInitialBalance())
                 .build();
     }
+
+    /**
+     * Reconstruye una entidad Account a partir de su copia archivada.
+     */
+    public static Account fromArchive(AccountArchive archived) {
+        return Account.builder()
+                .id(archived.getId())
+                .accountNumber(archived.getAccountNumber())
+                .balance(archived.getBalance())
+                .type(archived.getType())
+                .clientId(archived.getClientId())
+                .active(archived.isActive())
+                .deactivatedAt(archived.getDeactivatedAt())
+                .build();
+    }
 }
@@ -0,0 +1,24 @@
+package org.banking.accountms.mapper;
+
+import org.banking.accountms.dto.response.MovementResponse;
+import org.banking.accountms.model.AccountMovement;
+
+public class MovementMapper {
+
+    private MovementMapper() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Convierte una entidad AccountMovement a un DTO MovementResponse.
+     */
+    public static MovementResponse toResponse(AccountMovement movement) {
+        return new MovementResponse(
+                movement.getId(),
+                movement.getAmount(),
+                movement.getResultingBalance(),
+                movement.getType(),
+                movement.getCreatedAt()
+        );
+    }
+}
@@ -1,18 +1,28 @@
 package org.banking.accountms.model;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import javax.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Data
 @Entity
-@Table(name = "accounts")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@Table(name = "accounts",
+        indexes = {
+                @Index(name = "idx_accounts_client_id", columnList = "client_id"),
+                @Index(name = "idx_accounts_type_active_id", columnList = "type, active, id"),
+                @Index(name = "idx_accounts_type_balance", columnList = "type, balance")
+        })
 public class Account {
 
     @Id
@@ -35,6 +45,15 @@ public class Account {
     @Column(nullable = false)
     private boolean active = true;
 
+    @Column(name = "deactivated_at")
+    private LocalDateTime deactivatedAt;
+
+    /**
+     * Número de particiones de saldo ({@link AccountBalanceStripe}); 0 en una cuenta normal.
+     */
+    @Column(name = "balance_stripes", nullable = false)
+    private int balanceStripes;
+
     /**
      Regla crítica: no permitir depósitos no positivos.
      **/
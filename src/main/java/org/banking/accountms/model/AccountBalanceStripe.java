@@ -0,0 +1,35 @@
+package org.banking.accountms.model;
+
+import java.math.BigDecimal;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Saldo parcial de una cuenta caliente. El saldo real es {@code accounts.balance} más la suma de sus particiones.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "account_balance_stripes",
+        uniqueConstraints = @UniqueConstraint(name = "uk_balance_stripes_account_stripe",
+                columnNames = {"account_id", "stripe"}))
+public class AccountBalanceStripe {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, updatable = false)
+    private int stripe;
+
+    @Column(nullable = false, precision = 19, scale = 2)
+    private BigDecimal balance;
+}
@@ -0,0 +1,63 @@
+package org.banking.accountms.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Alta de cuenta aceptada con 202 y pendiente de que un worker la procese.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "account_creation_jobs",
+        indexes = @Index(name = "idx_creation_jobs_status_id", columnList = "status, id"))
+public class AccountCreationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AccountType type;
+
+    @Column(name = "initial_balance", precision = 19, scale = 2)
+    private BigDecimal initialBalance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AccountCreationJobStatus status;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /** Veces que un worker reclamó el trabajo. */
+    @Column(nullable = false)
+    private int attempts;
+
+    @Version
+    @Column(nullable = false)
+    private long version;
+}
@@ -0,0 +1,8 @@
+package org.banking.accountms.model;
+
+public enum AccountCreationJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
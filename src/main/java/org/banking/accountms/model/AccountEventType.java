@@ -0,0 +1,9 @@
+package org.banking.accountms.model;
+
+public enum AccountEventType {
+    CREATED,
+    ACTIVATED,
+    DEACTIVATED,
+    DELETED,
+    BALANCE_CHANGED
+}
@@ -0,0 +1,45 @@
+package org.banking.accountms.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Movimiento de saldo de una cuenta. Solo se insertan filas, nunca se actualizan.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "account_movements",
+        indexes = @Index(name = "idx_movements_account_created", columnList = "account_id, created_at"))
+public class AccountMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private Long accountId;
+
+    @Column(nullable = false, updatable = false, precision = 19, scale = 2)
+    private BigDecimal amount;
+
+    /**
+     * Nulo en los abonos a una partición de una cuenta caliente, que no conocen el saldo total.
+     */
+    @Column(name = "resulting_balance", updatable = false, precision = 19, scale = 2)
+    private BigDecimal resultingBalance;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false, length = 20)
+    private MovementType type;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
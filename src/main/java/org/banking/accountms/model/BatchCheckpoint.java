@@ -0,0 +1,47 @@
+package org.banking.accountms.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partición ya completada de un job batch para un periodo dado; permite reanudar sin repetir trabajo.
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Data
+@Entity
+@Table(name = "batch_checkpoints",
+        indexes = @Index(name = "idx_batch_checkpoints_job_period", columnList = "job_name, period"))
+public class BatchCheckpoint {
+
+    @Id
+    @Column(length = 120)
+    private String id;
+
+    @Column(name = "job_name", nullable = false, length = 60)
+    private String jobName;
+
+    @Column(nullable = false, length = 20)
+    private String period;
+
+    @Column(name = "range_start", nullable = false)
+    private Long rangeStart;
+
+    @Column(name = "range_end", nullable = false)
+    private Long rangeEnd;
+
+    @Column(name = "rows_affected", nullable = false)
+    private Long rowsAffected;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    public static String idOf(String jobName, String period, long rangeStart) {
+        return jobName + ":" + period + ":" + rangeStart;
+    }
+}
@@ -0,0 +1,8 @@
+package org.banking.accountms.model;
+
+public enum MovementType {
+    OPENING,
+    INTEREST,
+    DEPOSIT,
+    WITHDRAWAL
+}
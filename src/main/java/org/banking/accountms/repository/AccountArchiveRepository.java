@@ -0,0 +1,29 @@
+package org.banking.accountms.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.banking.accountms.dto.response.AccountBalanceItem;
+import org.banking.accountms.model.AccountArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountArchiveRepository extends JpaRepository<AccountArchive, Long> {
+
+    /**
+     * Copia al archivo, en una sola sentencia, las cuentas del lote que siguen siendo archivables.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO accounts_archive "
+            + "(id, account_number, balance, type, client_id, active, deactivated_at, archived_at) "
+            + "SELECT id, account_number, balance, type, client_id, active, deactivated_at, :archivedAt "
+            + "FROM accounts WHERE id IN (:ids) AND active = false AND balance = 0",
+            nativeQuery = true)
+    int copyFromAccounts(@Param("ids") List<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Query("select new org.banking.accountms.dto.response.AccountBalanceItem("
+            + "a.id, a.accountNumber, a.balance, a.active) from AccountArchive a where a.id in :ids")
+    List<AccountBalanceItem> findBalances(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,36 @@
+package org.banking.accountms.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+import javax.persistence.LockModeType;
+import org.banking.accountms.model.AccountBalanceStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountBalanceStripeRepository extends JpaRepository<AccountBalanceStripe, Long> {
+
+    /**
+     * Abona en una sola partición; solo bloquea esa fila. Devuelve 0 si la partición ya no existe.
+     */
+    @Modifying
+    @Query("update AccountBalanceStripe s set s.balance = s.balance + :amount "
+            + "where s.accountId = :accountId and s.stripe = :stripe")
+    int credit(@Param("accountId") Long accountId, @Param("stripe") int stripe, @Param("amount") BigDecimal amount);
+
+    @Query("select coalesce(sum(s.balance), 0) from AccountBalanceStripe s where s.accountId = :accountId")
+    BigDecimal sumBalance(@Param("accountId") Long accountId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from AccountBalanceStripe s where s.accountId = :accountId order by s.stripe")
+    List<AccountBalanceStripe> lockByAccountId(@Param("accountId") Long accountId);
+
+    @Query("select distinct s.accountId from AccountBalanceStripe s where s.balance <> 0")
+    List<Long> findAccountIdsWithPendingBalance();
+
+    @Modifying
+    @Query("delete from AccountBalanceStripe s where s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") Long accountId);
+}
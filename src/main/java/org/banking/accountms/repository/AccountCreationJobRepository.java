@@ -0,0 +1,43 @@
+package org.banking.accountms.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.banking.accountms.model.AccountCreationJob;
+import org.banking.accountms.model.AccountCreationJobStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountCreationJobRepository extends JpaRepository<AccountCreationJob, Long> {
+
+    long countByStatus(AccountCreationJobStatus status);
+
+    /**
+     * Trabajos pendientes, más los que quedaron en RUNNING por un worker caído. El timeout -2 se traduce
+     * a {@code SKIP LOCKED} en MySQL 8, así que los workers concurrentes no se esperan entre sí.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select j from AccountCreationJob j where j.status = org.banking.accountms.model.AccountCreationJobStatus.PENDING"
+            + " or (j.status = org.banking.accountms.model.AccountCreationJobStatus.RUNNING and j.startedAt < :staleBefore)"
+            + " order by j.id")
+    List<AccountCreationJob> claimable(@Param("staleBefore") LocalDateTime staleBefore, Pageable page);
+
+    /**
+     * Bloquea los trabajos hasta el final de la transacción: un worker que quiera reclamarlos los salta.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select j from AccountCreationJob j where j.id in :ids order by j.id")
+    List<AccountCreationJob> lockAll(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from AccountCreationJob j where j.completedAt < :before")
+    int deleteCompletedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,27 @@
+package org.banking.accountms.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.banking.accountms.model.AccountMovement;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountMovementRepository extends JpaRepository<AccountMovement, Long> {
+
+    @Query("select m from AccountMovement m where m.accountId = :accountId "
+            + "order by m.createdAt desc, m.id desc")
+    List<AccountMovement> findLatest(@Param("accountId") Long accountId, Pageable page);
+
+    /**
+     * Keyset: movimientos estrictamente anteriores a (createdAt, id), usando el índice (account_id, created_at).
+     */
+    @Query("select m from AccountMovement m where m.accountId = :accountId "
+            + "and (m.createdAt < :createdAt or (m.createdAt = :createdAt and m.id < :id)) "
+            + "order by m.createdAt desc, m.id desc")
+    List<AccountMovement> findBefore(@Param("accountId") Long accountId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable page);
+}
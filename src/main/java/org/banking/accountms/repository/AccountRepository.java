@@ -1,11 +1,114 @@
 package org.banking.accountms.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.banking.accountms.dto.response.AccountBalanceItem;
 import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface AccountRepository extends JpaRepository<Account, Long>, AccountSearchRepository {
+
+    /**
+     * Una cuenta caliente con saldo pendiente en sus particiones no se borra ni se archiva aunque
+     * {@code balance} sea 0; el plegado periódico la deja en condiciones.
+     */
+    String NO_PENDING_STRIPES = " and not exists (select s.id from AccountBalanceStripe s "
+            + "where s.accountId = a.id and s.balance <> 0)";
 
-public interface AccountRepository extends JpaRepository<Account, Long> {
     boolean existsByAccountNumber(String accountNumber);
 
+    Optional<Account> findByAccountNumber(String accountNumber);
+
+    @Query("select a.accountNumber from Account a where a.accountNumber in :numbers")
+    List<String> findExistingAccountNumbers(@Param("numbers") Collection<String> numbers);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "account-by-client")
+    })
     List<Account> findByClientId(Long clientId);
+
+    /**
+     * Keyset: IDs de cuentas archivables posteriores a {@code afterId}, en orden ascendente.
+     */
+    @Query("select a.id from Account a where a.id > :afterId and a.active = false "
+            + "and a.balance = 0 and a.deactivatedAt < :cutoff" + NO_PENDING_STRIPES + " order by a.id")
+    List<Long> findArchivableIds(@Param("afterId") Long afterId,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 Pageable page);
+
+    @Modifying
+    @Query("delete from Account a where a.id in :ids and a.active = false and a.balance = 0" + NO_PENDING_STRIPES)
+    int deleteArchivable(@Param("ids") List<Long> ids);
+
+    /**
+     * Borra la cuenta solo si su saldo es 0; el número de filas afectadas decide el resultado.
+     */
+    @Modifying
+    @Query("delete from Account a where a.id = :id and a.balance = 0" + NO_PENDING_STRIPES)
+    int deleteIfZeroBalance(@Param("id") Long id);
+
+    /**
+     * Keyset con bloqueo: siguiente lote de cuentas inactivas con saldo 0 del cliente y/o tipo indicados.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id > :afterId and a.active = false and a.balance = 0 "
+            + "and (:clientId is null or a.clientId = :clientId) and (:type is null or a.type = :type)"
+            + NO_PENDING_STRIPES + " order by a.id")
+    List<Account> lockPurgeable(@Param("afterId") Long afterId,
+                                @Param("clientId") Long clientId,
+                                @Param("type") AccountType type,
+                                Pageable page);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id = :id")
+    Optional<Account> lockById(@Param("id") Long id);
+
+    /**
+     * Lectura sin bloqueo ni entidad: decide si un depósito va a la fila de la cuenta o a una partición.
+     */
+    @Query("select a.balanceStripes from Account a where a.id = :id")
+    Optional<Integer> findBalanceStripes(@Param("id") Long id);
+
+    /**
+     * Saldos de varias cuentas en una sola consulta de proyección, sin hidratar entidades. El saldo incluye
+     * lo pendiente en las particiones de las cuentas calientes.
+     */
+    @Query("select new org.banking.accountms.dto.response.AccountBalanceItem("
+            + "a.id, a.accountNumber, a.balance + coalesce(sum(s.balance), 0), a.active) "
+            + "from Account a left join AccountBalanceStripe s on s.accountId = a.id "
+            + "where a.id in :ids group by a.id, a.accountNumber, a.balance, a.active")
+    List<AccountBalanceItem> findBalances(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Bloquea las cuentas indicadas en orden de ID, para que dos cambios en bloque no se crucen.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :ids order by a.id")
+    List<Account> lockAllById(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.clientId = :clientId order by a.id")
+    List<Account> lockAllByClientId(@Param("clientId") Long clientId, Pageable page);
+
+    /**
+     * Cambia el estado de todas las cuentas con un único UPDATE; las que ya estaban en ese estado no cuentan.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Account a set a.active = :active, a.deactivatedAt = :deactivatedAt "
+            + "where a.id in :ids and a.active <> :active")
+    int updateActive(@Param("ids") Collection<Long> ids,
+                     @Param("active") boolean active,
+                     @Param("deactivatedAt") LocalDateTime deactivatedAt);
 }
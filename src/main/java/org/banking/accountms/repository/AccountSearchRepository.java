@@ -0,0 +1,13 @@
+package org.banking.accountms.repository;
+
+import java.util.List;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.model.Account;
+
+public interface AccountSearchRepository {
+
+    /**
+     * Keyset: hasta {@code limit} cuentas con ID mayor que {@code afterId} que cumplen los filtros, en orden de ID.
+     */
+    List<Account> search(AccountSearchCriteria criteria, long afterId, int limit);
+}
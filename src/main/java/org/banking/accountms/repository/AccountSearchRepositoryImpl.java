@@ -0,0 +1,75 @@
+package org.banking.accountms.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.CacheStoreMode;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.model.Account;
+
+/**
+ * Arma el WHERE solo con los filtros presentes, para que el optimizador elija el índice compuesto
+ * adecuado en lugar de evaluar {@code (:param is null or ...)} en cada fila. El ORDER BY antepone al id
+ * las columnas del índice fijadas por igualdad: el orden resultante es el mismo, pero así el índice
+ * entrega las filas ya ordenadas y la página se corta tras leer {@code limit} entradas, sin ordenar
+ * todas las coincidencias.
+ */
+public class AccountSearchRepositoryImpl implements AccountSearchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Account> search(AccountSearchCriteria criteria, long afterId, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Account> query = cb.createQuery(Account.class);
+        Root<Account> account = query.from(Account.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.greaterThan(account.get("id"), afterId));
+        if (criteria.getType() != null) {
+            predicates.add(cb.equal(account.get("type"), criteria.getType()));
+        }
+        if (criteria.getActive() != null) {
+            predicates.add(cb.equal(account.get("active"), criteria.getActive()));
+        }
+        if (criteria.getClientId() != null) {
+            predicates.add(cb.equal(account.get("clientId"), criteria.getClientId()));
+        }
+        if (criteria.getMinBalance() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(account.get("balance"), criteria.getMinBalance()));
+        }
+        if (criteria.getMaxBalance() != null) {
+            predicates.add(cb.lessThanOrEqualTo(account.get("balance"), criteria.getMaxBalance()));
+        }
+
+        query.select(account)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(orderOf(cb, account, criteria));
+        // Una búsqueda recorre muchas cuentas frías: no se guardan en la caché L2 para no desplazar las calientes.
+        return entityManager.createQuery(query)
+                .setHint("javax.persistence.cache.storeMode", CacheStoreMode.BYPASS)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static List<Order> orderOf(CriteriaBuilder cb, Root<Account> account, AccountSearchCriteria criteria) {
+        List<Order> order = new ArrayList<>();
+        if (criteria.getClientId() != null) {
+            // idx_accounts_client_id: (client_id) + PK implícita en InnoDB
+            order.add(cb.asc(account.get("clientId")));
+        } else if (criteria.getType() != null && criteria.getActive() != null) {
+            // idx_accounts_type_active_id
+            order.add(cb.asc(account.get("type")));
+            order.add(cb.asc(account.get("active")));
+        }
+        order.add(cb.asc(account.get("id")));
+        return order;
+    }
+}
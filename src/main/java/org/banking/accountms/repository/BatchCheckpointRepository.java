@@ -0,0 +1,13 @@
+package org.banking.accountms.repository;
+
+import java.util.List;
+import org.banking.accountms.model.BatchCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BatchCheckpointRepository extends JpaRepository<BatchCheckpoint, String> {
+
+    @Query("select c.rangeStart from BatchCheckpoint c where c.jobName = :jobName and c.period = :period")
+    List<Long> findCompletedStarts(@Param("jobName") String jobName, @Param("period") String period);
+}
@@ -0,0 +1,121 @@
+package org.banking.accountms.repository.reactive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión R2DBC de las consultas de {@code AccountRepository} que usa la API reactiva. Las lecturas de
+ * {@code accounts} devuelven el saldo efectivo, con lo pendiente de plegar en las particiones de las cuentas
+ * calientes, como {@code AccountBalanceService#withPendingStripes} en la API bloqueante.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAccountRepository {
+
+    private static final String COLUMNS = "id, account_number, balance, type, client_id, active, deactivated_at";
+    private static final String EFFECTIVE_COLUMNS = "id, account_number, balance + COALESCE((SELECT SUM(s.balance) "
+            + "FROM account_balance_stripes s WHERE s.account_id = accounts.id), 0) AS balance, "
+            + "type, client_id, active, deactivated_at";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Account> findById(Long id) {
+        return databaseClient.sql("SELECT " + EFFECTIVE_COLUMNS + " FROM accounts WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveAccountRepository::toAccount)
+                .one();
+    }
+
+    public Mono<Account> lockById(Long id) {
+        return databaseClient.sql("SELECT " + EFFECTIVE_COLUMNS + " FROM accounts WHERE id = :id FOR UPDATE")
+                .bind("id", id)
+                .map(ReactiveAccountRepository::toAccount)
+                .one();
+    }
+
+    public Mono<Account> findArchivedById(Long id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM accounts_archive WHERE id = :id")
+                .bind("id", id)
+                .map(ReactiveAccountRepository::toAccount)
+                .one();
+    }
+
+    public Flux<Account> findAll() {
+        return databaseClient.sql("SELECT " + EFFECTIVE_COLUMNS + " FROM accounts ORDER BY id")
+                .map(ReactiveAccountRepository::toAccount)
+                .all();
+    }
+
+    public Flux<Account> findByClientId(Long clientId) {
+        return databaseClient.sql("SELECT " + EFFECTIVE_COLUMNS + " FROM accounts WHERE client_id = :clientId ORDER BY id")
+                .bind("clientId", clientId)
+                .map(ReactiveAccountRepository::toAccount)
+                .all();
+    }
+
+    public Mono<Boolean> existsByAccountNumber(String accountNumber) {
+        return databaseClient.sql("SELECT 1 FROM accounts WHERE account_number = :accountNumber")
+                .bind("accountNumber", accountNumber)
+                .map(row -> 1)
+                .first()
+                .hasElement();
+    }
+
+    public Mono<Account> insert(Account account) {
+        return databaseClient.sql("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                        + "VALUES (:accountNumber, :balance, :type, :clientId, :active)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("accountNumber", account.getAccountNumber())
+                .bind("balance", account.getBalance())
+                .bind("type", account.getType().name())
+                .bind("clientId", account.getClientId())
+                .bind("active", account.isActive())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(id -> {
+                    account.setId(id);
+                    return account;
+                });
+    }
+
+    public Mono<Integer> updateActive(Long id, boolean active, LocalDateTime deactivatedAt) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient
+                .sql("UPDATE accounts SET active = :active, deactivated_at = :deactivatedAt WHERE id = :id")
+                .bind("active", active)
+                .bind("id", id);
+        spec = deactivatedAt == null
+                ? spec.bindNull("deactivatedAt", LocalDateTime.class)
+                : spec.bind("deactivatedAt", deactivatedAt);
+        return spec.fetch().rowsUpdated();
+    }
+
+    public Mono<Integer> deleteIfZeroBalance(Long id) {
+        return databaseClient.sql("DELETE FROM accounts WHERE id = :id AND balance = 0 AND NOT EXISTS "
+                        + "(SELECT 1 FROM account_balance_stripes s WHERE s.account_id = accounts.id AND s.balance <> 0)")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private static Account toAccount(Row row) {
+        return Account.builder()
+                .id(row.get("id", Long.class))
+                .accountNumber(row.get("account_number", String.class))
+                .balance(row.get("balance", BigDecimal.class))
+                .type(AccountType.valueOf(row.get("type", String.class)))
+                .clientId(row.get("client_id", Long.class))
+                .active(Boolean.TRUE.equals(row.get("active", Boolean.class)))
+                .deactivatedAt(row.get("deactivated_at", LocalDateTime.class))
+                .build();
+    }
+}
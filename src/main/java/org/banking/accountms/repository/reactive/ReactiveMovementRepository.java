@@ -0,0 +1,73 @@
+package org.banking.accountms.repository.reactive;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.model.AccountMovement;
+import org.banking.accountms.model.MovementType;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Versión R2DBC de {@code AccountMovementRepository}; misma paginación keyset sobre (created_at, id).
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveMovementRepository {
+
+    private static final String SELECT = "SELECT id, account_id, amount, resulting_balance, type, created_at "
+            + "FROM account_movements WHERE account_id = :accountId ";
+    private static final String ORDER = "ORDER BY created_at DESC, id DESC LIMIT ";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<AccountMovement> insert(AccountMovement movement) {
+        return databaseClient.sql("INSERT INTO account_movements (account_id, amount, resulting_balance, type, created_at) "
+                        + "VALUES (:accountId, :amount, :resultingBalance, :type, :createdAt)")
+                .filter(statement -> statement.returnGeneratedValues("id"))
+                .bind("accountId", movement.getAccountId())
+                .bind("amount", movement.getAmount())
+                .bind("resultingBalance", movement.getResultingBalance())
+                .bind("type", movement.getType().name())
+                .bind("createdAt", movement.getCreatedAt())
+                .map(row -> row.get(0, Long.class))
+                .one()
+                .map(id -> {
+                    movement.setId(id);
+                    return movement;
+                });
+    }
+
+    public Flux<AccountMovement> findLatest(Long accountId, int limit) {
+        return databaseClient.sql(SELECT + ORDER + limit)
+                .bind("accountId", accountId)
+                .map(ReactiveMovementRepository::toMovement)
+                .all();
+    }
+
+    public Flux<AccountMovement> findBefore(Long accountId, LocalDateTime createdAt, Long id, int limit) {
+        return databaseClient.sql(SELECT + "AND (created_at < :createdAt OR (created_at = :createdAt AND id < :id)) "
+                        + ORDER + limit)
+                .bind("accountId", accountId)
+                .bind("createdAt", createdAt)
+                .bind("id", id)
+                .map(ReactiveMovementRepository::toMovement)
+                .all();
+    }
+
+    private static AccountMovement toMovement(Row row) {
+        return AccountMovement.builder()
+                .id(row.get("id", Long.class))
+                .accountId(row.get("account_id", Long.class))
+                .amount(row.get("amount", BigDecimal.class))
+                .resultingBalance(row.get("resulting_balance", BigDecimal.class))
+                .type(MovementType.valueOf(row.get("type", String.class)))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .build();
+    }
+}
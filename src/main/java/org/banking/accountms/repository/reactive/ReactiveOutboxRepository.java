@@ -0,0 +1,30 @@
+package org.banking.accountms.repository.reactive;
+
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.model.OutboxEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Inserta eventos en el outbox desde la API reactiva; el relay existente los publica igual que los de JPA.
+ */
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveOutboxRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Integer> insert(OutboxEvent event) {
+        return databaseClient.sql("INSERT INTO outbox_events (account_id, event_type, payload, created_at) "
+                        + "VALUES (:accountId, :eventType, :payload, :createdAt)")
+                .bind("accountId", event.getAccountId())
+                .bind("eventType", event.getEventType().name())
+                .bind("payload", event.getPayload())
+                .bind("createdAt", event.getCreatedAt())
+                .fetch()
+                .rowsUpdated();
+    }
+}
@@ -0,0 +1,39 @@
+package org.banking.accountms.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.repository.AccountArchiveRepository;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountArchiveService {
+
+    private final AccountRepository accountRepository;
+    private final AccountArchiveRepository accountArchiveRepository;
+    private final AccountNumberIndex accountNumberIndex;
+
+    /**
+     * Mueve un lote de cuentas al archivo en una única transacción (INSERT ... SELECT + DELETE).
+     * Las filas que dejaron de ser archivables entre la selección y el movimiento se ignoran.
+     */
+    @Transactional
+    public int archiveBatch(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = accountArchiveRepository.copyFromAccounts(ids, LocalDateTime.now());
+        int deleted = accountRepository.deleteArchivable(ids);
+        if (copied != deleted) {
+            throw new IllegalStateException("Archivado inconsistente: copiadas " + copied + ", eliminadas " + deleted);
+        }
+        accountNumberIndex.recordRemoved(deleted);
+        return deleted;
+    }
+}
@@ -0,0 +1,167 @@
+package org.banking.accountms.service;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.HotAccountProperties;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountBalanceStripe;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountBalanceStripeRepository;
+import org.banking.accountms.repository.AccountRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Depósitos y retiros. Una cuenta normal bloquea su fila en cada operación; una cuenta caliente
+ * ({@code balanceStripes > 0}) reparte los depósitos al azar entre sus particiones de saldo, de modo que
+ * N depósitos concurrentes ya no esperan todos el mismo bloqueo.
+ *
+ * <p>Los retiros y el plegado periódico bloquean la cuenta y todas sus particiones, suman las particiones
+ * al saldo de la cuenta y las dejan a 0, así que las reglas de sobregiro de {@link Account#withdraw} se
+ * evalúan siempre sobre el saldo real. Los depósitos a una partición no publican BALANCE_CHANGED porque
+ * no conocen el saldo total: el evento se publica al plegar.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountBalanceService {
+
+    private final AccountRepository accountRepository;
+    private final AccountBalanceStripeRepository stripeRepository;
+    private final MovementService movementService;
+    private final AccountEventPublisher eventPublisher;
+    private final HotAccountProperties properties;
+
+    @Transactional
+    public AccountResponse deposit(Long accountId, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException(Messages.AMOUNT_MUST_BE_POSITIVE);
+        }
+        int stripes = accountRepository.findBalanceStripes(accountId)
+                .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
+        // Si las particiones cambiaron desde la lectura, el abono cae en la fila de la cuenta. La entidad
+        // solo se carga después del abono: cargarla antes haría que el bloqueo posterior la leyera sin refrescar.
+        if (stripes > 0
+                && stripeRepository.credit(accountId, ThreadLocalRandom.current().nextInt(stripes), amount) == 1) {
+            Account account = requireActive(accountRepository.findById(accountId)
+                    .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND)));
+            movementService.recordStriped(accountId, amount, MovementType.DEPOSIT);
+            return AccountMapper.toResponse(withPendingStripes(account));
+        }
+
+        Account account = requireActive(lock(accountId));
+        account.deposit(amount);
+        movementService.record(account, amount, MovementType.DEPOSIT);
+        eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+        return AccountMapper.toResponse(withPendingStripes(account));
+    }
+
+    @Transactional
+    public AccountResponse withdraw(Long accountId, BigDecimal amount) {
+        Account account = requireActive(lock(accountId));
+        if (account.getBalanceStripes() > 0) {
+            fold(account, stripeRepository.lockByAccountId(accountId));
+        }
+        account.withdraw(amount);
+        movementService.record(account, amount.negate(), MovementType.WITHDRAWAL);
+        eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+        return AccountMapper.toResponse(account);
+    }
+
+    /**
+     * Activa ({@code stripes > 0}), cambia o desactiva ({@code stripes = 0}) el modo cuenta caliente.
+     * Las particiones anteriores se pliegan en el saldo de la cuenta antes de crear las nuevas.
+     */
+    @Transactional
+    public AccountResponse changeStripes(Long accountId, int stripes) {
+        if (stripes < 0 || stripes > properties.getMaxStripes()) {
+            throw new IllegalArgumentException(Messages.INVALID_STRIPE_COUNT);
+        }
+        Account account = lock(accountId);
+        BigDecimal folded = BigDecimal.ZERO;
+        if (account.getBalanceStripes() > 0) {
+            folded = fold(account, stripeRepository.lockByAccountId(accountId));
+            stripeRepository.deleteByAccountId(accountId);
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            stripeRepository.save(AccountBalanceStripe.builder()
+                    .accountId(accountId)
+                    .stripe(stripe)
+                    .balance(BigDecimal.ZERO)
+                    .build());
+        }
+        account.setBalanceStripes(stripes);
+        if (folded.signum() != 0) {
+            eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+        }
+        log.info("Cuenta {} con {} particiones de saldo", accountId, stripes);
+        return AccountMapper.toResponse(account);
+    }
+
+    /**
+     * Suma al saldo de la cuenta lo acumulado en sus particiones. Devuelve el importe plegado.
+     */
+    @Transactional
+    public BigDecimal fold(Long accountId) {
+        Account account = accountRepository.lockById(accountId).orElse(null);
+        if (account == null || account.getBalanceStripes() == 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal folded = fold(account, stripeRepository.lockByAccountId(accountId));
+        if (folded.signum() != 0) {
+            eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+        }
+        return folded;
+    }
+
+    /**
+     * Copia de la cuenta con el saldo real (cuenta más particiones); la entidad recibida no se modifica.
+     */
+    public Account withPendingStripes(Account account) {
+        if (account.getBalanceStripes() == 0) {
+            return account;
+        }
+        BigDecimal pending = stripeRepository.sumBalance(account.getId());
+        return Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance().add(pending))
+                .type(account.getType())
+                .clientId(account.getClientId())
+                .active(account.isActive())
+                .deactivatedAt(account.getDeactivatedAt())
+                .balanceStripes(account.getBalanceStripes())
+                .build();
+    }
+
+    private Account lock(Long accountId) {
+        return accountRepository.lockById(accountId)
+                .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
+    }
+
+    private static Account requireActive(Account account) {
+        if (!account.isActive()) {
+            throw new ValidationException(Messages.ACCOUNT_INACTIVE);
+        }
+        return account;
+    }
+
+    private static BigDecimal fold(Account account, List<AccountBalanceStripe> stripes) {
+        BigDecimal total = BigDecimal.ZERO;
+        for (AccountBalanceStripe stripe : stripes) {
+            total = total.add(stripe.getBalance());
+            stripe.setBalance(BigDecimal.ZERO);
+        }
+        account.setBalance(account.getBalance().add(total));
+        return total;
+    }
+}
@@ -0,0 +1,111 @@
+package org.banking.accountms.service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.CreationJobProperties;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountCreationJobResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.model.AccountCreationJob;
+import org.banking.accountms.model.AccountCreationJobStatus;
+import org.banking.accountms.repository.AccountCreationJobRepository;
+import org.banking.accountms.repository.AccountRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Alta asíncrona: valida la solicitud, la deja en {@code account_creation_jobs} y devuelve el trabajo;
+ * {@link org.banking.accountms.job.AccountCreationJobWorker} la procesa después. La comprobación del
+ * cliente, que es la parte lenta, la hace el worker.
+ *
+ * <p>La cola está acotada por {@code max-pending}. La profundidad se cuenta en la base de datos como mucho
+ * una vez por {@code poll-interval-ms} y entre medias se estima sumando las altas aceptadas.</p>
+ */
+@Slf4j
+@Service
+public class AccountCreationJobService {
+
+    private final AccountCreationJobRepository jobRepository;
+    private final AccountRepository accountRepository;
+    private final AccountValidator validator;
+    private final CreationJobProperties properties;
+    private final AtomicLong pending = new AtomicLong();
+    private volatile long countedAt;
+
+    public AccountCreationJobService(AccountCreationJobRepository jobRepository,
+                                     AccountRepository accountRepository,
+                                     AccountValidator validator,
+                                     CreationJobProperties properties,
+                                     MeterRegistry registry) {
+        this.jobRepository = jobRepository;
+        this.accountRepository = accountRepository;
+        this.validator = validator;
+        this.properties = properties;
+        // Ya vencido: la primera alta cuenta la cola en la base de datos.
+        this.countedAt = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(properties.getPollIntervalMs()) - 1;
+        Gauge.builder("account.creation.jobs.pending", pending, AtomicLong::get)
+                .description("Altas asíncronas en cola a la espera de un worker").register(registry);
+    }
+
+    @Transactional
+    public AccountCreationJobResponse submit(CreateAccountRequest request) {
+        validator.validate(request);
+        if (pending() >= properties.getMaxPending()) {
+            throw new ServiceOverloadedException(Messages.CREATION_QUEUE_FULL);
+        }
+        AccountCreationJob job = jobRepository.save(AccountCreationJob.builder()
+                .clientId(request.getClientId())
+                .type(request.getType())
+                .initialBalance(request.getInitialBalance())
+                .status(AccountCreationJobStatus.PENDING)
+                .createdAt(LocalDateTime.now())
+                .build());
+        pending.incrementAndGet();
+        log.debug("Alta asíncrona {} encolada para el cliente {}", job.getId(), job.getClientId());
+        return toResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountCreationJobResponse get(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException(Messages.CREATION_JOB_NOT_FOUND));
+    }
+
+    /**
+     * Vuelve a contar los trabajos PENDING; lo llama el worker al terminar cada ronda.
+     */
+    public long refreshPending() {
+        long count = jobRepository.countByStatus(AccountCreationJobStatus.PENDING);
+        pending.set(count);
+        countedAt = System.nanoTime();
+        return count;
+    }
+
+    private long pending() {
+        if (System.nanoTime() - countedAt > TimeUnit.MILLISECONDS.toNanos(properties.getPollIntervalMs())) {
+            return refreshPending();
+        }
+        return pending.get();
+    }
+
+    private AccountCreationJobResponse toResponse(AccountCreationJob job) {
+        return AccountCreationJobResponse.builder()
+                .id(job.getId())
+                .status(job.getStatus())
+                .createdAt(job.getCreatedAt())
+                .completedAt(job.getCompletedAt())
+                .error(job.getError())
+                .account(job.getAccountId() == null ? null : accountRepository.findById(job.getAccountId())
+                        .map(AccountMapper::toResponse)
+                        .orElse(null))
+                .build();
+    }
+}
@@ -0,0 +1,26 @@
+package org.banking.accountms.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import lombok.Value;
+import org.banking.accountms.common.Messages;
+
+/**
+ * Cursor opaco con el ID de la última cuenta devuelta en una página de búsqueda.
+ */
+@Value
+public class AccountCursor {
+    Long id;
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static AccountCursor decode(String cursor) {
+        try {
+            return new AccountCursor(Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(Messages.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.banking.accountms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.OutboxEvent;
+import org.banking.accountms.repository.OutboxEventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AccountEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    /**
+     * Escribe el evento en el outbox. Exige una transacción activa para que el evento
+     * se confirme o se descarte junto con el cambio de la cuenta. También lo publica dentro
+     * del proceso; los listeners transaccionales solo lo reciben tras el commit.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent publish(AccountEventType type, Account account) {
+        AccountResponse snapshot = AccountMapper.toResponse(account);
+        OutboxEvent saved = outboxEventRepository.save(outboxEventOf(type, snapshot));
+        applicationEventPublisher.publishEvent(AccountEvent.builder()
+                .eventId(saved.getId())
+                .accountId(saved.getAccountId())
+                .type(type)
+                .account(snapshot)
+                .occurredAt(saved.getCreatedAt())
+                .build());
+        return saved;
+    }
+
+    /**
+     * Fila de outbox sin guardar, para quien escribe el evento con su propia conexión (API reactiva).
+     */
+    public OutboxEvent newOutboxEvent(AccountEventType type, Account account) {
+        return outboxEventOf(type, AccountMapper.toResponse(account));
+    }
+
+    public AccountEvent toEvent(OutboxEvent outboxEvent) {
+        try {
+            return AccountEvent.builder()
+                    .eventId(outboxEvent.getId())
+                    .accountId(outboxEvent.getAccountId())
+                    .type(outboxEvent.getEventType())
+                    .account(objectMapper.readValue(outboxEvent.getPayload(), AccountResponse.class))
+                    .occurredAt(outboxEvent.getCreatedAt())
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Payload de outbox inválido: " + outboxEvent.getId(), e);
+        }
+    }
+
+    private OutboxEvent outboxEventOf(AccountEventType type, AccountResponse snapshot) {
+        return OutboxEvent.builder()
+                .accountId(snapshot.getId())
+                .eventType(type)
+                .payload(toJson(snapshot))
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private String toJson(AccountResponse snapshot) {
+        try {
+            return objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo serializar la cuenta " + snapshot.getId(), e);
+        }
+    }
+}
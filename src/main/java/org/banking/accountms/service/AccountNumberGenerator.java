@@ -1,9 +1,17 @@
 package org.banking.accountms.service;
 
 import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.AllArgsConstructor;
 import org.banking.accountms.model.AccountType;
 import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.jfr.AccountNumberGenerationEvent;
+import org.banking.accountms.service.jfr.RepositoryCallEvent;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -12,8 +20,78 @@ public class AccountNumberGenerator {
 
     private final SecureRandom secureRandom = new SecureRandom();
     private final AccountRepository accountRepository;
+    private final AccountNumberIndex accountNumberIndex;
 
     public String generate(AccountType type) {
+        AccountNumberGenerationEvent event = new AccountNumberGenerationEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            String acc;
+            do {
+                event.attempt();
+                acc = candidate(type);
+            } while (taken(acc, type));
+            return acc;
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(type, failure);
+        }
+    }
+
+    /**
+     * {@code count} números libres y distintos entre sí. Los candidatos que el filtro de Bloom no descarta
+     * se comprueban juntos con una sola consulta; los ocupados se sustituyen por otros en la siguiente vuelta.
+     */
+    public List<String> generateBlock(AccountType type, int count) {
+        Set<String> free = new LinkedHashSet<>(count * 2);
+        while (free.size() < count) {
+            Set<String> candidates = new HashSet<>();
+            while (free.size() + candidates.size() < count) {
+                String candidate = candidate(type);
+                if (!free.contains(candidate)) {
+                    candidates.add(candidate);
+                }
+            }
+            List<String> maybeTaken = new ArrayList<>();
+            for (String candidate : candidates) {
+                if (accountNumberIndex.mightContain(candidate)) {
+                    maybeTaken.add(candidate);
+                }
+            }
+            Set<String> taken = maybeTaken.isEmpty() ? Set.of()
+                    : new HashSet<>(RepositoryCallEvent.record("accounts.findExistingAccountNumbers", type,
+                            () -> accountRepository.findExistingAccountNumbers(maybeTaken)));
+            for (int i = taken.size(); i < maybeTaken.size(); i++) {
+                accountNumberIndex.recordFalsePositive();
+            }
+            candidates.removeAll(taken);
+            free.addAll(candidates);
+        }
+        return new ArrayList<>(free);
+    }
+
+    /**
+     * Solo consulta la base de datos si el filtro de Bloom no descarta el número.
+     */
+    private boolean taken(String candidate, AccountType type) {
+        if (!accountNumberIndex.mightContain(candidate)) {
+            return false;
+        }
+        boolean exists = RepositoryCallEvent.record("accounts.existsByAccountNumber", type,
+                () -> accountRepository.existsByAccountNumber(candidate));
+        if (!exists) {
+            accountNumberIndex.recordFalsePositive();
+        }
+        return exists;
+    }
+
+    /**
+     * Número aleatorio con el prefijo del tipo, sin comprobar si ya existe.
+     */
+    public String candidate(AccountType type) {
         String prefix;
         switch (type) {
             case SAVINGS:
@@ -25,12 +103,7 @@ public class AccountNumberGenerator {
             default:
                 prefix = "ACC-"; // fallback
         }
-
-        String acc;
-        do {
-            acc = prefix + tenDigits();
-        } while (accountRepository.existsByAccountNumber(acc));
-        return acc;
+        return prefix + tenDigits();
     }
 
     private String tenDigits() {
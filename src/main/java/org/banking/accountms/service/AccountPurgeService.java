@@ -0,0 +1,89 @@
+package org.banking.accountms.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import javax.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.PurgeProperties;
+import org.banking.accountms.dto.response.PurgeResponse;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Elimina las cuentas inactivas con saldo 0 de un cliente y/o tipo por lotes acotados, cada uno en su
+ * propia transacción, para no retener bloqueos sobre miles de filas ni generar un único undo log enorme.
+ */
+@Slf4j
+@Service
+public class AccountPurgeService {
+
+    private final AccountRepository accountRepository;
+    private final AccountEventPublisher eventPublisher;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final AccountNumberIndex accountNumberIndex;
+    private final PurgeProperties properties;
+    private final TransactionTemplate transactionTemplate;
+
+    public AccountPurgeService(AccountRepository accountRepository,
+                               AccountEventPublisher eventPublisher,
+                               AccountCacheInvalidator cacheInvalidator,
+                               AccountNumberIndex accountNumberIndex,
+                               PurgeProperties properties,
+                               PlatformTransactionManager transactionManager) {
+        this.accountRepository = accountRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidator = cacheInvalidator;
+        this.accountNumberIndex = accountNumberIndex;
+        this.properties = properties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public PurgeResponse purge(Long clientId, AccountType type) {
+        if (clientId == null && type == null) {
+            throw new ValidationException(Messages.PURGE_FILTER_REQUIRED);
+        }
+        long deleted = 0;
+        long afterId = 0;
+        boolean complete = false;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRequest(); batch++) {
+            long from = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> purgeBatch(from, clientId, type));
+            if (ids == null || ids.isEmpty()) {
+                complete = true;
+                break;
+            }
+            deleted += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (deleted > 0) {
+            cacheInvalidator.evictAll();
+            accountNumberIndex.recordRemoved(deleted);
+        }
+        log.info("Purga de cuentas (cliente={}, tipo={}): {} eliminadas, completa={}", clientId, type, deleted, complete);
+        return new PurgeResponse(deleted, complete);
+    }
+
+    private List<Long> purgeBatch(long afterId, Long clientId, AccountType type) {
+        List<Account> locked = accountRepository.lockPurgeable(afterId, clientId, type,
+                PageRequest.of(0, properties.getBatchSize()));
+        if (locked.isEmpty()) {
+            return List.of();
+        }
+        List<Long> ids = locked.stream().map(Account::getId).collect(Collectors.toList());
+        int deleted = accountRepository.deleteArchivable(ids);
+        if (deleted != ids.size()) {
+            throw new IllegalStateException("Purga inconsistente: bloqueadas " + ids.size() + ", eliminadas " + deleted);
+        }
+        locked.forEach(account -> eventPublisher.publish(AccountEventType.DELETED, account));
+        return ids;
+    }
+}
@@ -1,22 +1,46 @@
 package org.banking.accountms.service;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.banking.accountms.adapter.ClientGateway;
 import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.BalanceLookupProperties;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.dto.request.BulkStatusRequest;
 import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountBalanceItem;
+import org.banking.accountms.dto.response.AccountPageResponse;
 import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.BalanceLookupResponse;
+import org.banking.accountms.dto.response.BulkStatusItem;
+import org.banking.accountms.dto.response.BulkStatusOutcome;
+import org.banking.accountms.dto.response.BulkStatusResponse;
 import org.banking.accountms.exception.ResourceNotFoundException;
 import org.banking.accountms.mapper.AccountMapper;
 import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountArchiveRepository;
 import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
 import org.banking.accountms.service.factory.AccountFactoryProvider;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.context.annotation.Lazy;
+import org.banking.accountms.service.jfr.AccountCreationEvent;
+import org.banking.accountms.service.jfr.RepositoryCallEvent;
+import org.banking.accountms.service.readmodel.AccountReadModel;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,16 +53,31 @@ public class AccountService {
     private final AccountValidator validator;
     private final ClientGateway clientGateway;
     private final AccountNumberGenerator accountNumberGenerator;
-
-    private AccountService self;
-
-    @Autowired
-    public void setSelf(@Lazy AccountService self) {
-        this.self = self;
-    }
+    private final AccountArchiveRepository accountArchiveRepository;
+    private final MovementService movementService;
+    private final AccountEventPublisher eventPublisher;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final AccountNumberIndex accountNumberIndex;
+    private final AccountBalanceService balanceService;
+    private final BalanceLookupProperties balanceLookupProperties;
+    private final AccountReadModel readModel;
 
     @Transactional
     public AccountResponse createAccount(CreateAccountRequest request) {
+        AccountCreationEvent event = new AccountCreationEvent(request.getClientId());
+        event.begin();
+        Throwable failure = null;
+        try {
+            return create(request);
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(request.getType(), failure);
+        }
+    }
+
+    private AccountResponse create(CreateAccountRequest request) {
         validator.validate(request);
 
         if (!clientGateway.exists(request.getClientId())) {
@@ -46,28 +85,118 @@ public class AccountService {
         }
 
         validator.validate(request);
+        return persist(request);
+    }
+
+    /**
+     * Las comprobaciones del alta que no escriben nada: reglas de validación y existencia del cliente.
+     * El alta asíncrona las hace fuera de la transacción del lote, así un rechazo no la marca para rollback.
+     */
+    public void checkCreatable(CreateAccountRequest request) {
+        validator.validate(request);
+        if (!clientGateway.exists(request.getClientId())) {
+            throw new IllegalArgumentException("El cliente con ID " + request.getClientId() + " no existe.");
+        }
+    }
 
-        String accountNumber = accountNumberGenerator.generate(request.getType());
+    /**
+     * Alta de solicitudes que ya pasaron {@link #checkCreatable}, todas en una transacción.
+     */
+    @Transactional
+    public List<AccountResponse> createChecked(List<CreateAccountRequest> requests) {
+        List<AccountResponse> created = new ArrayList<>(requests.size());
+        for (CreateAccountRequest request : requests) {
+            created.add(persist(request));
+        }
+        return created;
+    }
+
+    private AccountResponse persist(CreateAccountRequest request) {
+        AccountType type = request.getType();
+        String accountNumber = accountNumberGenerator.generate(type);
 
         Account account = AccountFactoryProvider
-                .getFactory(request.getType())
+                .getFactory(type)
                 .createAccount(request.getClientId(), request.getInitialBalance());
 
         account.setAccountNumber(accountNumber);
 
-        accountRepository.save(account);
+        RepositoryCallEvent.record("accounts.save", type, () -> accountRepository.save(account));
+        RepositoryCallEvent.record("account_movements.insert", type,
+                () -> movementService.record(account, account.getBalance(), MovementType.OPENING));
+        RepositoryCallEvent.record("outbox_events.insert", type,
+                () -> eventPublisher.publish(AccountEventType.CREATED, account));
+        cacheInvalidator.accountNumbersCreated(List.of(accountNumber));
         log.info("Cuenta creada con factory: {}", account.getAccountNumber());
         return AccountMapper.toResponse(account);
     }
 
+    /**
+     * Busca primero en la tabla principal y, si no está, en el archivo de cuentas. En una cuenta
+     * caliente el saldo incluye lo pendiente de plegar en sus particiones.
+     */
     @Transactional(readOnly = true)
     public Account get(Long accountId) {
         return accountRepository.findById(accountId)
+                .map(balanceService::withPendingStripes)
+                .or(() -> accountArchiveRepository.findById(accountId).map(AccountMapper::fromArchive))
                 .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
     }
 
+    /**
+     * Búsqueda por número de cuenta. Los números que el filtro de Bloom descarta no llegan a la base de datos.
+     */
     @Transactional(readOnly = true)
+    public AccountResponse getByNumber(String accountNumber) {
+        if (!accountNumberIndex.mightContain(accountNumber)) {
+            throw new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND);
+        }
+        return accountRepository.findByAccountNumber(accountNumber)
+                .map(balanceService::withPendingStripes)
+                .map(AccountMapper::toResponse)
+                .orElseThrow(() -> {
+                    accountNumberIndex.recordFalsePositive();
+                    return new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND);
+                });
+    }
+
+    /**
+     * Saldos de varias cuentas con una consulta de proyección por bloque de IDs. Los IDs que no están en la
+     * tabla principal se buscan en el archivo; los que tampoco están ahí se devuelven en {@code missing}.
+     */
+    @Transactional(readOnly = true)
+    public BalanceLookupResponse balances(List<Long> ids) {
+        List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+        Map<Long, AccountBalanceItem> found = new HashMap<>();
+        for (List<Long> chunk : chunks(requested)) {
+            accountRepository.findBalances(chunk).forEach(item -> found.put(item.getId(), item));
+        }
+        List<Long> notFound = requested.stream().filter(id -> !found.containsKey(id)).collect(Collectors.toList());
+        for (List<Long> chunk : chunks(notFound)) {
+            accountArchiveRepository.findBalances(chunk).forEach(item -> found.put(item.getId(), item));
+        }
+
+        List<AccountBalanceItem> balances = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            AccountBalanceItem item = found.get(id);
+            if (item != null) {
+                balances.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new BalanceLookupResponse(balances, missing);
+    }
+
+    /**
+     * Desde el modelo de lectura fuera del heap si está activo y al día. Sin transacción propia para que ese
+     * camino no pida una conexión; {@code findAll} abre la suya.
+     */
     public List<AccountResponse> listAll() {
+        if (readModel.isReady()) {
+            return readModel.listAll();
+        }
         return accountRepository.findAll()
                 .stream()
                 .map(AccountMapper::toResponse)
@@ -75,6 +204,9 @@ public class AccountService {
     }
 
     public List<AccountResponse> listByClient(Long clientId) {
+        if (readModel.isReady()) {
+            return readModel.listByClient(clientId);
+        }
         return accountRepository.findByClientId(clientId)
                 .stream()
                 .map(account -> AccountResponse.builder()
@@ -87,16 +219,45 @@ public class AccountService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Búsqueda filtrada paginada por ID. Se pide un elemento extra para saber si hay página siguiente;
+     * la latencia de cada página no depende de cuántas se hayan recorrido antes.
+     */
+    @Transactional(readOnly = true)
+    public AccountPageResponse search(AccountSearchCriteria criteria, String cursor, Integer size) {
+        int pageSize = MovementService.pageSizeOf(size);
+        if (criteria.getMinBalance() != null && criteria.getMaxBalance() != null
+                && criteria.getMinBalance().compareTo(criteria.getMaxBalance()) > 0) {
+            throw new IllegalArgumentException(Messages.INVALID_BALANCE_RANGE);
+        }
+        long afterId = cursor == null || cursor.isBlank() ? 0L : AccountCursor.decode(cursor).getId();
+
+        List<Account> rows = accountRepository.search(criteria, afterId, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        List<Account> items = hasNext ? rows.subList(0, pageSize) : rows;
+        return new AccountPageResponse(
+                items.stream().map(AccountMapper::toResponse).collect(Collectors.toList()),
+                hasNext ? new AccountCursor(items.get(pageSize - 1).getId()).encode() : null);
+    }
+
+    /**
+     * Bloquea la fila y la borra con un DELETE condicional: un depósito concurrente no puede colarse entre
+     * la comprobación del saldo y el borrado, y el evento DELETED lleva la cuenta tal como era.
+     */
     @Transactional
     public void delete(Long accountId) {
-        Account account = self.get(accountId);
-        if (account.getBalance().compareTo(BigDecimal.ZERO) != 0) {
+        Account account = accountRepository.lockById(accountId)
+                .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
+        if (accountRepository.deleteIfZeroBalance(accountId) == 0) {
             throw new ValidationException(Messages.ACCOUNT_BALANCE_NOT_ZERO);
         }
-        accountRepository.delete(account);
-        log.info("Cuenta eliminada: {}", account.getAccountNumber());
+        eventPublisher.publish(AccountEventType.DELETED, account);
+        cacheInvalidator.evictAccount(accountId);
+        accountNumberIndex.recordRemoved(1);
+        log.info("Cuenta eliminada: {}", accountId);
     }
 
+    @Transactional
     public AccountResponse activate(Long id) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
@@ -104,10 +265,13 @@ public class AccountService {
             throw new ValidationException(Messages.ACCOUNT_ALREADY_ACTIVE);
         }
         account.setActive(true);
+        account.setDeactivatedAt(null);
         Account updated = accountRepository.save(account);
+        eventPublisher.publish(AccountEventType.ACTIVATED, updated);
         return AccountMapper.toResponse(updated);
     }
 
+    @Transactional
     public AccountResponse deactivate(Long id) {
         Account account = accountRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND));
@@ -115,8 +279,75 @@ public class AccountService {
             throw new ValidationException(Messages.ACCOUNT_ALREADY_INACTIVE);
         }
         account.setActive(false);
+        account.setDeactivatedAt(LocalDateTime.now());
         Account updated = accountRepository.save(account);
+        eventPublisher.publish(AccountEventType.DEACTIVATED, updated);
         return AccountMapper.toResponse(updated);
     }
 
+    /**
+     * Activa o desactiva varias cuentas con un único UPDATE condicional. Las filas se bloquean antes
+     * en orden de ID, así que el resultado por cuenta se deduce de su estado previo y el total
+     * de filas afectadas debe coincidir con las marcadas como UPDATED. Por clientId se rechaza el
+     * cliente con más de {@link BulkStatusRequest#MAX_ACCOUNTS} cuentas, el mismo tope que la lista de IDs.
+     */
+    @Transactional
+    public BulkStatusResponse changeStatus(BulkStatusRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (byIds == (request.getClientId() != null)) {
+            throw new ValidationException(Messages.BULK_STATUS_TARGET_REQUIRED);
+        }
+        boolean active = request.getActive();
+        List<Long> ids = byIds ? request.getIds().stream().distinct().collect(Collectors.toList()) : List.of();
+        List<Account> locked = byIds
+                ? accountRepository.lockAllById(ids)
+                : accountRepository.lockAllByClientId(request.getClientId(),
+                        PageRequest.of(0, BulkStatusRequest.MAX_ACCOUNTS + 1));
+        if (!byIds) {
+            if (locked.size() > BulkStatusRequest.MAX_ACCOUNTS) {
+                throw new ValidationException(Messages.BULK_STATUS_CLIENT_TOO_MANY);
+            }
+            ids = locked.stream().map(Account::getId).collect(Collectors.toList());
+        }
+
+        Set<Long> changing = locked.stream()
+                .filter(account -> account.isActive() != active)
+                .map(Account::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        LocalDateTime deactivatedAt = active ? null : LocalDateTime.now();
+        int updated = changing.isEmpty() ? 0 : accountRepository.updateActive(changing, active, deactivatedAt);
+        if (updated != changing.size()) {
+            throw new IllegalStateException("Cambio de estado en bloque inconsistente: se esperaban "
+                    + changing.size() + " filas y se actualizaron " + updated);
+        }
+
+        Map<Long, Account> byId = locked.stream().collect(Collectors.toMap(Account::getId, Function.identity()));
+        List<BulkStatusItem> results = ids.stream()
+                .map(id -> new BulkStatusItem(id, !byId.containsKey(id) ? BulkStatusOutcome.NOT_FOUND
+                        : changing.contains(id) ? BulkStatusOutcome.UPDATED : BulkStatusOutcome.UNCHANGED))
+                .collect(Collectors.toList());
+
+        AccountEventType eventType = active ? AccountEventType.ACTIVATED : AccountEventType.DEACTIVATED;
+        for (Long id : changing) {
+            // Tras el UPDATE las entidades quedan fuera del contexto; solo se ajustan para el snapshot del evento.
+            Account account = byId.get(id);
+            account.setActive(active);
+            account.setDeactivatedAt(deactivatedAt);
+            eventPublisher.publish(eventType, account);
+        }
+        if (updated > 0) {
+            cacheInvalidator.evictAccounts(changing);
+        }
+        log.info("Cambio de estado en bloque a active={}: {} de {} cuentas actualizadas", active, updated, ids.size());
+        return new BulkStatusResponse(active, updated, results);
+    }
+
+    private List<List<Long>> chunks(List<Long> ids) {
+        int size = balanceLookupProperties.getChunkSize();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += size) {
+            chunks.add(ids.subList(from, Math.min(from + size, ids.size())));
+        }
+        return chunks;
+    }
 }
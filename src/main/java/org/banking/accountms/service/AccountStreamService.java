@@ -0,0 +1,96 @@
+package org.banking.accountms.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.StreamProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.model.AccountType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Reparte los cambios de cuentas confirmados entre los suscriptores SSE. Cada evento se
+ * distribuye una sola vez en memoria; el envío a cada cliente lo hace un pool pequeño de hilos.
+ */
+@Slf4j
+@Service
+public class AccountStreamService {
+
+    private final List<AccountStreamSubscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final StreamProperties properties;
+    private final ExecutorService senders;
+
+    public AccountStreamService(StreamProperties properties) {
+        this.properties = properties;
+        this.senders = Executors.newFixedThreadPool(properties.getSenderThreads());
+    }
+
+    public SseEmitter subscribe(Long clientId, AccountType type) {
+        SseEmitter emitter = createEmitter(properties.getTimeoutMs());
+        AccountStreamSubscriber subscriber =
+                new AccountStreamSubscriber(emitter, clientId, type, properties.getBufferSize());
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        for (AccountStreamSubscriber subscriber : subscribers) {
+            if (subscriber.matches(event)) {
+                subscriber.offer(event);
+                scheduleDrain(subscriber);
+            }
+        }
+    }
+
+    SseEmitter createEmitter(long timeoutMs) {
+        return new SseEmitter(timeoutMs);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void scheduleDrain(AccountStreamSubscriber subscriber) {
+        if (subscriber.tryStartDrain()) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(AccountStreamSubscriber subscriber) {
+        try {
+            AccountEvent event;
+            while ((event = subscriber.poll()) != null) {
+                subscriber.getEmitter().send(SseEmitter.event()
+                        .id(String.valueOf(event.getEventId()))
+                        .name(event.getType().name())
+                        .data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Suscriptor SSE desconectado: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.getEmitter().completeWithError(e);
+            return;
+        } finally {
+            subscriber.endDrain();
+        }
+        if (subscriber.hasPending()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+        senders.shutdownNow();
+    }
+}
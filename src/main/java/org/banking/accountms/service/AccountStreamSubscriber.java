@@ -0,0 +1,70 @@
+package org.banking.accountms.service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Getter;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.model.AccountType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Suscriptor SSE con buffer acotado. Si el cliente no consume a tiempo se descartan los eventos
+ * más antiguos, de modo que un visor lento nunca frena al resto.
+ */
+public class AccountStreamSubscriber {
+
+    @Getter
+    private final SseEmitter emitter;
+    private final Long clientId;
+    private final AccountType type;
+    private final ArrayBlockingQueue<AccountEvent> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public AccountStreamSubscriber(SseEmitter emitter, Long clientId, AccountType type, int bufferSize) {
+        this.emitter = emitter;
+        this.clientId = clientId;
+        this.type = type;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    public boolean matches(AccountEvent event) {
+        if (event.getAccount() == null) {
+            return clientId == null && type == null;
+        }
+        return (clientId == null || clientId.equals(event.getAccount().getClientId()))
+                && (type == null || type == event.getAccount().getType());
+    }
+
+    /**
+     * Encola el evento; si el buffer está lleno descarta el más antiguo.
+     */
+    public void offer(AccountEvent event) {
+        while (!buffer.offer(event)) {
+            if (buffer.poll() != null) {
+                dropped.incrementAndGet();
+            }
+        }
+    }
+
+    public AccountEvent poll() {
+        return buffer.poll();
+    }
+
+    public boolean hasPending() {
+        return !buffer.isEmpty();
+    }
+
+    public boolean tryStartDrain() {
+        return draining.compareAndSet(false, true);
+    }
+
+    public void endDrain() {
+        draining.set(false);
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+}
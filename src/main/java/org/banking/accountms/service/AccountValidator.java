@@ -3,6 +3,7 @@ package org.banking.accountms.service;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.service.jfr.AccountValidationEvent;
 import org.banking.accountms.service.validation.ValidationRule;
 import org.springframework.stereotype.Component;
 
@@ -13,6 +14,16 @@ public class AccountValidator {
     private final List<ValidationRule> rules;
 
     public void validate(CreateAccountRequest request) {
-        rules.forEach(rule -> rule.validate(request));
+        AccountValidationEvent event = new AccountValidationEvent();
+        event.begin();
+        Throwable failure = null;
+        try {
+            rules.forEach(rule -> rule.validate(request));
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(request.getType(), failure);
+        }
     }
 }
@@ -0,0 +1,327 @@
+package org.banking.accountms.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.MovementBatchProperties;
+import org.banking.accountms.dto.request.MovementBatchEntry;
+import org.banking.accountms.dto.response.MovementBatchItem;
+import org.banking.accountms.dto.response.MovementBatchOutcome;
+import org.banking.accountms.dto.response.MovementBatchResponse;
+import org.banking.accountms.exception.PayloadTooLargeException;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.banking.accountms.service.ledger.LedgerEngine;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Registro masivo de depósitos y retiros ({@code POST /cuentas/movimientos/batch}). El arreglo JSON se lee en
+ * streaming, sin cargarlo entero: cada {@code chunkSize} entradas válidas forman un bloque que se confirma en
+ * su propia transacción, así que la memoria usada no depende del tamaño del archivo.
+ *
+ * <p>Dentro de un bloque las entradas se agrupan por cuenta; las cuentas se bloquean en orden de ID con un
+ * solo SELECT ... FOR UPDATE, las reglas de {@link Account#deposit} y {@link Account#withdraw} se aplican en
+ * memoria en el orden recibido y los saldos y movimientos se escriben con lotes JDBC. Si un bloque falla se
+ * rechazan sus entradas y se sigue con el siguiente; los bloques ya confirmados no se deshacen. Con el motor de
+ * ledger activo cada bloque se escribe como acción exclusiva del motor, que después recarga esas cuentas.</p>
+ *
+ * <p>La lectura se corta en la primera entrada que supera {@code max-entries}. Si aún no se confirmó ningún
+ * bloque la solicitud entera se rechaza con 413; si ya hay bloques confirmados se registra lo leído hasta el
+ * límite y la respuesta sale con {@code complete=false}, para no ocultar movimientos ya escritos.</p>
+ */
+@Slf4j
+@Service
+public class MovementBatchService {
+
+    static final String LOCK_SQL = "SELECT id, account_number, balance, type, client_id, active, balance_stripes "
+            + "FROM accounts WHERE id IN (:ids) ORDER BY id FOR UPDATE";
+    static final String STRIPES_SQL = "SELECT account_id, SUM(balance) AS pending FROM account_balance_stripes "
+            + "WHERE account_id IN (:ids) GROUP BY account_id";
+    static final String APPLY_SQL = "UPDATE accounts SET balance = balance + ? WHERE id = ?";
+    static final String MOVEMENT_SQL = "INSERT INTO account_movements "
+            + "(account_id, amount, resulting_balance, type, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private static final int MAX_INTEGER_DIGITS = 17;
+    private static final int MAX_SCALE = 2;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader nodeReader;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountEventPublisher eventPublisher;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final MovementBatchProperties properties;
+    private final ObjectProvider<LedgerEngine> ledgerEngine;
+
+    public MovementBatchService(ObjectMapper objectMapper,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                AccountEventPublisher eventPublisher,
+                                AccountCacheInvalidator cacheInvalidator,
+                                MovementBatchProperties properties,
+                                ObjectProvider<LedgerEngine> ledgerEngine) {
+        this.objectMapper = objectMapper;
+        // Los importes se leen como BigDecimal, sin pasar por double.
+        this.nodeReader = objectMapper.readerFor(JsonNode.class).with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidator = cacheInvalidator;
+        this.properties = properties;
+        this.ledgerEngine = ledgerEngine;
+    }
+
+    public MovementBatchResponse post(InputStream body) throws IOException {
+        long started = System.nanoTime();
+        List<MovementBatchItem> results = new ArrayList<>();
+        List<Pending> chunk = new ArrayList<>(properties.getChunkSize());
+        int chunks = 0;
+        boolean complete = true;
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (nextToken(parser) != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(Messages.INVALID_FORMAT);
+            }
+            try {
+                JsonToken token;
+                while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (token == null) {
+                        throw new JsonParseException(parser, Messages.INVALID_FORMAT);
+                    }
+                    int index = results.size();
+                    if (index >= properties.getMaxEntries()) {
+                        if (chunks == 0) {
+                            throw new PayloadTooLargeException(Messages.MOVEMENT_BATCH_TOO_LARGE);
+                        }
+                        log.warn("Lote de movimientos cortado en {} entradas tras confirmar {} bloques", index, chunks);
+                        complete = false;
+                        break;
+                    }
+                    JsonNode node = nodeReader.readValue(parser);
+                    MovementBatchEntry entry = toEntry(node);
+                    String rejection = validate(entry);
+                    if (rejection != null) {
+                        results.add(rejected(index, entry, rejection));
+                        continue;
+                    }
+                    results.add(null);
+                    chunk.add(new Pending(index, entry));
+                    if (chunk.size() >= properties.getChunkSize()) {
+                        postChunk(chunk, results);
+                        chunks++;
+                        chunk.clear();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                log.warn("JSON mal formado en el lote de movimientos tras {} entradas: {}", results.size(),
+                        e.getOriginalMessage());
+                complete = false;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            postChunk(chunk, results);
+            chunks++;
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        int accepted = (int) results.stream().filter(item -> item.getOutcome() == MovementBatchOutcome.ACCEPTED).count();
+        long perSecond = Math.round(results.size() * 1e9 / elapsedNanos);
+        log.info("Lote de movimientos: {} recibidos, {} aceptados, {} rechazados en {} bloques, {} ms ({} movimientos/s)",
+                results.size(), accepted, results.size() - accepted, chunks, elapsedNanos / 1_000_000, perSecond);
+        return new MovementBatchResponse(results.size(), accepted, results.size() - accepted, chunks,
+                elapsedNanos / 1_000_000, perSecond, complete, results);
+    }
+
+    private void postChunk(List<Pending> chunk, List<MovementBatchItem> results) {
+        List<MovementBatchItem> outcomes;
+        Supplier<List<MovementBatchItem>> write = () -> transactionTemplate.execute(status -> apply(chunk));
+        LedgerEngine engine = ledgerEngine.getIfAvailable();
+        try {
+            outcomes = engine != null ? engine.exclusive(accountIdsOf(chunk), write) : write.get();
+        } catch (DataAccessException | TransactionException | ServiceOverloadedException e) {
+            log.error("No se pudo registrar un bloque de {} movimientos", chunk.size(), e);
+            outcomes = chunk.stream()
+                    .map(pending -> rejected(pending.getIndex(), pending.getEntry(), Messages.MOVEMENT_BATCH_CHUNK_FAILED))
+                    .collect(Collectors.toList());
+        }
+        for (MovementBatchItem item : outcomes) {
+            results.set(item.getIndex(), item);
+        }
+    }
+
+    private static List<Long> accountIdsOf(List<Pending> chunk) {
+        return chunk.stream().map(pending -> pending.getEntry().getAccountId()).distinct().collect(Collectors.toList());
+    }
+
+    /**
+     * Aplica un bloque dentro de su transacción. El saldo de una cuenta con particiones incluye lo pendiente
+     * en ellas para evaluar el sobregiro, y se escribe como incremento para no tocar las particiones.
+     */
+    private List<MovementBatchItem> apply(List<Pending> chunk) {
+        Map<Long, List<Pending>> byAccount = new TreeMap<>();
+        for (Pending pending : chunk) {
+            byAccount.computeIfAbsent(pending.getEntry().getAccountId(), id -> new ArrayList<>()).add(pending);
+        }
+        Map<Long, Account> accounts = lock(byAccount.keySet());
+        Map<Long, BigDecimal> pendingStripes = pendingStripes(accounts.values());
+
+        List<MovementBatchItem> outcomes = new ArrayList<>(chunk.size());
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> movements = new ArrayList<>(chunk.size());
+        List<Account> changed = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        byAccount.forEach((accountId, entries) -> {
+            Account account = accounts.get(accountId);
+            if (account == null || !account.isActive()) {
+                String message = account == null ? Messages.ACCOUNT_NOT_FOUND : Messages.ACCOUNT_INACTIVE;
+                entries.forEach(pending -> outcomes.add(rejected(pending.getIndex(), pending.getEntry(), message)));
+                return;
+            }
+            boolean striped = account.getBalanceStripes() > 0;
+            BigDecimal before = account.getBalance().add(pendingStripes.getOrDefault(accountId, BigDecimal.ZERO));
+            account.setBalance(before);
+            for (Pending pending : entries) {
+                MovementBatchEntry entry = pending.getEntry();
+                try {
+                    BigDecimal signed;
+                    if (entry.getType() == MovementType.DEPOSIT) {
+                        account.deposit(entry.getAmount());
+                        signed = entry.getAmount();
+                    } else {
+                        account.withdraw(entry.getAmount());
+                        signed = entry.getAmount().negate();
+                    }
+                    BigDecimal balance = striped ? null : account.getBalance();
+                    movements.add(new Object[]{accountId, signed, balance, entry.getType().name(), now});
+                    outcomes.add(new MovementBatchItem(pending.getIndex(), entry.getReference(), accountId,
+                            MovementBatchOutcome.ACCEPTED, null, balance));
+                } catch (IllegalArgumentException e) {
+                    outcomes.add(rejected(pending.getIndex(), entry, e.getMessage()));
+                }
+            }
+            BigDecimal delta = account.getBalance().subtract(before);
+            if (delta.signum() != 0) {
+                updates.add(new Object[]{delta, accountId});
+                changed.add(account);
+            }
+        });
+
+        jdbcTemplate.getJdbcTemplate().batchUpdate(APPLY_SQL, updates);
+        jdbcTemplate.getJdbcTemplate().batchUpdate(MOVEMENT_SQL, movements);
+        for (Account account : changed) {
+            eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+            cacheInvalidator.evictAccount(account.getId());
+        }
+        return outcomes;
+    }
+
+    private Map<Long, Account> lock(Collection<Long> ids) {
+        Map<Long, Account> accounts = new HashMap<>();
+        jdbcTemplate.query(LOCK_SQL, Map.of("ids", ids), rs -> {
+            Account account = Account.builder()
+                    .id(rs.getLong("id"))
+                    .accountNumber(rs.getString("account_number"))
+                    .balance(rs.getBigDecimal("balance"))
+                    .type(AccountType.valueOf(rs.getString("type")))
+                    .clientId(rs.getLong("client_id"))
+                    .active(rs.getBoolean("active"))
+                    .balanceStripes(rs.getInt("balance_stripes"))
+                    .build();
+            accounts.put(account.getId(), account);
+        });
+        return accounts;
+    }
+
+    private Map<Long, BigDecimal> pendingStripes(Collection<Account> accounts) {
+        List<Long> striped = accounts.stream()
+                .filter(account -> account.getBalanceStripes() > 0)
+                .map(Account::getId)
+                .collect(Collectors.toList());
+        Map<Long, BigDecimal> pending = new HashMap<>();
+        if (!striped.isEmpty()) {
+            jdbcTemplate.query(STRIPES_SQL, Map.of("ids", striped), rs -> {
+                pending.put(rs.getLong("account_id"), rs.getBigDecimal("pending"));
+            });
+        }
+        return pending;
+    }
+
+    private MovementBatchEntry toEntry(JsonNode node) {
+        try {
+            return objectMapper.treeToValue(node, MovementBatchEntry.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String validate(MovementBatchEntry entry) {
+        if (entry == null || entry.getAccountId() == null) {
+            return Messages.INVALID_FORMAT;
+        }
+        if (entry.getType() != MovementType.DEPOSIT && entry.getType() != MovementType.WITHDRAWAL) {
+            return Messages.INVALID_MOVEMENT_TYPE;
+        }
+        BigDecimal amount = entry.getAmount();
+        if (amount == null || amount.signum() <= 0) {
+            return Messages.AMOUNT_MUST_BE_POSITIVE;
+        }
+        if (amount.stripTrailingZeros().scale() > MAX_SCALE) {
+            return Messages.INVALID_AMOUNT_SCALE;
+        }
+        if (amount.precision() - amount.scale() > MAX_INTEGER_DIGITS) {
+            return Messages.INVALID_FORMAT;
+        }
+        return null;
+    }
+
+    private static JsonToken nextToken(JsonParser parser) throws IOException {
+        try {
+            return parser.nextToken();
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(Messages.INVALID_FORMAT);
+        }
+    }
+
+    private static MovementBatchItem rejected(int index, MovementBatchEntry entry, String message) {
+        return new MovementBatchItem(index, entry == null ? null : entry.getReference(),
+                entry == null ? null : entry.getAccountId(), MovementBatchOutcome.REJECTED, message, null);
+    }
+
+    @Value
+    private static class Pending {
+        int index;
+        MovementBatchEntry entry;
+    }
+}
@@ -0,0 +1,38 @@
+package org.banking.accountms.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import lombok.Value;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.model.AccountMovement;
+
+/**
+ * Cursor opaco (createdAt, id) del último movimiento devuelto en una página de extracto.
+ */
+@Value
+public class MovementCursor {
+    LocalDateTime createdAt;
+    Long id;
+
+    public static MovementCursor of(AccountMovement movement) {
+        return new MovementCursor(movement.getCreatedAt(), movement.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MovementCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new MovementCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException(Messages.INVALID_CURSOR, e);
+        }
+    }
+}
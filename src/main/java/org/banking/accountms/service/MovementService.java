@@ -0,0 +1,93 @@
+package org.banking.accountms.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.mapper.MovementMapper;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountMovement;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountMovementRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class MovementService {
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final AccountMovementRepository movementRepository;
+
+    /**
+     * Registra un movimiento con el saldo ya aplicado en la cuenta; debe llamarse dentro de la
+     * transacción que modifica el saldo.
+     */
+    public AccountMovement record(Account account, BigDecimal amount, MovementType type) {
+        return movementRepository.save(AccountMovement.builder()
+                .accountId(account.getId())
+                .amount(amount)
+                .resultingBalance(account.getBalance())
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Movimiento abonado a una partición de saldo: no se conoce el saldo total resultante.
+     */
+    public AccountMovement recordStriped(Long accountId, BigDecimal amount, MovementType type) {
+        return movementRepository.save(AccountMovement.builder()
+                .accountId(accountId)
+                .amount(amount)
+                .type(type)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Página de extracto, del movimiento más reciente al más antiguo. Se pide un elemento extra
+     * para saber si existe una página siguiente sin contar filas.
+     */
+    @Transactional(readOnly = true)
+    public MovementPageResponse statement(Long accountId, String cursor, Integer size) {
+        int pageSize = pageSizeOf(size);
+        PageRequest page = PageRequest.of(0, pageSize + 1);
+
+        List<AccountMovement> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = movementRepository.findLatest(accountId, page);
+        } else {
+            MovementCursor after = MovementCursor.decode(cursor);
+            rows = movementRepository.findBefore(accountId, after.getCreatedAt(), after.getId(), page);
+        }
+
+        return toPage(rows, pageSize);
+    }
+
+    static int pageSizeOf(Integer size) {
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(Messages.INVALID_PAGE_SIZE);
+        }
+        return pageSize;
+    }
+
+    /**
+     * Recibe hasta {@code pageSize + 1} filas ordenadas; la fila extra solo indica que hay página siguiente.
+     */
+    static MovementPageResponse toPage(List<AccountMovement> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<AccountMovement> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? MovementCursor.of(items.get(pageSize - 1)).encode() : null;
+        return new MovementPageResponse(
+                items.stream().map(MovementMapper::toResponse).collect(Collectors.toList()),
+                nextCursor);
+    }
+}
@@ -0,0 +1,187 @@
+package org.banking.accountms.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import javax.validation.ValidationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.adapter.ReactiveClientGateway;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountMovement;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.reactive.ReactiveAccountRepository;
+import org.banking.accountms.repository.reactive.ReactiveMovementRepository;
+import org.banking.accountms.repository.reactive.ReactiveOutboxRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.banking.accountms.service.factory.AccountFactoryProvider;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Mismas operaciones que {@link AccountService} sobre R2DBC y WebClient. Las reglas de dominio
+ * ({@link Account}, {@link AccountValidator}, las factories) se comparten; cambia solo el acceso a datos.
+ */
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveAccountService {
+
+    static final int MAX_ACCOUNT_NUMBER_ATTEMPTS = 10;
+
+    private final ReactiveAccountRepository accountRepository;
+    private final ReactiveMovementRepository movementRepository;
+    private final ReactiveOutboxRepository outboxRepository;
+    private final ReactiveClientGateway clientGateway;
+    private final AccountValidator validator;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final AccountEventPublisher eventPublisher;
+    private final TransactionalOperator reactiveTransactionalOperator;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final AccountNumberIndex accountNumberIndex;
+
+    public Mono<AccountResponse> createAccount(CreateAccountRequest request) {
+        return Mono.fromRunnable(() -> validator.validate(request))
+                .then(clientGateway.exists(request.getClientId()))
+                .flatMap(exists -> exists
+                        ? nextAccountNumber(request.getType())
+                        : Mono.error(new IllegalArgumentException(
+                                "El cliente con ID " + request.getClientId() + " no existe.")))
+                .map(accountNumber -> {
+                    Account account = AccountFactoryProvider
+                            .getFactory(request.getType())
+                            .createAccount(request.getClientId(), request.getInitialBalance());
+                    account.setAccountNumber(accountNumber);
+                    return account;
+                })
+                .flatMap(account -> accountRepository.insert(account)
+                        .flatMap(saved -> movementRepository.insert(opening(saved))
+                                .then(outboxRepository.insert(eventPublisher.newOutboxEvent(AccountEventType.CREATED, saved)))
+                                .thenReturn(saved))
+                        .as(reactiveTransactionalOperator::transactional))
+                .doOnNext(account -> {
+                    cacheInvalidator.evictAccount(account.getId());
+                    cacheInvalidator.accountNumbersCreated(List.of(account.getAccountNumber()));
+                    log.info("Cuenta creada con factory: {}", account.getAccountNumber());
+                })
+                .map(AccountMapper::toResponse);
+    }
+
+    /**
+     * Busca primero en la tabla principal y, si no está, en el archivo de cuentas.
+     */
+    public Mono<Account> get(Long accountId) {
+        return accountRepository.findById(accountId)
+                .switchIfEmpty(Mono.defer(() -> accountRepository.findArchivedById(accountId)))
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND)));
+    }
+
+    public Flux<AccountResponse> listAll() {
+        return accountRepository.findAll().map(AccountMapper::toResponse);
+    }
+
+    public Flux<AccountResponse> listByClient(Long clientId) {
+        return accountRepository.findByClientId(clientId).map(AccountMapper::toResponse);
+    }
+
+    public Mono<MovementPageResponse> statement(Long accountId, String cursor, Integer size) {
+        int pageSize = MovementService.pageSizeOf(size);
+        Flux<AccountMovement> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = movementRepository.findLatest(accountId, pageSize + 1);
+        } else {
+            MovementCursor after = MovementCursor.decode(cursor);
+            rows = movementRepository.findBefore(accountId, after.getCreatedAt(), after.getId(), pageSize + 1);
+        }
+        return get(accountId)
+                .thenMany(rows)
+                .collectList()
+                .map(list -> MovementService.toPage(list, pageSize));
+    }
+
+    public Mono<Void> delete(Long accountId) {
+        return accountRepository.lockById(accountId)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND)))
+                .flatMap(account -> accountRepository.deleteIfZeroBalance(accountId)
+                        .flatMap(deleted -> deleted == 0
+                                ? Mono.<Integer>error(new ValidationException(Messages.ACCOUNT_BALANCE_NOT_ZERO))
+                                : outboxRepository.insert(eventPublisher.newOutboxEvent(AccountEventType.DELETED, account))))
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnSuccess(ignored -> {
+                    cacheInvalidator.evictAccount(accountId);
+                    accountNumberIndex.recordRemoved(1);
+                    log.info("Cuenta eliminada: {}", accountId);
+                })
+                .then();
+    }
+
+    public Mono<AccountResponse> activate(Long id) {
+        return changeActive(id, true, Messages.ACCOUNT_ALREADY_ACTIVE, AccountEventType.ACTIVATED);
+    }
+
+    public Mono<AccountResponse> deactivate(Long id) {
+        return changeActive(id, false, Messages.ACCOUNT_ALREADY_INACTIVE, AccountEventType.DEACTIVATED);
+    }
+
+    private Mono<AccountResponse> changeActive(Long id, boolean active, String alreadyMessage,
+                                               AccountEventType eventType) {
+        return accountRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND)))
+                .flatMap(account -> {
+                    if (account.isActive() == active) {
+                        return Mono.error(new ValidationException(alreadyMessage));
+                    }
+                    account.setActive(active);
+                    account.setDeactivatedAt(active ? null : LocalDateTime.now());
+                    return accountRepository.updateActive(id, active, account.getDeactivatedAt())
+                            .then(outboxRepository.insert(eventPublisher.newOutboxEvent(eventType, account)))
+                            .thenReturn(account);
+                })
+                .as(reactiveTransactionalOperator::transactional)
+                .doOnNext(account -> cacheInvalidator.evictAccount(id))
+                .map(AccountMapper::toResponse);
+    }
+
+    private Mono<String> nextAccountNumber(AccountType type) {
+        return Flux.range(0, MAX_ACCOUNT_NUMBER_ATTEMPTS)
+                .concatMap(attempt -> {
+                    String candidate = accountNumberGenerator.candidate(type);
+                    if (!accountNumberIndex.mightContain(candidate)) {
+                        return Mono.just(candidate);
+                    }
+                    return accountRepository.existsByAccountNumber(candidate)
+                            .doOnNext(exists -> {
+                                if (!exists) {
+                                    accountNumberIndex.recordFalsePositive();
+                                }
+                            })
+                            .filter(exists -> !exists)
+                            .map(free -> candidate);
+                })
+                .next()
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(Messages.ACCOUNT_NUMBER_GENERATION_FAILED)));
+    }
+
+    private static AccountMovement opening(Account account) {
+        return AccountMovement.builder()
+                .accountId(account.getId())
+                .amount(account.getBalance())
+                .resultingBalance(account.getBalance())
+                .type(MovementType.OPENING)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
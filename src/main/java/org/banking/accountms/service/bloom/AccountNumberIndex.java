@@ -0,0 +1,222 @@
+package org.banking.accountms.service.bloom;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.BloomFilterProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Filtro de Bloom en memoria sobre todos los {@code account_number} de la tabla {@code accounts}.
+ * Un "no" del filtro es definitivo y evita la consulta a la base de datos; un "quizá" se confirma con ella.
+ *
+ * <p>La primera carga recorre la tabla por keyset en una tarea programada, así que no retrasa el
+ * arranque; hasta entonces todas las consultas van a la base de datos. Las altas se añaden tras el commit,
+ * las de esta instancia directamente y las de otras con el aviso de
+ * {@link org.banking.accountms.service.cache.AccountCacheInvalidator#accountNumbersCreated}. Como red de
+ * seguridad (avisos perdidos, SQL directo), cada {@code sync-interval-ms} se leen las filas por encima de
+ * una marca de agua: el último ID visto o, si antes quedaron huecos de IDs, el primero de ellos, porque
+ * una transacción lenta confirma su ID después de otras con IDs mayores. Un hueco se deja de esperar a los
+ * {@code gap-timeout-ms} (rollback, cuenta ya borrada). Los borrados no pueden quitarse de un filtro de
+ * Bloom: se cuentan y, al superar {@code rebuild-removed-ratio}, el filtro se reconstruye desde cero.</p>
+ */
+@Slf4j
+@Service
+public class AccountNumberIndex {
+
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM accounts";
+    static final String LOAD_SQL = "SELECT id, account_number FROM accounts WHERE id > ? ORDER BY id LIMIT ?";
+    /** Huecos más recientes que se siguen esperando; los más antiguos suelen ser cuentas borradas. */
+    static final int MAX_OPEN_GAPS = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BloomFilterProperties properties;
+    private final Counter negatives;
+    private final Counter positives;
+    private final Counter falsePositives;
+    private final AtomicLong removedSinceBuild = new AtomicLong();
+
+    private volatile BloomFilter filter;
+    private volatile BloomFilter building;
+    // Estado de la sincronización, protegido por el monitor de sync().
+    private final NavigableMap<Long, Gap> gaps = new TreeMap<>();
+    private long lastSeenId;
+
+    public AccountNumberIndex(JdbcTemplate jdbcTemplate, BloomFilterProperties properties, MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.negatives = Counter.builder("account.bloom.checks").tag("result", "negative")
+                .description("Números descartados por el filtro sin consultar la base de datos").register(registry);
+        this.positives = Counter.builder("account.bloom.checks").tag("result", "positive")
+                .description("Números que el filtro manda confirmar a la base de datos").register(registry);
+        this.falsePositives = Counter.builder("account.bloom.false.positives")
+                .description("Positivos del filtro que la base de datos no confirmó").register(registry);
+        Gauge.builder("account.bloom.fpp.expected", this, AccountNumberIndex::expectedFalsePositiveRate)
+                .description("Tasa de falsos positivos estimada por el llenado del filtro").register(registry);
+        Gauge.builder("account.bloom.fpp.observed", this, AccountNumberIndex::observedFalsePositiveRate)
+                .description("Falsos positivos sobre el total de números inexistentes consultados").register(registry);
+        Gauge.builder("account.bloom.size", this, index -> index.filter == null ? 0 : index.filter.approximateSize())
+                .register(registry);
+    }
+
+    /**
+     * {@code false} solo si el número seguro que no existe. Mientras el filtro no esté cargado siempre es {@code true}.
+     */
+    public boolean mightContain(String accountNumber) {
+        BloomFilter current = filter;
+        if (!properties.isEnabled() || current == null) {
+            return true;
+        }
+        boolean result = current.mightContain(accountNumber);
+        (result ? positives : negatives).increment();
+        return result;
+    }
+
+    /**
+     * La base de datos no confirmó un positivo del filtro.
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * Número ya confirmado en la base de datos.
+     */
+    public void add(String accountNumber) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(accountNumber);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(accountNumber);
+        }
+    }
+
+    public void addAll(Collection<String> accountNumbers) {
+        accountNumbers.forEach(this::add);
+    }
+
+    public void recordRemoved(long count) {
+        removedSinceBuild.addAndGet(count);
+    }
+
+    @Scheduled(fixedDelayString = "${account.bloom.sync-interval-ms:5000}")
+    public void scheduledSync() {
+        if (properties.isEnabled()) {
+            sync();
+        }
+    }
+
+    synchronized void sync() {
+        BloomFilter current = filter;
+        if (current == null || needsRebuild(current)) {
+            rebuild();
+        } else {
+            long now = System.currentTimeMillis();
+            gaps.values().removeIf(gap -> now - gap.getOpenedAtMillis() >= properties.getGapTimeoutMs());
+            load(current, gaps.isEmpty() ? lastSeenId : gaps.firstKey() - 1);
+        }
+    }
+
+    private boolean needsRebuild(BloomFilter current) {
+        return removedSinceBuild.get() > current.approximateSize() * properties.getRebuildRemovedRatio()
+                || current.expectedFalsePositiveRate() > properties.getFalsePositiveRate() * 2;
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        Long rows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        long capacity = Math.max(properties.getExpectedInsertions(), (rows == null ? 0 : rows) * 3 / 2);
+        BloomFilter next = BloomFilter.create(capacity, properties.getFalsePositiveRate());
+        long removedBefore = removedSinceBuild.get();
+
+        building = next;
+        gaps.clear();
+        lastSeenId = 0;
+        load(next, 0);
+        filter = next;
+        building = null;
+
+        removedSinceBuild.addAndGet(-removedBefore);
+        log.info("Filtro de Bloom de números de cuenta construido: {} números, capacidad {}, fpp estimada {}, {} ms",
+                next.approximateSize(), capacity, String.format("%.5f", next.expectedFalsePositiveRate()),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Añade al filtro las cuentas con ID mayor que {@code afterId} por lotes y anota los huecos de IDs.
+     */
+    private void load(BloomFilter target, long afterId) {
+        long now = System.currentTimeMillis();
+        long[] last = {afterId};
+        int[] read = new int[1];
+        do {
+            read[0] = 0;
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                target.put(rs.getString(2));
+                last[0] = rs.getLong(1);
+                seen(last[0], now);
+                read[0]++;
+            }, last[0], properties.getLoadBatchSize());
+        } while (read[0] == properties.getLoadBatchSize());
+    }
+
+    /**
+     * Por encima del último ID visto, los IDs saltados abren un hueco; por debajo, el ID cierra el hueco
+     * que lo contenía.
+     */
+    private void seen(long id, long now) {
+        if (id > lastSeenId) {
+            if (id > lastSeenId + 1) {
+                gaps.put(lastSeenId + 1, new Gap(id - 1, now));
+                if (gaps.size() > MAX_OPEN_GAPS) {
+                    gaps.pollFirstEntry();
+                }
+            }
+            lastSeenId = id;
+            return;
+        }
+        Map.Entry<Long, Gap> entry = gaps.floorEntry(id);
+        if (entry == null || id > entry.getValue().getLast()) {
+            return;
+        }
+        Gap gap = gaps.remove(entry.getKey());
+        if (id > entry.getKey()) {
+            gaps.put(entry.getKey(), new Gap(id - 1, gap.getOpenedAtMillis()));
+        }
+        if (id < gap.getLast()) {
+            gaps.put(id + 1, new Gap(gap.getLast(), gap.getOpenedAtMillis()));
+        }
+    }
+
+    private double expectedFalsePositiveRate() {
+        BloomFilter current = filter;
+        return current == null ? 0 : current.expectedFalsePositiveRate();
+    }
+
+    private double observedFalsePositiveRate() {
+        double misses = negatives.count() + falsePositives.count();
+        return misses == 0 ? 0 : falsePositives.count() / misses;
+    }
+
+    /**
+     * IDs {@code [clave, last]} aún no vistos.
+     */
+    @Value
+    private static class Gap {
+        long last;
+        long openedAtMillis;
+    }
+}
@@ -0,0 +1,166 @@
+package org.banking.accountms.service.cache;
+
+import java.util.Collection;
+import java.util.List;
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.adapter.cache.CacheInvalidationChannel;
+import org.banking.accountms.config.CacheProperties;
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Mantiene coherente la caché de segundo nivel de {@link Account} entre instancias.
+ * Los cambios hechos con Hibernate ya actualizan la caché local y solo hay que avisar al resto;
+ * los que lo esquivan (SQL directo en jobs, R2DBC) también deben invalidar la caché local.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccountCacheInvalidator {
+
+    public static final String CLIENT_QUERY_REGION = "account-by-client";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationChannel channel;
+    private final CacheProperties properties;
+    private final List<AccountChangeListener> changeListeners;
+    private final AccountNumberIndex accountNumberIndex;
+
+    @PostConstruct
+    public void subscribe() {
+        channel.subscribe(this::onMessage);
+    }
+
+    /**
+     * Para escrituras fuera de Hibernate sobre una cuenta. Con transacción activa espera al commit.
+     */
+    public void evictAccount(Long accountId) {
+        afterCommit(() -> {
+            evictLocally(accountId);
+            broadcast(accountId);
+        });
+    }
+
+    /**
+     * Para escrituras fuera de Hibernate sobre varias cuentas conocidas (lotes, jobs por partición). Con
+     * transacción activa espera al commit. Nada que hacer si la lista está vacía.
+     */
+    public void evictAccounts(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(accountIds);
+        afterCommit(() -> {
+            evictEachLocally(ids);
+            channel.broadcast(CacheInvalidationMessage.builder()
+                    .origin(properties.getNodeId()).accountIds(ids).build());
+        });
+    }
+
+    /**
+     * Cuentas recién insertadas fuera de Hibernate (importación): aún no pueden estar en la caché de entidades,
+     * así que aquí solo se invalidan las consultas por cliente y se avisa a los oyentes. Con transacción activa
+     * espera al commit.
+     */
+    public void accountsInserted(Collection<Long> accountIds) {
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(accountIds);
+        afterCommit(() -> {
+            entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CLIENT_QUERY_REGION);
+            ids.forEach(accountId -> changeListeners.forEach(listener -> listener.accountsChanged(accountId)));
+            channel.broadcast(CacheInvalidationMessage.builder()
+                    .origin(properties.getNodeId()).accountIds(ids).build());
+        });
+    }
+
+    /**
+     * Solo para cambios cuyas cuentas no se conocen: deja sin usar el modelo de lectura hasta reconstruirlo.
+     */
+    public void evictAll() {
+        afterCommit(() -> {
+            evictLocally(null);
+            broadcast(null);
+        });
+    }
+
+    /**
+     * Cambio ya confirmado por Hibernate en esta instancia.
+     */
+    public void notifyCommitted(Long accountId) {
+        broadcast(accountId);
+    }
+
+    /**
+     * Números de cuenta dados de alta, para el filtro de Bloom de esta y de las demás instancias. Con
+     * transacción activa espera al commit.
+     */
+    public void accountNumbersCreated(List<String> accountNumbers) {
+        afterCommit(() -> {
+            accountNumberIndex.addAll(accountNumbers);
+            channel.broadcast(CacheInvalidationMessage.builder()
+                    .origin(properties.getNodeId()).createdNumbers(accountNumbers).build());
+        });
+    }
+
+    void onMessage(CacheInvalidationMessage message) {
+        if (message.getCreatedNumbers() != null) {
+            accountNumberIndex.addAll(message.getCreatedNumbers());
+            return;
+        }
+        if (message.getAccountIds() != null) {
+            log.debug("Invalidación de caché recibida de {}: {} cuentas", message.getOrigin(),
+                    message.getAccountIds().size());
+            evictEachLocally(message.getAccountIds());
+            return;
+        }
+        log.debug("Invalidación de caché recibida de {}: cuenta {}", message.getOrigin(),
+                message.isAll() ? "todas" : message.getAccountId());
+        evictLocally(message.getAccountId());
+    }
+
+    private void evictEachLocally(List<Long> accountIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        accountIds.forEach(accountId -> cache.evictEntityData(Account.class, accountId));
+        cache.evictQueryRegion(CLIENT_QUERY_REGION);
+        accountIds.forEach(accountId -> changeListeners.forEach(listener -> listener.accountsChanged(accountId)));
+    }
+
+    private void evictLocally(Long accountId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        if (accountId == null) {
+            cache.evictEntityData(Account.class);
+        } else {
+            cache.evictEntityData(Account.class, accountId);
+        }
+        cache.evictQueryRegion(CLIENT_QUERY_REGION);
+        changeListeners.forEach(listener -> listener.accountsChanged(accountId));
+    }
+
+    private void broadcast(Long accountId) {
+        channel.broadcast(new CacheInvalidationMessage(properties.getNodeId(), accountId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package org.banking.accountms.service.cache;
+
+/**
+ * Recibe las mismas invalidaciones que la caché de segundo nivel de cuentas: escrituras locales fuera de
+ * Hibernate y cambios de otras instancias, siempre después del commit.
+ */
+public interface AccountChangeListener {
+
+    /**
+     * {@code accountId == null} si pueden haber cambiado todas las cuentas.
+     */
+    void accountsChanged(Long accountId);
+}
@@ -0,0 +1,99 @@
+package org.banking.accountms.service.concurrency;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * Límite de concurrencia AIMD guiado por latencia. Decide una vez por ventana de {@code windowSize}
+ * muestras: si la latencia media de la ventana supera en más de {@code tolerance} veces la mínima de la
+ * ventana anterior (cola creciendo en la base de datos o en el servicio de clientes) o hubo fallos, reduce
+ * el límite multiplicativamente; si no y la ventana llegó a usar la mitad del límite, lo aumenta en 1.
+ * Una sola muestra lenta no basta para recortarlo. Las peticiones que exceden el límite se rechazan de
+ * inmediato.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double backoffRatio;
+    private final int windowSize;
+    private final LongSupplier clock;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    private volatile double limit;
+    private long baselineRttNanos = Long.MAX_VALUE;
+    private long windowMinRttNanos = Long.MAX_VALUE;
+    private long windowRttSumNanos;
+    private int windowMaxInflight;
+    private boolean windowFailed;
+    private int windowSamples;
+
+    public AdaptiveConcurrencyLimiter(String name, LimitSettings settings, LongSupplier clock) {
+        this.name = name;
+        this.minLimit = settings.getMinLimit();
+        this.maxLimit = settings.getMaxLimit();
+        this.tolerance = settings.getTolerance();
+        this.backoffRatio = settings.getBackoffRatio();
+        this.windowSize = settings.getWindowSize();
+        this.limit = settings.getInitialLimit();
+        this.clock = clock;
+    }
+
+    /**
+     * Reserva un hueco si hay capacidad; devuelve el instante de inicio para medir la latencia.
+     */
+    public Optional<Long> tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                return Optional.empty();
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return Optional.of(clock.getAsLong());
+            }
+        }
+    }
+
+    public void release(long startNanos, boolean failed) {
+        long rtt = clock.getAsLong() - startNanos;
+        int inflightAtRelease = inflight.getAndDecrement();
+        onSample(rtt, inflightAtRelease, failed);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtRelease, boolean failed) {
+        windowMinRttNanos = Math.min(windowMinRttNanos, rttNanos);
+        windowRttSumNanos += rttNanos;
+        windowMaxInflight = Math.max(windowMaxInflight, inflightAtRelease);
+        windowFailed |= failed;
+        if (++windowSamples < windowSize) {
+            return;
+        }
+        long baseline = Math.min(baselineRttNanos, windowMinRttNanos);
+        if (windowFailed || windowRttSumNanos / windowSamples > baseline * tolerance) {
+            limit = Math.max(minLimit, limit * backoffRatio);
+        } else if (windowMaxInflight * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1);
+        }
+        baselineRttNanos = windowMinRttNanos;
+        windowMinRttNanos = Long.MAX_VALUE;
+        windowRttSumNanos = 0;
+        windowMaxInflight = 0;
+        windowFailed = false;
+        windowSamples = 0;
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+}
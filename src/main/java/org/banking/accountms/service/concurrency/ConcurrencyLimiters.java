@@ -0,0 +1,53 @@
+package org.banking.accountms.service.concurrency;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.banking.accountms.config.ConcurrencyLimitProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Un {@link AdaptiveConcurrencyLimiter} por ruta ({@code "POST /cuentas/{id}/deposito"}), para que la
+ * latencia de una ruta lenta no recorte el límite de las demás. Cada ruta usa la configuración de
+ * lecturas si es GET/HEAD o está en {@code read-routes}, y la de escrituras si no. Publica
+ * {@code account.concurrency.limit} y {@code account.concurrency.inflight} por ruta.
+ */
+@Component
+@Profile("!reactive")
+@RequiredArgsConstructor
+public class ConcurrencyLimiters {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry registry;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public AdaptiveConcurrencyLimiter forRoute(String route) {
+        return limiters.computeIfAbsent(route, this::create);
+    }
+
+    public Collection<AdaptiveConcurrencyLimiter> all() {
+        return limiters.values();
+    }
+
+    boolean isRead(String route) {
+        return route.startsWith("GET ") || route.startsWith("HEAD ") || properties.getReadRoutes().contains(route);
+    }
+
+    private AdaptiveConcurrencyLimiter create(String route) {
+        boolean read = isRead(route);
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(route,
+                read ? properties.getReads() : properties.getWrites(), System::nanoTime);
+        String kind = read ? "read" : "write";
+        Gauge.builder("account.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Peticiones concurrentes admitidas por la ruta")
+                .tag("route", route).tag("kind", kind).register(registry);
+        Gauge.builder("account.concurrency.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight)
+                .description("Peticiones en curso en la ruta")
+                .tag("route", route).tag("kind", kind).register(registry);
+        return limiter;
+    }
+}
@@ -0,0 +1,14 @@
+package org.banking.accountms.service.concurrency;
+
+import lombok.Data;
+
+@Data
+public class LimitSettings {
+    private int initialLimit = 20;
+    private int minLimit = 2;
+    private int maxLimit = 200;
+    private double tolerance = 2.0;
+    private double backoffRatio = 0.9;
+    /** Muestras por ventana: el límite cambia como mucho una vez por ventana. */
+    private int windowSize = 100;
+}
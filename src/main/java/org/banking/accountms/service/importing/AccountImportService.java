@@ -0,0 +1,361 @@
+package org.banking.accountms.service.importing;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import javax.validation.ValidationException;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.AccountImportProperties;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountImportResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.service.AccountNumberGenerator;
+import org.banking.accountms.service.AccountValidator;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Importación masiva de cuentas desde un CSV del directorio {@code account.import.directory}, con columnas
+ * {@code client_id,type,initial_balance} y cabecera opcional. El archivo se lee en streaming con
+ * {@link CsvLineReader}; cada fila pasa por las mismas {@code ValidationRule} que el alta normal y las
+ * rechazadas se escriben en {@code <archivo>.rechazos.csv} con su número de línea y el motivo.
+ *
+ * <p>Cada {@code chunk-size} líneas forman un bloque: los números de cuenta se reservan de una vez por tipo
+ * ({@link AccountNumberGenerator#generateBlock}), las cuentas se insertan con un lote JDBC y sus movimientos
+ * OPENING con un solo INSERT ... SELECT, y el avance (desplazamiento en bytes, contadores, tamaño del archivo
+ * de rechazos) se guarda en {@code account_import_checkpoints} en la misma transacción. Si la importación se
+ * interrumpe, la siguiente ejecución con el mismo archivo sigue desde el último bloque confirmado, sin
+ * duplicar cuentas ni rechazos.</p>
+ *
+ * <p>No se comprueba la existencia del cliente ni se publican eventos CREATED: las cuentas migradas vienen
+ * del core anterior, donde ya existen sus clientes y donde los demás sistemas ya las conocen.</p>
+ */
+@Slf4j
+@Service
+public class AccountImportService {
+
+    static final String INSERT_SQL = "INSERT INTO accounts (account_number, balance, type, client_id, active) "
+            + "VALUES (?, ?, ?, ?, TRUE)";
+    static final String OPENING_SQL = "INSERT INTO account_movements "
+            + "(account_id, amount, resulting_balance, type, created_at) "
+            + "SELECT id, balance, balance, :type, :createdAt FROM accounts WHERE account_number IN (:numbers)";
+    static final String INSERTED_IDS_SQL = "SELECT id FROM accounts WHERE account_number IN (:numbers)";
+    static final String LOAD_CHECKPOINT_SQL = "SELECT file_size, byte_offset, lines_read, imported, rejected, "
+            + "reject_offset, completed FROM account_import_checkpoints WHERE file_name = ?";
+    static final String UPDATE_CHECKPOINT_SQL = "UPDATE account_import_checkpoints SET byte_offset = ?, "
+            + "lines_read = ?, imported = ?, rejected = ?, reject_offset = ?, completed = ?, updated_at = ? "
+            + "WHERE file_name = ?";
+    static final String INSERT_CHECKPOINT_SQL = "INSERT INTO account_import_checkpoints (byte_offset, lines_read, "
+            + "imported, rejected, reject_offset, completed, updated_at, file_name, file_size) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    static final String REJECT_HEADER = "linea,motivo,registro\n";
+
+    private static final int MAX_INTEGER_DIGITS = 17;
+    private static final int MAX_SCALE = 2;
+    private static final long PROGRESS_LOG_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+    private final AccountValidator validator;
+    private final AccountNumberGenerator accountNumberGenerator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountCacheInvalidator cacheInvalidator;
+    private final AccountImportProperties properties;
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public AccountImportService(AccountValidator validator,
+                                AccountNumberGenerator accountNumberGenerator,
+                                NamedParameterJdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                AccountCacheInvalidator cacheInvalidator,
+                                AccountImportProperties properties) {
+        this.validator = validator;
+        this.accountNumberGenerator = accountNumberGenerator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cacheInvalidator = cacheInvalidator;
+        this.properties = properties;
+    }
+
+    /**
+     * Importa (o sigue importando) {@code fileName}. Un archivo ya importado por completo no se vuelve a leer.
+     */
+    public AccountImportResponse importFile(String fileName) throws IOException {
+        Path file = resolve(fileName);
+        String name = file.getFileName().toString();
+        if (!running.add(name)) {
+            throw new ValidationException(Messages.IMPORT_IN_PROGRESS);
+        }
+        try {
+            return run(file, name);
+        } finally {
+            running.remove(name);
+        }
+    }
+
+    private AccountImportResponse run(Path file, String name) throws IOException {
+        long started = System.nanoTime();
+        long size = Files.size(file);
+        Checkpoint start = loadCheckpoint(name);
+        if (start != null && start.getFileSize() != size) {
+            throw new IllegalArgumentException(Messages.IMPORT_FILE_CHANGED);
+        }
+        if (start == null) {
+            start = new Checkpoint(name, size, 0, 0, 0, 0, 0, false, false);
+        }
+        Path rejectFile = file.resolveSibling(name + ".rechazos.csv");
+
+        Checkpoint last = start;
+        if (!start.isCompleted()) {
+            log.info("Importación de cuentas de {} ({} bytes) desde el byte {}", name, size, start.getOffset());
+            last = importFrom(file, rejectFile, start);
+            if (last.getRejectOffset() == 0) {
+                Files.deleteIfExists(rejectFile);
+            }
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        long rows = last.getLinesRead() - start.getLinesRead();
+        long imported = last.getImported() - start.getImported();
+        long rejected = last.getRejected() - start.getRejected();
+        long perSecond = Math.round(rows * 1e9 / elapsedNanos);
+        log.info("Importación de {}: {} filas leídas, {} importadas, {} rechazadas, {} ms ({} filas/s); "
+                        + "total {} importadas, {} rechazadas", name, rows, imported, rejected,
+                elapsedNanos / 1_000_000, perSecond, last.getImported(), last.getRejected());
+        return new AccountImportResponse(name, start.getOffset(), last.getOffset() - start.getOffset(), rows,
+                imported, rejected, last.getImported(), last.getRejected(),
+                last.getRejected() > 0 ? rejectFile.getFileName().toString() : null,
+                elapsedNanos / 1_000_000, perSecond);
+    }
+
+    private Checkpoint importFrom(Path file, Path rejectFile, Checkpoint start) throws IOException {
+        Checkpoint checkpoint = start;
+        long lastProgress = System.nanoTime();
+        try (CsvLineReader reader = new CsvLineReader(file, start.getOffset(), properties.getReadBufferBytes());
+             FileChannel rejects = FileChannel.open(rejectFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Los rechazos escritos después del último bloque confirmado se vuelven a generar al reanudar.
+            rejects.truncate(start.getRejectOffset());
+            rejects.position(start.getRejectOffset());
+
+            Chunk chunk = new Chunk();
+            long line = start.getLinesRead();
+            String text;
+            while ((text = reader.next()) != null) {
+                line++;
+                chunk.lines++;
+                if (reader.lastTooLong()) {
+                    chunk.reject(line, Messages.IMPORT_LINE_TOO_LONG, "");
+                } else if (!text.isBlank() && !(line == 1 && isHeader(text))) {
+                    try {
+                        chunk.rows.add(new Row(line, parse(text)));
+                    } catch (IllegalArgumentException | ValidationException e) {
+                        chunk.reject(line, e.getMessage(), text);
+                    }
+                }
+                if (chunk.lines >= properties.getChunkSize()) {
+                    checkpoint = commit(checkpoint, chunk, reader.offset(), line, false, rejects);
+                    chunk = new Chunk();
+                    if (System.nanoTime() - lastProgress > PROGRESS_LOG_NANOS) {
+                        lastProgress = System.nanoTime();
+                        log.info("Importación de {}: {} de {} bytes, {} importadas, {} rechazadas",
+                                start.getFileName(), checkpoint.getOffset(), checkpoint.getFileSize(),
+                                checkpoint.getImported(), checkpoint.getRejected());
+                    }
+                }
+            }
+            return commit(checkpoint, chunk, reader.offset(), line, true, rejects);
+        }
+    }
+
+    /**
+     * Escribe los rechazos del bloque, inserta sus cuentas y guarda el avance. Los rechazos se escriben antes
+     * de confirmar: si la transacción no llega a confirmarse, el checkpoint sigue apuntando al tamaño anterior
+     * del archivo de rechazos y la siguiente ejecución los recorta.
+     */
+    private Checkpoint commit(Checkpoint previous, Chunk chunk, long offset, long lines, boolean completed,
+                              FileChannel rejects) throws IOException {
+        long rejectOffset = previous.getRejectOffset();
+        if (chunk.rejected > 0) {
+            if (rejectOffset == 0) {
+                chunk.rejects.insert(0, REJECT_HEADER);
+            }
+            ByteBuffer bytes = ByteBuffer.wrap(chunk.rejects.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                rejectOffset += rejects.write(bytes);
+            }
+            rejects.force(false);
+        }
+        Checkpoint next = new Checkpoint(previous.getFileName(), previous.getFileSize(), offset, lines,
+                previous.getImported() + chunk.rows.size(), previous.getRejected() + chunk.rejected,
+                rejectOffset, completed, true);
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!chunk.rows.isEmpty()) {
+                cacheInvalidator.accountsInserted(insert(chunk.rows));
+            }
+            saveCheckpoint(previous, next);
+        });
+        return next;
+    }
+
+    /**
+     * Inserta las cuentas del bloque con su movimiento de apertura y devuelve sus ids.
+     */
+    private List<Long> insert(List<Row> rows) {
+        Map<AccountType, List<Row>> byType = new EnumMap<>(AccountType.class);
+        for (Row row : rows) {
+            byType.computeIfAbsent(row.getRequest().getType(), type -> new ArrayList<>()).add(row);
+        }
+        List<Object[]> accounts = new ArrayList<>(rows.size());
+        List<String> numbers = new ArrayList<>(rows.size());
+        byType.forEach((type, ofType) -> {
+            Iterator<String> block = accountNumberGenerator.generateBlock(type, ofType.size()).iterator();
+            for (Row row : ofType) {
+                String number = block.next();
+                numbers.add(number);
+                CreateAccountRequest request = row.getRequest();
+                accounts.add(new Object[]{number, request.getInitialBalance(), type.name(), request.getClientId()});
+            }
+        });
+        jdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_SQL, accounts);
+        jdbcTemplate.update(OPENING_SQL, Map.of(
+                "type", MovementType.OPENING.name(),
+                "createdAt", Timestamp.valueOf(LocalDateTime.now()),
+                "numbers", numbers));
+        cacheInvalidator.accountNumbersCreated(numbers);
+        return jdbcTemplate.queryForList(INSERTED_IDS_SQL, Map.of("numbers", numbers), Long.class);
+    }
+
+    private CreateAccountRequest parse(String text) {
+        String[] fields = text.split(",", -1);
+        if (fields.length != 3) {
+            throw new IllegalArgumentException(Messages.INVALID_FORMAT);
+        }
+        CreateAccountRequest request = new CreateAccountRequest();
+        try {
+            request.setClientId(Long.parseLong(unquote(fields[0])));
+            request.setInitialBalance(new BigDecimal(unquote(fields[2])));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(Messages.INVALID_FORMAT);
+        }
+        try {
+            request.setType(AccountType.valueOf(unquote(fields[1])));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(Messages.INVALID_ACCOUNT_TYPE);
+        }
+        BigDecimal balance = request.getInitialBalance();
+        if (balance.stripTrailingZeros().scale() > MAX_SCALE) {
+            throw new IllegalArgumentException(Messages.INVALID_AMOUNT_SCALE);
+        }
+        if (balance.precision() - balance.scale() > MAX_INTEGER_DIGITS) {
+            throw new IllegalArgumentException(Messages.INVALID_FORMAT);
+        }
+        validator.validate(request);
+        return request;
+    }
+
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException(Messages.IMPORT_FILE_INVALID);
+        }
+        Path directory = Paths.get(properties.getDirectory()).toAbsolutePath().normalize();
+        Path file = directory.resolve(fileName).normalize();
+        if (!directory.equals(file.getParent())) {
+            throw new IllegalArgumentException(Messages.IMPORT_FILE_INVALID);
+        }
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException(Messages.IMPORT_FILE_NOT_FOUND);
+        }
+        return file;
+    }
+
+    private Checkpoint loadCheckpoint(String name) {
+        List<Checkpoint> found = jdbcTemplate.getJdbcTemplate().query(LOAD_CHECKPOINT_SQL, (rs, rowNum) ->
+                new Checkpoint(name, rs.getLong("file_size"), rs.getLong("byte_offset"), rs.getLong("lines_read"),
+                        rs.getLong("imported"), rs.getLong("rejected"), rs.getLong("reject_offset"),
+                        rs.getBoolean("completed"), true), name);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    private void saveCheckpoint(Checkpoint previous, Checkpoint next) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (previous.isStored()) {
+            jdbcTemplate.getJdbcTemplate().update(UPDATE_CHECKPOINT_SQL, next.getOffset(), next.getLinesRead(),
+                    next.getImported(), next.getRejected(), next.getRejectOffset(), next.isCompleted(), now,
+                    next.getFileName());
+        } else {
+            jdbcTemplate.getJdbcTemplate().update(INSERT_CHECKPOINT_SQL, next.getOffset(), next.getLinesRead(),
+                    next.getImported(), next.getRejected(), next.getRejectOffset(), next.isCompleted(), now,
+                    next.getFileName(), next.getFileSize());
+        }
+    }
+
+    private static boolean isHeader(String text) {
+        String first = unquote(text.split(",", 2)[0]);
+        return !first.isEmpty() && !Character.isDigit(first.charAt(0)) && first.charAt(0) != '-';
+    }
+
+    private static String unquote(String field) {
+        String value = field.trim();
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1).trim();
+        }
+        return value;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    @Value
+    private static class Row {
+        long line;
+        CreateAccountRequest request;
+    }
+
+    @Value
+    private static class Checkpoint {
+        String fileName;
+        long fileSize;
+        long offset;
+        long linesRead;
+        long imported;
+        long rejected;
+        long rejectOffset;
+        boolean completed;
+        boolean stored;
+    }
+
+    private static final class Chunk {
+        private final List<Row> rows = new ArrayList<>();
+        private final StringBuilder rejects = new StringBuilder();
+        private int lines;
+        private int rejected;
+
+        private void reject(long line, String reason, String text) {
+            rejects.append(line).append(',').append(quote(reason)).append(',').append(quote(text)).append('\n');
+            rejected++;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.banking.accountms.service.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Lectura secuencial por líneas desde un desplazamiento en bytes, con un {@link FileChannel} y un solo buffer
+ * reutilizado: la memoria no depende del tamaño del archivo y no se crea más que el {@code String} de cada línea.
+ * Las líneas terminan en {@code \n} (se quita un {@code \r} final) y se decodifican en UTF-8. Una línea que no
+ * cabe en el buffer se salta entera y se devuelve vacía con {@link #lastTooLong()} a {@code true}.
+ */
+final class CsvLineReader implements Closeable {
+
+    private final FileChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private long offset;
+    private boolean eof;
+    private boolean tooLong;
+
+    CsvLineReader(Path file, long offset, int bufferBytes) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.bytes = new byte[bufferBytes];
+        this.buffer = ByteBuffer.wrap(bytes);
+        this.buffer.flip();
+        this.offset = offset;
+    }
+
+    /**
+     * Siguiente línea, o {@code null} al final del archivo.
+     */
+    String next() throws IOException {
+        tooLong = false;
+        while (true) {
+            int newline = indexOfNewline();
+            if (newline >= 0) {
+                return take(newline - buffer.position(), 1);
+            }
+            if (eof) {
+                return buffer.hasRemaining() ? take(buffer.remaining(), 0) : null;
+            }
+            if (buffer.remaining() == bytes.length) {
+                skipLine();
+                tooLong = true;
+                return "";
+            }
+            fill();
+        }
+    }
+
+    boolean lastTooLong() {
+        return tooLong;
+    }
+
+    /**
+     * Bytes del archivo consumidos hasta el final de la última línea devuelta.
+     */
+    long offset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private String take(int length, int separator) {
+        int start = buffer.position();
+        int end = start + length;
+        if (end > start && bytes[end - 1] == '\r') {
+            end--;
+        }
+        String line = new String(bytes, start, end - start, StandardCharsets.UTF_8);
+        buffer.position(start + length + separator);
+        offset += length + separator;
+        return line;
+    }
+
+    private void skipLine() throws IOException {
+        while (true) {
+            int newline = indexOfNewline();
+            if (newline >= 0) {
+                offset += newline - buffer.position() + 1;
+                buffer.position(newline + 1);
+                return;
+            }
+            offset += buffer.remaining();
+            buffer.position(buffer.limit());
+            if (eof) {
+                return;
+            }
+            fill();
+        }
+    }
+
+    private void fill() throws IOException {
+        buffer.compact();
+        if (channel.read(buffer) < 0) {
+            eof = true;
+        }
+        buffer.flip();
+    }
+
+    private int indexOfNewline() {
+        for (int i = buffer.position(); i < buffer.limit(); i++) {
+            if (bytes[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,18 @@
+package org.banking.accountms.service.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AccountCreationEvent.NAME)
+@Label("Creación de cuenta")
+public class AccountCreationEvent extends AccountPipelineEvent {
+
+    public static final String NAME = "org.banking.accountms.AccountCreation";
+
+    @Label("ID de cliente")
+    long clientId;
+
+    public AccountCreationEvent(Long clientId) {
+        this.clientId = clientId == null ? 0 : clientId;
+    }
+}
@@ -0,0 +1,18 @@
+package org.banking.accountms.service.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AccountNumberGenerationEvent.NAME)
+@Label("Generación de número de cuenta")
+public class AccountNumberGenerationEvent extends AccountPipelineEvent {
+
+    public static final String NAME = "org.banking.accountms.AccountNumberGeneration";
+
+    @Label("Intentos")
+    int attempts;
+
+    public void attempt() {
+        attempts++;
+    }
+}
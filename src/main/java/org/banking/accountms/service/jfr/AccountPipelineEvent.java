@@ -0,0 +1,58 @@
+package org.banking.accountms.service.jfr;
+
+import javax.validation.ValidationException;
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.AccountType;
+
+/**
+ * Base de los eventos JFR del flujo de creación de cuentas. Vienen deshabilitados y solo se graban con el
+ * perfil {@code jfr/accountms.jfc}; mientras ninguna grabación los activa, {@code begin}, {@code end} y
+ * {@code shouldCommit} no hacen nada y los campos no se rellenan.
+ */
+@Enabled(false)
+@StackTrace(false)
+@Category({"AccountMS", "Creación de cuentas"})
+public abstract class AccountPipelineEvent extends Event {
+
+    public static final String OK = "OK";
+    public static final String REJECTED = "REJECTED";
+    public static final String ERROR = "ERROR";
+
+    @Label("Tipo de cuenta")
+    String accountType;
+
+    @Label("Resultado")
+    String outcome;
+
+    /**
+     * Cierra el evento con el resultado que corresponde a la excepción ({@code null} si terminó bien).
+     */
+    public void finish(AccountType type, Throwable failure) {
+        finish(type, outcomeOf(failure));
+    }
+
+    public void finish(AccountType type, String result) {
+        end();
+        if (shouldCommit()) {
+            accountType = type == null ? null : type.name();
+            outcome = result;
+            commit();
+        }
+    }
+
+    static String outcomeOf(Throwable failure) {
+        if (failure == null) {
+            return OK;
+        }
+        if (failure instanceof IllegalArgumentException || failure instanceof ValidationException
+                || failure instanceof ResourceNotFoundException) {
+            return REJECTED;
+        }
+        return ERROR;
+    }
+}
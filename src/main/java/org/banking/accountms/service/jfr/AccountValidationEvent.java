@@ -0,0 +1,11 @@
+package org.banking.accountms.service.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(AccountValidationEvent.NAME)
+@Label("Validación de la solicitud")
+public class AccountValidationEvent extends AccountPipelineEvent {
+
+    public static final String NAME = "org.banking.accountms.AccountValidation";
+}
@@ -0,0 +1,23 @@
+package org.banking.accountms.service.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Llamada al servicio de clientes. Resultado FOUND, NOT_FOUND o ERROR.
+ */
+@Name(ClientLookupEvent.NAME)
+@Label("Consulta de cliente")
+public class ClientLookupEvent extends AccountPipelineEvent {
+
+    public static final String NAME = "org.banking.accountms.ClientLookup";
+    public static final String FOUND = "FOUND";
+    public static final String NOT_FOUND = "NOT_FOUND";
+
+    @Label("ID de cliente")
+    long clientId;
+
+    public ClientLookupEvent(Long clientId) {
+        this.clientId = clientId == null ? 0 : clientId;
+    }
+}
@@ -0,0 +1,87 @@
+package org.banking.accountms.service.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Resume por etapa los eventos de creación de cuentas de una grabación JFR: número de eventos, tiempo total
+ * y percentiles de duración por etapa, operación y resultado. Se ejecuta fuera de la aplicación:
+ * {@code scripts/jfr-summary.sh grabacion.jfr}.
+ */
+public final class JfrStageSummary {
+
+    static final String EVENT_PREFIX = "org.banking.accountms.";
+
+    private JfrStageSummary() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Uso: JfrStageSummary <grabación.jfr>");
+            System.exit(2);
+        }
+        System.out.print(summarize(Paths.get(args[0])));
+    }
+
+    static String summarize(Path recording) throws IOException {
+        Map<String, Stage> stages = new TreeMap<>();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                RecordedEvent event = file.readEvent();
+                String name = event.getEventType().getName();
+                if (!name.startsWith(EVENT_PREFIX)) {
+                    continue;
+                }
+                String key = name.substring(EVENT_PREFIX.length())
+                        + (event.hasField("operation") ? " " + event.getString("operation") : "")
+                        + " [" + event.getString("outcome") + "]";
+                Stage stage = stages.computeIfAbsent(key, k -> new Stage());
+                stage.add(event.getDuration().toNanos(), event.hasField("attempts") ? event.getInt("attempts") : 0);
+            }
+        }
+
+        StringBuilder out = new StringBuilder(String.format("%-60s %8s %10s %9s %9s %9s %9s%n",
+                "Etapa [resultado]", "eventos", "total ms", "p50 ms", "p99 ms", "máx ms", "intentos"));
+        stages.forEach((key, stage) -> out.append(String.format("%-60s %8d %10.1f %9.3f %9.3f %9.3f %9s%n",
+                key, stage.count, stage.totalNanos() / 1e6, stage.percentile(50) / 1e6, stage.percentile(99) / 1e6,
+                stage.percentile(100) / 1e6,
+                stage.attempts == 0 ? "" : String.format("%.2f", stage.attempts / (double) stage.count))));
+        return out.toString();
+    }
+
+    private static final class Stage {
+        private long[] durations = new long[64];
+        private int count;
+        private long attempts;
+
+        void add(long nanos, int eventAttempts) {
+            if (count == durations.length) {
+                durations = Arrays.copyOf(durations, count * 2);
+            }
+            durations[count++] = nanos;
+            attempts += eventAttempts;
+        }
+
+        long totalNanos() {
+            long total = 0;
+            for (int i = 0; i < count; i++) {
+                total += durations[i];
+            }
+            return total;
+        }
+
+        long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(durations, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(index, count - 1))];
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.banking.accountms.service.jfr;
+
+import java.util.function.Supplier;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.banking.accountms.model.AccountType;
+
+/**
+ * Acceso a base de datos dentro de la creación de una cuenta; {@code operation} indica tabla y operación.
+ */
+@Name(RepositoryCallEvent.NAME)
+@Label("Llamada a repositorio")
+public class RepositoryCallEvent extends AccountPipelineEvent {
+
+    public static final String NAME = "org.banking.accountms.RepositoryCall";
+
+    @Label("Operación")
+    String operation;
+
+    public RepositoryCallEvent(String operation) {
+        this.operation = operation;
+    }
+
+    public static <T> T record(String operation, AccountType type, Supplier<T> call) {
+        RepositoryCallEvent event = new RepositoryCallEvent(operation);
+        event.begin();
+        Throwable failure = null;
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            event.finish(type, failure);
+        }
+    }
+}
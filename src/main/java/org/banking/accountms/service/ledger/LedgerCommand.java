@@ -0,0 +1,38 @@
+package org.banking.accountms.service.ledger;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.banking.accountms.model.MovementType;
+
+/**
+ * Celda reutilizable del ring buffer. El productor la rellena entre {@code tryClaim} y {@code publish};
+ * el hilo del motor la lee hasta liberarla. Un depósito o retiro, o una acción exclusiva
+ * ({@link LedgerEngine#exclusive}) si {@code action} no es null.
+ */
+final class LedgerCommand {
+
+    MovementType type;
+    long accountId;
+    long amountCents;
+    Supplier<?> action;
+    Collection<Long> reload;
+    CompletableFuture<Object> result;
+
+    void set(MovementType type, long accountId, long amountCents) {
+        this.type = type;
+        this.accountId = accountId;
+        this.amountCents = amountCents;
+    }
+
+    void setExclusive(Supplier<?> action, Collection<Long> reload) {
+        this.action = action;
+        this.reload = reload;
+    }
+
+    void clear() {
+        this.action = null;
+        this.reload = null;
+        this.result = null;
+    }
+}
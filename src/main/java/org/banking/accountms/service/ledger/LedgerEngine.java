@@ -0,0 +1,585 @@
+package org.banking.accountms.service.ledger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.validation.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.LedgerProperties;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.mapper.AccountMapper;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.MovementType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+/**
+ * Motor de ledger de un solo escritor (opcional, {@code account.ledger.enabled=true}). Es dueño de los saldos
+ * de las cuentas que toca: los depósitos y retiros entran por un {@link LedgerRingBuffer} sin locks y un único
+ * hilo los aplica en memoria con las reglas de {@link Account#deposit} y {@link Account#withdraw}, sin
+ * consultar la base de datos por comando.
+ *
+ * <p>Durabilidad: cada lote de comandos aplicados se añade al {@link LedgerJournal} con un solo fsync antes
+ * de responder. Otro hilo escribe en {@code accounts} y {@code account_movements} por lotes, junto con el
+ * checkpoint de la última secuencia escrita; al arrancar se reaplica el journal posterior al checkpoint.</p>
+ *
+ * <p>Cambios externos: los cambios de estado, borrados, particiones y bloques de movimientos en lote de esta
+ * instancia pasan por el ring como acciones exclusivas ({@link #exclusive}), así que no se cruzan con los
+ * comandos y ven en la base de datos todo lo que el motor ya aplicó. El resto (intereses, importaciones, otras
+ * instancias) llega por {@link LedgerInvalidations} después del commit y el motor recarga esas cuentas; hasta
+ * entonces puede aplicar algún comando sobre el estado anterior. Las cuentas con particiones de saldo no admiten
+ * movimientos del motor.</p>
+ *
+ * <p>En memoria se guardan como mucho {@code max-cached-accounts} cuentas; las menos usadas se descartan cuando
+ * ya no tienen movimientos sin escribir y se recargan si vuelven a usarse.</p>
+ */
+@Slf4j
+@Service
+@Lazy(false)
+@ConditionalOnProperty(prefix = "account.ledger", name = "enabled", havingValue = "true")
+public class LedgerEngine {
+
+    private static final int SPIN_TRIES = 100;
+    private static final int YIELD_TRIES = 200;
+    private static final long PARK_NANOS = 50_000;
+    private static final long RETRY_DELAY_MS = 1_000;
+
+    private final LedgerProperties properties;
+    private final LedgerStore store;
+    private final LedgerInvalidations invalidations;
+    private final LedgerRingBuffer ring;
+    private final BlockingQueue<LedgerFlush> flushes;
+    private final AtomicLong persistedSequence = new AtomicLong();
+
+    // Estado del hilo del motor: no se comparte con otros hilos.
+    private final Map<Long, Loaded> accounts = new LinkedHashMap<>(16, 0.75f, true);
+    private final Set<Long> staleAccounts = new HashSet<>();
+    private final Map<Long, Account> dirty = new LinkedHashMap<>();
+    private final List<LedgerEntry> pending = new ArrayList<>();
+    private final Object[] outcomes;
+    private long sequence;
+    private long lastFlushNanos;
+
+    private LedgerJournal journal;
+    private Thread engineThread;
+    private Thread persisterThread;
+    private volatile boolean running;
+
+    public LedgerEngine(LedgerProperties properties, LedgerStore store, LedgerInvalidations invalidations) {
+        this.properties = properties;
+        this.store = store;
+        this.invalidations = invalidations;
+        this.ring = new LedgerRingBuffer(properties.getRingSize());
+        this.flushes = new ArrayBlockingQueue<>(properties.getFlushQueueSize());
+        this.outcomes = new Object[properties.getRingSize()];
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        journal = new LedgerJournal(Paths.get(properties.getJournalPath()), properties.isFsync(), ring.capacity());
+        recover();
+        running = true;
+        lastFlushNanos = System.nanoTime();
+        engineThread = new Thread(this::runEngine, "ledger-engine");
+        persisterThread = new Thread(() -> {
+            invalidations.muteCurrentThread();
+            runPersister();
+        }, "ledger-persister");
+        engineThread.start();
+        persisterThread.start();
+        log.info("Motor de ledger iniciado en la secuencia {} (journal {})", sequence, properties.getJournalPath());
+    }
+
+    /**
+     * Deja de aceptar comandos, aplica los ya publicados y espera a que el último lote llegue a la base de datos.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException, IOException {
+        running = false;
+        engineThread.join();
+        persisterThread.join();
+        if (persistedSequence.get() == sequence) {
+            journal.truncate();
+        }
+        journal.close();
+        log.info("Motor de ledger detenido en la secuencia {} (persistida {})", sequence, persistedSequence.get());
+    }
+
+    public AccountResponse deposit(Long accountId, BigDecimal amount) {
+        return submit(MovementType.DEPOSIT, accountId, amount);
+    }
+
+    public AccountResponse withdraw(Long accountId, BigDecimal amount) {
+        return submit(MovementType.WITHDRAWAL, accountId, amount);
+    }
+
+    /**
+     * Ejecuta {@code action} en el hilo del motor, entre dos comandos: antes espera a que todo lo aplicado esté
+     * escrito en la base de datos y después descarta de memoria las cuentas indicadas ({@code null}: todas), que
+     * se recargan con lo que haya dejado la acción. La acción abre sus propias transacciones y puede durar más
+     * que {@code command-timeout-ms}, así que aquí se espera a que termine.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T exclusive(Collection<Long> accountIds, Supplier<T> action) {
+        if (Thread.currentThread() == engineThread) {
+            return action.get();
+        }
+        return (T) enqueue(command -> command.setExclusive(action, accountIds), false);
+    }
+
+    /**
+     * Última secuencia cuyos efectos ya están en la base de datos.
+     */
+    public long persistedSequence() {
+        return persistedSequence.get();
+    }
+
+    private AccountResponse submit(MovementType type, Long accountId, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException(Messages.AMOUNT_MUST_BE_POSITIVE);
+        }
+        long cents;
+        try {
+            cents = amount.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException(Messages.INVALID_AMOUNT_SCALE);
+        }
+        return (AccountResponse) enqueue(command -> command.set(type, accountId, cents), true);
+    }
+
+    private Object enqueue(Consumer<LedgerCommand> fill, boolean timed) {
+        long claimed = running ? ring.tryClaim() : -1;
+        if (claimed < 0) {
+            throw new ServiceOverloadedException(Messages.SERVICE_OVERLOADED);
+        }
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        LedgerCommand command = ring.slot(claimed);
+        fill.accept(command);
+        command.result = result;
+        ring.publish(claimed);
+
+        try {
+            return timed ? result.get(properties.getCommandTimeoutMs(), TimeUnit.MILLISECONDS) : result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new ServiceOverloadedException(Messages.LEDGER_RESULT_UNKNOWN);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(Messages.LEDGER_RESULT_UNKNOWN, e);
+        }
+    }
+
+    private void runEngine() {
+        invalidations.muteCurrentThread();
+        long next = 0;
+        int idle = 0;
+        while (true) {
+            dropStaleAccounts();
+            long last = ring.highestPublished(next);
+            if (last < next) {
+                if (!running && ring.isEmpty()) {
+                    break;
+                }
+                flushIfDue(false);
+                idle = backOff(idle);
+                continue;
+            }
+            idle = 0;
+            processBatch(next, last);
+            next = last + 1;
+            flushIfDue(false);
+        }
+        flushIfDue(true);
+    }
+
+    /**
+     * Procesa las secuencias {@code from..to}: los tramos de depósitos y retiros con un único fsync cada uno y las
+     * acciones exclusivas en orden entre ellos.
+     */
+    private void processBatch(long from, long to) {
+        long start = from;
+        for (long seq = from; seq <= to; seq++) {
+            LedgerCommand command = ring.slot(seq);
+            if (command.action != null) {
+                if (seq > start) {
+                    applyMovements(start, seq - 1);
+                }
+                runExclusive(command);
+                start = seq + 1;
+            }
+        }
+        if (start <= to) {
+            applyMovements(start, to);
+        }
+        ring.release(to);
+    }
+
+    /**
+     * Aplica las secuencias {@code from..to}, las añade al journal con un único fsync y solo entonces responde.
+     */
+    private void applyMovements(long from, long to) {
+        long syncedSequence = sequence;
+        LocalDateTime now = LocalDateTime.now();
+        for (long seq = from; seq <= to; seq++) {
+            outcomes[(int) (seq - from)] = apply(ring.slot(seq), now);
+        }
+        RuntimeException journalError = null;
+        try {
+            journal.sync();
+        } catch (IOException e) {
+            // Los comandos del lote no quedan confirmados: no se escriben ni se aceptan más.
+            log.error("No se pudo escribir el journal del ledger; el motor deja de aceptar comandos", e);
+            journalError = new UncheckedIOException(e);
+            discardUnsynced(syncedSequence);
+            running = false;
+        }
+        for (long seq = from; seq <= to; seq++) {
+            LedgerCommand command = ring.slot(seq);
+            Object outcome = outcomes[(int) (seq - from)];
+            outcomes[(int) (seq - from)] = null;
+            complete(command, journalError != null ? journalError : outcome);
+        }
+    }
+
+    /**
+     * Deshace en memoria y en el journal los comandos posteriores a {@code syncedSequence}: se responden con error
+     * y no deben escribirse ni reaplicarse al arrancar.
+     */
+    private void discardUnsynced(long syncedSequence) {
+        for (int i = pending.size() - 1; i >= 0 && pending.get(i).getSequence() > syncedSequence; i--) {
+            LedgerEntry entry = pending.remove(i);
+            Loaded loaded = accounts.get(entry.getAccountId());
+            loaded.account.setBalance(loaded.account.getBalance().subtract(entry.getAmount()));
+        }
+        sequence = syncedSequence;
+        try {
+            journal.discardUnsynced();
+        } catch (IOException e) {
+            log.error("No se pudo descartar el final del journal del ledger; revisar antes de reiniciar", e);
+        }
+    }
+
+    private void runExclusive(LedgerCommand command) {
+        Object outcome;
+        if (!awaitPersisted()) {
+            outcome = new ServiceOverloadedException(Messages.SERVICE_OVERLOADED);
+        } else {
+            try {
+                outcome = command.action.get();
+            } catch (RuntimeException e) {
+                outcome = e;
+            } finally {
+                // También si falla: la acción pudo confirmar parte de sus cambios.
+                reload(command.reload);
+            }
+        }
+        complete(command, outcome);
+    }
+
+    private static void complete(LedgerCommand command, Object outcome) {
+        if (outcome instanceof RuntimeException) {
+            command.result.completeExceptionally((RuntimeException) outcome);
+        } else {
+            command.result.complete(outcome);
+        }
+        command.clear();
+    }
+
+    /**
+     * Manda a escribir lo pendiente y espera a que la base de datos lo tenga, como mucho {@code command-timeout-ms}.
+     */
+    private boolean awaitPersisted() {
+        if (!pending.isEmpty()) {
+            enqueueFlush();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getCommandTimeoutMs());
+        while (persistedSequence.get() < sequence) {
+            if (System.nanoTime() - deadline > 0) {
+                return false;
+            }
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return true;
+    }
+
+    /**
+     * Solo tras {@link #awaitPersisted}: ninguna de estas cuentas tiene movimientos sin escribir.
+     */
+    private void reload(Collection<Long> accountIds) {
+        if (accountIds == null) {
+            accounts.clear();
+            staleAccounts.clear();
+        } else {
+            accountIds.forEach(accounts::remove);
+            staleAccounts.removeAll(accountIds);
+        }
+    }
+
+    /**
+     * Descarta las cuentas que cambiaron fuera del motor; las que aún tienen movimientos sin escribir esperan,
+     * porque la base de datos todavía no los refleja.
+     */
+    private void dropStaleAccounts() {
+        Long changed;
+        while ((changed = invalidations.poll()) != null) {
+            if (changed == LedgerInvalidations.ALL) {
+                staleAccounts.addAll(accounts.keySet());
+            } else if (accounts.containsKey(changed)) {
+                staleAccounts.add(changed);
+            }
+        }
+        if (!staleAccounts.isEmpty()) {
+            long persisted = persistedSequence.get();
+            staleAccounts.removeIf(accountId -> {
+                Loaded loaded = accounts.get(accountId);
+                if (loaded != null && loaded.lastSequence > persisted) {
+                    return false;
+                }
+                accounts.remove(accountId);
+                return true;
+            });
+        }
+    }
+
+    /**
+     * Descarta las cuentas menos usadas por encima de {@code max-cached-accounts}, salvo las que tienen
+     * movimientos sin escribir.
+     */
+    private void trimAccounts() {
+        int excess = accounts.size() - properties.getMaxCachedAccounts();
+        if (excess <= 0) {
+            return;
+        }
+        long persisted = persistedSequence.get();
+        Iterator<Loaded> eldest = accounts.values().iterator();
+        while (excess > 0 && eldest.hasNext()) {
+            if (eldest.next().lastSequence <= persisted) {
+                eldest.remove();
+                excess--;
+            }
+        }
+    }
+
+    private Object apply(LedgerCommand command, LocalDateTime now) {
+        try {
+            Loaded loaded = account(command.accountId);
+            if (loaded == null) {
+                return new ResourceNotFoundException(Messages.ACCOUNT_NOT_FOUND);
+            }
+            Account account = loaded.account;
+            if (!account.isActive()) {
+                return new ValidationException(Messages.ACCOUNT_INACTIVE);
+            }
+            if (account.getBalanceStripes() > 0) {
+                return new ValidationException(Messages.LEDGER_STRIPED_ACCOUNT);
+            }
+            BigDecimal amount = BigDecimal.valueOf(command.amountCents, 2);
+            BigDecimal signed;
+            if (command.type == MovementType.DEPOSIT) {
+                account.deposit(amount);
+                signed = amount;
+            } else {
+                account.withdraw(amount);
+                signed = amount.negate();
+            }
+            sequence++;
+            loaded.lastSequence = sequence;
+            journal.append(sequence, account.getId(), signed.movePointRight(2).longValueExact(), command.type);
+            pending.add(new LedgerEntry(sequence, account.getId(), signed, account.getBalance(), command.type, now));
+            dirty.put(account.getId(), account);
+            return AccountMapper.toResponse(account);
+        } catch (IOException e) {
+            return new UncheckedIOException(e);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    private Loaded account(long accountId) {
+        Loaded loaded = accounts.get(accountId);
+        if (loaded == null) {
+            loaded = store.load(accountId).map(Loaded::new).orElse(null);
+            if (loaded != null) {
+                accounts.put(accountId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void flushIfDue(boolean force) {
+        if (!pending.isEmpty() && (force || pending.size() >= properties.getFlushBatchSize()
+                || System.nanoTime() - lastFlushNanos >= TimeUnit.MILLISECONDS.toNanos(properties.getFlushIntervalMs()))) {
+            enqueueFlush();
+        }
+        truncateJournalIfPersisted();
+        trimAccounts();
+    }
+
+    private void enqueueFlush() {
+        try {
+            flushes.put(takeFlush());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private LedgerFlush takeFlush() {
+        LedgerFlush flush = new LedgerFlush(new ArrayList<>(pending),
+                dirty.values().stream().map(LedgerEngine::copyOf).collect(Collectors.toList()),
+                pending.get(pending.size() - 1).getSequence());
+        pending.clear();
+        dirty.clear();
+        lastFlushNanos = System.nanoTime();
+        return flush;
+    }
+
+    private void truncateJournalIfPersisted() {
+        try {
+            if (pending.isEmpty() && persistedSequence.get() == sequence
+                    && journal.size() > properties.getJournalMaxBytes()) {
+                journal.truncate();
+            }
+        } catch (IOException e) {
+            log.warn("No se pudo truncar el journal del ledger", e);
+        }
+    }
+
+    private void runPersister() {
+        while (true) {
+            LedgerFlush flush;
+            try {
+                flush = flushes.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (flush != null) {
+                persist(flush);
+            } else if (!engineThread.isAlive() && flushes.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reintenta hasta que el lote se escribe; al detenerse se rinde tras un intento, porque el journal
+     * conserva los comandos y se reaplicarán al arrancar.
+     */
+    private void persist(LedgerFlush flush) {
+        while (true) {
+            try {
+                store.write(properties.getNodeId(), flush);
+                persistedSequence.set(flush.getLastSequence());
+                return;
+            } catch (RuntimeException e) {
+                log.error("No se pudo escribir el lote del ledger hasta la secuencia {}", flush.getLastSequence(), e);
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MS));
+            }
+        }
+    }
+
+    /**
+     * Reaplica los registros del journal posteriores al checkpoint sobre los saldos de la base de datos
+     * y los escribe antes de aceptar comandos nuevos.
+     */
+    private void recover() throws IOException {
+        long checkpoint = store.lastSequence(properties.getNodeId());
+        sequence = checkpoint;
+        LocalDateTime now = LocalDateTime.now();
+        for (LedgerJournal.Record record : journal.recovered()) {
+            sequence = Math.max(sequence, record.getSequence());
+            if (record.getSequence() <= checkpoint) {
+                continue;
+            }
+            Loaded loaded = account(record.getAccountId());
+            if (loaded == null) {
+                log.warn("Cuenta {} del journal del ledger ya no existe; se omite la secuencia {}",
+                        record.getAccountId(), record.getSequence());
+                continue;
+            }
+            Account account = loaded.account;
+            loaded.lastSequence = record.getSequence();
+            BigDecimal amount = BigDecimal.valueOf(record.getAmountCents(), 2);
+            account.setBalance(account.getBalance().add(amount));
+            pending.add(new LedgerEntry(record.getSequence(), account.getId(), amount, account.getBalance(),
+                    record.getType(), now));
+            dirty.put(account.getId(), account);
+        }
+        if (!pending.isEmpty()) {
+            int replayed = pending.size();
+            store.write(properties.getNodeId(), takeFlush());
+            log.info("Ledger recuperado: {} comandos reaplicados desde la secuencia {}", replayed, checkpoint);
+        }
+        persistedSequence.set(sequence);
+        journal.truncate();
+    }
+
+    private static int backOff(int idle) {
+        if (idle < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else if (idle < YIELD_TRIES) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+        return idle + 1;
+    }
+
+    /**
+     * Cuenta en memoria y la última secuencia que la tocó: mientras no esté escrita la cuenta no puede recargarse.
+     */
+    private static final class Loaded {
+        final Account account;
+        long lastSequence;
+
+        Loaded(Account account) {
+            this.account = account;
+        }
+    }
+
+    private static Account copyOf(Account account) {
+        return Account.builder()
+                .id(account.getId())
+                .accountNumber(account.getAccountNumber())
+                .balance(account.getBalance())
+                .type(account.getType())
+                .clientId(account.getClientId())
+                .active(account.isActive())
+                .build();
+    }
+}
@@ -0,0 +1,19 @@
+package org.banking.accountms.service.ledger;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import lombok.Value;
+import org.banking.accountms.model.MovementType;
+
+/**
+ * Comando ya aplicado en memoria, pendiente de escribirse como movimiento.
+ */
+@Value
+public class LedgerEntry {
+    long sequence;
+    long accountId;
+    BigDecimal amount;
+    BigDecimal resultingBalance;
+    MovementType type;
+    LocalDateTime createdAt;
+}
@@ -0,0 +1,16 @@
+package org.banking.accountms.service.ledger;
+
+import java.util.List;
+import lombok.Value;
+import org.banking.accountms.model.Account;
+
+/**
+ * Lote de escritura del motor: movimientos aplicados, copia de las cuentas que cambiaron y la última
+ * secuencia del journal que cubre. Se escribe entero o nada.
+ */
+@Value
+public class LedgerFlush {
+    List<LedgerEntry> entries;
+    List<Account> accounts;
+    long lastSequence;
+}
@@ -0,0 +1,43 @@
+package org.banking.accountms.service.ledger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.banking.accountms.service.cache.AccountChangeListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cuentas que cambiaron fuera del {@link LedgerEngine} después del commit: SQL directo de jobs y lotes de esta
+ * instancia o cambios de otras instancias. El motor la vacía en su hilo y recarga esas cuentas de la base de
+ * datos en cuanto no tienen movimientos suyos sin escribir. Va aparte del motor para no cerrar un ciclo con
+ * {@link org.banking.accountms.service.cache.AccountCacheInvalidator}, del que depende {@link LedgerStore}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.ledger", name = "enabled", havingValue = "true")
+public class LedgerInvalidations implements AccountChangeListener {
+
+    static final long ALL = Long.MIN_VALUE;
+
+    /** Los hilos del motor ya conocen sus propias escrituras. */
+    private static final ThreadLocal<Boolean> MUTED = ThreadLocal.withInitial(() -> false);
+
+    private final Queue<Long> changed = new ConcurrentLinkedQueue<>();
+
+    @Override
+    public void accountsChanged(Long accountId) {
+        if (!MUTED.get()) {
+            changed.add(accountId == null ? ALL : accountId);
+        }
+    }
+
+    void muteCurrentThread() {
+        MUTED.set(true);
+    }
+
+    /**
+     * Siguiente cuenta cambiada, {@link #ALL} si pudieron cambiar todas o {@code null} si no queda ninguna.
+     */
+    Long poll() {
+        return changed.poll();
+    }
+}
@@ -0,0 +1,154 @@
+package org.banking.accountms.service.ledger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.model.MovementType;
+
+/**
+ * Journal de solo escritura al final con los comandos ya aplicados por el motor. Cada registro ocupa
+ * {@value #RECORD_BYTES} bytes (secuencia, cuenta, importe en céntimos con signo, tipo y CRC32), así que un
+ * registro a medio escribir tras una caída se detecta y se descarta al reabrir.
+ */
+@Slf4j
+final class LedgerJournal implements Closeable {
+
+    static final int RECORD_BYTES = 32;
+    private static final int PAYLOAD_BYTES = 28;
+    private static final MovementType[] TYPES = MovementType.values();
+
+    private final FileChannel channel;
+    private final boolean fsync;
+    private final ByteBuffer buffer;
+    private final List<Record> recovered;
+    private long syncedBytes;
+
+    LedgerJournal(Path path, boolean fsync, int bufferedRecords) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.fsync = fsync;
+        this.buffer = ByteBuffer.allocateDirect(bufferedRecords * RECORD_BYTES);
+        this.recovered = readValidRecords();
+        long validBytes = (long) recovered.size() * RECORD_BYTES;
+        if (channel.size() > validBytes) {
+            log.warn("Journal del ledger con {} bytes finales inválidos; se descartan", channel.size() - validBytes);
+            channel.truncate(validBytes);
+        }
+        channel.position(validBytes);
+        this.syncedBytes = validBytes;
+    }
+
+    /**
+     * Registros válidos encontrados al abrir el archivo, en orden de escritura.
+     */
+    List<Record> recovered() {
+        return recovered;
+    }
+
+    void append(long sequence, long accountId, long amountCents, MovementType type) throws IOException {
+        if (buffer.remaining() < RECORD_BYTES) {
+            write();
+        }
+        int start = buffer.position();
+        buffer.putLong(sequence).putLong(accountId).putLong(amountCents)
+                .put((byte) type.ordinal()).put((byte) 0).put((byte) 0).put((byte) 0);
+        buffer.putInt(crcOf(buffer, start));
+    }
+
+    /**
+     * Escribe lo pendiente y, si está configurado, fuerza el fsync: un fsync por lote de comandos.
+     */
+    void sync() throws IOException {
+        write();
+        if (fsync) {
+            channel.force(false);
+        }
+        syncedBytes = channel.position();
+    }
+
+    /**
+     * Tras un fallo de {@link #sync}: descarta lo escrito desde el último sync correcto, para que al reabrir no
+     * se reapliquen comandos que ya se respondieron con error.
+     */
+    void discardUnsynced() throws IOException {
+        buffer.clear();
+        channel.truncate(syncedBytes);
+        channel.position(syncedBytes);
+    }
+
+    long size() throws IOException {
+        return channel.size();
+    }
+
+    void truncate() throws IOException {
+        write();
+        channel.truncate(0);
+        channel.position(0);
+        syncedBytes = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        sync();
+        channel.close();
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private List<Record> readValidRecords() throws IOException {
+        List<Record> records = new ArrayList<>();
+        ByteBuffer record = ByteBuffer.allocate(RECORD_BYTES);
+        long position = 0;
+        while (true) {
+            record.clear();
+            while (record.hasRemaining()) {
+                if (channel.read(record, position + record.position()) <= 0) {
+                    break;
+                }
+            }
+            if (record.hasRemaining() || record.getInt(PAYLOAD_BYTES) != crcOf(record, 0)) {
+                return records;
+            }
+            int type = record.get(24);
+            if (type < 0 || type >= TYPES.length) {
+                return records;
+            }
+            records.add(new Record(record.getLong(0), record.getLong(8), record.getLong(16), TYPES[type]));
+            position += RECORD_BYTES;
+        }
+    }
+
+    private static int crcOf(ByteBuffer source, int start) {
+        CRC32 crc = new CRC32();
+        ByteBuffer payload = source.duplicate();
+        payload.limit(start + PAYLOAD_BYTES).position(start);
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    @Value
+    static class Record {
+        long sequence;
+        long accountId;
+        long amountCents;
+        MovementType type;
+    }
+}
@@ -0,0 +1,82 @@
+package org.banking.accountms.service.ledger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Ring buffer de capacidad fija con varios productores y un único consumidor, sin locks: los productores
+ * reservan una secuencia con CAS, rellenan la celda y la publican escribiendo su secuencia en
+ * {@code published}; el consumidor avanza mientras la siguiente celda esté publicada. Las celdas se
+ * reservan una vez y se reutilizan, así que el camino caliente no crea objetos para el buffer.
+ */
+final class LedgerRingBuffer {
+
+    private final LedgerCommand[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private final AtomicLong released = new AtomicLong(-1);
+
+    LedgerRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("La capacidad del ring buffer debe ser potencia de 2: " + capacity);
+        }
+        this.slots = new LedgerCommand[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new LedgerCommand();
+            published.set(i, -1);
+        }
+    }
+
+    /**
+     * Reserva la siguiente secuencia, o -1 si el buffer está lleno (el consumidor no ha liberado la vuelta anterior).
+     */
+    long tryClaim() {
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            if (next - slots.length > released.get()) {
+                return -1;
+            }
+            if (claimed.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    LedgerCommand slot(long sequence) {
+        return slots[(int) sequence & mask];
+    }
+
+    void publish(long sequence) {
+        published.set((int) sequence & mask, sequence);
+    }
+
+    /**
+     * Última secuencia publicada de forma contigua a partir de {@code from}; {@code from - 1} si aún no hay ninguna.
+     */
+    long highestPublished(long from) {
+        long sequence = from;
+        while (published.get((int) sequence & mask) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    /**
+     * El consumidor terminó con todas las celdas hasta {@code sequence}; los productores pueden reutilizarlas.
+     */
+    void release(long sequence) {
+        released.set(sequence);
+    }
+
+    boolean isEmpty() {
+        return released.get() == claimed.get();
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
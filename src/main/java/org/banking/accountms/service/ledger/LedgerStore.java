@@ -0,0 +1,109 @@
+package org.banking.accountms.service.ledger;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountEventPublisher;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Acceso a base de datos del motor de ledger: carga de cuentas, checkpoint y escritura por lotes.
+ * Los saldos se escriben como incrementos ({@code balance = balance + ?}), así que no pisan otros
+ * cambios hechos fuera del motor.
+ */
+@Component
+@ConditionalOnProperty(prefix = "account.ledger", name = "enabled", havingValue = "true")
+public class LedgerStore {
+
+    static final String LOAD_SQL =
+            "SELECT id, account_number, balance, type, client_id, active, balance_stripes FROM accounts WHERE id = ?";
+    static final String APPLY_SQL = "UPDATE accounts SET balance = balance + ? WHERE id = ?";
+    static final String MOVEMENT_SQL = "INSERT INTO account_movements "
+            + "(account_id, amount, resulting_balance, type, created_at) VALUES (?, ?, ?, ?, ?)";
+    static final String CHECKPOINT_SQL = "SELECT last_sequence FROM ledger_checkpoints WHERE node_id = ?";
+    static final String UPDATE_CHECKPOINT_SQL =
+            "UPDATE ledger_checkpoints SET last_sequence = ?, updated_at = ? WHERE node_id = ?";
+    static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO ledger_checkpoints (node_id, last_sequence, updated_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AccountEventPublisher eventPublisher;
+    private final AccountCacheInvalidator cacheInvalidator;
+
+    public LedgerStore(JdbcTemplate jdbcTemplate,
+                       PlatformTransactionManager transactionManager,
+                       AccountEventPublisher eventPublisher,
+                       AccountCacheInvalidator cacheInvalidator) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.cacheInvalidator = cacheInvalidator;
+    }
+
+    public Optional<Account> load(long accountId) {
+        return jdbcTemplate.query(LOAD_SQL, (rs, rowNum) -> Account.builder()
+                .id(rs.getLong("id"))
+                .accountNumber(rs.getString("account_number"))
+                .balance(rs.getBigDecimal("balance"))
+                .type(AccountType.valueOf(rs.getString("type")))
+                .clientId(rs.getLong("client_id"))
+                .active(rs.getBoolean("active"))
+                .balanceStripes(rs.getInt("balance_stripes"))
+                .build(), accountId).stream().findFirst();
+    }
+
+    public long lastSequence(String nodeId) {
+        List<Long> rows = jdbcTemplate.queryForList(CHECKPOINT_SQL, Long.class, nodeId);
+        return rows.isEmpty() ? 0 : rows.get(0);
+    }
+
+    /**
+     * Escribe el lote en una transacción: un UPDATE por cuenta con la suma de sus movimientos (en orden de
+     * ID), los movimientos, el checkpoint y un BALANCE_CHANGED por cuenta con su saldo final. Si alguna cuenta
+     * ya no existe el lote falla entero: sus movimientos ya se confirmaron al cliente y no se pueden perder.
+     */
+    public void write(String nodeId, LedgerFlush flush) {
+        Map<Long, BigDecimal> deltas = new TreeMap<>();
+        List<Object[]> movements = new ArrayList<>(flush.getEntries().size());
+        for (LedgerEntry entry : flush.getEntries()) {
+            deltas.merge(entry.getAccountId(), entry.getAmount(), BigDecimal::add);
+            movements.add(new Object[]{entry.getAccountId(), entry.getAmount(), entry.getResultingBalance(),
+                    entry.getType().name(), Timestamp.valueOf(entry.getCreatedAt())});
+        }
+        List<Object[]> updates = new ArrayList<>(deltas.size());
+        deltas.forEach((accountId, delta) -> updates.add(new Object[]{delta, accountId}));
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int[] applied = jdbcTemplate.batchUpdate(APPLY_SQL, updates);
+            for (int i = 0; i < applied.length; i++) {
+                if (applied[i] == 0) {
+                    throw new IllegalStateException("La cuenta " + updates.get(i)[1]
+                            + " se eliminó fuera del motor de ledger con movimientos confirmados sin escribir");
+                }
+            }
+            jdbcTemplate.batchUpdate(MOVEMENT_SQL, movements);
+            if (jdbcTemplate.update(UPDATE_CHECKPOINT_SQL, flush.getLastSequence(), now, nodeId) == 0) {
+                jdbcTemplate.update(INSERT_CHECKPOINT_SQL, nodeId, flush.getLastSequence(), now);
+            }
+            for (Account account : flush.getAccounts()) {
+                eventPublisher.publish(AccountEventType.BALANCE_CHANGED, account);
+                cacheInvalidator.evictAccount(account.getId());
+            }
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package org.banking.accountms.service.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.RateLimitProperties;
+import org.banking.accountms.exception.RateLimitExceededException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Limita la creación de cuentas por clientId y por llamante con un token bucket independiente
+ * para cada uno, de modo que un integrador que satura el endpoint no consume el cupo de los demás.
+ * Una petición rechazada por cualquiera de los dos no gasta permiso en el otro.
+ * La memoria está acotada: los buckets llenos (inactivos) se descartan y, por encima del máximo,
+ * las claves nuevas comparten un bucket de desborde.
+ */
+@Slf4j
+@Component
+public class AccountCreationRateLimiter {
+
+    private static final String OVERFLOW_KEY = "__overflow__";
+
+    private final RateLimitProperties properties;
+    private final LongSupplier clock;
+    private final Map<String, TokenBucket> clientBuckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> callerBuckets = new ConcurrentHashMap<>();
+
+    @Autowired
+    public AccountCreationRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    AccountCreationRateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public void acquire(Long clientId, String caller) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long now = clock.getAsLong();
+        TokenBucket callerBucket = bucket(callerBuckets, caller, properties.getCallerPermitsPerSecond(),
+                properties.getCallerBurst(), now);
+        TokenBucket clientBucket = clientId == null ? null : bucket(clientBuckets, clientId.toString(),
+                properties.getClientPermitsPerSecond(), properties.getClientBurst(), now);
+
+        long waitNanos = Math.max(callerBucket.waitNanos(now), clientBucket == null ? 0 : clientBucket.waitNanos(now));
+        if (waitNanos > 0) {
+            throw rejected(waitNanos);
+        }
+        // Entre la comprobación y el consumo otra petición puede llevarse el último permiso de un bucket.
+        waitNanos = callerBucket.tryAcquire(now);
+        if (waitNanos > 0) {
+            throw rejected(waitNanos);
+        }
+        if (clientBucket != null) {
+            waitNanos = clientBucket.tryAcquire(now);
+            if (waitNanos > 0) {
+                callerBucket.refund();
+                throw rejected(waitNanos);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${account.rate-limit.sweep-interval-ms:60000}")
+    public void evictIdle() {
+        long now = clock.getAsLong();
+        clientBuckets.values().removeIf(bucket -> bucket.isFull(now));
+        callerBuckets.values().removeIf(bucket -> bucket.isFull(now));
+    }
+
+    public int bucketCount() {
+        return clientBuckets.size() + callerBuckets.size();
+    }
+
+    private static RateLimitExceededException rejected(long waitNanos) {
+        return new RateLimitExceededException(Messages.RATE_LIMIT_EXCEEDED,
+                Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L)));
+    }
+
+    private TokenBucket bucket(Map<String, TokenBucket> buckets, String key,
+                               double permitsPerSecond, int burst, long now) {
+        TokenBucket existing = buckets.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (buckets.size() >= properties.getMaxBuckets()) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+            if (buckets.size() >= properties.getMaxBuckets()) {
+                log.warn("Límite de buckets alcanzado; la clave {} usa el bucket compartido", key);
+                key = OVERFLOW_KEY;
+            }
+        }
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(permitsPerSecond, burst, now));
+    }
+}
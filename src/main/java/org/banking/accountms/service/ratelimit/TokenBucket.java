@@ -0,0 +1,63 @@
+package org.banking.accountms.service.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket sin locks en su forma GCRA: todo el estado es el "tiempo teórico de llegada" (TAT)
+ * en un único AtomicLong, que se avanza con CAS. Con capacidad C y ritmo R admite ráfagas de C
+ * peticiones y luego R por segundo.
+ */
+public class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstWindowNanos;
+    private final AtomicLong theoreticalArrival;
+
+    public TokenBucket(double permitsPerSecond, int capacity, long nowNanos) {
+        if (permitsPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("El ritmo y la capacidad deben ser mayores que 0");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstWindowNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Intenta consumir un permiso. Devuelve 0 si se concedió o los nanos que faltan para que haya uno.
+     */
+    public long tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - nowNanos - burstWindowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Nanos que faltan para que haya un permiso, o 0 si lo hay, sin consumirlo.
+     */
+    public long waitNanos(long nowNanos) {
+        return Math.max(0, Math.max(theoreticalArrival.get(), nowNanos) + emissionIntervalNanos - nowNanos
+                - burstWindowNanos);
+    }
+
+    /**
+     * Devuelve un permiso concedido por {@link #tryAcquire} que al final no se usó.
+     */
+    public void refund() {
+        theoreticalArrival.addAndGet(-emissionIntervalNanos);
+    }
+
+    /**
+     * Un bucket lleno se comporta igual que uno nuevo, así que puede descartarse sin efecto visible.
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,329 @@
+package org.banking.accountms.service.readmodel;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.ReadModelProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.cache.AccountChangeListener;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Modelo de lectura de la tabla {@code accounts} fuera del heap ({@link AccountRecordStore}) para
+ * {@code GET /cuentas} y {@code GET /cuentas/clientes/{clientId}}. Opcional: con
+ * {@code account.read-model.enabled=false} esas consultas siguen yendo a la base de datos.
+ *
+ * <p>Se construye recorriendo la tabla por keyset en una tarea programada, así que no retrasa el arranque; hasta
+ * entonces {@link #isReady()} es {@code false}. Los eventos de cuenta se aplican al confirmarse su transacción,
+ * y las cuentas que cambian por otras vías (SQL directo, otras instancias) llegan por las mismas invalidaciones
+ * que la caché de segundo nivel y se releen de la base de datos cada {@code refresh-interval-ms}. Cada cuenta
+ * de un evento se relee también, por si dos eventos de la misma cuenta se aplicaron fuera de orden. Una
+ * invalidación de todas las cuentas (jobs batch) deja el modelo sin usar hasta reconstruirlo, como mucho una
+ * vez cada {@code rebuild-min-interval-ms}.</p>
+ */
+@Slf4j
+@Service
+public class AccountReadModel implements AccountChangeListener {
+
+    static final String COLUMNS = "SELECT id, account_number, balance, type, client_id, active FROM accounts ";
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM accounts";
+    static final String LOAD_SQL = COLUMNS + "WHERE id > :afterId ORDER BY id LIMIT :limit";
+    static final String REFRESH_SQL = COLUMNS + "WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ReadModelProperties properties;
+    private final Set<Long> pendingRefresh = ConcurrentHashMap.newKeySet();
+    private final Object writes = new Object();
+    private final AtomicBoolean maintaining = new AtomicBoolean();
+    private final ExecutorService maintainer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "read-model-maintain");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile AccountRecordStore store;
+    private volatile boolean stale = true;
+    private volatile boolean rebuildRequested = true;
+    private AccountRecordStore building;
+    private long lastRebuild;
+    private int generation;
+
+    public AccountReadModel(NamedParameterJdbcTemplate jdbcTemplate, ReadModelProperties properties,
+                            MeterRegistry registry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        Gauge.builder("account.read-model.size", this, model -> model.store == null ? 0 : model.store.size())
+                .description("Cuentas en el modelo de lectura fuera del heap").register(registry);
+    }
+
+    @PostConstruct
+    public void cleanDirectory() throws IOException {
+        Path directory = Paths.get(properties.getDirectory());
+        if (!properties.isEnabled() || !Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> leftovers = Files.newDirectoryStream(directory, "accounts-*.dat")) {
+            for (Path leftover : leftovers) {
+                Files.deleteIfExists(leftover);
+            }
+        }
+    }
+
+    /**
+     * {@code true} si las consultas de listado pueden servirse desde el modelo.
+     */
+    public boolean isReady() {
+        return properties.isEnabled() && store != null && !stale;
+    }
+
+    public List<AccountResponse> listAll() {
+        return store.all();
+    }
+
+    public List<AccountResponse> listByClient(long clientId) {
+        return store.byClient(clientId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountEvent(AccountEvent event) {
+        if (!properties.isEnabled() || event.getAccountId() == null) {
+            return;
+        }
+        AccountResponse account = event.getAccount();
+        synchronized (writes) {
+            if (event.getType() == AccountEventType.DELETED) {
+                remove(event.getAccountId());
+            } else if (account != null && account.getAccountNumber() != null && account.getClientId() != null) {
+                put(event.getAccountId(), account.getAccountNumber(), account.getBalance(), account.getType(),
+                        account.getClientId(), account.isActive());
+            }
+        }
+        pendingRefresh.add(event.getAccountId());
+    }
+
+    @Override
+    public void accountsChanged(Long accountId) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (accountId == null) {
+            rebuildRequested = true;
+            stale = true;
+        } else {
+            pendingRefresh.add(accountId);
+        }
+    }
+
+    /**
+     * En su propio hilo: una reconstrucción recorre toda la tabla y no debe ocupar el hilo de las demás
+     * tareas programadas. Si el mantenimiento anterior sigue en marcha no se lanza otro.
+     */
+    @Scheduled(fixedDelayString = "${account.read-model.refresh-interval-ms:500}")
+    public void scheduledMaintain() {
+        if (properties.isEnabled() && maintaining.compareAndSet(false, true)) {
+            maintainer.execute(() -> {
+                try {
+                    maintain();
+                } catch (RuntimeException e) {
+                    log.error("Falló el mantenimiento del modelo de lectura de cuentas", e);
+                } finally {
+                    maintaining.set(false);
+                }
+            });
+        }
+    }
+
+    synchronized void maintain() {
+        long now = System.currentTimeMillis();
+        if (rebuildRequested && (lastRebuild == 0 || now - lastRebuild >= properties.getRebuildMinIntervalMs())) {
+            lastRebuild = now;
+            rebuild();
+        }
+        refreshPending();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        maintainer.shutdownNow();
+        try {
+            // Una reconstrucción en curso terminaría creando un almacén que ya nadie cerraría.
+            maintainer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (writes) {
+            if (store != null) {
+                store.close();
+                store = null;
+            }
+        }
+    }
+
+    private void rebuild() {
+        long started = System.nanoTime();
+        rebuildRequested = false;
+        AccountRecordStore next;
+        try {
+            Path directory = Files.createDirectories(Paths.get(properties.getDirectory()));
+            Long rows = jdbcTemplate.getJdbcTemplate().queryForObject(COUNT_SQL, Long.class);
+            next = new AccountRecordStore(directory.resolve("accounts-" + (++generation) + ".dat"),
+                    properties.getSegmentRecords(), (int) Math.min(Integer.MAX_VALUE / 2, rows == null ? 0 : rows));
+        } catch (IOException e) {
+            log.error("No se pudo crear el modelo de lectura de cuentas", e);
+            rebuildRequested = true;
+            return;
+        }
+
+        synchronized (writes) {
+            building = next;
+        }
+        boolean complete = false;
+        try {
+            complete = load(next);
+        } catch (RuntimeException e) {
+            log.error("Falló la reconstrucción del modelo de lectura de cuentas", e);
+        }
+
+        AccountRecordStore previous;
+        synchronized (writes) {
+            building = null;
+            if (!complete) {
+                closeQuietly(next);
+                rebuildRequested = true;
+                return;
+            }
+            previous = store;
+            store = next;
+            stale = rebuildRequested;
+        }
+        closeQuietly(previous);
+        log.info("Modelo de lectura de cuentas construido: {} cuentas, {} ms", next.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Copia la tabla al nuevo almacén por lotes; {@code false} si alguna cuenta no cabe en el formato.
+     */
+    private boolean load(AccountRecordStore target) {
+        long[] last = {0};
+        int[] read = new int[1];
+        boolean[] fits = {true};
+        do {
+            read[0] = 0;
+            jdbcTemplate.query(LOAD_SQL, Map.of("afterId", last[0], "limit", properties.getLoadBatchSize()), rs -> {
+                fits[0] &= put(target, rs);
+                last[0] = rs.getLong("id");
+                read[0]++;
+            });
+        } while (read[0] == properties.getLoadBatchSize() && fits[0]);
+        if (!fits[0]) {
+            log.warn("Hay cuentas que no caben en el formato del modelo de lectura; los listados seguirán "
+                    + "consultando la base de datos");
+        }
+        return fits[0];
+    }
+
+    private void refreshPending() {
+        if (pendingRefresh.isEmpty() || store == null) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pendingRefresh.size());
+        for (Iterator<Long> it = pendingRefresh.iterator(); it.hasNext() && ids.size() < properties.getLoadBatchSize(); ) {
+            ids.add(it.next());
+            it.remove();
+        }
+        Set<Long> missing = new HashSet<>(ids);
+        // La lectura y la escritura van juntas: un evento posterior no puede quedar pisado por esta lectura.
+        synchronized (writes) {
+            jdbcTemplate.query(REFRESH_SQL, Map.of("ids", ids), rs -> {
+                missing.remove(rs.getLong("id"));
+                put(rs.getLong("id"), rs.getString("account_number"), rs.getBigDecimal("balance"),
+                        AccountType.valueOf(rs.getString("type")), rs.getLong("client_id"), rs.getBoolean("active"));
+            });
+            missing.forEach(this::remove);
+        }
+    }
+
+    /**
+     * Escribe en el almacén en uso y en el que se está construyendo. Una cuenta que no cabe en el formato
+     * deja el modelo sin usar hasta la siguiente reconstrucción.
+     */
+    private void put(long id, String accountNumber, BigDecimal balance, AccountType type, long clientId,
+                     boolean active) {
+        for (AccountRecordStore target : targets()) {
+            try {
+                if (!target.put(id, accountNumber, balance, type, clientId, active)) {
+                    stale = true;
+                    rebuildRequested = true;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private void remove(long id) {
+        for (AccountRecordStore target : targets()) {
+            target.remove(id);
+        }
+    }
+
+    private List<AccountRecordStore> targets() {
+        List<AccountRecordStore> targets = new ArrayList<>(2);
+        if (store != null) {
+            targets.add(store);
+        }
+        if (building != null) {
+            targets.add(building);
+        }
+        return targets;
+    }
+
+    private static boolean put(AccountRecordStore target, ResultSet rs) throws SQLException {
+        try {
+            return target.put(rs.getLong("id"), rs.getString("account_number"), rs.getBigDecimal("balance"),
+                    AccountType.valueOf(rs.getString("type")), rs.getLong("client_id"), rs.getBoolean("active"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(AccountRecordStore store) {
+        if (store == null) {
+            return;
+        }
+        try {
+            store.close();
+        } catch (IOException e) {
+            log.warn("No se pudo borrar el archivo del modelo de lectura", e);
+        }
+    }
+}
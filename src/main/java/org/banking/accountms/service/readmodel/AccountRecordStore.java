@@ -0,0 +1,211 @@
+package org.banking.accountms.service.readmodel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountType;
+
+/**
+ * Registros de cuenta de ancho fijo ({@value #RECORD_BYTES} bytes) en un archivo mapeado en memoria, por
+ * segmentos de {@code segmentRecords} registros. Los datos viven fuera del heap; en el heap solo quedan dos
+ * índices primitivos: ID → posición y clientId → última posición del cliente. Cada registro guarda la
+ * posición del registro anterior del mismo cliente, así que las cuentas de un cliente se recorren como una
+ * lista enlazada dentro del archivo.
+ *
+ * <p>Una cuenta borrada se marca como tal y su registro se reutiliza solo si vuelve a aparecer el mismo ID.
+ * El saldo se guarda en céntimos en un {@code long}; un registro que no cabe en el formato (número de cuenta
+ * de más de {@value #MAX_NUMBER_BYTES} bytes ASCII, más de 2 decimales o desbordamiento) se rechaza con
+ * {@code false} y el modelo de lectura deja de usarse hasta la siguiente reconstrucción.</p>
+ */
+final class AccountRecordStore implements Closeable {
+
+    static final int RECORD_BYTES = 64;
+    static final int MAX_NUMBER_BYTES = 32;
+
+    private static final int ID = 0;
+    private static final int CLIENT_ID = 8;
+    private static final int BALANCE_CENTS = 16;
+    private static final int PREVIOUS_OF_CLIENT = 24;
+    private static final int TYPE = 28;
+    private static final int ACTIVE = 29;
+    private static final int LIVE = 30;
+    private static final int NUMBER_LENGTH = 31;
+    private static final int NUMBER = 32;
+    private static final AccountType[] TYPES = AccountType.values();
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int segmentRecords;
+    private final List<MappedByteBuffer> segments = new ArrayList<>();
+    private final LongIntHashMap slotById;
+    private final LongIntHashMap lastSlotByClient;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int slots;
+    private int live;
+
+    AccountRecordStore(Path file, int segmentRecords, int expectedAccounts) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.segmentRecords = segmentRecords;
+        this.slotById = new LongIntHashMap(expectedAccounts);
+        this.lastSlotByClient = new LongIntHashMap(expectedAccounts / 2);
+    }
+
+    /**
+     * Alta o reemplazo de la cuenta {@code id}. {@code false} si no cabe en el formato de registro.
+     */
+    boolean put(long id, String accountNumber, BigDecimal balance, AccountType type, long clientId, boolean active)
+            throws IOException {
+        byte[] number = accountNumber.getBytes(StandardCharsets.US_ASCII);
+        long cents;
+        try {
+            cents = balance.movePointRight(2).longValueExact();
+        } catch (ArithmeticException e) {
+            return false;
+        }
+        if (number.length > MAX_NUMBER_BYTES || !accountNumber.equals(new String(number, StandardCharsets.US_ASCII))) {
+            return false;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int slot = slotById.get(id);
+            boolean added = slot == LongIntHashMap.MISSING;
+            if (added) {
+                slot = slots;
+            }
+            MappedByteBuffer segment = segment(slot);
+            int base = offset(slot);
+            if (added) {
+                slots++;
+                // El cliente de una cuenta no cambia: el registro se enlaza con los de su cliente una sola vez.
+                segment.putInt(base + PREVIOUS_OF_CLIENT, lastSlotByClient.get(clientId));
+                lastSlotByClient.put(clientId, slot);
+                slotById.put(id, slot);
+            }
+            if (added || segment.get(base + LIVE) == 0) {
+                live++;
+            }
+            segment.putLong(base + ID, id);
+            segment.putLong(base + CLIENT_ID, clientId);
+            segment.putLong(base + BALANCE_CENTS, cents);
+            segment.put(base + TYPE, (byte) type.ordinal());
+            segment.put(base + ACTIVE, (byte) (active ? 1 : 0));
+            segment.put(base + LIVE, (byte) 1);
+            segment.put(base + NUMBER_LENGTH, (byte) number.length);
+            for (int i = 0; i < number.length; i++) {
+                segment.put(base + NUMBER + i, number[i]);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotById.get(id);
+            if (slot != LongIntHashMap.MISSING && segments.get(slot / segmentRecords).get(offset(slot) + LIVE) == 1) {
+                segments.get(slot / segmentRecords).put(offset(slot) + LIVE, (byte) 0);
+                live--;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    List<AccountResponse> all() {
+        lock.readLock().lock();
+        try {
+            List<AccountResponse> accounts = new ArrayList<>(live);
+            for (int slot = 0; slot < slots; slot++) {
+                AccountResponse account = read(slot);
+                if (account != null) {
+                    accounts.add(account);
+                }
+            }
+            return accounts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Cuentas del cliente en orden de ID.
+     */
+    List<AccountResponse> byClient(long clientId) {
+        lock.readLock().lock();
+        try {
+            List<AccountResponse> accounts = new ArrayList<>();
+            for (int slot = lastSlotByClient.get(clientId); slot != LongIntHashMap.MISSING;
+                 slot = segments.get(slot / segmentRecords).getInt(offset(slot) + PREVIOUS_OF_CLIENT)) {
+                AccountResponse account = read(slot);
+                if (account != null) {
+                    accounts.add(account);
+                }
+            }
+            accounts.sort(Comparator.comparing(AccountResponse::getId));
+            return accounts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        return live;
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Las regiones mapeadas se liberan cuando el GC recoge los buffers; el archivo ya puede borrarse.
+        channel.close();
+        Files.deleteIfExists(file);
+    }
+
+    private AccountResponse read(int slot) {
+        MappedByteBuffer segment = segments.get(slot / segmentRecords);
+        int base = offset(slot);
+        if (segment.get(base + LIVE) == 0) {
+            return null;
+        }
+        byte[] number = new byte[segment.get(base + NUMBER_LENGTH)];
+        for (int i = 0; i < number.length; i++) {
+            number[i] = segment.get(base + NUMBER + i);
+        }
+        return AccountResponse.builder()
+                .id(segment.getLong(base + ID))
+                .accountNumber(new String(number, StandardCharsets.US_ASCII))
+                .balance(BigDecimal.valueOf(segment.getLong(base + BALANCE_CENTS), 2))
+                .type(TYPES[segment.get(base + TYPE)])
+                .clientId(segment.getLong(base + CLIENT_ID))
+                .active(segment.get(base + ACTIVE) == 1)
+                .build();
+    }
+
+    private MappedByteBuffer segment(int slot) throws IOException {
+        int index = slot / segmentRecords;
+        while (segments.size() <= index) {
+            long position = (long) segments.size() * segmentRecords * RECORD_BYTES;
+            segments.add(channel.map(FileChannel.MapMode.READ_WRITE, position, (long) segmentRecords * RECORD_BYTES));
+        }
+        return segments.get(index);
+    }
+
+    private int offset(int slot) {
+        return (slot % segmentRecords) * RECORD_BYTES;
+    }
+}
@@ -0,0 +1,89 @@
+package org.banking.accountms.service.readmodel;
+
+import java.util.Arrays;
+
+/**
+ * Tabla hash de claves {@code long} a valores {@code int} con direccionamiento abierto sobre dos arreglos
+ * primitivos: no hay un objeto por entrada. No admite borrados; el modelo de lectura marca los registros
+ * borrados y los descarta en la siguiente reconstrucción.
+ */
+final class LongIntHashMap {
+
+    static final int MISSING = -1;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    private boolean hasZero;
+    private int zeroValue;
+
+    LongIntHashMap(int expectedSize) {
+        long wanted = Math.max(16, (long) expectedSize * 4 / 3 + 1);
+        allocate((int) Math.min(1 << 30, Long.highestOneBit(wanted - 1) << 1));
+    }
+
+    int get(long key) {
+        if (key == 0) {
+            return hasZero ? zeroValue : MISSING;
+        }
+        for (int i = slot(key); ; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+            if (keys[i] == 0) {
+                return MISSING;
+            }
+        }
+    }
+
+    void put(long key, int value) {
+        if (key == 0) {
+            size += hasZero ? 0 : 1;
+            hasZero = true;
+            zeroValue = value;
+            return;
+        }
+        int i = slot(key);
+        while (keys[i] != 0 && keys[i] != key) {
+            i = (i + 1) & mask;
+        }
+        if (keys[i] == 0) {
+            keys[i] = key;
+            if (++size > keys.length / 4 * 3) {
+                values[i] = value;
+                grow();
+                return;
+            }
+        }
+        values[i] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(oldKeys.length * 2);
+        size = hasZero ? 1 : 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, MISSING);
+        mask = capacity - 1;
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
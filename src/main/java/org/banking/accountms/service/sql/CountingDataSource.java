@@ -0,0 +1,76 @@
+package org.banking.accountms.service.sql;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import org.banking.accountms.service.tracing.Tracer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} que anota en {@link SqlStatementCounter} y en el tramo en curso de {@link Tracer} cada
+ * ejecución de sentencia, tanto de Hibernate como de {@code JdbcTemplate}. Cada llamada a {@code execute*} cuenta una vez: un {@code executeBatch} es
+ * un solo viaje a la base de datos con {@code rewriteBatchedStatements}, por muchas filas que lleve.
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(Connection.class, super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(Connection.class, super.getConnection(username, password));
+    }
+
+    private static <T> T wrap(Class<T> type, T target) {
+        InvocationHandler handler = Statement.class.isAssignableFrom(type)
+                ? (proxy, method, args) -> invokeStatement(proxy, target, method, args)
+                : (proxy, method, args) -> invokeConnection(proxy, target, method, args);
+        return type.cast(Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    private static Object invokeConnection(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Object result = invoke(proxy, target, method, args);
+        if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+            return wrapStatement(method.getReturnType(), (Statement) result);
+        }
+        return result;
+    }
+
+    private static Object invokeStatement(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().startsWith("execute")) {
+            SqlStatementCounter.record();
+            Tracer.recordStatement();
+        }
+        return invoke(proxy, target, method, args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <S extends Statement> S wrapStatement(Class<?> type, Statement statement) {
+        return wrap((Class<S>) type, (S) statement);
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.banking.accountms.service.sql;
+
+/**
+ * Contador de sentencias SQL del hilo en curso. Solo cuenta entre {@link #start()} y {@link #stop()}: las
+ * sentencias de tareas programadas o de otros hilos que trabajan para la petición no se incluyen.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<int[]> CURRENT = new ThreadLocal<>();
+
+    private SqlStatementCounter() {
+    }
+
+    public static void start() {
+        CURRENT.set(new int[1]);
+    }
+
+    /**
+     * Sentencias contadas desde {@link #start()}, o 0 si no se está contando.
+     */
+    public static int current() {
+        int[] count = CURRENT.get();
+        return count == null ? 0 : count[0];
+    }
+
+    public static int stop() {
+        int count = current();
+        CURRENT.remove();
+        return count;
+    }
+
+    static void record() {
+        int[] count = CURRENT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.banking.accountms.service.tracing;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+
+/**
+ * Un tramo de una traza. Lo crea y lo cierra {@link Tracer}; solo lo toca el hilo de la petición.
+ */
+@Getter
+public class Span {
+
+    private final String traceId;
+    private final String spanId;
+    private final String parentSpanId;
+    private final SpanKind kind;
+    private final long startEpochNanos;
+    private final long startNanos;
+    private final Map<String, Object> attributes = new LinkedHashMap<>();
+    private String name;
+    private long durationNanos = -1;
+    private String error;
+    private int sqlStatements;
+
+    Span(String traceId, String spanId, String parentSpanId, String name, SpanKind kind,
+         long startEpochNanos, long startNanos) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochNanos = startEpochNanos;
+        this.startNanos = startNanos;
+    }
+
+    public Span rename(String newName) {
+        this.name = newName;
+        return this;
+    }
+
+    public Span attribute(String key, Object value) {
+        if (value != null) {
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    public Span fail(String message) {
+        this.error = message == null ? "error" : message;
+        return this;
+    }
+
+    public boolean isError() {
+        return error != null;
+    }
+
+    public TraceContext context() {
+        return new TraceContext(traceId, spanId, true);
+    }
+
+    void end(long endNanos) {
+        this.durationNanos = endNanos - startNanos;
+    }
+
+    void countStatement() {
+        sqlStatements++;
+    }
+}
@@ -0,0 +1,20 @@
+package org.banking.accountms.service.tracing;
+
+/**
+ * Valores de {@code SpanKind} de OTLP.
+ */
+public enum SpanKind {
+    INTERNAL(1),
+    SERVER(2),
+    CLIENT(3);
+
+    private final int otlpValue;
+
+    SpanKind(int otlpValue) {
+        this.otlpValue = otlpValue;
+    }
+
+    public int otlpValue() {
+        return otlpValue;
+    }
+}
@@ -0,0 +1,201 @@
+package org.banking.accountms.service.tracing;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.annotation.PreDestroy;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.TracingProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Escribe las trazas muestreadas como líneas OTLP/JSON ({@code {"resourceSpans":[...]}}, una traza por
+ * línea) en un fichero local que rota por tamaño: {@code traces.jsonl}, {@code traces.jsonl.1}, ...
+ * Cualquier colector o herramienta que lea OTLP/JSON puede importarlas; no hace falta uno en marcha.
+ *
+ * <p>La escritura ocurre en un hilo propio detrás de una cola acotada: una petición nunca espera al disco
+ * y, si la cola está llena, la traza se descarta y se cuenta.</p>
+ */
+@Slf4j
+@Component
+public class TraceFileExporter {
+
+    private static final int STATUS_OK = 1;
+    private static final int STATUS_ERROR = 2;
+
+    private final TracingProperties properties;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BlockingQueue<List<Span>> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Path path;
+    private final Thread writer;
+    private volatile boolean running = true;
+    private OutputStream out;
+    private long size;
+
+    public TraceFileExporter(TracingProperties properties) {
+        this.properties = properties;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueSize());
+        this.path = Paths.get(properties.getExportPath());
+        this.writer = new Thread(this::drain, "trace-exporter");
+        this.writer.setDaemon(true);
+        if (properties.isEnabled()) {
+            writer.start();
+        }
+    }
+
+    public void export(List<Span> spans) {
+        if (!queue.offer(spans)) {
+            log.debug("Cola de trazas llena, se descarta la traza {}", spans.get(0).getTraceId());
+            dropped.incrementAndGet();
+        }
+    }
+
+    public long dropped() {
+        return dropped.get();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.interrupt();
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void drain() {
+        try {
+            while (running || !queue.isEmpty()) {
+                List<Span> spans;
+                try {
+                    spans = queue.poll(1, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    spans = queue.poll();
+                }
+                if (spans != null) {
+                    write(spans);
+                }
+            }
+        } finally {
+            close();
+        }
+    }
+
+    synchronized void write(List<Span> spans) {
+        try {
+            byte[] line = (objectMapper.writeValueAsString(toOtlp(spans)) + "\n").getBytes(StandardCharsets.UTF_8);
+            if (out == null) {
+                open();
+            }
+            if (size > 0 && size + line.length > properties.getMaxFileBytes()) {
+                rotate();
+            }
+            out.write(line);
+            out.flush();
+            size += line.length;
+        } catch (IOException e) {
+            log.warn("No se pudo escribir la traza en {}: {}", path, e.getMessage());
+            close();
+        }
+    }
+
+    ObjectNode toOtlp(List<Span> spans) {
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode resourceSpans = root.putArray("resourceSpans").addObject();
+        addAttribute(resourceSpans.putObject("resource").putArray("attributes"),
+                "service.name", properties.getServiceName());
+        ObjectNode scopeSpans = resourceSpans.putArray("scopeSpans").addObject();
+        scopeSpans.putObject("scope").put("name", "org.banking.accountms");
+        ArrayNode array = scopeSpans.putArray("spans");
+        for (Span span : spans) {
+            ObjectNode node = array.addObject();
+            node.put("traceId", span.getTraceId());
+            node.put("spanId", span.getSpanId());
+            if (span.getParentSpanId() != null) {
+                node.put("parentSpanId", span.getParentSpanId());
+            }
+            node.put("name", span.getName());
+            node.put("kind", span.getKind().otlpValue());
+            node.put("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+            node.put("endTimeUnixNano", Long.toString(span.getStartEpochNanos() + span.getDurationNanos()));
+            ArrayNode attributes = node.putArray("attributes");
+            for (Map.Entry<String, Object> attribute : span.getAttributes().entrySet()) {
+                addAttribute(attributes, attribute.getKey(), attribute.getValue());
+            }
+            ObjectNode status = node.putObject("status");
+            if (span.isError()) {
+                status.put("code", STATUS_ERROR).put("message", span.getError());
+            } else {
+                status.put("code", STATUS_OK);
+            }
+        }
+        return root;
+    }
+
+    private static void addAttribute(ArrayNode attributes, String key, Object value) {
+        ObjectNode attribute = attributes.addObject().put("key", key);
+        ObjectNode node = attribute.putObject("value");
+        if (value instanceof Integer || value instanceof Long) {
+            // OTLP/JSON codifica los int64 como cadena
+            node.put("intValue", value.toString());
+        } else if (value instanceof Boolean) {
+            node.put("boolValue", (Boolean) value);
+        } else {
+            node.put("stringValue", String.valueOf(value));
+        }
+    }
+
+    private void open() throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        out = Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        size = Files.size(path);
+    }
+
+    private void rotate() throws IOException {
+        close();
+        int maxFiles = Math.max(1, properties.getMaxFiles());
+        Files.deleteIfExists(rotated(maxFiles - 1));
+        for (int i = maxFiles - 2; i >= 1; i--) {
+            if (Files.exists(rotated(i))) {
+                Files.move(rotated(i), rotated(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (maxFiles > 1) {
+            Files.move(path, rotated(1), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            Files.delete(path);
+        }
+        open();
+    }
+
+    private Path rotated(int index) {
+        return path.resolveSibling(path.getFileName() + "." + index);
+    }
+
+    private synchronized void close() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException e) {
+                log.debug("Error al cerrar {}: {}", path, e.getMessage());
+            }
+            out = null;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package org.banking.accountms.service.tracing;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.banking.accountms.config.TracingProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Trazas en proceso, una por petición y por hilo. {@link TracingFilter} abre el tramo raíz y
+ * {@link TracingAspect} los tramos de controlador, servicio, gateway y repositorio; sin traza activa
+ * (jobs, arranque, perfil reactive) todo pasa de largo.
+ *
+ * <p>El muestreo es de cola: al cerrar la raíz se decide si la traza se exporta (con error, más lenta que
+ * {@code slowThresholdMs} o al azar con {@code sampleRate}). Las trazas descartadas no salen del hilo.</p>
+ */
+@Slf4j
+@Component
+public class Tracer {
+
+    /**
+     * Estática para que {@link org.banking.accountms.service.sql.CountingDataSource}, que no es un bean,
+     * llegue a la traza.
+     */
+    private static final ThreadLocal<ActiveTrace> CURRENT = new ThreadLocal<>();
+
+    private final TracingProperties properties;
+    private final TraceFileExporter exporter;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public Tracer(TracingProperties properties, TraceFileExporter exporter) {
+        this(properties, exporter, System::nanoTime);
+    }
+
+    Tracer(TracingProperties properties, TraceFileExporter exporter, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.exporter = exporter;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Abre la raíz de una traza; continúa la del llamante si {@code traceparent} es válido.
+     * Devuelve null si el trazado está desactivado o ya hay una traza en este hilo.
+     */
+    public Span startTrace(String name, SpanKind kind, String traceparent) {
+        if (!properties.isEnabled() || CURRENT.get() != null) {
+            return null;
+        }
+        TraceContext parent = TraceContext.parse(traceparent);
+        long now = nanoClock.getAsLong();
+        Instant wall = Instant.now();
+        ActiveTrace trace = new ActiveTrace(now, wall.getEpochSecond() * 1_000_000_000L + wall.getNano());
+        Span root = new Span(parent != null ? parent.getTraceId() : TraceContext.newTraceId(),
+                TraceContext.newSpanId(), parent != null ? parent.getSpanId() : null,
+                name, kind, trace.epochNanos, now);
+        trace.push(root);
+        CURRENT.set(trace);
+        return root;
+    }
+
+    /**
+     * Abre un tramo hijo del tramo en curso. Devuelve null sin traza activa o si la traza ya alcanzó
+     * {@code maxSpansPerTrace}; en ambos casos el llamante sigue sin tramo.
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        ActiveTrace trace = CURRENT.get();
+        if (trace == null) {
+            return null;
+        }
+        if (trace.recorded >= properties.getMaxSpansPerTrace()) {
+            trace.dropped++;
+            return null;
+        }
+        Span parent = trace.stack.peek();
+        long now = nanoClock.getAsLong();
+        Span span = new Span(parent.getTraceId(), TraceContext.newSpanId(), parent.getSpanId(), name, kind,
+                trace.epochNanos + (now - trace.startNanos), now);
+        trace.push(span);
+        return span;
+    }
+
+    /**
+     * Cierra el tramo. Al cerrar la raíz se aplica el muestreo de cola y se libera el hilo.
+     */
+    public void end(Span span, Throwable error) {
+        ActiveTrace trace = CURRENT.get();
+        if (span == null || trace == null) {
+            return;
+        }
+        if (error != null && !span.isError()) {
+            span.fail(error.getClass().getSimpleName() + ": " + error.getMessage());
+        }
+        span.end(nanoClock.getAsLong());
+        if (span.getSqlStatements() > 0) {
+            span.attribute("db.statement_count", span.getSqlStatements());
+        }
+        while (!trace.stack.isEmpty() && trace.stack.pop() != span) {
+            // tramos que no se cerraron (no debería ocurrir): se descartan
+        }
+        trace.finished.add(span);
+        if (trace.stack.isEmpty()) {
+            CURRENT.remove();
+            finish(trace, span);
+        }
+    }
+
+    /**
+     * Cabecera {@code traceparent} para una llamada saliente desde el tramo en curso, o null sin traza.
+     */
+    public String currentTraceparent() {
+        ActiveTrace trace = CURRENT.get();
+        return trace == null || trace.stack.isEmpty() ? null : trace.stack.peek().context().traceparent();
+    }
+
+    /**
+     * Anota una sentencia SQL en el tramo en curso; sin traza activa no hace nada.
+     */
+    public static void recordStatement() {
+        ActiveTrace trace = CURRENT.get();
+        if (trace != null && !trace.stack.isEmpty()) {
+            trace.stack.peek().countStatement();
+            trace.statements++;
+        }
+    }
+
+    private void finish(ActiveTrace trace, Span root) {
+        root.attribute("db.statement_total", trace.statements);
+        if (trace.dropped > 0) {
+            root.attribute("tracing.dropped_spans", trace.dropped);
+        }
+        if (sampled(root)) {
+            exporter.export(trace.finished);
+        }
+    }
+
+    private boolean sampled(Span root) {
+        return root.isError()
+                || root.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(properties.getSlowThresholdMs())
+                || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+    }
+
+    private static final class ActiveTrace {
+        private final long startNanos;
+        private final long epochNanos;
+        private final Deque<Span> stack = new ArrayDeque<>();
+        private final List<Span> finished = new ArrayList<>();
+        private int recorded;
+        private int dropped;
+        private int statements;
+
+        private ActiveTrace(long startNanos, long epochNanos) {
+            this.startNanos = startNanos;
+            this.epochNanos = epochNanos;
+        }
+
+        private void push(Span span) {
+            stack.push(span);
+            recorded++;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package org.banking.accountms.service.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+/**
+ * Un tramo por llamada a controlador, servicio, gateway de clientes o repositorio dentro de una traza
+ * activa. Fuera de una traza solo cuesta la consulta del ThreadLocal.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    @Around("within(org.banking.accountms.controller..*)")
+    public Object controller(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "controller", SpanKind.INTERNAL, joinPoint.getSignature().getDeclaringType());
+    }
+
+    @Around("within(org.banking.accountms.service..*) && @within(org.springframework.stereotype.Service)")
+    public Object service(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "service", SpanKind.INTERNAL, joinPoint.getSignature().getDeclaringType());
+    }
+
+    @Around("within(org.banking.accountms.adapter.ClientGateway)")
+    public Object gateway(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "gateway", SpanKind.CLIENT, joinPoint.getSignature().getDeclaringType());
+    }
+
+    @Around("this(org.springframework.data.repository.Repository)")
+    public Object repository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return trace(joinPoint, "repository", SpanKind.INTERNAL, repositoryInterface(joinPoint.getThis()));
+    }
+
+    private Object trace(ProceedingJoinPoint joinPoint, String layer, SpanKind kind, Class<?> type)
+            throws Throwable {
+        if (tracer.currentTraceparent() == null) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getName();
+        Span span = tracer.startSpan(type.getSimpleName() + "." + method, kind);
+        if (span == null) {
+            return joinPoint.proceed();
+        }
+        span.attribute("app.layer", layer)
+                .attribute("code.namespace", type.getName())
+                .attribute("code.function", method);
+        try {
+            Object result = joinPoint.proceed();
+            tracer.end(span, null);
+            return result;
+        } catch (Throwable e) {
+            tracer.end(span, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Los métodos heredados (save, findById...) se declaran en Spring Data; el tramo lleva el nombre del
+     * repositorio de la aplicación.
+     */
+    private static Class<?> repositoryInterface(Object proxy) {
+        for (Class<?> type : proxy.getClass().getInterfaces()) {
+            if (Repository.class.isAssignableFrom(type) && type.getName().startsWith("org.banking.")) {
+                return type;
+            }
+        }
+        return proxy.getClass();
+    }
+}
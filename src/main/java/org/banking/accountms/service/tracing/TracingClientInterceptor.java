@@ -0,0 +1,27 @@
+package org.banking.accountms.service.tracing;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * Propaga la traza en curso a los servicios llamados con {@code RestTemplate} mediante {@code traceparent}.
+ */
+@RequiredArgsConstructor
+public class TracingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        String traceparent = tracer.currentTraceparent();
+        if (traceparent != null) {
+            request.getHeaders().set(TraceContext.TRACEPARENT, traceparent);
+        }
+        return execution.execute(request, body);
+    }
+}
@@ -0,0 +1,8 @@
+-- Última secuencia del journal del motor de ledger cuyos efectos ya están en accounts y account_movements.
+-- Se actualiza en la misma transacción que los saldos; al reiniciar se reaplica el journal desde aquí.
+CREATE TABLE ledger_checkpoints (
+    node_id VARCHAR(60) NOT NULL,
+    last_sequence BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (node_id)
+);
@@ -0,0 +1,17 @@
+-- Cola persistente de altas asíncronas (POST /cuentas?async=true). Los workers reclaman filas PENDING
+-- en orden de ID y guardan el resultado en la misma transacción que la cuenta creada.
+CREATE TABLE account_creation_jobs (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    client_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    initial_balance DECIMAL(19, 2),
+    status VARCHAR(20) NOT NULL,
+    account_id BIGINT,
+    error VARCHAR(500),
+    created_at DATETIME(6) NOT NULL,
+    started_at DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_creation_jobs_status_id ON account_creation_jobs (status, id);
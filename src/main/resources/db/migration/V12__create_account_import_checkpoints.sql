@@ -0,0 +1,15 @@
+-- Avance de cada importación de cuentas desde CSV. byte_offset es el final del último bloque confirmado
+-- y se actualiza en la misma transacción que sus inserciones; reject_offset es el tamaño que tenía
+-- entonces el archivo de rechazos, que se recorta a ese punto al reanudar.
+CREATE TABLE account_import_checkpoints (
+    file_name VARCHAR(255) NOT NULL,
+    file_size BIGINT NOT NULL,
+    byte_offset BIGINT NOT NULL,
+    lines_read BIGINT NOT NULL,
+    imported BIGINT NOT NULL,
+    rejected BIGINT NOT NULL,
+    reject_offset BIGINT NOT NULL,
+    completed BIT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (file_name)
+);
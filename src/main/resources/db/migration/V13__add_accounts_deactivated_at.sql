@@ -0,0 +1,5 @@
+-- Fecha de desactivación que usa el archivado de cuentas inactivas. Las cuentas que ya estaban
+-- inactivas empiezan a contar su plazo de retención desde esta migración.
+ALTER TABLE accounts ADD COLUMN deactivated_at DATETIME(6);
+
+UPDATE accounts SET deactivated_at = CURRENT_TIMESTAMP(6) WHERE active = FALSE;
@@ -0,0 +1,3 @@
+-- Versión optimista de los trabajos de alta: un worker cuyo trabajo fue reclamado por otro (por pasar de
+-- stale-after-ms) ya no puede cerrarlo ni crear su cuenta.
+ALTER TABLE account_creation_jobs ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
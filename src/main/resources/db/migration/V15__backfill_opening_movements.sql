@@ -0,0 +1,15 @@
+-- Las cuentas creadas antes del registro de movimientos no tienen OPENING y la conciliación contra
+-- account_movements las daría todas por descuadradas. Se les añade un OPENING por la diferencia entre su
+-- saldo (incluidas las particiones sin plegar) y los movimientos que ya tengan, fechado como el primero.
+INSERT INTO account_movements (account_id, amount, resulting_balance, type, created_at)
+SELECT o.id, o.amount, o.amount, 'OPENING', o.created_at
+FROM (
+    SELECT a.id,
+           a.balance
+               + COALESCE((SELECT SUM(s.balance) FROM account_balance_stripes s WHERE s.account_id = a.id), 0)
+               - COALESCE((SELECT SUM(m.amount) FROM account_movements m WHERE m.account_id = a.id), 0) AS amount,
+           COALESCE((SELECT MIN(m.created_at) FROM account_movements m WHERE m.account_id = a.id),
+                    CURRENT_TIMESTAMP(6)) AS created_at
+    FROM accounts a
+    WHERE NOT EXISTS (SELECT 1 FROM account_movements m WHERE m.account_id = a.id AND m.type = 'OPENING')
+) o;
@@ -0,0 +1,3 @@
+-- Veces que se reclamó cada trabajo de alta: tras max-attempts fallos transitorios (servicio de clientes
+-- caído, worker caído) el trabajo termina en FAILED en vez de volver a PENDING para siempre.
+ALTER TABLE account_creation_jobs ADD COLUMN attempts INT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- V15 fechó los OPENING añadidos como el primer movimiento de la cuenta, así que empataban con él y, por ID,
+-- quedaban detrás. Se adelantan un microsegundo respecto al primer movimiento que no es OPENING. Las tablas
+-- derivadas agrupadas evitan que MySQL lea account_movements mientras la actualiza.
+UPDATE account_movements
+SET created_at = TIMESTAMPADD(MICROSECOND, -1, (
+        SELECT f.first_at
+        FROM (SELECT account_id, MIN(created_at) AS first_at FROM account_movements
+              WHERE type <> 'OPENING' GROUP BY account_id) f
+        WHERE f.account_id = account_movements.account_id))
+WHERE type = 'OPENING'
+  AND created_at >= (
+        SELECT f.first_at
+        FROM (SELECT account_id, MIN(created_at) AS first_at FROM account_movements
+              WHERE type <> 'OPENING' GROUP BY account_id) f
+        WHERE f.account_id = account_movements.account_id);
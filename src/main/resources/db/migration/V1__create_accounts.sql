@@ -0,0 +1,12 @@
+-- Esquema original de accounts, tal como lo dejaba ddl-auto=update: las bases existentes se marcan
+-- como línea base en esta versión y reciben las demás migraciones.
+CREATE TABLE accounts (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_number VARCHAR(255) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    client_id BIGINT NOT NULL,
+    active BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_accounts_account_number UNIQUE (account_number)
+);
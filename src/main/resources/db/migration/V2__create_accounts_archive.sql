@@ -0,0 +1,12 @@
+CREATE TABLE accounts_archive (
+    id BIGINT NOT NULL,
+    account_number VARCHAR(255) NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    type VARCHAR(255) NOT NULL,
+    client_id BIGINT NOT NULL,
+    active BIT NOT NULL,
+    deactivated_at DATETIME(6),
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_accounts_archive_account_number UNIQUE (account_number)
+);
@@ -0,0 +1,12 @@
+CREATE TABLE batch_checkpoints (
+    id VARCHAR(120) NOT NULL,
+    job_name VARCHAR(60) NOT NULL,
+    period VARCHAR(20) NOT NULL,
+    range_start BIGINT NOT NULL,
+    range_end BIGINT NOT NULL,
+    rows_affected BIGINT NOT NULL,
+    completed_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_batch_checkpoints_job_period ON batch_checkpoints (job_name, period);
@@ -0,0 +1,11 @@
+CREATE TABLE account_movements (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    amount DECIMAL(19, 2) NOT NULL,
+    resulting_balance DECIMAL(19, 2) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_movements_account_created ON account_movements (account_id, created_at);
@@ -0,0 +1,11 @@
+CREATE TABLE outbox_events (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    event_type VARCHAR(30) NOT NULL,
+    payload VARCHAR(4000) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    published_at DATETIME(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_published_id ON outbox_events (published_at, id);
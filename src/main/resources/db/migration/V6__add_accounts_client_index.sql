@@ -0,0 +1,2 @@
+-- Consultas de cuentas por cliente (findByClientId) sin recorrer la tabla completa.
+CREATE INDEX idx_accounts_client_id ON accounts (client_id);
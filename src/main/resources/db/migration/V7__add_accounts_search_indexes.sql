@@ -0,0 +1,5 @@
+-- Búsqueda filtrada (/cuentas/buscar) paginada por ID: con igualdad en type y active el índice
+-- devuelve las filas ya ordenadas por id, así que cada página lee desde el cursor sin saltar filas.
+CREATE INDEX idx_accounts_type_active_id ON accounts (type, active, id);
+-- Rangos de saldo acotados a un tipo ("SAVINGS con saldo mayor a X").
+CREATE INDEX idx_accounts_type_balance ON accounts (type, balance);
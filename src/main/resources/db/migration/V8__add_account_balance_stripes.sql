@@ -0,0 +1,13 @@
+-- Modo "cuenta caliente": los abonos se reparten entre N filas de saldo parcial en lugar de
+-- competir por el bloqueo de la fila de accounts. balance_stripes = 0 es una cuenta normal.
+ALTER TABLE accounts ADD COLUMN balance_stripes INT NOT NULL DEFAULT 0;
+
+CREATE TABLE account_balance_stripes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    account_id BIGINT NOT NULL,
+    stripe INT NOT NULL,
+    balance DECIMAL(19, 2) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_balance_stripes_account_stripe UNIQUE (account_id, stripe),
+    CONSTRAINT fk_balance_stripes_account FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE
+);
@@ -0,0 +1,85 @@
+package org.banking.accountms;
+
+import org.banking.accountms.job.reconciliation.BalanceReconciliationJob;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Una base creada por la versión anterior a Flyway (solo la tabla accounts de ddl-auto=update) arranca:
+ * se marca como línea base en V1, recibe el resto de migraciones (con el OPENING de sus cuentas) y pasa la
+ * validación de Hibernate.
+ */
+class MigrationBaselineTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    @Test
+    void legacyDatabaseIsBaselinedAtV1AndMigrated() {
+        JdbcTemplate legacy = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        legacy.execute("CREATE TABLE accounts (id BIGINT NOT NULL AUTO_INCREMENT, account_number VARCHAR(255) NOT NULL, "
+                + "balance DECIMAL(19, 2) NOT NULL, type VARCHAR(255) NOT NULL, client_id BIGINT NOT NULL, "
+                + "active BIT NOT NULL, PRIMARY KEY (id), CONSTRAINT UK_legacy_number UNIQUE (account_number))");
+        legacy.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                + "VALUES ('LEGACY-1', 10.00, 'SAVINGS', 1, FALSE)");
+
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + URL,
+                "--spring.flyway.baseline-on-migrate=true",
+                "--spring.flyway.baseline-version=1",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.creation-jobs.worker-enabled=false"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT MIN(CAST(\"version\" AS INT)) FROM \"flyway_schema_history\" WHERE \"type\" = 'BASELINE'",
+                    Integer.class)).isEqualTo(1);
+            assertThat(jdbcTemplate.queryForObject("SELECT deactivated_at FROM accounts WHERE account_number = 'LEGACY-1'",
+                    LocalDateTime.class)).isNotNull();
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_events", Integer.class)).isZero();
+            assertThat(jdbcTemplate.queryForObject("SELECT m.amount FROM account_movements m JOIN accounts a "
+                    + "ON a.id = m.account_id WHERE a.account_number = 'LEGACY-1' AND m.type = 'OPENING'",
+                    BigDecimal.class)).isEqualByComparingTo("10.00");
+            assertThat(context.getBean(BalanceReconciliationJob.class).run().isClean()).isTrue();
+        }
+    }
+
+    @Test
+    void backfilledOpeningIsDatedBeforeTheFirstMovement() {
+        String url = "jdbc:h2:mem:opening_backfill;MODE=MySQL;DB_CLOSE_DELAY=-1";
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(url, "sa", ""));
+        flyway(url, "14").migrate();
+        jdbcTemplate.update("INSERT INTO accounts (id, account_number, balance, type, client_id, active) "
+                + "VALUES (1, 'SVG-1', 15.00, 'SAVINGS', 1, TRUE)");
+        jdbcTemplate.update("INSERT INTO account_movements (account_id, amount, resulting_balance, type, created_at) "
+                + "VALUES (1, 5.00, 15.00, 'DEPOSIT', TIMESTAMP '2024-01-01 10:00:00')");
+
+        flyway(url, "latest").migrate();
+
+        List<String> types = jdbcTemplate.queryForList(
+                "SELECT type FROM account_movements WHERE account_id = 1 ORDER BY created_at, id", String.class);
+        assertThat(types).containsExactly("OPENING", "DEPOSIT");
+        assertThat(jdbcTemplate.queryForObject("SELECT created_at FROM account_movements WHERE type = 'OPENING'",
+                LocalDateTime.class)).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 59, 59, 999_999_000));
+    }
+
+    private static Flyway flyway(String url, String target) {
+        return Flyway.configure().dataSource(url, "sa", "")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2").target(target).load();
+    }
+}
@@ -0,0 +1,59 @@
+package org.banking.accountms.adapter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.URI;
+
+class ReactiveClientGatewayTest {
+
+    private ReactiveClientGateway gatewayRespondingWith(HttpStatus status) {
+        return new ReactiveClientGateway(WebClient.builder()
+                .baseUrl("http://fake-service")
+                .exchangeFunction(request -> Mono.just(ClientResponse.create(status).build()))
+                .build());
+    }
+
+    @Test
+    void exists_returnsTrue_whenClientExists() {
+        StepVerifier.create(gatewayRespondingWith(HttpStatus.OK).exists(1L))
+                .expectNext(true)
+                .verifyComplete();
+    }
+
+    @Test
+    void exists_returnsFalse_whenClientNotFound() {
+        StepVerifier.create(gatewayRespondingWith(HttpStatus.NOT_FOUND).exists(1L))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void exists_propagatesServerErrors() {
+        StepVerifier.create(gatewayRespondingWith(HttpStatus.INTERNAL_SERVER_ERROR).exists(1L))
+                .expectError(WebClientResponseException.class)
+                .verify();
+    }
+
+    @Test
+    void exists_connectionFailure_throwsIllegalState() {
+        ReactiveClientGateway gateway = new ReactiveClientGateway(WebClient.builder()
+                .exchangeFunction(request -> Mono.error(new WebClientRequestException(
+                        new IOException("Connection refused"), HttpMethod.GET, URI.create("http://fake-service"),
+                        new HttpHeaders())))
+                .build());
+
+        StepVerifier.create(gateway.exists(1L))
+                .expectError(IllegalStateException.class)
+                .verify();
+    }
+}
@@ -0,0 +1,70 @@
+package org.banking.accountms.adapter.cache;
+
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MulticastInvalidationChannelTest {
+
+    @Test
+    void decode_singleAccount() {
+        assertThat(MulticastInvalidationChannel.decode("node-a|42"))
+                .isEqualTo(new CacheInvalidationMessage("node-a", 42L));
+    }
+
+    @Test
+    void decode_allAccounts() {
+        CacheInvalidationMessage message = MulticastInvalidationChannel.decode("node-a|");
+
+        assertThat(message.isAll()).isTrue();
+        assertThat(message.getOrigin()).isEqualTo("node-a");
+    }
+
+    @Test
+    void encode_createdNumbers_roundTripsAcrossDatagrams() {
+        List<String> numbers = IntStream.range(0, 300).mapToObj(i -> String.format("SVG-%06d", i))
+                .collect(Collectors.toList());
+
+        List<String> payloads = MulticastInvalidationChannel.encode(
+                CacheInvalidationMessage.builder().origin("node-a").createdNumbers(numbers).build());
+
+        assertThat(payloads).hasSizeGreaterThan(1)
+                .allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(MulticastInvalidationChannel.MAX_DATAGRAM));
+        List<String> decoded = payloads.stream().map(MulticastInvalidationChannel::decode)
+                .peek(message -> assertThat(message.isAll()).isFalse())
+                .flatMap(message -> message.getCreatedNumbers().stream())
+                .collect(Collectors.toList());
+        assertThat(decoded).isEqualTo(numbers);
+    }
+
+    @Test
+    void encode_accountIds_roundTripsAcrossDatagrams() {
+        List<Long> ids = LongStream.range(100_000, 100_500).boxed().collect(Collectors.toList());
+
+        List<String> payloads = MulticastInvalidationChannel.encode(
+                CacheInvalidationMessage.builder().origin("node-a").accountIds(ids).build());
+
+        assertThat(payloads).hasSizeGreaterThan(1)
+                .allSatisfy(payload -> assertThat(payload.length()).isLessThanOrEqualTo(MulticastInvalidationChannel.MAX_DATAGRAM));
+        List<Long> decoded = payloads.stream().map(MulticastInvalidationChannel::decode)
+                .peek(message -> assertThat(message.isAll()).isFalse())
+                .flatMap(message -> message.getAccountIds() != null ? message.getAccountIds().stream()
+                        : Stream.of(message.getAccountId()))
+                .collect(Collectors.toList());
+        assertThat(decoded).isEqualTo(ids);
+    }
+
+    @Test
+    void decode_malformedPayloadIsIgnored() {
+        assertThat(MulticastInvalidationChannel.decode("garbage")).isNull();
+        assertThat(MulticastInvalidationChannel.decode("node-a|abc")).isNull();
+        assertThat(MulticastInvalidationChannel.decode("node-a|1,x")).isNull();
+    }
+}
@@ -0,0 +1,28 @@
+package org.banking.accountms.adapter.event;
+
+import org.banking.accountms.config.OutboxProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class InMemoryEventSinkTest {
+
+    @Test
+    void publish_keepsOnlyTheLatestEvents() {
+        OutboxProperties properties = new OutboxProperties();
+        properties.setMemoryCapacity(2);
+        InMemoryEventSink sink = new InMemoryEventSink(properties);
+
+        sink.publish(List.of(event(1), event(2)));
+        sink.publish(List.of(event(3)));
+
+        assertThat(sink.getPublished()).extracting(AccountEvent::getEventId).containsExactly(2L, 3L);
+    }
+
+    private static AccountEvent event(long id) {
+        return AccountEvent.builder().eventId(id).accountId(id).build();
+    }
+}
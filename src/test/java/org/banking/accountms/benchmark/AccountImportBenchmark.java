@@ -0,0 +1,96 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountImportResponse;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountService;
+import org.banking.accountms.service.importing.AccountImportService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Importa {@value #ROWS} cuentas de un CSV (con una fila inválida de cada 100) y compara el ritmo con el alta
+ * por JPA de las mismas solicitudes en transacciones de {@value #CHUNK}, como hace el worker de altas
+ * asíncronas. Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AccountImportBenchmark {
+
+    private static final int ROWS = 100_000;
+    private static final int CHUNK = 2000;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void csvImportInsertsFasterThanPerEntityCreation() throws Exception {
+        Path file = dir.resolve("legacy.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("client_id,type,initial_balance\n");
+            for (int i = 1; i <= ROWS; i++) {
+                writer.write(i + "," + (i % 2 == 0 ? "SAVINGS" : "CHECKING") + "," + (i % 100 == 0 ? "0" : "150.25") + "\n");
+            }
+        }
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_import;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.creation-jobs.worker-enabled=false",
+                "--account.import.directory=" + dir,
+                "--account.import.chunk-size=" + CHUNK,
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            AccountImportResponse imported = context.getBean(AccountImportService.class).importFile("legacy.csv");
+            long openings = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM account_movements WHERE type = 'OPENING'", Long.class);
+
+            AccountService accountService = context.getBean(AccountService.class);
+            long started = System.nanoTime();
+            List<CreateAccountRequest> chunk = new ArrayList<>(CHUNK);
+            int created = 0;
+            for (int i = 1; i <= ROWS; i++) {
+                if (i % 100 == 0) {
+                    continue;
+                }
+                chunk.add(new CreateAccountRequest((long) i, i % 2 == 0 ? AccountType.SAVINGS : AccountType.CHECKING,
+                        new BigDecimal("150.25")));
+                if (chunk.size() == CHUNK || i == ROWS) {
+                    created += accountService.createChecked(chunk).size();
+                    chunk.clear();
+                }
+            }
+            double entityRate = created * 1e9 / (System.nanoTime() - started);
+
+            System.out.printf("importación CSV: %d filas/s (%d importadas, %d rechazadas)%n"
+                            + "alta por entidad: %.0f cuentas/s%n",
+                    imported.getRowsPerSecond(), imported.getImported(), imported.getRejected(), entityRate);
+            assertThat(imported.getImported()).isEqualTo(ROWS - ROWS / 100);
+            assertThat(imported.getRejected()).isEqualTo(ROWS / 100);
+            assertThat(openings).isEqualTo(ROWS - ROWS / 100);
+            assertThat(Files.readAllLines(dir.resolve(imported.getRejectFile()))).hasSize(ROWS / 100 + 1);
+            assertThat((double) imported.getRowsPerSecond()).isGreaterThan(entityRate);
+        }
+    }
+}
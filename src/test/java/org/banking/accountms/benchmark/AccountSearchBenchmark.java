@@ -0,0 +1,140 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountCursor;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Recorre /cuentas/buscar (cuentas CHECKING activas con saldo negativo) sobre una tabla grande y mide la
+ * latencia de la página a distintas profundidades, con el cursor de ID frente al equivalente con OFFSET
+ * sobre el mismo índice. Con keyset cada página lee unas pocas entradas del índice (type, active, id) a
+ * partir del cursor; con OFFSET la base de datos evalúa y descarta todas las filas anteriores.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AccountSearchBenchmark {
+
+    private static final int ACCOUNTS = 400_000;
+    private static final int PAGE_SIZE = 50;
+    private static final int[] DEPTHS = {0, 1_000, 10_000, 50_000, 70_000};
+    private static final int WARMUP_ROUNDS = 200;
+    private static final int SAMPLES = 100;
+    private static final String FILTER = "Account a where a.type = :type and a.active = true and a.balance < 0 "
+            + "order by a.type, a.active, a.id";
+
+    @Test
+    void keysetPageLatencyDoesNotGrowWithDepth() {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_search;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            seed(context.getBean(JdbcTemplate.class));
+            AccountService accountService = context.getBean(AccountService.class);
+            EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+            AccountSearchCriteria criteria = AccountSearchCriteria.builder()
+                    .type(AccountType.CHECKING).active(true).maxBalance(new BigDecimal("-0.01")).build();
+
+            // Cada muestra pide una página distinta: H2 reutiliza el resultado de una consulta idéntica.
+            List<Long> matching = matchingIds(entityManagerFactory);
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                for (int depth : DEPTHS) {
+                    accountService.search(criteria, cursorAt(matching, depth + round), PAGE_SIZE);
+                    offsetPage(entityManagerFactory, depth + round);
+                }
+            }
+
+            long[] keyset = new long[DEPTHS.length];
+            long[] offset = new long[DEPTHS.length];
+            for (int i = 0; i < DEPTHS.length; i++) {
+                int depth = DEPTHS[i];
+                keyset[i] = median(sample -> accountService.search(criteria, cursorAt(matching, depth + sample), PAGE_SIZE));
+                offset[i] = median(sample -> offsetPage(entityManagerFactory, depth + sample));
+                System.out.printf("profundidad %6d filas: keyset %6d us, offset %6d us%n",
+                        depth, keyset[i] / 1_000, offset[i] / 1_000);
+            }
+
+            int deepest = DEPTHS.length - 1;
+            assertThat(keyset[deepest]).isLessThan(keyset[0] * 2);
+            assertThat(offset[deepest]).isGreaterThan(offset[0] * 2);
+        }
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String type = i % 2 == 0 ? "CHECKING" : "SAVINGS";
+            rows.add(new Object[]{"S-" + i, (i % 1_000) - 500, type, i % 5_000 + 1, i % 4 != 1});
+            if (rows.size() == 10_000) {
+                insert(jdbcTemplate, rows);
+                rows.clear();
+            }
+        }
+        insert(jdbcTemplate, rows);
+    }
+
+    private static void insert(JdbcTemplate jdbcTemplate, List<Object[]> rows) {
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                + "VALUES (?, ?, ?, ?, ?)", rows);
+    }
+
+    private static String cursorAt(List<Long> matching, int depth) {
+        return depth == 0 ? null : new AccountCursor(matching.get(depth - 1)).encode();
+    }
+
+    private static List<Long> matchingIds(EntityManagerFactory entityManagerFactory) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select a.id from " + FILTER, Long.class)
+                    .setParameter("type", AccountType.CHECKING)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static List<Account> offsetPage(EntityManagerFactory entityManagerFactory, int depth) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            return entityManager.createQuery("select a from " + FILTER, Account.class)
+                    .setParameter("type", AccountType.CHECKING)
+                    .setFirstResult(depth)
+                    .setMaxResults(PAGE_SIZE + 1)
+                    .getResultList();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private static long median(IntConsumer page) {
+        LatencyRecorder recorder = new LatencyRecorder();
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            page.accept(i);
+            recorder.record(System.nanoTime() - start);
+        }
+        return recorder.percentile(50);
+    }
+}
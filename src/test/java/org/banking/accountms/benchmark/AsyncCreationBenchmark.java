@@ -0,0 +1,116 @@
+package org.banking.accountms.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountCreationJobService;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@value #THREADS} hilos crean {@value #REQUESTS} cuentas contra un servicio de clientes que tarda
+ * {@value #CLIENT_LATENCY_MS} ms, primero con el alta síncrona y luego con {@code POST /cuentas?async=true}.
+ * Compara la latencia que ve el llamante (lo que retiene un hilo de Tomcat) y mide a qué ritmo los
+ * workers vacían la cola. Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class AsyncCreationBenchmark {
+
+    private static final long CLIENT_LATENCY_MS = 50;
+    private static final int THREADS = 8;
+    private static final int REQUESTS = 400;
+
+    @Test
+    void asyncCreationReleasesCallerBeforeTheClientCheck() throws Exception {
+        HttpServer clientService = HttpServer.create(new InetSocketAddress(0), 1_000);
+        clientService.setExecutor(Executors.newCachedThreadPool());
+        clientService.createContext("/clientes/", exchange -> {
+            try {
+                Thread.sleep(CLIENT_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        clientService.start();
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_async;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--client.service-url=http://localhost:" + clientService.getAddress().getPort(),
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.creation-jobs.workers=4",
+                "--account.creation-jobs.poll-interval-ms=50",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            AccountService accountService = context.getBean(AccountService.class);
+            AccountCreationJobService jobService = context.getBean(AccountCreationJobService.class);
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+            LatencyRecorder sync = measure(accountService::createAccount);
+            long start = System.nanoTime();
+            LatencyRecorder async = measure(jobService::submit);
+            long pending;
+            do {
+                Thread.sleep(20);
+                pending = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM account_creation_jobs WHERE status IN ('PENDING', 'RUNNING')", Long.class);
+            } while (pending > 0 && System.nanoTime() - start < TimeUnit.MINUTES.toNanos(2));
+            double drainSeconds = (System.nanoTime() - start) / 1e9;
+
+            Long done = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM account_creation_jobs WHERE status = 'DONE' AND account_id IS NOT NULL", Long.class);
+            Long accounts = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts", Long.class);
+            System.out.printf("síncrono: p50 %.1f ms  p99 %.1f ms%nasíncrono: p50 %.1f ms  p99 %.1f ms, "
+                            + "cola vaciada en %.1f s (%.0f altas/s)%n",
+                    sync.percentile(50) / 1e6, sync.percentile(99) / 1e6,
+                    async.percentile(50) / 1e6, async.percentile(99) / 1e6, drainSeconds, REQUESTS / drainSeconds);
+            assertThat(done).isEqualTo(REQUESTS);
+            assertThat(accounts).isEqualTo(2L * REQUESTS);
+            assertThat(async.percentile(99)).isLessThan(sync.percentile(50));
+        } finally {
+            clientService.stop(0);
+        }
+    }
+
+    private static LatencyRecorder measure(Consumer<CreateAccountRequest> create) throws Exception {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> results = new ArrayList<>();
+        for (int i = 0; i < REQUESTS; i++) {
+            CreateAccountRequest request = new CreateAccountRequest((long) i % 50 + 1, AccountType.SAVINGS, BigDecimal.TEN);
+            results.add(pool.submit(() -> {
+                long begin = System.nanoTime();
+                create.accept(request);
+                recorder.record(System.nanoTime() - begin);
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get();
+        }
+        pool.shutdown();
+        return recorder;
+    }
+}
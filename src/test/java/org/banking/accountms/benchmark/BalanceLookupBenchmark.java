@@ -0,0 +1,90 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.response.AccountBalanceItem;
+import org.banking.accountms.dto.response.BalanceLookupResponse;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Saldos de {@value #PAGE} cuentas (algunas calientes, con saldo en particiones), {@value #ROUNDS} veces:
+ * una llamada a {@link AccountService#get} por cuenta frente a una sola llamada a
+ * {@link AccountService#balances}. Ambas deben devolver los mismos saldos.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BalanceLookupBenchmark {
+
+    private static final int PAGE = 500;
+    private static final int ROUNDS = 20;
+
+    @Test
+    void oneProjectionQueryBeatsOneLookupPerAccount() {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_balances;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AccountService accountService = context.getBean(AccountService.class);
+            AccountBalanceService balanceService = context.getBean(AccountBalanceService.class);
+
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < PAGE; i++) {
+                jdbcTemplate.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                        + "VALUES (?, ?, 'CHECKING', 1, TRUE)", "BAL" + i, i);
+                ids.add(jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?", Long.class,
+                        "BAL" + i));
+            }
+            for (int i = 0; i < PAGE; i += 50) {
+                balanceService.changeStripes(ids.get(i), 4);
+                balanceService.deposit(ids.get(i), new BigDecimal("7.50"));
+            }
+            List<Long> requested = new ArrayList<>(ids);
+            requested.add(-1L);
+
+            long started = System.nanoTime();
+            List<BigDecimal> oneByOne = new ArrayList<>();
+            for (int round = 0; round < ROUNDS; round++) {
+                oneByOne.clear();
+                for (Long id : ids) {
+                    oneByOne.add(accountService.get(id).getBalance());
+                }
+            }
+            double oneByOneMs = (System.nanoTime() - started) / 1e6 / ROUNDS;
+
+            started = System.nanoTime();
+            BalanceLookupResponse response = null;
+            for (int round = 0; round < ROUNDS; round++) {
+                response = accountService.balances(requested);
+            }
+            double batchedMs = (System.nanoTime() - started) / 1e6 / ROUNDS;
+
+            System.out.printf("una consulta por cuenta: %.2f ms por página de %d%nPOST /cuentas/saldos:    %.2f ms%n",
+                    oneByOneMs, PAGE, batchedMs);
+            assertThat(response.getMissing()).containsExactly(-1L);
+            assertThat(response.getBalances()).extracting(AccountBalanceItem::getBalance)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactlyElementsOf(oneByOne);
+            assertThat(response.getBalances().get(0).getBalance()).isEqualByComparingTo("7.50");
+            assertThat(batchedMs).isLessThan(oneByOneMs);
+        }
+    }
+}
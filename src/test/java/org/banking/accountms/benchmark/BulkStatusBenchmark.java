@@ -0,0 +1,78 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.request.BulkStatusRequest;
+import org.banking.accountms.dto.response.BulkStatusResponse;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Desactiva las mismas cuentas primero una a una ({@code deactivate}: SELECT + UPDATE por cuenta) y
+ * luego en bloques de 1000 con {@code changeStatus} (un SELECT ... FOR UPDATE y un UPDATE por bloque).
+ * Ambas variantes escriben el evento de outbox de cada cuenta, así que la diferencia mide los viajes
+ * a la base de datos ahorrados. Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class BulkStatusBenchmark {
+
+    private static final int ACCOUNTS = 5_000;
+    private static final int CHUNK = 1_000;
+
+    @Test
+    void bulkUpdateChangesMoreAccountsPerSecond() {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_bulk;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AccountService accountService = context.getBean(AccountService.class);
+
+            List<Long> single = seed(jdbcTemplate, "ONE");
+            long start = System.nanoTime();
+            single.forEach(accountService::deactivate);
+            double singleRate = ACCOUNTS / ((System.nanoTime() - start) / 1e9);
+
+            List<Long> bulk = seed(jdbcTemplate, "BLK");
+            int updated = 0;
+            start = System.nanoTime();
+            for (int from = 0; from < bulk.size(); from += CHUNK) {
+                List<Long> chunk = bulk.subList(from, Math.min(from + CHUNK, bulk.size()));
+                BulkStatusResponse response = accountService.changeStatus(new BulkStatusRequest(chunk, null, false));
+                updated += response.getUpdated();
+            }
+            double bulkRate = ACCOUNTS / ((System.nanoTime() - start) / 1e9);
+
+            System.out.printf("una a una: %.0f cuentas/s%nen bloque:  %.0f cuentas/s%n", singleRate, bulkRate);
+            assertThat(updated).isEqualTo(ACCOUNTS);
+            assertThat(bulkRate).isGreaterThan(singleRate);
+        }
+    }
+
+    private static List<Long> seed(JdbcTemplate jdbcTemplate, String prefix) {
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            rows.add(new Object[]{prefix + "-" + i, i % 100 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                + "VALUES (?, 0, 'SAVINGS', ?, TRUE)", rows);
+        long last = jdbcTemplate.queryForObject("SELECT MAX(id) FROM accounts", Long.class);
+        return LongStream.rangeClosed(last - ACCOUNTS + 1, last).boxed().collect(Collectors.toList());
+    }
+}
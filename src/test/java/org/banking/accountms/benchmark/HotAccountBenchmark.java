@@ -0,0 +1,104 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.job.BalanceStripeFoldJob;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@value #THREADS} hilos depositan a la vez en una misma cuenta durante {@value #SECONDS} s, primero con
+ * la cuenta normal (todos esperan el bloqueo de su fila) y luego con {@value #STRIPES} particiones de saldo.
+ * Al final se pliegan las particiones y se comprueba que el saldo coincide con lo depositado.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class HotAccountBenchmark {
+
+    private static final int THREADS = 16;
+    private static final int STRIPES = 16;
+    private static final int SECONDS = 5;
+
+    @Test
+    void stripedAccountAcceptsMoreDepositsPerSecond() throws Exception {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_hot;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AccountBalanceService balanceService = context.getBean(AccountBalanceService.class);
+
+            long single = seed(jdbcTemplate, "ONE");
+            double singleRate = depositsPerSecond(balanceService, single);
+
+            long striped = seed(jdbcTemplate, "HOT");
+            balanceService.changeStripes(striped, STRIPES);
+            double stripedRate = depositsPerSecond(balanceService, striped);
+
+            context.getBean(BalanceStripeFoldJob.class).run();
+            BigDecimal deposited = jdbcTemplate.queryForObject(
+                    "SELECT SUM(amount) FROM account_movements WHERE account_id = ?", BigDecimal.class, striped);
+            BigDecimal stored = jdbcTemplate.queryForObject(
+                    "SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, striped);
+
+            System.out.printf("una fila:       %.0f depósitos/s%n%d particiones: %.0f depósitos/s%n",
+                    singleRate, STRIPES, stripedRate);
+            assertThat(stored).isEqualByComparingTo(deposited);
+            assertThat(context.getBean(AccountService.class).get(striped).getBalance()).isEqualByComparingTo(deposited);
+            assertThat(stripedRate).isGreaterThan(singleRate);
+        }
+    }
+
+    private static double depositsPerSecond(AccountBalanceService balanceService, long accountId) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        for (int t = 0; t < THREADS; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                int done = 0;
+                while (System.nanoTime() < deadline) {
+                    balanceService.deposit(accountId, BigDecimal.ONE);
+                    done++;
+                }
+                return done;
+            }));
+        }
+        start.countDown();
+        long total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        pool.shutdown();
+        return total / (double) SECONDS;
+    }
+
+    private static long seed(JdbcTemplate jdbcTemplate, String accountNumber) {
+        jdbcTemplate.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                + "VALUES (?, 0, 'CHECKING', 1, TRUE)", accountNumber);
+        return jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?", Long.class, accountNumber);
+    }
+}
@@ -0,0 +1,33 @@
+package org.banking.accountms.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * Acumula latencias en nanosegundos y calcula percentiles exactos al final de la medición.
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1 << 16];
+    private int size;
+
+    synchronized void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    synchronized int count() {
+        return size;
+    }
+
+    synchronized long percentile(double percentile) {
+        if (size == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return sorted[Math.max(0, Math.min(index, size - 1))];
+    }
+}
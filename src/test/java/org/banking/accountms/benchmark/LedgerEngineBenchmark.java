@@ -0,0 +1,137 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.ledger.LedgerEngine;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@value #THREADS} hilos depositan y retiran durante {@value #SECONDS} s sobre {@value #ACCOUNTS} cuentas,
+ * primero con {@link AccountBalanceService} (bloqueo de fila y transacción por comando) y luego con el
+ * {@link LedgerEngine}, cada uno sobre sus propias cuentas. Tras cerrar el contexto se comprueba que el saldo
+ * guardado de cada cuenta coincide con la suma de sus movimientos.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LedgerEngineBenchmark {
+
+    private static final String URL = "jdbc:h2:mem:bench_ledger;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=30000";
+    private static final int THREADS = 8;
+    private static final int ACCOUNTS = 100;
+    private static final int SECONDS = 5;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void ledgerEngineAppliesMoreCommandsPerSecond() throws Exception {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=" + URL,
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.ledger.enabled=true",
+                "--account.ledger.journal-path=" + dir.resolve("ledger.journal"),
+                "--logging.level.root=WARN"
+        };
+        LatencyRecorder lockLatency = new LatencyRecorder();
+        LatencyRecorder ledgerLatency = new LatencyRecorder();
+        double lockRate;
+        double ledgerRate;
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AccountBalanceService balanceService = context.getBean(AccountBalanceService.class);
+            LedgerEngine engine = context.getBean(LedgerEngine.class);
+
+            long[] locked = seed(jdbcTemplate, "LCK");
+            lockRate = commandsPerSecond(locked, lockLatency, balanceService::deposit, balanceService::withdraw);
+
+            long[] ledger = seed(jdbcTemplate, "LDG");
+            ledgerRate = commandsPerSecond(ledger, ledgerLatency, engine::deposit, engine::withdraw);
+        }
+
+        report("bloqueo de fila", lockRate, lockLatency);
+        report("ledger", ledgerRate, ledgerLatency);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+        Integer mismatched = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts a WHERE a.balance <> "
+                + "(SELECT COALESCE(SUM(m.amount), 0) FROM account_movements m WHERE m.account_id = a.id)", Integer.class);
+        assertThat(mismatched).isZero();
+        assertThat(ledgerRate).isGreaterThan(lockRate);
+    }
+
+    private static double commandsPerSecond(long[] accounts, LatencyRecorder latency,
+                                            BiConsumer<Long, BigDecimal> deposit,
+                                            BiConsumer<Long, BigDecimal> withdraw) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(SECONDS);
+        for (int t = 0; t < THREADS; t++) {
+            results.add(pool.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int done = 0;
+                while (System.nanoTime() < deadline) {
+                    long accountId = accounts[random.nextInt(accounts.length)];
+                    long begin = System.nanoTime();
+                    // Cuentas corrientes: el retiro de 1 solo falla por debajo de -500, que no se alcanza.
+                    if (random.nextInt(4) == 0) {
+                        withdraw.accept(accountId, BigDecimal.ONE);
+                    } else {
+                        deposit.accept(accountId, BigDecimal.ONE);
+                    }
+                    latency.record(System.nanoTime() - begin);
+                    done++;
+                }
+                return done;
+            }));
+        }
+        start.countDown();
+        long total = 0;
+        for (Future<Integer> result : results) {
+            total += result.get();
+        }
+        pool.shutdown();
+        return total / (double) SECONDS;
+    }
+
+    private static void report(String label, double rate, LatencyRecorder latency) {
+        System.out.printf("%-16s %8.0f comandos/s  p50=%.3f ms  p99=%.3f ms  p99.9=%.3f ms%n", label, rate,
+                latency.percentile(50) / 1e6, latency.percentile(99) / 1e6, latency.percentile(99.9) / 1e6);
+    }
+
+    private static long[] seed(JdbcTemplate jdbcTemplate, String prefix) {
+        long[] ids = new long[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = prefix + i;
+            jdbcTemplate.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                    + "VALUES (?, 0, 'CHECKING', 1, TRUE)", accountNumber);
+            ids[i] = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?", Long.class,
+                    accountNumber);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,106 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.service.concurrency.AdaptiveConcurrencyLimiter;
+import org.banking.accountms.service.concurrency.LimitSettings;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Simula un pool de 200 hilos tipo Tomcat frente a un backend con 8 conexiones (~5 ms por
+ * petición, ~1600 req/s) y le envía 2500 req/s. Sin protección la cola crece sin límite; con el
+ * limitador adaptativo el exceso se rechaza y el p99 de las peticiones aceptadas queda acotado.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class LoadSheddingBenchmark {
+
+    private static final int WORKERS = 200;
+    private static final int BACKEND_CONNECTIONS = 8;
+    private static final long SERVICE_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int ARRIVALS_PER_SECOND = 2_500;
+    private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(3);
+
+    @Test
+    void adaptiveLimiterKeepsP99BoundedUnderOverload() throws InterruptedException {
+        Result unprotected = run(null);
+
+        LimitSettings settings = new LimitSettings();
+        settings.setInitialLimit(20);
+        settings.setMaxLimit(WORKERS);
+        settings.setWindowSize(200);
+        Result protectedRun = run(new AdaptiveConcurrencyLimiter("bench", settings, System::nanoTime));
+
+        System.out.printf("sin limitador: %s%ncon limitador: %s%n", unprotected, protectedRun);
+        assertThat(protectedRun.p99Millis()).isLessThan(unprotected.p99Millis());
+    }
+
+    private Result run(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        ExecutorService tomcat = Executors.newFixedThreadPool(WORKERS);
+        Semaphore backend = new Semaphore(BACKEND_CONNECTIONS, true);
+        LatencyRecorder latencies = new LatencyRecorder();
+        AtomicLong shed = new AtomicLong();
+
+        long interval = TimeUnit.SECONDS.toNanos(1) / ARRIVALS_PER_SECOND;
+        long start = System.nanoTime();
+        for (long next = start; next - start < DURATION_NANOS; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            long arrival = next;
+            tomcat.execute(() -> handle(arrival, limiter, backend, latencies, shed));
+        }
+        tomcat.shutdown();
+        tomcat.awaitTermination(2, TimeUnit.MINUTES);
+        return new Result(latencies, shed.get());
+    }
+
+    private void handle(long arrival, AdaptiveConcurrencyLimiter limiter, Semaphore backend,
+                        LatencyRecorder latencies, AtomicLong shed) {
+        Optional<Long> permit = limiter == null ? Optional.of(System.nanoTime()) : limiter.tryAcquire();
+        if (permit.isEmpty()) {
+            shed.incrementAndGet();
+            return;
+        }
+        backend.acquireUninterruptibly();
+        try {
+            LockSupport.parkNanos(SERVICE_NANOS);
+        } finally {
+            backend.release();
+        }
+        if (limiter != null) {
+            limiter.release(permit.get(), false);
+        }
+        latencies.record(System.nanoTime() - arrival);
+    }
+
+    private static final class Result {
+        private final LatencyRecorder latencies;
+        private final long shed;
+
+        Result(LatencyRecorder latencies, long shed) {
+            this.latencies = latencies;
+            this.shed = shed;
+        }
+
+        double p99Millis() {
+            return latencies.percentile(99) / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("aceptadas=%d rechazadas=%d p50=%.1fms p99=%.1fms",
+                    latencies.count(), shed, latencies.percentile(50) / 1e6, p99Millis());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.dto.response.MovementBatchResponse;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.MovementBatchService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Registra {@value #ENTRIES} movimientos sobre {@value #ACCOUNTS} cuentas: primero uno por llamada con
+ * {@link AccountBalanceService} (una transacción por movimiento) y luego en un único arreglo JSON con
+ * {@link MovementBatchService}. Comprueba que ambos dejan los mismos saldos.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class MovementBatchBenchmark {
+
+    private static final int ACCOUNTS = 1_000;
+    private static final int ENTRIES = 20_000;
+
+    @Test
+    void batchPostingIsFasterThanOneTransactionPerMovement() throws Exception {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_movement_batch;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            AccountBalanceService balanceService = context.getBean(AccountBalanceService.class);
+            MovementBatchService batchService = context.getBean(MovementBatchService.class);
+
+            long[] single = seed(jdbcTemplate, "ONE");
+            long[] batched = seed(jdbcTemplate, "BAT");
+            List<int[]> plan = plan();
+
+            long started = System.nanoTime();
+            for (int[] step : plan) {
+                BigDecimal amount = BigDecimal.valueOf(step[2]);
+                if (step[1] == 0) {
+                    balanceService.deposit(single[step[0]], amount);
+                } else {
+                    balanceService.withdraw(single[step[0]], amount);
+                }
+            }
+            double singleRate = ENTRIES / ((System.nanoTime() - started) / 1e9);
+
+            StringBuilder json = new StringBuilder("[");
+            for (int[] step : plan) {
+                json.append(json.length() > 1 ? "," : "")
+                        .append("{\"accountId\":").append(batched[step[0]])
+                        .append(",\"type\":\"").append(step[1] == 0 ? "DEPOSIT" : "WITHDRAWAL")
+                        .append("\",\"amount\":").append(step[2]).append('}');
+            }
+            MovementBatchResponse response = batchService.post(new ByteArrayInputStream(
+                    json.append(']').toString().getBytes(StandardCharsets.UTF_8)));
+
+            System.out.printf("uno por transacción: %.0f movimientos/s%nlote:                %d movimientos/s "
+                    + "(%d bloques, %d ms)%n", singleRate, response.getEntriesPerSecond(), response.getChunks(),
+                    response.getElapsedMs());
+            for (int i = 0; i < ACCOUNTS; i++) {
+                assertThat(balanceOf(jdbcTemplate, batched[i])).isEqualByComparingTo(balanceOf(jdbcTemplate, single[i]));
+            }
+            assertThat(response.getAccepted()).isEqualTo(ENTRIES);
+            assertThat((double) response.getEntriesPerSecond()).isGreaterThan(singleRate);
+        }
+    }
+
+    /**
+     * {cuenta, 0 = depósito / 1 = retiro, importe}. Los retiros de cuentas corrientes nunca pasan de -500.
+     */
+    private static List<int[]> plan() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<int[]> plan = new ArrayList<>(ENTRIES);
+        for (int i = 0; i < ENTRIES; i++) {
+            plan.add(new int[]{random.nextInt(ACCOUNTS), random.nextInt(4) == 0 ? 1 : 0, 1 + random.nextInt(20)});
+        }
+        return plan;
+    }
+
+    private static BigDecimal balanceOf(JdbcTemplate jdbcTemplate, long id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, id);
+    }
+
+    private static long[] seed(JdbcTemplate jdbcTemplate, String prefix) {
+        long[] ids = new long[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            String accountNumber = prefix + i;
+            jdbcTemplate.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                    + "VALUES (?, 0, 'CHECKING', 1, TRUE)", accountNumber);
+            ids[i] = jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?", Long.class,
+                    accountNumber);
+        }
+        return ids;
+    }
+}
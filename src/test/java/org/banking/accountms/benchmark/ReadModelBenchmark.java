@@ -0,0 +1,142 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.config.ReadModelProperties;
+import org.banking.accountms.service.AccountService;
+import org.banking.accountms.service.readmodel.AccountReadModel;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * {@value #ACCOUNTS} cuentas de {@value #CLIENTS} clientes. Mide {@code listByClient} ({@value #LOOKUPS} clientes al
+ * azar) y {@code listAll} ({@value #FULL_LISTS} veces) contra la base de datos y contra el modelo de lectura fuera
+ * del heap: latencia, bytes asignados por el hilo y pausas de GC durante cada medición.
+ * Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ReadModelBenchmark {
+
+    private static final int ACCOUNTS = 200_000;
+    private static final int CLIENTS = 20_000;
+    private static final int LOOKUPS = 20_000;
+    private static final int FULL_LISTS = 5;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void readModelServesListsWithLessAllocationAndLatency() throws Exception {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_read_model;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.creation-jobs.worker-enabled=false",
+                "--account.read-model.enabled=true",
+                "--account.read-model.directory=" + dir,
+                "--account.read-model.rebuild-min-interval-ms=0",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            List<Object[]> rows = new ArrayList<>(ACCOUNTS);
+            for (int i = 1; i <= ACCOUNTS; i++) {
+                rows.add(new Object[]{"SVG-" + i, new BigDecimal("1000.50"), 1 + i % CLIENTS});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                    + "VALUES (?, ?, 'SAVINGS', ?, TRUE)", rows);
+
+            AccountReadModel readModel = context.getBean(AccountReadModel.class);
+            ReadModelProperties properties = context.getBean(ReadModelProperties.class);
+            AccountService accountService = context.getBean(AccountService.class);
+            readModel.accountsChanged(null);
+            long deadline = System.currentTimeMillis() + 60_000;
+            while (!readModel.isReady() || readModel.listAll().size() < ACCOUNTS) {
+                assertThat(System.currentTimeMillis()).isLessThan(deadline);
+                Thread.sleep(50);
+            }
+
+            properties.setEnabled(false);
+            Measurement database = measure(accountService);
+            properties.setEnabled(true);
+            Measurement offHeap = measure(accountService);
+
+            System.out.printf("base de datos:      %s%nmodelo de lectura:  %s%n", database, offHeap);
+            assertThat(offHeap.byClientP99).isLessThan(database.byClientP99);
+            assertThat(offHeap.allocatedBytes).isLessThan(database.allocatedBytes);
+        }
+    }
+
+    private static Measurement measure(AccountService accountService) {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 2_000; i++) {
+            accountService.listByClient(1L + random.nextInt(CLIENTS));
+        }
+        System.gc();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        long gcBefore = gcMillis();
+
+        LatencyRecorder byClient = new LatencyRecorder();
+        int found = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            long started = System.nanoTime();
+            found += accountService.listByClient(1L + random.nextInt(CLIENTS)).size();
+            byClient.record(System.nanoTime() - started);
+        }
+        LatencyRecorder all = new LatencyRecorder();
+        for (int i = 0; i < FULL_LISTS; i++) {
+            long started = System.nanoTime();
+            assertThat(accountService.listAll()).hasSize(ACCOUNTS);
+            all.record(System.nanoTime() - started);
+        }
+        assertThat(found).isEqualTo(LOOKUPS * (ACCOUNTS / CLIENTS));
+
+        Measurement measurement = new Measurement();
+        measurement.byClientP50 = byClient.percentile(50) / 1_000;
+        measurement.byClientP99 = byClient.percentile(99) / 1_000;
+        measurement.listAllP50 = all.percentile(50) / 1_000_000;
+        measurement.allocatedBytes = threads.getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore;
+        measurement.gcMillis = gcMillis() - gcBefore;
+        return measurement;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static final class Measurement {
+        private long byClientP50;
+        private long byClientP99;
+        private long listAllP50;
+        private long allocatedBytes;
+        private long gcMillis;
+
+        @Override
+        public String toString() {
+            return String.format("listByClient p50 %d µs, p99 %d µs; listAll p50 %d ms; %d MB asignados; GC %d ms",
+                    byClientP50, byClientP99, listAllP50, allocatedBytes >> 20, gcMillis);
+        }
+    }
+}
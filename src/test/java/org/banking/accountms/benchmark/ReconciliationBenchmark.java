@@ -0,0 +1,102 @@
+package org.banking.accountms.benchmark;
+
+import org.banking.accountms.AccountMsApplication;
+import org.banking.accountms.config.ReconciliationProperties;
+import org.banking.accountms.job.reconciliation.BalanceMismatch;
+import org.banking.accountms.job.reconciliation.BalanceReconciliationJob;
+import org.banking.accountms.job.reconciliation.ReconciliationReport;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Concilia {@value #ACCOUNTS} cuentas (cada una con {@value #MOVEMENTS_PER_ACCOUNT} movimientos) contra el
+ * registro de movimientos. La referencia trae a memoria el saldo de cada cuenta y la suma de sus movimientos
+ * y los compara uno a uno; el job compara resúmenes por partición y solo detalla las que no cuadran.
+ * Con H2 embebido traer una fila cuesta casi lo mismo que agregarla y con un solo núcleo el fork-join no
+ * reparte nada, así que aquí ambos tiempos quedan parejos; lo que se comprueba es que una ejecución con dos
+ * descuadres solo detalla sus dos particiones. Ejecutar con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ReconciliationBenchmark {
+
+    private static final int ACCOUNTS = 100_000;
+    private static final int MOVEMENTS_PER_ACCOUNT = 3;
+
+    @Test
+    void drillsDownOnlyIntoMismatchingPartitions() {
+        String[] args = {
+                "--spring.main.web-application-type=none",
+                "--spring.datasource.url=jdbc:h2:mem:bench_reconciliation;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--account.hot.fold-enabled=false",
+                "--account.creation-jobs.worker-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AccountMsApplication.class).run(args)) {
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            context.getBean(ReconciliationProperties.class).setPartitionSize(5_000);
+            BalanceReconciliationJob job = context.getBean(BalanceReconciliationJob.class);
+            seed(jdbcTemplate);
+
+            // calentamiento de ambos caminos
+            rowByRow(jdbcTemplate);
+            job.run();
+
+            long start = System.nanoTime();
+            int rowByRowMismatches = rowByRow(jdbcTemplate);
+            double rowByRowSeconds = (System.nanoTime() - start) / 1e9;
+            ReconciliationReport clean = job.run();
+
+            jdbcTemplate.update("UPDATE accounts SET balance = balance + 1 WHERE id IN (17, 54321)");
+            ReconciliationReport drift = job.run();
+
+            System.out.printf("fila a fila: %.2f s%nparticiones: %.2f s limpio, %.2f s con 2 descuadres (%d de %d particiones)%n",
+                    rowByRowSeconds, clean.getSeconds(), drift.getSeconds(),
+                    drift.getMismatchedPartitions(), drift.getPartitions());
+            assertThat(rowByRowMismatches).isZero();
+            assertThat(clean.isClean()).isTrue();
+            assertThat(clean.getAccounts()).isEqualTo(ACCOUNTS);
+            assertThat(drift.getMismatches()).extracting(BalanceMismatch::getAccountId).containsExactly(17L, 54321L);
+            assertThat(drift.getMismatchedPartitions()).isEqualTo(2);
+        }
+    }
+
+    private static int rowByRow(JdbcTemplate jdbcTemplate) {
+        Map<Long, BigDecimal> balances = new HashMap<>();
+        jdbcTemplate.query("SELECT id, balance FROM accounts", rs -> {
+            balances.put(rs.getLong(1), rs.getBigDecimal(2));
+        });
+        Map<Long, BigDecimal> expected = new HashMap<>();
+        jdbcTemplate.query("SELECT account_id, SUM(amount) FROM account_movements GROUP BY account_id", rs -> {
+            expected.put(rs.getLong(1), rs.getBigDecimal(2));
+        });
+        int mismatches = 0;
+        for (Map.Entry<Long, BigDecimal> entry : balances.entrySet()) {
+            BigDecimal sum = expected.get(entry.getKey());
+            if (sum == null || sum.compareTo(entry.getValue()) != 0) {
+                mismatches++;
+            }
+        }
+        return mismatches;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO accounts (id, account_number, balance, type, client_id, active) "
+                + "SELECT X, CONCAT('R', X), 150.00, 'SAVINGS', 1, TRUE FROM SYSTEM_RANGE(1, " + ACCOUNTS + ")");
+        jdbcTemplate.update("INSERT INTO account_movements (account_id, amount, resulting_balance, type, created_at) "
+                + "SELECT MOD(X - 1, " + ACCOUNTS + ") + 1, 50.00, 0, 'DEPOSIT', CURRENT_TIMESTAMP "
+                + "FROM SYSTEM_RANGE(1, " + (ACCOUNTS * MOVEMENTS_PER_ACCOUNT) + ")");
+    }
+}
@@ -0,0 +1,159 @@
+package org.banking.accountms.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import org.banking.accountms.AccountMsApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Compara la creación de cuentas con alta concurrencia en la variante servlet (Tomcat, un hilo por
+ * petición) y en el perfil {@code reactive} (Netty + R2DBC + WebClient). El servicio de clientes es un
+ * stub que tarda 200 ms, como un backend remoto lento; Tomcat se limita a 50 hilos para que el tope de
+ * hilos se vea a la escala de esta prueba. En la variante servlet la llamada al servicio de clientes
+ * ocurre dentro de la transacción, así que además retiene una conexión del pool JDBC mientras espera.
+ * Ejecutar con {@code mvn test -Pbenchmark}; con pocos núcleos ambas variantes quedan limitadas por CPU.
+ */
+@Tag("benchmark")
+class ServletVsReactiveBenchmark {
+
+    private static final long CLIENT_LATENCY_MS = 200;
+    private static final int TOMCAT_THREADS = 50;
+    private static final int REQUESTS = 2_000;
+    private static final int CONCURRENCY = 200;
+
+    private static HttpServer clientService;
+
+    @BeforeAll
+    static void startClientService() throws Exception {
+        clientService = HttpServer.create(new InetSocketAddress(0), 1_000);
+        clientService.setExecutor(Executors.newCachedThreadPool());
+        clientService.createContext("/clientes/", exchange -> {
+            try {
+                Thread.sleep(CLIENT_LATENCY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        clientService.start();
+    }
+
+    @AfterAll
+    static void stopClientService() {
+        clientService.stop(0);
+    }
+
+    @Test
+    void reactiveStackSustainsMoreConcurrentCreates() throws Exception {
+        Result servlet = runAgainst("servlet");
+        Result reactive = runAgainst("reactive");
+
+        System.out.printf("servlet:  %s%nreactive: %s%n", servlet, reactive);
+        // Con generador, stub y servidor compartiendo pocos núcleos algún timeout aislado es esperable.
+        assertThat(servlet.errors).isLessThan(REQUESTS / 100);
+        assertThat(reactive.errors).isLessThan(REQUESTS / 100);
+        assertThat(reactive.throughput()).isGreaterThan(servlet.throughput());
+    }
+
+    private Result runAgainst(String variant) throws Exception {
+        // Sin MODE=MySQL: en ese modo H2 repite IDs cuando varias transacciones insertan DEFAULT a la vez.
+        String database = "bench_" + variant;
+        String[] args = {
+                "--server.port=0",
+                "--server.tomcat.threads.max=" + TOMCAT_THREADS,
+                "--client.serviceUrl=http://localhost:" + clientService.getAddress().getPort(),
+                "--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1",
+                "--account.reactive.url=r2dbc:h2:mem:///" + database,
+                "--account.reactive.username=sa",
+                "--account.reactive.password=",
+                "--account.reactive.client-timeout-ms=5000",
+                "--account.rate-limit.enabled=false",
+                "--account.concurrency-limit.enabled=false",
+                "--account.archival.enabled=false",
+                "--account.interest.enabled=false",
+                "--account.outbox.relay-enabled=false",
+                "--logging.level.root=WARN"
+        };
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(AccountMsApplication.class);
+        if ("reactive".equals(variant)) {
+            builder.profiles("reactive");
+        }
+        try (ConfigurableApplicationContext context = builder.run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            fire(port, 200);
+            return fire(port, REQUESTS);
+        }
+    }
+
+    private Result fire(int port, int requests) throws InterruptedException {
+        HttpClient http = HttpClient.newBuilder().executor(Executors.newFixedThreadPool(8)).build();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        LatencyRecorder latencies = new LatencyRecorder();
+        AtomicLong errors = new AtomicLong();
+        CompletableFuture<?>[] calls = new CompletableFuture<?>[requests];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            String body = "{\"clientId\":" + (i % 500 + 1) + ",\"type\":\"SAVINGS\",\"initialBalance\":100}";
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/cuentas"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            long sent = System.nanoTime();
+            calls[i] = http.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        } else {
+                            latencies.record(System.nanoTime() - sent);
+                        }
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(calls).orTimeout(2, TimeUnit.MINUTES).join();
+        return new Result(latencies, errors.get(), System.nanoTime() - start);
+    }
+
+    private static final class Result {
+        private final LatencyRecorder latencies;
+        private final long errors;
+        private final long elapsedNanos;
+
+        Result(LatencyRecorder latencies, long errors, long elapsedNanos) {
+            this.latencies = latencies;
+            this.errors = errors;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        double throughput() {
+            return latencies.count() / (elapsedNanos / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d ok, %d errores, %.0f req/s, p50=%.1fms p99=%.1fms",
+                    latencies.count(), errors, throughput(),
+                    latencies.percentile(50) / 1e6, latencies.percentile(99) / 1e6);
+        }
+    }
+}
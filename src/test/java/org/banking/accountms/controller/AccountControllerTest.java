@@ -1,19 +1,46 @@
 package org.banking.accountms.controller;
 
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.dto.request.AmountRequest;
+import org.banking.accountms.dto.request.BalanceLookupRequest;
+import org.banking.accountms.dto.request.BulkStatusRequest;
 import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountCreationJobResponse;
+import org.banking.accountms.dto.response.AccountPageResponse;
 import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.BalanceLookupResponse;
+import org.banking.accountms.dto.response.BulkStatusItem;
+import org.banking.accountms.dto.response.BulkStatusOutcome;
+import org.banking.accountms.dto.response.BulkStatusResponse;
+import org.banking.accountms.dto.response.MovementBatchResponse;
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.dto.response.PurgeResponse;
+import org.banking.accountms.exception.RateLimitExceededException;
 import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountCreationJobStatus;
 import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountBalanceService;
+import org.banking.accountms.service.AccountCreationJobService;
+import org.banking.accountms.service.AccountPurgeService;
 import org.banking.accountms.service.AccountService;
+import org.banking.accountms.service.AccountStreamService;
+import org.banking.accountms.service.MovementBatchService;
+import org.banking.accountms.service.MovementService;
+import org.banking.accountms.service.ledger.LedgerEngine;
+import org.banking.accountms.service.ratelimit.AccountCreationRateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -23,6 +50,30 @@ class AccountControllerTest {
     @Mock
     private AccountService accountService;
 
+    @Mock
+    private MovementService movementService;
+
+    @Mock
+    private AccountStreamService accountStreamService;
+
+    @Mock
+    private AccountCreationRateLimiter rateLimiter;
+
+    @Mock
+    private AccountPurgeService accountPurgeService;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private ObjectProvider<LedgerEngine> ledgerEngine;
+
+    @Mock
+    private MovementBatchService movementBatchService;
+
+    @Mock
+    private AccountCreationJobService creationJobService;
+
     @InjectMocks
     private AccountController accountController;
 
@@ -60,13 +111,58 @@ class AccountControllerTest {
 
         when(accountService.createAccount(request)).thenReturn(sampleResponse);
 
-        ResponseEntity<AccountResponse> response = accountController.create(request);
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setUserPrincipal(() -> "partner-a");
+        httpRequest.addHeader("X-Caller-Id", "someone-else");
+
+        ResponseEntity<AccountResponse> response = accountController.create(request, httpRequest);
 
         assertEquals(200, response.getStatusCodeValue());
         assertEquals("ACC123", response.getBody().getAccountNumber());
+        verify(rateLimiter, times(1)).acquire(10L, "partner-a");
         verify(accountService, times(1)).createAccount(request);
     }
 
+    @Test
+    void testCreate_rateLimited_doesNotCallService() {
+        CreateAccountRequest request = new CreateAccountRequest(10L, AccountType.SAVINGS, BigDecimal.TEN);
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setRemoteAddr("10.0.0.7");
+        httpRequest.addHeader("X-Caller-Id", "partner-a");
+        doThrow(new RateLimitExceededException("limit", 1)).when(rateLimiter).acquire(10L, "10.0.0.7");
+
+        assertThrows(RateLimitExceededException.class, () -> accountController.create(request, httpRequest));
+        verify(accountService, never()).createAccount(any());
+    }
+
+    @Test
+    void testCreateAsync_returnsAcceptedWithJobLocation() {
+        CreateAccountRequest request = new CreateAccountRequest(10L, AccountType.SAVINGS, BigDecimal.TEN);
+        AccountCreationJobResponse job = AccountCreationJobResponse.builder()
+                .id(42L).status(AccountCreationJobStatus.PENDING).build();
+        when(creationJobService.submit(request)).thenReturn(job);
+
+        ResponseEntity<AccountCreationJobResponse> response =
+                accountController.createAsync(request, new MockHttpServletRequest());
+
+        assertEquals(202, response.getStatusCodeValue());
+        assertEquals("/cuentas/jobs/42", response.getHeaders().getLocation().toString());
+        assertSame(job, response.getBody());
+        verify(accountService, never()).createAccount(any());
+    }
+
+    @Test
+    void testGetJob() {
+        AccountCreationJobResponse job = AccountCreationJobResponse.builder()
+                .id(42L).status(AccountCreationJobStatus.DONE).account(sampleResponse).build();
+        when(creationJobService.get(42L)).thenReturn(job);
+
+        ResponseEntity<AccountCreationJobResponse> response = accountController.getJob(42L);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("ACC123", response.getBody().getAccount().getAccountNumber());
+    }
+
     @Test
     void testGetById() {
         when(accountService.get(1L)).thenReturn(sampleAccount);
@@ -79,6 +175,89 @@ class AccountControllerTest {
         verify(accountService, times(1)).get(1L);
     }
 
+    @Test
+    void testGetByNumber() {
+        when(accountService.getByNumber("ACC123")).thenReturn(sampleResponse);
+
+        ResponseEntity<AccountResponse> response = accountController.getByNumber("ACC123");
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("ACC123", response.getBody().getAccountNumber());
+    }
+
+    @Test
+    void testDeposit() {
+        when(balanceService.deposit(1L, BigDecimal.TEN)).thenReturn(sampleResponse);
+
+        ResponseEntity<AccountResponse> response = accountController.deposit(1L, new AmountRequest(BigDecimal.TEN));
+
+        assertEquals(200, response.getStatusCodeValue());
+        verify(balanceService).deposit(1L, BigDecimal.TEN);
+    }
+
+    @Test
+    void testWithdraw() {
+        when(balanceService.withdraw(1L, BigDecimal.ONE)).thenReturn(sampleResponse);
+
+        ResponseEntity<AccountResponse> response = accountController.withdraw(1L, new AmountRequest(BigDecimal.ONE));
+
+        assertEquals(200, response.getStatusCodeValue());
+        verify(balanceService).withdraw(1L, BigDecimal.ONE);
+    }
+
+    @Test
+    void testDeposit_withLedgerEngine() {
+        LedgerEngine engine = mock(LedgerEngine.class);
+        when(ledgerEngine.getIfAvailable()).thenReturn(engine);
+        when(engine.deposit(1L, BigDecimal.TEN)).thenReturn(sampleResponse);
+
+        ResponseEntity<AccountResponse> response = accountController.deposit(1L, new AmountRequest(BigDecimal.TEN));
+
+        assertEquals(200, response.getStatusCodeValue());
+        verifyNoInteractions(balanceService);
+    }
+
+    @Test
+    void testPostBatch() throws Exception {
+        MockHttpServletRequest httpRequest = new MockHttpServletRequest();
+        httpRequest.setContent("[]".getBytes());
+        MovementBatchResponse batch = new MovementBatchResponse(0, 0, 0, 0, 1, 0, true, List.of());
+        when(movementBatchService.post(any())).thenReturn(batch);
+
+        ResponseEntity<MovementBatchResponse> response = accountController.postBatch(httpRequest);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(batch, response.getBody());
+    }
+
+    @Test
+    void testStatusChangesAndDeletes_withLedgerEngine_runAsExclusiveActions() {
+        LedgerEngine engine = mock(LedgerEngine.class);
+        when(ledgerEngine.getIfAvailable()).thenReturn(engine);
+        when(engine.exclusive(any(), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(accountService.deactivate(1L)).thenReturn(sampleResponse);
+
+        assertSame(sampleResponse, accountController.deactivate(1L).getBody());
+        accountController.delete(1L);
+        accountController.purge(7L, null);
+
+        verify(engine, times(2)).exclusive(eq(List.of(1L)), any());
+        verify(engine).exclusive(isNull(), any());
+        verify(accountService).delete(1L);
+        verify(accountPurgeService).purge(7L, null);
+    }
+
+    @Test
+    void testBalances() {
+        BalanceLookupResponse lookup = new BalanceLookupResponse(List.of(), List.of(9L));
+        when(accountService.balances(List.of(9L))).thenReturn(lookup);
+
+        ResponseEntity<BalanceLookupResponse> response = accountController.balances(new BalanceLookupRequest(List.of(9L)));
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(lookup, response.getBody());
+    }
+
     @Test
     void testListAll() {
         when(accountService.listAll()).thenReturn(List.of(sampleResponse));
@@ -122,6 +301,39 @@ class AccountControllerTest {
         verify(accountService, times(1)).deactivate(1L);
     }
 
+    @Test
+    void testSearch() {
+        AccountSearchCriteria criteria = AccountSearchCriteria.builder().type(AccountType.SAVINGS).active(true).build();
+        when(accountService.search(criteria, null, 10)).thenReturn(new AccountPageResponse(List.of(sampleResponse), "abc"));
+
+        ResponseEntity<AccountPageResponse> response = accountController.search(criteria, null, 10);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals("abc", response.getBody().getNextCursor());
+    }
+
+    @Test
+    void testPurge() {
+        when(accountPurgeService.purge(10L, null)).thenReturn(new PurgeResponse(4, true));
+
+        ResponseEntity<PurgeResponse> response = accountController.purge(10L, null);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(4, response.getBody().getDeleted());
+    }
+
+    @Test
+    void testChangeStatus() {
+        BulkStatusRequest request = new BulkStatusRequest(List.of(1L), null, false);
+        BulkStatusResponse result = new BulkStatusResponse(false, 1, List.of(new BulkStatusItem(1L, BulkStatusOutcome.UPDATED)));
+        when(accountService.changeStatus(request)).thenReturn(result);
+
+        ResponseEntity<BulkStatusResponse> response = accountController.changeStatus(request);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertEquals(1, response.getBody().getUpdated());
+    }
+
     @Test
     void testActivate() {
         when(accountService.activate(1L)).thenReturn(sampleResponse);
@@ -132,4 +344,25 @@ class AccountControllerTest {
         assertEquals("ACC123", response.getBody().getAccountNumber());
         verify(accountService, times(1)).activate(1L);
     }
+
+    @Test
+    void testMovements() {
+        MovementPageResponse page = new MovementPageResponse(List.of(), null);
+        when(accountService.get(1L)).thenReturn(sampleAccount);
+        when(movementService.statement(1L, null, 10)).thenReturn(page);
+
+        ResponseEntity<MovementPageResponse> response = accountController.movements(1L, null, 10);
+
+        assertEquals(200, response.getStatusCodeValue());
+        assertSame(page, response.getBody());
+        verify(accountService, times(1)).get(1L);
+    }
+
+    @Test
+    void testStream() {
+        SseEmitter emitter = new SseEmitter();
+        when(accountStreamService.subscribe(10L, AccountType.SAVINGS)).thenReturn(emitter);
+
+        assertSame(emitter, accountController.stream(10L, AccountType.SAVINGS));
+    }
 }
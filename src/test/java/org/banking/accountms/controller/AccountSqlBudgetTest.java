@@ -0,0 +1,130 @@
+package org.banking.accountms.controller;
+
+import org.banking.accountms.adapter.ClientGateway;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.banking.accountms.controller.SqlStatementBudget.atMost;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Presupuestos de sentencias SQL por endpoint: un cambio que añada consultas a una petición (N+1, lecturas
+ * previas innecesarias) hace fallar el build. Si el aumento es intencionado, se sube el presupuesto aquí.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class AccountSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AccountNumberIndex accountNumberIndex;
+
+    @MockBean
+    private ClientGateway clientGateway;
+
+    private long clientId;
+    private long accountId;
+
+    @BeforeEach
+    void setUp() {
+        clientId = 900_000 + (System.nanoTime() & 0xFFFF);
+        accountId = seed("100.00");
+    }
+
+    @Test
+    void getById_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/cuentas/id/{id}", accountId))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void getByNumber_staysWithinBudget() throws Exception {
+        String number = jdbcTemplate.queryForObject("SELECT account_number FROM accounts WHERE id = ?", String.class,
+                accountId);
+        accountNumberIndex.add(number);
+        mockMvc.perform(get("/cuentas/numero/{number}", number))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void listByClient_staysWithinBudget() throws Exception {
+        seed("5.00");
+        seed("7.00");
+        mockMvc.perform(get("/cuentas/clientes/{clientId}", clientId))
+                .andExpect(status().isOk())
+                .andExpect(atMost(1));
+    }
+
+    @Test
+    void movements_staysWithinBudget() throws Exception {
+        mockMvc.perform(get("/cuentas/{id}/movimientos", accountId))
+                .andExpect(status().isOk())
+                .andExpect(atMost(2));
+    }
+
+    @Test
+    void create_staysWithinBudget() throws Exception {
+        when(clientGateway.exists(clientId)).thenReturn(true);
+        mockMvc.perform(post("/cuentas").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"clientId\":" + clientId + ",\"type\":\"SAVINGS\",\"initialBalance\":50}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void deposit_staysWithinBudget() throws Exception {
+        mockMvc.perform(post("/cuentas/{id}/deposito", accountId).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"amount\":10}"))
+                .andExpect(status().isOk())
+                .andExpect(atMost(5));
+    }
+
+    @Test
+    void deactivate_staysWithinBudget() throws Exception {
+        mockMvc.perform(patch("/cuentas/{id}/deactivate", accountId))
+                .andExpect(status().isOk())
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void delete_staysWithinBudget() throws Exception {
+        long empty = seed("0.00");
+        mockMvc.perform(delete("/cuentas/{id}", empty))
+                .andExpect(status().isNoContent())
+                // SELECT ... FOR UPDATE, DELETE condicional e INSERT del evento DELETED.
+                .andExpect(atMost(3));
+    }
+
+    @Test
+    void getById_notFoundStillReportsItsStatements() throws Exception {
+        mockMvc.perform(get("/cuentas/id/{id}", Long.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(atMost(2));
+    }
+
+    private long seed(String balance) {
+        String number = UUID.randomUUID().toString().substring(0, 20);
+        jdbcTemplate.update("INSERT INTO accounts (account_number, balance, type, client_id, active) "
+                + "VALUES (?, " + balance + ", 'CHECKING', ?, TRUE)", number, clientId);
+        return jdbcTemplate.queryForObject("SELECT id FROM accounts WHERE account_number = ?", Long.class, number);
+    }
+}
@@ -0,0 +1,31 @@
+package org.banking.accountms.controller;
+
+import org.banking.accountms.config.SqlStatementFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Presupuesto de sentencias SQL de una petición, leído de la cabecera {@value SqlStatementFilter#STATEMENTS_HEADER}
+ * (requiere {@code account.sql-statements.enabled=true}, activo en los tests).
+ *
+ * <pre>mockMvc.perform(get("/cuentas/id/{id}", id)).andExpect(SqlStatementBudget.atMost(1));</pre>
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static ResultMatcher atMost(int statements) {
+        return result -> {
+            String header = result.getResponse().getHeader(SqlStatementFilter.STATEMENTS_HEADER);
+            assertThat(header)
+                    .as("cabecera %s en %s %s", SqlStatementFilter.STATEMENTS_HEADER,
+                            result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("sentencias SQL de %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isLessThanOrEqualTo(statements);
+        };
+    }
+}
@@ -30,6 +30,26 @@ class GlobalExceptionHandlerTest {
         assertEquals("NOT_FOUND", response.getBody().getCode());
     }
 
+    @Test
+    void testHandleRateLimit() {
+        RateLimitExceededException ex = new RateLimitExceededException("Demasiadas solicitudes", 3);
+        ResponseEntity<ErrorResponse> response = handler.handleRateLimit(ex);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("RATE_LIMITED", response.getBody().getCode());
+    }
+
+    @Test
+    void testHandleOverloaded() {
+        ServiceOverloadedException ex = new ServiceOverloadedException("Saturado");
+        ResponseEntity<ErrorResponse> response = handler.handleOverloaded(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("OVERLOADED", response.getBody().getCode());
+    }
+
     @Test
     void testHandleValidation() {
         ValidationException ex = new ValidationException("Validación fallida");
@@ -0,0 +1,89 @@
+package org.banking.accountms.job;
+
+import org.banking.accountms.config.ArchivalProperties;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.AccountArchiveService;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountArchivalJobTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountArchiveService accountArchiveService;
+
+    @Mock
+    private AccountCacheInvalidator cacheInvalidator;
+
+    private ArchivalProperties properties;
+    private AccountArchivalJob job;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchivalProperties();
+        properties.setBatchSize(2);
+        job = new AccountArchivalJob(accountRepository, accountArchiveService, properties, cacheInvalidator);
+    }
+
+    @Test
+    void run_iteratesByKeysetUntilNoMoreIds() {
+        when(accountRepository.findArchivableIds(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(3L, 8L));
+        when(accountRepository.findArchivableIds(eq(8L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(11L));
+        when(accountRepository.findArchivableIds(eq(11L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(accountArchiveService.archiveBatch(List.of(3L, 8L))).thenReturn(2);
+        when(accountArchiveService.archiveBatch(List.of(11L))).thenReturn(1);
+
+        long moved = job.run();
+
+        assertThat(moved).isEqualTo(3);
+        verify(accountArchiveService, times(2)).archiveBatch(anyList());
+        verify(cacheInvalidator).evictAll();
+    }
+
+    @Test
+    void run_nothingToArchive_keepsCache() {
+        when(accountRepository.findArchivableIds(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        assertThat(job.run()).isZero();
+        verifyNoInteractions(cacheInvalidator);
+    }
+
+    @Test
+    void run_stopsAtMaxBatchesPerRun() {
+        properties.setMaxBatchesPerRun(1);
+        when(accountRepository.findArchivableIds(eq(0L), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L));
+        when(accountArchiveService.archiveBatch(List.of(1L, 2L))).thenReturn(2);
+
+        assertThat(job.run()).isEqualTo(2);
+        verify(accountRepository, times(1)).findArchivableIds(anyLong(), any(), any());
+    }
+
+    @Test
+    void scheduledRun_doesNothingWhenDisabled() {
+        properties.setEnabled(false);
+
+        job.scheduledRun();
+
+        verifyNoInteractions(accountRepository, accountArchiveService);
+    }
+}
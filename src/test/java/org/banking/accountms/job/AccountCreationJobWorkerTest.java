@@ -0,0 +1,199 @@
+package org.banking.accountms.job;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.CreationJobProperties;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountCreationJob;
+import org.banking.accountms.model.AccountCreationJobStatus;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountCreationJobRepository;
+import org.banking.accountms.service.AccountCreationJobService;
+import org.banking.accountms.service.AccountService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccountCreationJobWorkerTest {
+
+    private AccountCreationJobRepository jobRepository;
+    private AccountService accountService;
+    private SimpleMeterRegistry registry;
+    private AccountCreationJobService jobService;
+    private CreationJobProperties properties;
+    private AccountCreationJobWorker worker;
+    private final Map<Long, AccountCreationJob> stored = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(AccountCreationJobRepository.class);
+        accountService = mock(AccountService.class);
+        registry = new SimpleMeterRegistry();
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(jobRepository.lockAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(stored::get).collect(Collectors.toList());
+        });
+        properties = new CreationJobProperties();
+        properties.setWorkers(1);
+        properties.setBatchSize(3);
+        jobService = mock(AccountCreationJobService.class);
+        worker = new AccountCreationJobWorker(jobRepository, accountService, jobService,
+                properties, transactionManager, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.stop();
+    }
+
+    private AccountCreationJob job(long id, long clientId) {
+        AccountCreationJob job = AccountCreationJob.builder().id(id).clientId(clientId).type(AccountType.SAVINGS)
+                .initialBalance(BigDecimal.TEN).status(AccountCreationJobStatus.PENDING)
+                .createdAt(LocalDateTime.now()).build();
+        stored.put(id, job);
+        return job;
+    }
+
+    private static AccountResponse created(long id) {
+        return AccountResponse.builder().id(id).build();
+    }
+
+    @Test
+    void processBatch_createsValidJobsTogetherAndFailsRejectedOnes() {
+        AccountCreationJob ok1 = job(1, 10);
+        AccountCreationJob unknownClient = job(2, 99);
+        AccountCreationJob ok2 = job(3, 11);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(ok1, unknownClient, ok2));
+        doThrow(new IllegalArgumentException("El cliente con ID 99 no existe."))
+                .when(accountService).checkCreatable(argThat(r -> r != null && r.getClientId() == 99L));
+        when(accountService.createChecked(argThat(requests -> requests.size() == 2)))
+                .thenReturn(List.of(created(100), created(101)));
+
+        assertThat(worker.processBatch()).isEqualTo(3);
+
+        assertThat(ok1.getStatus()).isEqualTo(AccountCreationJobStatus.DONE);
+        assertThat(ok1.getAccountId()).isEqualTo(100L);
+        assertThat(ok2.getAccountId()).isEqualTo(101L);
+        assertThat(unknownClient.getStatus()).isEqualTo(AccountCreationJobStatus.FAILED);
+        assertThat(unknownClient.getError()).contains("99");
+        verify(accountService, times(1)).createChecked(anyList());
+        assertThat(registry.counter("account.creation.jobs.completed", "outcome", "done").count()).isEqualTo(2);
+        assertThat(registry.counter("account.creation.jobs.completed", "outcome", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    void processBatch_retriesOneByOneWhenTheBatchInsertFails() {
+        AccountCreationJob first = job(1, 10);
+        AccountCreationJob second = job(2, 11);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(first, second));
+        when(accountService.createChecked(anyList())).thenAnswer(invocation -> {
+            List<CreateAccountRequest> requests = invocation.getArgument(0);
+            if (requests.size() > 1) {
+                throw new IllegalStateException("deadlock");
+            }
+            if (requests.get(0).getClientId() == 11L) {
+                throw new IllegalStateException("constraint");
+            }
+            return List.of(created(100));
+        });
+
+        assertThat(worker.processBatch()).isEqualTo(2);
+
+        assertThat(first.getStatus()).isEqualTo(AccountCreationJobStatus.DONE);
+        assertThat(second.getStatus()).isEqualTo(AccountCreationJobStatus.FAILED);
+        assertThat(second.getAccountId()).isNull();
+    }
+
+    @Test
+    void processBatch_jobReclaimedByAnotherWorker_isNeitherCreatedNorClosed() {
+        AccountCreationJob mine = job(1, 10);
+        AccountCreationJob reclaimed = job(2, 11);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(mine, reclaimed));
+        stored.put(2L, AccountCreationJob.builder().id(2L).status(AccountCreationJobStatus.RUNNING).version(5).build());
+        when(accountService.createChecked(anyList())).thenReturn(List.of(created(100)));
+
+        assertThat(worker.processBatch()).isEqualTo(1);
+
+        verify(accountService).createChecked(argThat(requests -> requests.size() == 1
+                && requests.get(0).getClientId() == 10L));
+        verify(jobRepository).saveAll(List.of(mine));
+        assertThat(reclaimed.getStatus()).isEqualTo(AccountCreationJobStatus.RUNNING);
+        assertThat(reclaimed.getAccountId()).isNull();
+    }
+
+    @Test
+    void processBatch_clientServiceDown_returnsJobToQueueAndStopsTheRound() {
+        AccountCreationJob job = job(1, 10);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(job));
+        doThrow(new IllegalStateException("No se pudo conectar al servicio de clientes"))
+                .when(accountService).checkCreatable(any());
+
+        assertThat(worker.drain()).isZero();
+
+        assertThat(job.getStatus()).isEqualTo(AccountCreationJobStatus.PENDING);
+        assertThat(job.getStartedAt()).isNull();
+        verify(jobRepository, times(1)).claimable(any(), any());
+        verify(accountService, never()).createChecked(anyList());
+    }
+
+    @Test
+    void processBatch_clientServiceDownOnTheLastAttempt_failsTheJob() {
+        properties.setMaxAttempts(2);
+        AccountCreationJob job = job(1, 10);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(job));
+        doThrow(new IllegalStateException("No se pudo conectar al servicio de clientes"))
+                .when(accountService).checkCreatable(any());
+
+        assertThat(worker.processBatch()).isZero();
+        assertThat(job.getStatus()).isEqualTo(AccountCreationJobStatus.PENDING);
+        assertThat(job.getAttempts()).isEqualTo(1);
+
+        assertThat(worker.processBatch()).isEqualTo(1);
+        assertThat(job.getStatus()).isEqualTo(AccountCreationJobStatus.FAILED);
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getError()).isEqualTo(Messages.CREATION_JOB_RETRIES_EXHAUSTED);
+    }
+
+    @Test
+    void scheduledRun_returnsWhileTheRoundIsRunningAndDoesNotOverlapIt() throws Exception {
+        properties.setWorkerEnabled(true);
+        CountDownLatch claiming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jobRepository.claimable(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(invocation -> {
+            claiming.countDown();
+            release.await();
+            return List.of();
+        });
+
+        worker.scheduledRun();
+        assertThat(claiming.await(5, TimeUnit.SECONDS)).isTrue();
+        worker.scheduledRun();
+        release.countDown();
+
+        verify(jobService, timeout(5_000)).refreshPending();
+        verify(jobRepository, times(1)).claimable(any(), any());
+    }
+}
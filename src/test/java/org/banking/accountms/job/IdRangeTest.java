@@ -0,0 +1,29 @@
+package org.banking.accountms.job;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IdRangeTest {
+
+    @Test
+    void partition_alignsRangesToPartitionSize() {
+        List<IdRange> ranges = IdRange.partition(15, 42, 10);
+
+        assertThat(ranges).containsExactly(
+                new IdRange(10, 19), new IdRange(20, 29), new IdRange(30, 39), new IdRange(40, 49));
+    }
+
+    @Test
+    void partition_returnsEmptyWhenMaxBelowMin() {
+        assertThat(IdRange.partition(10, 5, 10)).isEmpty();
+    }
+
+    @Test
+    void partition_rejectsNonPositiveSize() {
+        assertThatThrownBy(() -> IdRange.partition(1, 10, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,83 @@
+package org.banking.accountms.job;
+
+import org.banking.accountms.config.InterestProperties;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class InterestAccrualJobTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private PartitionedBatchRunner runner;
+    private AccountCacheInvalidator cacheInvalidator;
+    private InterestAccrualJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:interest_accrual;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, balance DECIMAL(19, 2), type VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE account_balance_stripes (account_id BIGINT, stripe INT, balance DECIMAL(19, 2))");
+        jdbcTemplate.execute("CREATE TABLE account_movements (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id BIGINT, "
+                + "amount DECIMAL(19, 2), resulting_balance DECIMAL(19, 2), type VARCHAR(20), created_at TIMESTAMP)");
+        runner = mock(PartitionedBatchRunner.class);
+        when(runner.run(anyString(), anyString(), anyList(), anyInt(), anyBoolean(), any())).thenAnswer(invocation -> {
+            List<IdRange> ranges = invocation.getArgument(2);
+            PartitionProcessor processor = invocation.getArgument(5);
+            long rows = ranges.stream().mapToLong(processor::process).sum();
+            return new BatchRunReport(InterestAccrualJob.JOB_NAME, "", ranges.size(), 0, rows, 0, invocation.getArgument(4));
+        });
+        InterestProperties properties = new InterestProperties();
+        properties.setAnnualRate(new BigDecimal("0.12"));
+        cacheInvalidator = mock(AccountCacheInvalidator.class);
+        job = new InterestAccrualJob(jdbcTemplate, runner, properties, cacheInvalidator);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE accounts");
+        jdbcTemplate.execute("DROP TABLE account_balance_stripes");
+        jdbcTemplate.execute("DROP TABLE account_movements");
+    }
+
+    @Test
+    void run_accruesOnTheBalanceIncludingPendingStripes() {
+        jdbcTemplate.update("INSERT INTO accounts VALUES (1, 100, 'SAVINGS'), (2, 0, 'SAVINGS'), (3, 100, 'CHECKING')");
+        jdbcTemplate.update("INSERT INTO account_balance_stripes VALUES (1, 0, 50), (1, 1, 50), (2, 0, 200)");
+
+        BatchRunReport report = job.run(YearMonth.of(2026, 9), false);
+
+        assertThat(report.getRows()).isEqualTo(2);
+        assertThat(balanceOf(1)).isEqualByComparingTo("102");
+        assertThat(balanceOf(2)).isEqualByComparingTo("2");
+        assertThat(balanceOf(3)).isEqualByComparingTo("100");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT resulting_balance FROM account_movements WHERE account_id = 2", BigDecimal.class))
+                .isEqualByComparingTo("202");
+        verify(cacheInvalidator).evictAccounts(List.of(1L, 2L));
+        verify(cacheInvalidator, never()).evictAll();
+    }
+
+    @Test
+    void dryRun_previewsTheInterestIncludingPendingStripes() {
+        jdbcTemplate.update("INSERT INTO accounts VALUES (1, 0, 'SAVINGS')");
+        jdbcTemplate.update("INSERT INTO account_balance_stripes VALUES (1, 0, 300)");
+
+        assertThat(job.run(YearMonth.of(2026, 9), true).getRows()).isEqualTo(1);
+        assertThat(balanceOf(1)).isEqualByComparingTo("0");
+    }
+
+    private BigDecimal balanceOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, id);
+    }
+}
@@ -0,0 +1,84 @@
+package org.banking.accountms.job;
+
+import org.banking.accountms.adapter.event.EventSink;
+import org.banking.accountms.config.OutboxProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.OutboxEvent;
+import org.banking.accountms.repository.OutboxEventRepository;
+import org.banking.accountms.service.AccountEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayJobTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private AccountEventPublisher accountEventPublisher;
+    private EventSink eventSink;
+    private OutboxRelayJob job;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        accountEventPublisher = mock(AccountEventPublisher.class);
+        eventSink = mock(EventSink.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(accountEventPublisher.toEvent(any(OutboxEvent.class))).thenAnswer(i -> {
+            OutboxEvent row = i.getArgument(0);
+            return AccountEvent.builder().eventId(row.getId()).accountId(row.getAccountId()).build();
+        });
+        job = new OutboxRelayJob(outboxEventRepository, accountEventPublisher, eventSink,
+                new OutboxProperties(), transactionManager);
+    }
+
+    private OutboxEvent row(long id, long accountId) {
+        return OutboxEvent.builder().id(id).accountId(accountId)
+                .eventType(AccountEventType.CREATED).payload("{}").createdAt(LocalDateTime.now()).build();
+    }
+
+    @Test
+    void drain_publishesInIdOrderAndMarksBatchPublished() {
+        when(outboxEventRepository.findPending(any(Pageable.class)))
+                .thenReturn(List.of(row(1, 10), row(2, 11), row(3, 10)))
+                .thenReturn(List.of());
+
+        long delivered = job.drain();
+
+        assertThat(delivered).isEqualTo(3);
+        verify(eventSink).publish(argThat(events -> events.size() == 3
+                && events.get(0).getEventId() == 1L && events.get(2).getEventId() == 3L));
+        verify(outboxEventRepository).markPublished(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void drain_sinkFailure_leavesBatchPending() {
+        when(outboxEventRepository.findPending(any(Pageable.class))).thenReturn(List.of(row(1, 10)));
+        doThrow(new IllegalStateException("sink caído")).when(eventSink).publish(anyList());
+
+        assertThatThrownBy(() -> job.drain()).isInstanceOf(IllegalStateException.class);
+
+        verify(outboxEventRepository, never()).markPublished(anyList(), any());
+    }
+
+    @Test
+    void scheduledRun_batchLockedByAnotherRelay_retriesOnTheNextRun() {
+        when(outboxEventRepository.findPending(any(Pageable.class)))
+                .thenThrow(new CannotAcquireLockException("lote bloqueado"));
+
+        assertThatCode(() -> job.scheduledRun()).doesNotThrowAnyException();
+
+        verifyNoInteractions(eventSink);
+    }
+}
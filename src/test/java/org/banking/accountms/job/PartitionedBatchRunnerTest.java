@@ -0,0 +1,72 @@
+package org.banking.accountms.job;
+
+import org.banking.accountms.model.BatchCheckpoint;
+import org.banking.accountms.repository.BatchCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class PartitionedBatchRunnerTest {
+
+    private BatchCheckpointRepository checkpointRepository;
+    private PartitionedBatchRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        checkpointRepository = mock(BatchCheckpointRepository.class);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        runner = new PartitionedBatchRunner(checkpointRepository, transactionManager);
+    }
+
+    @Test
+    void run_skipsCompletedPartitionsAndCheckpointsTheRest() {
+        when(checkpointRepository.findCompletedStarts("job", "2026-09")).thenReturn(List.of(0L));
+        Set<Long> processed = ConcurrentHashMap.newKeySet();
+
+        BatchRunReport report = runner.run("job", "2026-09", IdRange.partition(1, 35, 10), 3, false,
+                range -> {
+                    processed.add(range.getStart());
+                    return 10;
+                });
+
+        assertThat(processed).containsExactlyInAnyOrder(10L, 20L, 30L);
+        assertThat(report.getRows()).isEqualTo(30);
+        assertThat(report.getSkippedPartitions()).isEqualTo(1);
+        verify(checkpointRepository, times(3)).save(any(BatchCheckpoint.class));
+    }
+
+    @Test
+    void run_dryRunDoesNotWriteCheckpoints() {
+        when(checkpointRepository.findCompletedStarts("job", "2026-09")).thenReturn(List.of());
+
+        BatchRunReport report = runner.run("job", "2026-09", IdRange.partition(1, 20, 10), 2, true, range -> 5);
+
+        assertThat(report.isDryRun()).isTrue();
+        assertThat(report.getRows()).isEqualTo(15);
+        verify(checkpointRepository, never()).save(any());
+    }
+
+    @Test
+    void run_failsAfterProcessingRemainingPartitionsWhenOneFails() {
+        when(checkpointRepository.findCompletedStarts("job", "2026-09")).thenReturn(List.of());
+
+        assertThatThrownBy(() -> runner.run("job", "2026-09", IdRange.partition(0, 29, 10), 2, false, range -> {
+            if (range.getStart() == 10) {
+                throw new IllegalStateException("boom");
+            }
+            return 1;
+        })).isInstanceOf(IllegalStateException.class).hasMessageContaining("1 particiones fallidas");
+
+        verify(checkpointRepository, times(2)).save(any(BatchCheckpoint.class));
+    }
+}
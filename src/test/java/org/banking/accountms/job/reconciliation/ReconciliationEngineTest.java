@@ -0,0 +1,134 @@
+package org.banking.accountms.job.reconciliation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ReconciliationEngineTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:reconciliation;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, balance DECIMAL(19, 2))");
+        jdbcTemplate.execute("CREATE TABLE account_balance_stripes (account_id BIGINT, stripe INT, balance DECIMAL(19, 2))");
+        jdbcTemplate.execute("CREATE TABLE account_movements (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id BIGINT, "
+                + "amount DECIMAL(19, 2))");
+        for (long id = 1; id <= 45; id++) {
+            account(id, "100.00");
+            movement(id, "150.00");
+            movement(id, "-50");
+        }
+        // cuenta caliente: 30 en la fila y 20 pendientes en particiones
+        account(50, "30");
+        movement(50, "50");
+        jdbcTemplate.update("INSERT INTO account_balance_stripes VALUES (50, 0, 15), (50, 1, 5)");
+        // movimientos de una cuenta ya archivada
+        movement(99, "70");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE accounts");
+        jdbcTemplate.execute("DROP TABLE account_balance_stripes");
+        jdbcTemplate.execute("DROP TABLE account_movements");
+    }
+
+    @Test
+    void run_cleanLedgerMatchesEveryPartition() {
+        ReconciliationReport report = engine(new MovementLogSource(jdbcTemplate), 100).run(10);
+
+        assertThat(report.isClean()).isTrue();
+        assertThat(report.getPartitions()).isEqualTo(6);
+        assertThat(report.getAccounts()).isEqualTo(46);
+        assertThat(report.getSource()).isEqualTo("account_movements");
+    }
+
+    @Test
+    void run_listsOnlyTheAccountsThatDrifted() {
+        jdbcTemplate.update("UPDATE accounts SET balance = 99.99 WHERE id = 7");
+        // mismo total en la partición: solo lo detecta la suma ponderada
+        jdbcTemplate.update("UPDATE accounts SET balance = 110 WHERE id = 21");
+        jdbcTemplate.update("UPDATE accounts SET balance = 90 WHERE id = 22");
+        account(46, "10");
+
+        ReconciliationReport report = engine(new MovementLogSource(jdbcTemplate), 100).run(10);
+
+        assertThat(report.isClean()).isFalse();
+        assertThat(report.getMismatchedPartitions()).isEqualTo(3);
+        assertThat(report.getMismatches()).containsExactly(
+                new BalanceMismatch(7, new BigDecimal("99.99"), new BigDecimal("100.00")),
+                new BalanceMismatch(21, new BigDecimal("110.00"), new BigDecimal("100.00")),
+                new BalanceMismatch(22, new BigDecimal("90.00"), new BigDecimal("100.00")),
+                new BalanceMismatch(46, new BigDecimal("10.00"), null));
+    }
+
+    @Test
+    void run_capsTheReportedMismatchesButCountsAll() {
+        jdbcTemplate.update("UPDATE accounts SET balance = 0 WHERE id <= 30");
+
+        ReconciliationReport report = engine(new MovementLogSource(jdbcTemplate), 5).run(10);
+
+        assertThat(report.getMismatchCount()).isEqualTo(30);
+        assertThat(report.getMismatches()).extracting(BalanceMismatch::getAccountId).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    void run_againstSnapshotFile() throws Exception {
+        StringBuilder csv = new StringBuilder("account_id,balance\n");
+        for (long id = 1; id <= 45; id++) {
+            csv.append(id).append(',').append(id == 12 ? "80.00" : "100").append('\n');
+        }
+        csv.append("50,50.00\n\n120,5\n");
+        Path snapshot = Files.writeString(dir.resolve("balances.csv"), csv);
+
+        ReconciliationReport report = engine(new SnapshotFileSource(snapshot, 10), 100).run(10);
+
+        assertThat(report.getPartitions()).isEqualTo(13);
+        assertThat(report.getMismatchedPartitions()).isEqualTo(2);
+        assertThat(report.getMismatches()).containsExactly(
+                new BalanceMismatch(12, new BigDecimal("100.00"), new BigDecimal("80.00")),
+                new BalanceMismatch(120, null, new BigDecimal("5")));
+    }
+
+    @Test
+    void run_emptySources() {
+        jdbcTemplate.update("DELETE FROM accounts");
+
+        ReconciliationReport report = engine(new MovementLogSource(jdbcTemplate), 100).run(10);
+
+        assertThat(report.isClean()).isTrue();
+        assertThat(report.getPartitions()).isZero();
+        assertThat(report.getMismatches()).isEqualTo(List.of());
+    }
+
+    private ReconciliationEngine engine(BalanceSource expected, int maxReported) {
+        return new ReconciliationEngine(new AccountTableSource(jdbcTemplate), expected, transactionManager, 3, maxReported);
+    }
+
+    private void account(long id, String balance) {
+        jdbcTemplate.update("INSERT INTO accounts (id, balance) VALUES (?, ?)", id, new BigDecimal(balance));
+    }
+
+    private void movement(long id, String amount) {
+        jdbcTemplate.update("INSERT INTO account_movements (account_id, amount) VALUES (?, ?)", id, new BigDecimal(amount));
+    }
+}
@@ -0,0 +1,185 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.config.HotAccountProperties;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountBalanceStripe;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountBalanceStripeRepository;
+import org.banking.accountms.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.validation.ValidationException;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceServiceTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountBalanceStripeRepository stripeRepository;
+
+    @Mock
+    private MovementService movementService;
+
+    @Mock
+    private AccountEventPublisher eventPublisher;
+
+    private AccountBalanceService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new AccountBalanceService(accountRepository, stripeRepository, movementService, eventPublisher,
+                new HotAccountProperties());
+    }
+
+    @Test
+    void deposit_regularAccount_locksTheRowAndPublishes() {
+        Account account = account(AccountType.SAVINGS, "100", 0);
+        when(accountRepository.findBalanceStripes(1L)).thenReturn(Optional.of(0));
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+
+        AccountResponse response = service.deposit(1L, new BigDecimal("25"));
+
+        assertThat(response.getBalance()).isEqualByComparingTo("125");
+        verify(movementService).record(account, new BigDecimal("25"), MovementType.DEPOSIT);
+        verify(eventPublisher).publish(AccountEventType.BALANCE_CHANGED, account);
+        verifyNoInteractions(stripeRepository);
+    }
+
+    @Test
+    void deposit_hotAccount_creditsOneStripeWithoutLockingTheAccount() {
+        Account account = account(AccountType.SAVINGS, "100", 4);
+        when(accountRepository.findBalanceStripes(1L)).thenReturn(Optional.of(4));
+        when(stripeRepository.credit(eq(1L), intThat(stripe -> stripe >= 0 && stripe < 4), eq(new BigDecimal("25"))))
+                .thenReturn(1);
+        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(stripeRepository.sumBalance(1L)).thenReturn(new BigDecimal("75"));
+
+        AccountResponse response = service.deposit(1L, new BigDecimal("25"));
+
+        assertThat(response.getBalance()).isEqualByComparingTo("175");
+        assertThat(account.getBalance()).isEqualByComparingTo("100");
+        verify(movementService).recordStriped(1L, new BigDecimal("25"), MovementType.DEPOSIT);
+        verify(accountRepository, never()).lockById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deposit_stripesRemovedMeanwhile_fallsBackToTheAccountRow() {
+        Account account = account(AccountType.SAVINGS, "100", 0);
+        when(accountRepository.findBalanceStripes(1L)).thenReturn(Optional.of(4));
+        when(stripeRepository.credit(eq(1L), anyInt(), any())).thenReturn(0);
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+
+        service.deposit(1L, BigDecimal.TEN);
+
+        assertThat(account.getBalance()).isEqualByComparingTo("110");
+    }
+
+    @Test
+    void deposit_unknownAccount_throwsNotFound() {
+        when(accountRepository.findBalanceStripes(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.deposit(9L, BigDecimal.TEN)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void withdraw_hotAccount_foldsStripesBeforeApplyingOverdraftRules() {
+        Account account = account(AccountType.SAVINGS, "10", 2);
+        AccountBalanceStripe first = stripe(0, "30");
+        AccountBalanceStripe second = stripe(1, "20");
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(stripeRepository.lockByAccountId(1L)).thenReturn(List.of(first, second));
+
+        AccountResponse response = service.withdraw(1L, new BigDecimal("55"));
+
+        assertThat(response.getBalance()).isEqualByComparingTo("5");
+        assertThat(first.getBalance()).isZero();
+        assertThat(second.getBalance()).isZero();
+        verify(movementService).record(account, new BigDecimal("-55"), MovementType.WITHDRAWAL);
+    }
+
+    @Test
+    void withdraw_savingsBelowZero_isRejectedEvenWithStripes() {
+        Account account = account(AccountType.SAVINGS, "10", 1);
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(stripeRepository.lockByAccountId(1L)).thenReturn(List.of(stripe(0, "5")));
+
+        assertThatThrownBy(() -> service.withdraw(1L, new BigDecimal("16")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void withdraw_inactiveAccount_throwsValidation() {
+        Account account = account(AccountType.CHECKING, "10", 0);
+        account.setActive(false);
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+
+        assertThatThrownBy(() -> service.withdraw(1L, BigDecimal.ONE)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void changeStripes_foldsOldStripesAndCreatesNewOnes() {
+        Account account = account(AccountType.CHECKING, "10", 2);
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(stripeRepository.lockByAccountId(1L)).thenReturn(List.of(stripe(0, "4"), stripe(1, "6")));
+
+        AccountResponse response = service.changeStripes(1L, 8);
+
+        assertThat(response.getBalance()).isEqualByComparingTo("20");
+        assertThat(account.getBalanceStripes()).isEqualTo(8);
+        verify(stripeRepository).deleteByAccountId(1L);
+        verify(stripeRepository, times(8)).save(any(AccountBalanceStripe.class));
+        verify(eventPublisher).publish(AccountEventType.BALANCE_CHANGED, account);
+    }
+
+    @Test
+    void changeStripes_aboveMaximum_throws() {
+        assertThatThrownBy(() -> service.changeStripes(1L, 65)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void fold_addsPendingStripesToTheAccount() {
+        Account account = account(AccountType.SAVINGS, "1", 2);
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(stripeRepository.lockByAccountId(1L)).thenReturn(List.of(stripe(0, "2"), stripe(1, "3")));
+
+        assertThat(service.fold(1L)).isEqualByComparingTo("5");
+        assertThat(account.getBalance()).isEqualByComparingTo("6");
+        verify(eventPublisher).publish(AccountEventType.BALANCE_CHANGED, account);
+    }
+
+    private static Account account(AccountType type, String balance, int stripes) {
+        return Account.builder()
+                .id(1L)
+                .accountNumber("ACC-1")
+                .balance(new BigDecimal(balance))
+                .type(type)
+                .clientId(7L)
+                .active(true)
+                .balanceStripes(stripes)
+                .build();
+    }
+
+    private static AccountBalanceStripe stripe(int stripe, String balance) {
+        return AccountBalanceStripe.builder().accountId(1L).stripe(stripe).balance(new BigDecimal(balance)).build();
+    }
+}
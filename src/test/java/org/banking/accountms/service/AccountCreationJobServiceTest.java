@@ -0,0 +1,44 @@
+package org.banking.accountms.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.banking.accountms.config.CreationJobProperties;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.model.AccountCreationJob;
+import org.banking.accountms.model.AccountCreationJobStatus;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountCreationJobRepository;
+import org.banking.accountms.repository.AccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccountCreationJobServiceTest {
+
+    private AccountCreationJobRepository jobRepository;
+    private AccountCreationJobService service;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(AccountCreationJobRepository.class);
+        CreationJobProperties properties = new CreationJobProperties();
+        properties.setMaxPending(10);
+        properties.setPollIntervalMs(60_000);
+        service = new AccountCreationJobService(jobRepository, mock(AccountRepository.class),
+                mock(AccountValidator.class), properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void submit_firstCallCountsTheQueueInTheDatabase() {
+        when(jobRepository.countByStatus(AccountCreationJobStatus.PENDING)).thenReturn(10L);
+
+        assertThatThrownBy(() -> service.submit(new CreateAccountRequest(1L, AccountType.SAVINGS, BigDecimal.TEN)))
+                .isInstanceOf(ServiceOverloadedException.class);
+        verify(jobRepository, never()).save(any(AccountCreationJob.class));
+    }
+}
@@ -0,0 +1,60 @@
+package org.banking.accountms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.OutboxEvent;
+import org.banking.accountms.repository.OutboxEventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AccountEventPublisherTest {
+
+    private OutboxEventRepository outboxEventRepository;
+    private ApplicationEventPublisher applicationEventPublisher;
+    private AccountEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        when(outboxEventRepository.save(any(OutboxEvent.class))).thenAnswer(i -> i.getArgument(0));
+        applicationEventPublisher = mock(ApplicationEventPublisher.class);
+        publisher = new AccountEventPublisher(outboxEventRepository, new ObjectMapper().findAndRegisterModules(),
+                applicationEventPublisher);
+    }
+
+    @Test
+    void publish_writesOutboxRowThatRoundTripsToEvent() {
+        Account account = Account.builder()
+                .id(5L).accountNumber("CH-555").balance(new BigDecimal("20.00"))
+                .type(AccountType.CHECKING).clientId(9L).active(true).build();
+
+        OutboxEvent row = publisher.publish(AccountEventType.CREATED, account);
+        row.setId(100L);
+        AccountEvent event = publisher.toEvent(row);
+
+        assertThat(row.getPublishedAt()).isNull();
+        assertThat(event.getEventId()).isEqualTo(100L);
+        assertThat(event.getType()).isEqualTo(AccountEventType.CREATED);
+        assertThat(event.getAccount().getAccountNumber()).isEqualTo("CH-555");
+        assertThat(event.getAccount().getClientId()).isEqualTo(9L);
+        verify(applicationEventPublisher).publishEvent(any(AccountEvent.class));
+    }
+
+    @Test
+    void toEvent_invalidPayload_throwsIllegalState() {
+        OutboxEvent row = OutboxEvent.builder().id(1L).accountId(1L)
+                .eventType(AccountEventType.DELETED).payload("{no-json").build();
+
+        assertThatThrownBy(() -> publisher.toEvent(row)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountNumberGeneratorTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private AccountNumberIndex accountNumberIndex;
+
+    @InjectMocks
+    private AccountNumberGenerator generator;
+
+    @Test
+    void generateBlock_checksMaybeTakenNumbersInOneQueryAndReplacesTakenOnes() {
+        List<Collection<String>> queried = new ArrayList<>();
+        when(accountNumberIndex.mightContain(anyString())).thenReturn(true);
+        when(accountRepository.findExistingAccountNumbers(anyCollection())).thenAnswer(invocation -> {
+            Collection<String> numbers = new ArrayList<>(invocation.getArgument(0));
+            queried.add(numbers);
+            // en la primera consulta todos menos uno están ocupados
+            return queried.size() == 1 ? new ArrayList<>(numbers).subList(1, numbers.size()) : List.of();
+        });
+
+        List<String> block = generator.generateBlock(AccountType.SAVINGS, 50);
+
+        assertThat(block).hasSize(50).doesNotHaveDuplicates().allMatch(number -> number.startsWith("SVG-"));
+        assertThat(queried).hasSize(2);
+        assertThat(queried.get(0)).hasSize(50);
+        assertThat(queried.get(1)).hasSize(49);
+        verify(accountNumberIndex, times(50)).recordFalsePositive();
+    }
+
+    @Test
+    void generateBlock_skipsTheQueryWhenTheBloomFilterRulesEveryNumberOut() {
+        when(accountNumberIndex.mightContain(anyString())).thenReturn(false);
+
+        assertThat(generator.generateBlock(AccountType.CHECKING, 20)).hasSize(20);
+        verifyNoInteractions(accountRepository);
+    }
+}
@@ -0,0 +1,101 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.config.PurgeProperties;
+import org.banking.accountms.dto.response.PurgeResponse;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import javax.validation.ValidationException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccountPurgeServiceTest {
+
+    private AccountRepository accountRepository;
+    private AccountEventPublisher eventPublisher;
+    private AccountCacheInvalidator cacheInvalidator;
+    private AccountNumberIndex accountNumberIndex;
+    private PurgeProperties properties;
+    private AccountPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        accountRepository = mock(AccountRepository.class);
+        eventPublisher = mock(AccountEventPublisher.class);
+        cacheInvalidator = mock(AccountCacheInvalidator.class);
+        accountNumberIndex = mock(AccountNumberIndex.class);
+        properties = new PurgeProperties();
+        properties.setBatchSize(2);
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        service = new AccountPurgeService(accountRepository, eventPublisher, cacheInvalidator, accountNumberIndex,
+                properties, transactionManager);
+    }
+
+    private Account inactive(long id) {
+        return Account.builder().id(id).accountNumber("SVG-" + id).balance(BigDecimal.ZERO)
+                .clientId(7L).type(AccountType.SAVINGS).active(false).build();
+    }
+
+    @Test
+    void purge_deletesBatchByBatchUntilNothingLeft() {
+        when(accountRepository.lockPurgeable(eq(0L), eq(7L), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(inactive(3), inactive(5)));
+        when(accountRepository.lockPurgeable(eq(5L), eq(7L), isNull(), any(Pageable.class)))
+                .thenReturn(List.of(inactive(9)));
+        when(accountRepository.lockPurgeable(eq(9L), eq(7L), isNull(), any(Pageable.class)))
+                .thenReturn(List.of());
+        when(accountRepository.deleteArchivable(List.of(3L, 5L))).thenReturn(2);
+        when(accountRepository.deleteArchivable(List.of(9L))).thenReturn(1);
+
+        PurgeResponse response = service.purge(7L, null);
+
+        assertThat(response.getDeleted()).isEqualTo(3);
+        assertThat(response.isComplete()).isTrue();
+        verify(eventPublisher, times(3)).publish(eq(AccountEventType.DELETED), any(Account.class));
+        verify(cacheInvalidator).evictAll();
+        verify(accountNumberIndex).recordRemoved(3);
+    }
+
+    @Test
+    void purge_stopsAtMaxBatches() {
+        properties.setMaxBatchesPerRequest(1);
+        when(accountRepository.lockPurgeable(eq(0L), isNull(), eq(AccountType.SAVINGS), any(Pageable.class)))
+                .thenReturn(List.of(inactive(1), inactive(2)));
+        when(accountRepository.deleteArchivable(List.of(1L, 2L))).thenReturn(2);
+
+        PurgeResponse response = service.purge(null, AccountType.SAVINGS);
+
+        assertThat(response.getDeleted()).isEqualTo(2);
+        assertThat(response.isComplete()).isFalse();
+    }
+
+    @Test
+    void purge_deleteCountMismatch_failsBatch() {
+        when(accountRepository.lockPurgeable(anyLong(), any(), any(), any(Pageable.class)))
+                .thenReturn(List.of(inactive(1)));
+        when(accountRepository.deleteArchivable(List.of(1L))).thenReturn(0);
+
+        assertThatThrownBy(() -> service.purge(7L, null)).isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void purge_requiresFilter() {
+        assertThatThrownBy(() -> service.purge(null, null)).isInstanceOf(ValidationException.class);
+        verifyNoInteractions(accountRepository);
+    }
+}
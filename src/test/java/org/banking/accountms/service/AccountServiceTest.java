@@ -1,23 +1,46 @@
 package org.banking.accountms.service;
 
 import org.banking.accountms.adapter.ClientGateway;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.BalanceLookupProperties;
+import org.banking.accountms.dto.request.AccountSearchCriteria;
+import org.banking.accountms.dto.request.BulkStatusRequest;
 import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.dto.response.AccountBalanceItem;
+import org.banking.accountms.dto.response.AccountPageResponse;
 import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.dto.response.BalanceLookupResponse;
+import org.banking.accountms.dto.response.BulkStatusItem;
+import org.banking.accountms.dto.response.BulkStatusOutcome;
+import org.banking.accountms.dto.response.BulkStatusResponse;
 import org.banking.accountms.exception.ResourceNotFoundException;
 import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountArchive;
+import org.banking.accountms.model.AccountEventType;
 import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountArchiveRepository;
 import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.banking.accountms.service.readmodel.AccountReadModel;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 import javax.validation.ValidationException;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -37,12 +60,36 @@ class AccountServiceTest {
     @Mock
     private AccountNumberGenerator accountNumberGenerator;
 
+    @Mock
+    private AccountArchiveRepository accountArchiveRepository;
+
+    @Mock
+    private MovementService movementService;
+
+    @Mock
+    private AccountEventPublisher eventPublisher;
+
+    @Mock
+    private AccountCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private AccountNumberIndex accountNumberIndex;
+
+    @Mock
+    private AccountBalanceService balanceService;
+
+    @Mock
+    private AccountReadModel readModel;
+
+    @Spy
+    private BalanceLookupProperties balanceLookupProperties = new BalanceLookupProperties();
+
     @InjectMocks
     private AccountService accountService;
 
     @BeforeEach
-    void setup() {
-        ReflectionTestUtils.setField(accountService, "self", accountService);
+    void setUp() {
+        lenient().when(balanceService.withPendingStripes(any(Account.class))).thenAnswer(i -> i.getArgument(0));
     }
 
     @Test
@@ -56,6 +103,60 @@ class AccountServiceTest {
 
         assertThat(response.getAccountNumber()).isEqualTo("SVG-123456");
         assertThat(response.getBalance()).isEqualTo(new BigDecimal("100"));
+        verify(movementService).record(any(Account.class), eq(new BigDecimal("100")), eq(MovementType.OPENING));
+        verify(eventPublisher).publish(eq(AccountEventType.CREATED), any(Account.class));
+        verify(cacheInvalidator).accountNumbersCreated(List.of("SVG-123456"));
+    }
+
+    @Test
+    void balances_queriesByChunksAndReportsMissingIds() {
+        balanceLookupProperties.setChunkSize(2);
+        AccountBalanceItem first = new AccountBalanceItem(1L, "SVG-000001", new BigDecimal("10"), true);
+        AccountBalanceItem third = new AccountBalanceItem(3L, "CHK-000003", new BigDecimal("-5"), true);
+        AccountBalanceItem archived = new AccountBalanceItem(4L, "SVG-000004", BigDecimal.ZERO, false);
+        when(accountRepository.findBalances(List.of(3L, 1L))).thenReturn(List.of(first, third));
+        when(accountRepository.findBalances(List.of(2L, 4L))).thenReturn(List.of());
+        when(accountRepository.findBalances(List.of(5L))).thenReturn(List.of());
+        when(accountArchiveRepository.findBalances(List.of(2L, 4L))).thenReturn(List.of(archived));
+        when(accountArchiveRepository.findBalances(List.of(5L))).thenReturn(List.of());
+
+        BalanceLookupResponse response = accountService.balances(List.of(3L, 1L, 3L, 2L, 4L, 5L));
+
+        assertThat(response.getBalances()).containsExactly(third, first, archived);
+        assertThat(response.getMissing()).containsExactly(2L, 5L);
+        verify(accountRepository, never()).findById(any());
+    }
+
+    @Test
+    void getByNumber_bloomNegative_skipsDatabase() {
+        when(accountNumberIndex.mightContain("SVG-000000")).thenReturn(false);
+
+        assertThatThrownBy(() -> accountService.getByNumber("SVG-000000"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void getByNumber_falsePositive_isRecorded() {
+        when(accountNumberIndex.mightContain("SVG-000001")).thenReturn(true);
+        when(accountRepository.findByAccountNumber("SVG-000001")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> accountService.getByNumber("SVG-000001"))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(accountNumberIndex).recordFalsePositive();
+    }
+
+    @Test
+    void getByNumber_found_returnsAccount() {
+        Account account = new Account();
+        account.setId(5L);
+        account.setAccountNumber("SVG-000002");
+        account.setBalance(BigDecimal.TEN);
+        when(accountNumberIndex.mightContain("SVG-000002")).thenReturn(true);
+        when(accountRepository.findByAccountNumber("SVG-000002")).thenReturn(Optional.of(account));
+
+        assertThat(accountService.getByNumber("SVG-000002").getId()).isEqualTo(5L);
+        verify(accountNumberIndex, never()).recordFalsePositive();
     }
 
     @Test
@@ -81,20 +182,15 @@ class AccountServiceTest {
 
     @Test
     void deleteAccount_withBalanceNotZero_throwsException() {
-        Account account = Account.builder()
-                .id(1L)
-                .accountNumber("CH-111111")
-                .balance(new BigDecimal("50"))
-                .clientId(1L)
-                .type(AccountType.CHECKING)
-                .active(true)
-                .build();
-
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        Account account = Account.builder().id(1L).accountNumber("SVG-1").balance(BigDecimal.TEN)
+                .clientId(1L).type(AccountType.SAVINGS).active(true).build();
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.deleteIfZeroBalance(1L)).thenReturn(0);
 
         assertThatThrownBy(() -> accountService.delete(1L))
                 .isInstanceOf(ValidationException.class)
                 .hasMessageContaining("saldo distinto de 0");
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -109,6 +205,7 @@ class AccountServiceTest {
         AccountResponse response = accountService.activate(1L);
 
         assertThat(response.isActive()).isTrue();
+        verify(eventPublisher).publish(AccountEventType.ACTIVATED, account);
     }
 
     @Test
@@ -123,6 +220,8 @@ class AccountServiceTest {
         AccountResponse response = accountService.deactivate(1L);
 
         assertThat(response.isActive()).isFalse();
+        assertThat(account.getDeactivatedAt()).isNotNull();
+        verify(eventPublisher).publish(AccountEventType.DEACTIVATED, account);
     }
 
     @Test
@@ -134,13 +233,29 @@ class AccountServiceTest {
                 .hasMessage("Cuenta no encontrada");
     }
 
+    @Test
+    void get_accountArchived_fallsBackToArchive() {
+        AccountArchive archived = AccountArchive.builder()
+                .id(7L).accountNumber("SVG-777777").balance(BigDecimal.ZERO)
+                .clientId(1L).type(AccountType.SAVINGS).active(false).build();
+
+        when(accountRepository.findById(7L)).thenReturn(Optional.empty());
+        when(accountArchiveRepository.findById(7L)).thenReturn(Optional.of(archived));
+
+        Account account = accountService.get(7L);
+
+        assertThat(account.getAccountNumber()).isEqualTo("SVG-777777");
+        assertThat(account.isActive()).isFalse();
+    }
+
     @Test
     void deleteAccount_notFound_throwsResourceNotFoundException() {
-        when(accountRepository.findById(1L)).thenReturn(Optional.empty());
+        when(accountRepository.lockById(1L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> accountService.delete(1L))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("no encontrada");
+        verify(accountRepository, never()).deleteIfZeroBalance(anyLong());
     }
 
     @Test
@@ -184,16 +299,140 @@ class AccountServiceTest {
 
     @Test
     void deleteAccount_withZeroBalance_deletesSuccessfully() {
-        Account account = Account.builder()
-                .id(1L).accountNumber("SVG-123456").balance(BigDecimal.ZERO)
+        Account account = Account.builder().id(1L).accountNumber("SVG-1").balance(BigDecimal.ZERO)
                 .clientId(1L).type(AccountType.SAVINGS).active(true).build();
-
-        when(accountRepository.findById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.lockById(1L)).thenReturn(Optional.of(account));
+        when(accountRepository.deleteIfZeroBalance(1L)).thenReturn(1);
 
         accountService.delete(1L);
 
-        verify(accountRepository, times(1)).delete(account);
+        verify(eventPublisher).publish(AccountEventType.DELETED, account);
+        verify(cacheInvalidator).evictAccount(1L);
     }
 
+    @Test
+    void changeStatus_byIds_updatesOnlyAccountsInOtherState() {
+        Account active = Account.builder().id(1L).accountNumber("SVG-1").balance(BigDecimal.ZERO)
+                .clientId(1L).type(AccountType.SAVINGS).active(true).build();
+        Account inactive = Account.builder().id(2L).accountNumber("SVG-2").balance(BigDecimal.ZERO)
+                .clientId(1L).type(AccountType.SAVINGS).active(false).build();
+        when(accountRepository.lockAllById(List.of(1L, 2L, 3L))).thenReturn(List.of(active, inactive));
+        when(accountRepository.updateActive(eq(Set.of(1L)), eq(false), any())).thenReturn(1);
+
+        BulkStatusResponse response = accountService.changeStatus(new BulkStatusRequest(List.of(1L, 2L, 3L, 2L), null, false));
+
+        assertThat(response.getUpdated()).isEqualTo(1);
+        assertThat(response.getResults()).containsExactly(
+                new BulkStatusItem(1L, BulkStatusOutcome.UPDATED),
+                new BulkStatusItem(2L, BulkStatusOutcome.UNCHANGED),
+                new BulkStatusItem(3L, BulkStatusOutcome.NOT_FOUND));
+        assertThat(active.getDeactivatedAt()).isNotNull();
+        verify(eventPublisher).publish(AccountEventType.DEACTIVATED, active);
+        verify(eventPublisher, never()).publish(AccountEventType.DEACTIVATED, inactive);
+        verify(cacheInvalidator).evictAccounts(Set.of(1L));
+        verify(cacheInvalidator, never()).evictAll();
+    }
+
+    @Test
+    void changeStatus_byClient_nothingToChange_skipsUpdate() {
+        Account account = Account.builder().id(5L).accountNumber("CH-5").balance(BigDecimal.ZERO)
+                .clientId(9L).type(AccountType.CHECKING).active(true).build();
+        when(accountRepository.lockAllByClientId(eq(9L), any(Pageable.class))).thenReturn(List.of(account));
+
+        BulkStatusResponse response = accountService.changeStatus(new BulkStatusRequest(null, 9L, true));
+
+        assertThat(response.getUpdated()).isZero();
+        assertThat(response.getResults()).containsExactly(new BulkStatusItem(5L, BulkStatusOutcome.UNCHANGED));
+        verify(accountRepository, never()).updateActive(any(), anyBoolean(), any());
+        verifyNoInteractions(eventPublisher, cacheInvalidator);
+    }
+
+    @Test
+    void changeStatus_requiresExactlyOneTarget() {
+        assertThatThrownBy(() -> accountService.changeStatus(new BulkStatusRequest(List.of(1L), 1L, true)))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> accountService.changeStatus(new BulkStatusRequest(null, null, true)))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void changeStatus_byClientWithTooManyAccounts_isRejectedBeforeUpdating() {
+        List<Account> accounts = LongStream.rangeClosed(1, BulkStatusRequest.MAX_ACCOUNTS + 1)
+                .mapToObj(id -> Account.builder().id(id).clientId(9L).active(true).build())
+                .collect(Collectors.toList());
+        when(accountRepository.lockAllByClientId(eq(9L), any(Pageable.class))).thenReturn(accounts);
+
+        assertThatThrownBy(() -> accountService.changeStatus(new BulkStatusRequest(null, 9L, false)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessage(Messages.BULK_STATUS_CLIENT_TOO_MANY);
+        verify(accountRepository).lockAllByClientId(9L, PageRequest.of(0, BulkStatusRequest.MAX_ACCOUNTS + 1));
+        verify(accountRepository, never()).updateActive(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void changeStatus_affectedRowsMismatch_throws() {
+        Account account = Account.builder().id(1L).accountNumber("SVG-1").balance(BigDecimal.ZERO)
+                .clientId(1L).type(AccountType.SAVINGS).active(false).build();
+        when(accountRepository.lockAllById(List.of(1L))).thenReturn(List.of(account));
+        when(accountRepository.updateActive(eq(Set.of(1L)), eq(true), isNull())).thenReturn(0);
+
+        assertThatThrownBy(() -> accountService.changeStatus(new BulkStatusRequest(List.of(1L), null, true)))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(eventPublisher);
+    }
 
+    @Test
+    void search_returnsCursorOnlyWhenThereIsANextPage() {
+        AccountSearchCriteria criteria = AccountSearchCriteria.builder().type(AccountType.CHECKING).active(true)
+                .maxBalance(new BigDecimal("-0.01")).build();
+        Account first = Account.builder().id(4L).accountNumber("CH-4").balance(new BigDecimal("-10"))
+                .clientId(1L).type(AccountType.CHECKING).active(true).build();
+        Account second = Account.builder().id(9L).accountNumber("CH-9").balance(new BigDecimal("-20"))
+                .clientId(2L).type(AccountType.CHECKING).active(true).build();
+        when(accountRepository.search(criteria, 0L, 2)).thenReturn(List.of(first, second));
+        when(accountRepository.search(criteria, 4L, 2)).thenReturn(List.of(second));
+
+        AccountPageResponse page = accountService.search(criteria, null, 1);
+        AccountPageResponse next = accountService.search(criteria, page.getNextCursor(), 1);
+
+        assertThat(page.getItems()).extracting(AccountResponse::getId).containsExactly(4L);
+        assertThat(next.getItems()).extracting(AccountResponse::getId).containsExactly(9L);
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    void search_invalidBalanceRange_throwsIllegalArgument() {
+        AccountSearchCriteria criteria = AccountSearchCriteria.builder()
+                .minBalance(new BigDecimal("10")).maxBalance(new BigDecimal("5")).build();
+
+        assertThatThrownBy(() -> accountService.search(criteria, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("saldo mínimo");
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void search_invalidCursor_throwsIllegalArgument() {
+        assertThatThrownBy(() -> accountService.search(new AccountSearchCriteria(), "%%%", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void listByClient_readModelReady_skipsTheDatabase() {
+        AccountResponse account = AccountResponse.builder().id(4L).clientId(9L).build();
+        when(readModel.isReady()).thenReturn(true);
+        when(readModel.listByClient(9L)).thenReturn(List.of(account));
+
+        assertThat(accountService.listByClient(9L)).containsExactly(account);
+        verifyNoInteractions(accountRepository);
+    }
+
+    @Test
+    void listAll_readModelNotReady_readsTheTable() {
+        when(accountRepository.findAll()).thenReturn(List.of(Account.builder().id(1L).accountNumber("CH-1")
+                .balance(BigDecimal.TEN).type(AccountType.CHECKING).clientId(2L).active(true).build()));
+
+        assertThat(accountService.listAll()).extracting(AccountResponse::getId).containsExactly(1L);
+        verify(readModel, never()).listAll();
+    }
 }
@@ -0,0 +1,91 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.config.StreamProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountStreamServiceTest {
+
+    private final List<SseEmitter.SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstSend = new CountDownLatch(1);
+    private AccountStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        StreamProperties properties = new StreamProperties();
+        properties.setBufferSize(2);
+        service = new AccountStreamService(properties) {
+            @Override
+            SseEmitter createEmitter(long timeoutMs) {
+                return new SseEmitter(timeoutMs) {
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        sent.add(builder);
+                        firstSend.countDown();
+                    }
+                };
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    private AccountEvent event(long id, long clientId, AccountType type) {
+        return AccountEvent.builder()
+                .eventId(id).accountId(id).type(AccountEventType.CREATED)
+                .account(AccountResponse.builder().id(id).clientId(clientId).type(type).build())
+                .build();
+    }
+
+    @Test
+    void onAccountEvent_deliversOnlyMatchingEvents() throws InterruptedException {
+        service.subscribe(7L, AccountType.SAVINGS);
+
+        service.onAccountEvent(event(1, 7, AccountType.SAVINGS));
+        service.onAccountEvent(event(2, 8, AccountType.SAVINGS));
+        service.onAccountEvent(event(3, 7, AccountType.CHECKING));
+
+        assertThat(firstSend.await(2, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(100);
+        assertThat(sent).hasSize(1);
+        assertThat(service.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void subscriber_dropsOldestWhenBufferIsFull() {
+        AccountStreamSubscriber subscriber = new AccountStreamSubscriber(new SseEmitter(), null, null, 2);
+
+        subscriber.offer(event(1, 1, AccountType.SAVINGS));
+        subscriber.offer(event(2, 1, AccountType.SAVINGS));
+        subscriber.offer(event(3, 1, AccountType.SAVINGS));
+
+        assertThat(subscriber.getDropped()).isEqualTo(1);
+        assertThat(subscriber.poll().getEventId()).isEqualTo(2L);
+        assertThat(subscriber.poll().getEventId()).isEqualTo(3L);
+        assertThat(subscriber.poll()).isNull();
+    }
+
+    @Test
+    void subscriber_withoutFiltersMatchesEverything() {
+        AccountStreamSubscriber subscriber = new AccountStreamSubscriber(new SseEmitter(), null, null, 2);
+
+        assertThat(subscriber.matches(event(1, 99, AccountType.CHECKING))).isTrue();
+    }
+}
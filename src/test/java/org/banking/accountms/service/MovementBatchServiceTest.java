@@ -0,0 +1,231 @@
+package org.banking.accountms.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.MovementBatchProperties;
+import org.banking.accountms.dto.response.MovementBatchItem;
+import org.banking.accountms.dto.response.MovementBatchOutcome;
+import org.banking.accountms.dto.response.MovementBatchResponse;
+import org.banking.accountms.exception.PayloadTooLargeException;
+import org.banking.accountms.exception.ServiceOverloadedException;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.banking.accountms.service.ledger.LedgerEngine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MovementBatchServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AccountEventPublisher eventPublisher;
+    private AccountCacheInvalidator cacheInvalidator;
+    private MovementBatchProperties properties;
+    private ObjectProvider<LedgerEngine> ledgerEngine;
+    private MovementBatchService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:movement_batch;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, account_number VARCHAR(20), "
+                + "balance DECIMAL(19, 2), type VARCHAR(20), client_id BIGINT, active BOOLEAN, balance_stripes INT)");
+        jdbcTemplate.execute("CREATE TABLE account_balance_stripes (account_id BIGINT, stripe INT, balance DECIMAL(19, 2))");
+        jdbcTemplate.execute("CREATE TABLE account_movements (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id BIGINT, "
+                + "amount DECIMAL(19, 2), resulting_balance DECIMAL(19, 2), type VARCHAR(20), created_at TIMESTAMP)");
+        eventPublisher = mock(AccountEventPublisher.class);
+        cacheInvalidator = mock(AccountCacheInvalidator.class);
+        properties = new MovementBatchProperties();
+        ledgerEngine = mock(ObjectProvider.class);
+        service = new MovementBatchService(new ObjectMapper(), new NamedParameterJdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource), eventPublisher, cacheInvalidator, properties, ledgerEngine);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE accounts");
+        jdbcTemplate.execute("DROP TABLE account_balance_stripes");
+        jdbcTemplate.execute("DROP TABLE account_movements");
+    }
+
+    @Test
+    void post_appliesAccountRulesInArrivalOrder() throws IOException {
+        insert(1, "SAVINGS", "100", true);
+        insert(2, "CHECKING", "0", true);
+
+        MovementBatchResponse response = post("["
+                + entry("a", 1, "DEPOSIT", "50") + ","
+                + entry("b", 2, "WITHDRAWAL", "600") + ","
+                + entry("c", 1, "WITHDRAWAL", "120") + ","
+                + entry("d", 2, "WITHDRAWAL", "100") + ","
+                + entry("e", 1, "WITHDRAWAL", "30.01") + "]");
+
+        assertThat(response.getResults()).extracting(MovementBatchItem::getReference)
+                .containsExactly("a", "b", "c", "d", "e");
+        assertThat(response.getResults()).extracting(MovementBatchItem::getOutcome).containsExactly(
+                MovementBatchOutcome.ACCEPTED, MovementBatchOutcome.REJECTED, MovementBatchOutcome.ACCEPTED,
+                MovementBatchOutcome.ACCEPTED, MovementBatchOutcome.REJECTED);
+        assertThat(response.getResults().get(2).getBalance()).isEqualByComparingTo("30");
+        assertThat(response.getAccepted()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(2);
+        assertThat(response.getChunks()).isEqualTo(1);
+        assertThat(response.isComplete()).isTrue();
+        assertThat(balanceOf(1)).isEqualByComparingTo("30");
+        assertThat(balanceOf(2)).isEqualByComparingTo("-100");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_movements", Integer.class)).isEqualTo(3);
+        verify(eventPublisher, times(2)).publish(eq(AccountEventType.BALANCE_CHANGED), any());
+        verify(cacheInvalidator).evictAccount(1L);
+        verify(cacheInvalidator).evictAccount(2L);
+    }
+
+    @Test
+    void post_rejectsInvalidEntriesWithoutStoppingTheBatch() throws IOException {
+        insert(1, "SAVINGS", "0", true);
+        insert(2, "SAVINGS", "0", false);
+
+        MovementBatchResponse response = post("["
+                + entry("missing", 99, "DEPOSIT", "1") + ","
+                + entry("inactive", 2, "DEPOSIT", "1") + ","
+                + entry("interest", 1, "INTEREST", "1") + ","
+                + entry("negative", 1, "DEPOSIT", "-1") + ","
+                + entry("scale", 1, "DEPOSIT", "1.005") + ","
+                + "\"x\","
+                + entry("ok", 1, "DEPOSIT", "1.10") + "]");
+
+        assertThat(response.getResults()).extracting(MovementBatchItem::getMessage).containsExactly(
+                Messages.ACCOUNT_NOT_FOUND, Messages.ACCOUNT_INACTIVE, Messages.INVALID_MOVEMENT_TYPE,
+                Messages.AMOUNT_MUST_BE_POSITIVE, Messages.INVALID_AMOUNT_SCALE, Messages.INVALID_FORMAT, null);
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(balanceOf(1)).isEqualByComparingTo("1.10");
+        assertThat(balanceOf(2)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void post_commitsEachChunkSeparately() throws IOException {
+        properties.setChunkSize(2);
+        insert(1, "CHECKING", "0", true);
+
+        MovementBatchResponse response = post("[" + String.join(",",
+                entry("1", 1, "DEPOSIT", "1"), entry("2", 1, "DEPOSIT", "1"), entry("3", 1, "DEPOSIT", "1"),
+                entry("4", 1, "DEPOSIT", "1"), entry("5", 1, "DEPOSIT", "1")) + "]");
+
+        assertThat(response.getChunks()).isEqualTo(3);
+        assertThat(response.getAccepted()).isEqualTo(5);
+        assertThat(balanceOf(1)).isEqualByComparingTo("5");
+        verify(eventPublisher, times(3)).publish(eq(AccountEventType.BALANCE_CHANGED), any());
+    }
+
+    @Test
+    void post_withLedgerEngine_writesEachChunkAsAnExclusiveAction() throws IOException {
+        properties.setChunkSize(2);
+        insert(1, "CHECKING", "0", true);
+        insert(2, "CHECKING", "0", true);
+        LedgerEngine engine = mock(LedgerEngine.class);
+        when(ledgerEngine.getIfAvailable()).thenReturn(engine);
+        when(engine.exclusive(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get())
+                .thenThrow(new ServiceOverloadedException(Messages.SERVICE_OVERLOADED));
+
+        MovementBatchResponse response = post("[" + String.join(",",
+                entry("1", 1, "DEPOSIT", "1"), entry("2", 2, "DEPOSIT", "1"), entry("3", 1, "DEPOSIT", "1")) + "]");
+
+        verify(engine).exclusive(eq(List.of(1L, 2L)), any());
+        verify(engine).exclusive(eq(List.of(1L)), any());
+        assertThat(response.getResults()).extracting(MovementBatchItem::getOutcome).containsExactly(
+                MovementBatchOutcome.ACCEPTED, MovementBatchOutcome.ACCEPTED, MovementBatchOutcome.REJECTED);
+        assertThat(balanceOf(1)).isEqualByComparingTo("1");
+    }
+
+    @Test
+    void post_aboveMaxEntriesBeforeAnyChunk_rejectsTheWholeRequest() {
+        properties.setMaxEntries(1);
+        insert(1, "CHECKING", "0", true);
+
+        assertThatThrownBy(() -> post("[" + entry("1", 1, "DEPOSIT", "1") + ","
+                + entry("2", 1, "DEPOSIT", "1") + "]"))
+                .isInstanceOf(PayloadTooLargeException.class)
+                .hasMessage(Messages.MOVEMENT_BATCH_TOO_LARGE);
+        assertThat(balanceOf(1)).isEqualByComparingTo("0");
+    }
+
+    @Test
+    void post_aboveMaxEntriesAfterACommittedChunk_stopsReadingAndReportsIncomplete() throws IOException {
+        properties.setChunkSize(1);
+        properties.setMaxEntries(2);
+        insert(1, "CHECKING", "0", true);
+
+        MovementBatchResponse response = post("[" + String.join(",",
+                entry("1", 1, "DEPOSIT", "1"), entry("2", 1, "DEPOSIT", "1"), entry("3", 1, "DEPOSIT", "1"))
+                + ",\"never read\"");
+
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getReceived()).isEqualTo(2);
+        assertThat(balanceOf(1)).isEqualByComparingTo("2");
+    }
+
+    @Test
+    void post_stripedAccount_countsPendingStripesAndLeavesThemUntouched() throws IOException {
+        insert(1, "SAVINGS", "0", true);
+        jdbcTemplate.update("UPDATE accounts SET balance_stripes = 2 WHERE id = 1");
+        jdbcTemplate.update("INSERT INTO account_balance_stripes VALUES (1, 0, 25), (1, 1, 15)");
+
+        MovementBatchResponse response = post("[" + entry("w", 1, "WITHDRAWAL", "30") + "]");
+
+        assertThat(response.getAccepted()).isEqualTo(1);
+        assertThat(response.getResults().get(0).getBalance()).isNull();
+        assertThat(balanceOf(1)).isEqualByComparingTo("-30");
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(balance) FROM account_balance_stripes", BigDecimal.class))
+                .isEqualByComparingTo("40");
+    }
+
+    @Test
+    void post_malformedTail_keepsWhatWasReadAndReportsIncomplete() throws IOException {
+        insert(1, "CHECKING", "0", true);
+
+        MovementBatchResponse response = post("[" + entry("1", 1, "DEPOSIT", "1") + ", {\"accountId\": ");
+
+        assertThat(response.isComplete()).isFalse();
+        assertThat(response.getReceived()).isEqualTo(1);
+        assertThat(balanceOf(1)).isEqualByComparingTo("1");
+    }
+
+    @Test
+    void post_bodyIsNotAnArray_throwsIllegalArgument() {
+        assertThatThrownBy(() -> post("{\"accountId\": 1}")).isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(Messages.INVALID_FORMAT);
+    }
+
+    private MovementBatchResponse post(String json) throws IOException {
+        return service.post(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private void insert(long id, String type, String balance, boolean active) {
+        jdbcTemplate.update("INSERT INTO accounts VALUES (?, ?, ?, ?, 7, ?, 0)", id, "ACC-" + id,
+                new BigDecimal(balance), type, active);
+    }
+
+    private BigDecimal balanceOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, id);
+    }
+
+    private static String entry(String reference, long accountId, String type, String amount) {
+        return String.format("{\"reference\":\"%s\",\"accountId\":%d,\"type\":\"%s\",\"amount\":%s}",
+                reference, accountId, type, amount);
+    }
+}
@@ -0,0 +1,90 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.dto.response.MovementPageResponse;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountMovement;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.repository.AccountMovementRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovementServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 1, 12, 0);
+
+    @Mock
+    private AccountMovementRepository movementRepository;
+
+    @InjectMocks
+    private MovementService movementService;
+
+    private AccountMovement movement(long id) {
+        return AccountMovement.builder()
+                .id(id).accountId(1L).amount(BigDecimal.TEN).resultingBalance(BigDecimal.TEN)
+                .type(MovementType.INTEREST).createdAt(NOW.minusMinutes(id)).build();
+    }
+
+    @Test
+    void record_storesResultingBalance() {
+        Account account = Account.builder().id(1L).type(AccountType.SAVINGS).balance(new BigDecimal("150")).build();
+        when(movementRepository.save(any(AccountMovement.class))).thenAnswer(i -> i.getArgument(0));
+
+        AccountMovement saved = movementService.record(account, new BigDecimal("50"), MovementType.OPENING);
+
+        assertThat(saved.getAccountId()).isEqualTo(1L);
+        assertThat(saved.getResultingBalance()).isEqualByComparingTo("150");
+        assertThat(saved.getCreatedAt()).isNotNull();
+    }
+
+    @Test
+    void statement_firstPageReturnsCursorWhenMoreRowsExist() {
+        when(movementRepository.findLatest(1L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(movement(9), movement(8), movement(7)));
+
+        MovementPageResponse page = movementService.statement(1L, null, 2);
+
+        assertThat(page.getItems()).hasSize(2);
+        MovementCursor cursor = MovementCursor.decode(page.getNextCursor());
+        assertThat(cursor.getId()).isEqualTo(8L);
+        assertThat(cursor.getCreatedAt()).isEqualTo(NOW.minusMinutes(8));
+    }
+
+    @Test
+    void statement_withCursorSeeksPastLastSeenRow() {
+        String cursor = new MovementCursor(NOW.minusMinutes(8), 8L).encode();
+        when(movementRepository.findBefore(1L, NOW.minusMinutes(8), 8L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(movement(7)));
+
+        MovementPageResponse page = movementService.statement(1L, cursor, 2);
+
+        assertThat(page.getItems()).extracting("id").containsExactly(7L);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void statement_invalidCursor_throwsIllegalArgument() {
+        assertThatThrownBy(() -> movementService.statement(1L, "no-es-un-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Cursor");
+    }
+
+    @Test
+    void statement_pageSizeOutOfRange_throwsIllegalArgument() {
+        assertThatThrownBy(() -> movementService.statement(1L, null, 500))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package org.banking.accountms.service;
+
+import org.banking.accountms.adapter.ReactiveClientGateway;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountMovement;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.banking.accountms.model.OutboxEvent;
+import org.banking.accountms.repository.reactive.ReactiveAccountRepository;
+import org.banking.accountms.repository.reactive.ReactiveMovementRepository;
+import org.banking.accountms.repository.reactive.ReactiveOutboxRepository;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.validation.ValidationException;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveAccountServiceTest {
+
+    @Mock
+    private ReactiveAccountRepository accountRepository;
+
+    @Mock
+    private ReactiveMovementRepository movementRepository;
+
+    @Mock
+    private ReactiveOutboxRepository outboxRepository;
+
+    @Mock
+    private ReactiveClientGateway clientGateway;
+
+    @Mock
+    private AccountValidator validator;
+
+    @Mock
+    private AccountNumberGenerator accountNumberGenerator;
+
+    @Mock
+    private AccountEventPublisher eventPublisher;
+
+    @Mock
+    private TransactionalOperator reactiveTransactionalOperator;
+
+    @Mock
+    private AccountCacheInvalidator cacheInvalidator;
+
+    @Mock
+    private AccountNumberIndex accountNumberIndex;
+
+    @InjectMocks
+    private ReactiveAccountService accountService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(reactiveTransactionalOperator.transactional(any(Mono.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(accountNumberIndex.mightContain(anyString())).thenReturn(true);
+    }
+
+    @Test
+    void createAccount_success() {
+        CreateAccountRequest request = new CreateAccountRequest(1L, AccountType.SAVINGS, new BigDecimal("100"));
+        when(clientGateway.exists(1L)).thenReturn(Mono.just(true));
+        when(accountNumberGenerator.candidate(AccountType.SAVINGS)).thenReturn("SVG-1", "SVG-2");
+        when(accountRepository.existsByAccountNumber("SVG-1")).thenReturn(Mono.just(true));
+        when(accountRepository.existsByAccountNumber("SVG-2")).thenReturn(Mono.just(false));
+        when(accountRepository.insert(any(Account.class))).thenAnswer(invocation -> {
+            Account account = invocation.getArgument(0);
+            account.setId(10L);
+            return Mono.just(account);
+        });
+        when(movementRepository.insert(any(AccountMovement.class))).thenAnswer(i -> Mono.just(i.getArgument(0)));
+        OutboxEvent event = OutboxEvent.builder().eventType(AccountEventType.CREATED).build();
+        when(eventPublisher.newOutboxEvent(eq(AccountEventType.CREATED), any(Account.class))).thenReturn(event);
+        when(outboxRepository.insert(event)).thenReturn(Mono.just(1));
+
+        StepVerifier.create(accountService.createAccount(request))
+                .assertNext(response -> {
+                    assertThat(response.getId()).isEqualTo(10L);
+                    assertThat(response.getAccountNumber()).isEqualTo("SVG-2");
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<AccountMovement> movement = ArgumentCaptor.forClass(AccountMovement.class);
+        verify(movementRepository).insert(movement.capture());
+        assertThat(movement.getValue().getType()).isEqualTo(MovementType.OPENING);
+        assertThat(movement.getValue().getAccountId()).isEqualTo(10L);
+        verify(validator).validate(request);
+        verify(cacheInvalidator).evictAccount(10L);
+        verify(cacheInvalidator).accountNumbersCreated(List.of("SVG-2"));
+    }
+
+    @Test
+    void createAccount_clientNotExists_fails() {
+        CreateAccountRequest request = new CreateAccountRequest(99L, AccountType.SAVINGS, new BigDecimal("50"));
+        when(clientGateway.exists(99L)).thenReturn(Mono.just(false));
+
+        StepVerifier.create(accountService.createAccount(request))
+                .expectErrorSatisfies(error -> assertThat(error)
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessageContaining("99"))
+                .verify();
+
+        verify(accountRepository, never()).insert(any());
+    }
+
+    @Test
+    void get_fallsBackToArchive() {
+        Account archived = Account.builder().id(5L).balance(BigDecimal.ZERO).active(false).build();
+        when(accountRepository.findById(5L)).thenReturn(Mono.empty());
+        when(accountRepository.findArchivedById(5L)).thenReturn(Mono.just(archived));
+
+        StepVerifier.create(accountService.get(5L))
+                .expectNext(archived)
+                .verifyComplete();
+    }
+
+    @Test
+    void get_notFound() {
+        when(accountRepository.findById(5L)).thenReturn(Mono.empty());
+        when(accountRepository.findArchivedById(5L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountService.get(5L))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void deactivate_alreadyInactive_fails() {
+        Account account = Account.builder().id(3L).balance(BigDecimal.ZERO).active(false).build();
+        when(accountRepository.findById(3L)).thenReturn(Mono.just(account));
+
+        StepVerifier.create(accountService.deactivate(3L))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verify(accountRepository, never()).updateActive(anyLong(), anyBoolean(), any());
+    }
+
+    @Test
+    void delete_withBalance_fails() {
+        Account account = Account.builder().id(3L).balance(new BigDecimal("10")).active(true).build();
+        when(accountRepository.lockById(3L)).thenReturn(Mono.just(account));
+        when(accountRepository.deleteIfZeroBalance(3L)).thenReturn(Mono.just(0));
+
+        StepVerifier.create(accountService.delete(3L))
+                .expectError(ValidationException.class)
+                .verify();
+
+        verify(outboxRepository, never()).insert(any());
+        verifyNoInteractions(cacheInvalidator);
+    }
+
+    @Test
+    void delete_missingAccount_failsWithoutDeleting() {
+        when(accountRepository.lockById(5L)).thenReturn(Mono.empty());
+
+        StepVerifier.create(accountService.delete(5L))
+                .expectError(ResourceNotFoundException.class)
+                .verify();
+
+        verify(accountRepository, never()).deleteIfZeroBalance(anyLong());
+    }
+
+    @Test
+    void delete_withZeroBalance_writesDeletedEventWithTheAccountSnapshot() {
+        Account account = Account.builder().id(4L).accountNumber("SVG-4").clientId(7L).type(AccountType.SAVINGS)
+                .balance(BigDecimal.ZERO).active(true).build();
+        OutboxEvent event = OutboxEvent.builder().accountId(4L).eventType(AccountEventType.DELETED).build();
+        when(accountRepository.lockById(4L)).thenReturn(Mono.just(account));
+        when(accountRepository.deleteIfZeroBalance(4L)).thenReturn(Mono.just(1));
+        when(eventPublisher.newOutboxEvent(AccountEventType.DELETED, account)).thenReturn(event);
+        when(outboxRepository.insert(event)).thenReturn(Mono.just(1));
+
+        StepVerifier.create(accountService.delete(4L)).verifyComplete();
+
+        verify(cacheInvalidator).evictAccount(4L);
+    }
+}
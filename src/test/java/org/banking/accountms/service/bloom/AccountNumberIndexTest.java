@@ -0,0 +1,132 @@
+package org.banking.accountms.service.bloom;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.banking.accountms.config.BloomFilterProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountNumberIndexTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private BloomFilterProperties properties;
+    private SimpleMeterRegistry registry;
+    private AccountNumberIndex index;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:bloom_index;DB_CLOSE_DELAY=-1"));
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, account_number VARCHAR(20))");
+        properties = new BloomFilterProperties();
+        properties.setExpectedInsertions(1_000);
+        properties.setLoadBatchSize(2);
+        registry = new SimpleMeterRegistry();
+        index = new AccountNumberIndex(jdbcTemplate, properties, registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE accounts");
+    }
+
+    @Test
+    void mightContain_beforeFirstLoad_sendsEverythingToTheDatabase() {
+        assertThat(index.mightContain("SVG-000001")).isTrue();
+    }
+
+    @Test
+    void sync_loadsAllRowsInBatches() {
+        insert(1, "SVG-000001");
+        insert(2, "SVG-000002");
+        insert(3, "CHK-000003");
+
+        index.sync();
+
+        assertThat(index.mightContain("SVG-000001")).isTrue();
+        assertThat(index.mightContain("CHK-000003")).isTrue();
+        assertThat(index.mightContain("SVG-999999")).isFalse();
+        assertThat(registry.get("account.bloom.size").gauge().value()).isEqualTo(3);
+    }
+
+    @Test
+    void sync_picksUpRowsWrittenByOtherInstances() {
+        insert(1, "SVG-000001");
+        index.sync();
+        insert(2, "SVG-000002");
+
+        index.sync();
+
+        assertThat(index.mightContain("SVG-000002")).isTrue();
+    }
+
+    @Test
+    void sync_rereadsIdGapsCommittedLate() {
+        insert(1, "SVG-000001");
+        insert(5, "SVG-000005");
+        index.sync();
+        insert(8, "SVG-000008");
+        index.sync();
+        insert(3, "SVG-000003");
+
+        index.sync();
+
+        assertThat(index.mightContain("SVG-000003")).isTrue();
+        assertThat(index.mightContain("SVG-000008")).isTrue();
+    }
+
+    @Test
+    void sync_stopsWaitingForAGapAfterTheTimeout() {
+        properties.setGapTimeoutMs(0);
+        insert(1, "SVG-000001");
+        insert(5, "SVG-000005");
+        index.sync();
+        index.sync();
+        insert(3, "SVG-000003");
+
+        index.sync();
+
+        assertThat(index.mightContain("SVG-000003")).isFalse();
+    }
+
+    @Test
+    void add_isVisibleBeforeTheNextSync() {
+        index.sync();
+
+        index.add("SVG-000005");
+
+        assertThat(index.mightContain("SVG-000005")).isTrue();
+    }
+
+    @Test
+    void recordFalsePositive_feedsTheObservedRate() {
+        index.sync();
+        index.mightContain("SVG-999999");
+
+        index.recordFalsePositive();
+
+        assertThat(registry.get("account.bloom.false.positives").counter().count()).isEqualTo(1);
+        assertThat(registry.get("account.bloom.fpp.observed").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void sync_rebuildsAfterTooManyRemovals() {
+        insert(1, "SVG-000001");
+        insert(2, "SVG-000002");
+        index.sync();
+        jdbcTemplate.update("DELETE FROM accounts WHERE id = 2");
+
+        index.recordRemoved(1);
+        index.sync();
+
+        assertThat(index.mightContain("SVG-000002")).isFalse();
+        assertThat(registry.get("account.bloom.size").gauge().value()).isEqualTo(1);
+    }
+
+    private void insert(long id, String accountNumber) {
+        jdbcTemplate.update("INSERT INTO accounts (id, account_number) VALUES (?, ?)", id, accountNumber);
+    }
+}
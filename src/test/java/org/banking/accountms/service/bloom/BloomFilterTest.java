@@ -0,0 +1,57 @@
+package org.banking.accountms.service.bloom;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    void create_sizesBitsAndHashesForTheTargetRate() {
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        assertThat(filter.bitCount()).isBetween(9_585L, 9_585L + 63);
+        assertThat(filter.hashCount()).isEqualTo(7);
+    }
+
+    @Test
+    void mightContain_neverMissesAnInsertedValue() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("SVG-" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("SVG-" + i)).isTrue();
+        }
+        assertThat(filter.approximateSize()).isBetween(9_900L, 10_000L);
+    }
+
+    @Test
+    void observedFalsePositiveRate_staysNearTheTarget() {
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("SVG-" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("CHK-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(0.005, 0.015);
+    }
+
+    @Test
+    void put_sameValueTwice_countsOnce() {
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        filter.put("CHK-1");
+        filter.put("CHK-1");
+
+        assertThat(filter.approximateSize()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,151 @@
+package org.banking.accountms.service.cache;
+
+import org.banking.accountms.adapter.cache.LoopbackInvalidationChannel;
+import org.banking.accountms.config.CacheProperties;
+import org.banking.accountms.dto.event.CacheInvalidationMessage;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AccountCacheInvalidatorTest {
+
+    private Cache localCache;
+    private Cache remoteCache;
+    private AccountNumberIndex localIndex;
+    private AccountNumberIndex remoteIndex;
+    private LoopbackInvalidationChannel channel;
+    private AccountCacheInvalidator local;
+    private final List<CacheInvalidationMessage> delivered = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        channel = new LoopbackInvalidationChannel();
+        channel.subscribe(delivered::add);
+        localCache = mock(Cache.class);
+        remoteCache = mock(Cache.class);
+        localIndex = mock(AccountNumberIndex.class);
+        remoteIndex = mock(AccountNumberIndex.class);
+        local = node("node-a", localCache, localIndex);
+        node("node-b", remoteCache, remoteIndex);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private AccountCacheInvalidator node(String nodeId, Cache cache, AccountNumberIndex index) {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+        CacheProperties properties = new CacheProperties();
+        properties.setNodeId(nodeId);
+        AccountCacheInvalidator invalidator = new AccountCacheInvalidator(entityManagerFactory, channel, properties, List.of(),
+                index);
+        invalidator.subscribe();
+        return invalidator;
+    }
+
+    @Test
+    void evictAccount_withoutTransaction_evictsLocallyAndOnOtherNodes() {
+        local.evictAccount(7L);
+
+        verify(localCache, atLeastOnce()).evictEntityData(Account.class, 7L);
+        verify(remoteCache).evictEntityData(Account.class, 7L);
+        verify(remoteCache).evictQueryRegion(AccountCacheInvalidator.CLIENT_QUERY_REGION);
+        assertThat(delivered).containsExactly(new CacheInvalidationMessage("node-a", 7L));
+    }
+
+    @Test
+    void evictAccount_insideTransaction_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        local.evictAccount(7L);
+
+        assertThat(delivered).isEmpty();
+        verifyNoInteractions(remoteCache);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(remoteCache).evictEntityData(Account.class, 7L);
+    }
+
+    @Test
+    void evictAll_evictsWholeRegionEverywhere() {
+        local.evictAll();
+
+        verify(localCache, atLeastOnce()).evictEntityData(Account.class);
+        verify(remoteCache).evictEntityData(Account.class);
+        assertThat(delivered).singleElement().satisfies(message -> assertThat(message.isAll()).isTrue());
+    }
+
+    @Test
+    void evictAccounts_afterCommit_evictsOnlyThoseAccountsEverywhere() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        local.evictAccounts(List.of(4L, 9L));
+
+        assertThat(delivered).isEmpty();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(remoteCache).evictEntityData(Account.class, 4L);
+        verify(remoteCache).evictEntityData(Account.class, 9L);
+        verify(remoteCache).evictQueryRegion(AccountCacheInvalidator.CLIENT_QUERY_REGION);
+        verify(remoteCache, never()).evictEntityData(Account.class);
+        assertThat(delivered).singleElement().satisfies(message -> {
+            assertThat(message.isAll()).isFalse();
+            assertThat(message.getAccountIds()).containsExactly(4L, 9L);
+        });
+    }
+
+    @Test
+    void accountsInserted_evictsClientQueriesEverywhereAndBroadcastsTheIds() {
+        local.accountsInserted(List.of(4L, 9L));
+
+        verify(localCache, atLeastOnce()).evictQueryRegion(AccountCacheInvalidator.CLIENT_QUERY_REGION);
+        verify(remoteCache).evictQueryRegion(AccountCacheInvalidator.CLIENT_QUERY_REGION);
+        assertThat(delivered).singleElement()
+                .satisfies(message -> assertThat(message.getAccountIds()).containsExactly(4L, 9L));
+    }
+
+    @Test
+    void notifyCommitted_onlyBroadcasts() {
+        local.notifyCommitted(3L);
+
+        assertThat(delivered).containsExactly(new CacheInvalidationMessage("node-a", 3L));
+        verify(remoteCache).evictEntityData(Account.class, 3L);
+    }
+
+    @Test
+    void accountNumbersCreated_afterCommit_reachesEveryBloomFilterWithoutEvicting() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        local.accountNumbersCreated(List.of("SVG-000001", "SVG-000002"));
+
+        assertThat(delivered).isEmpty();
+        verifyNoInteractions(localIndex);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(localIndex, atLeastOnce()).addAll(List.of("SVG-000001", "SVG-000002"));
+        verify(remoteIndex).addAll(List.of("SVG-000001", "SVG-000002"));
+        assertThat(delivered).singleElement().satisfies(message -> assertThat(message.isAll()).isFalse());
+        verifyNoInteractions(remoteCache);
+    }
+}
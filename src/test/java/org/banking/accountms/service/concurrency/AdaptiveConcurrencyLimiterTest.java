@@ -0,0 +1,103 @@
+package org.banking.accountms.service.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private LimitSettings settings;
+
+    @BeforeEach
+    void setUp() {
+        settings = new LimitSettings();
+        settings.setInitialLimit(4);
+        settings.setMinLimit(1);
+        settings.setMaxLimit(10);
+        settings.setWindowSize(10);
+    }
+
+    private void sample(AdaptiveConcurrencyLimiter limiter, long rttMillis) {
+        long start = limiter.tryAcquire().orElseThrow();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        limiter.release(start, false);
+    }
+
+    @Test
+    void tryAcquire_rejectsBeyondLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, clock::get);
+        for (int i = 0; i < 4; i++) {
+            assertThat(limiter.tryAcquire()).isPresent();
+        }
+
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThat(limiter.getInflight()).isEqualTo(4);
+    }
+
+    @Test
+    void release_latencyAboveToleranceShrinksLimitOncePerWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, clock::get);
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, 10);
+        }
+
+        for (int i = 0; i < 9; i++) {
+            sample(limiter, 50);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        sample(limiter, 50);
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void release_singleSlowSampleDoesNotShrinkLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, clock::get);
+        for (int i = 0; i < 10; i++) {
+            sample(limiter, 10);
+        }
+
+        sample(limiter, 25);
+        for (int i = 0; i < 9; i++) {
+            sample(limiter, 10);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void release_failuresShrinkLimitDownToMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, clock::get);
+
+        for (int i = 0; i < 200; i++) {
+            long start = limiter.tryAcquire().orElseThrow();
+            limiter.release(start, true);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void release_healthyLatencyUnderLoadGrowsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", settings, clock::get);
+
+        for (int round = 0; round < 20; round++) {
+            int permits = limiter.getLimit();
+            long[] starts = new long[permits];
+            for (int i = 0; i < permits; i++) {
+                starts[i] = limiter.tryAcquire().orElseThrow();
+            }
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            for (long start : starts) {
+                limiter.release(start, false);
+            }
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThan(4);
+    }
+}
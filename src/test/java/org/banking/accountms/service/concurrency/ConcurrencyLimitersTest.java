@@ -0,0 +1,51 @@
+package org.banking.accountms.service.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.banking.accountms.config.ConcurrencyLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrencyLimitersTest {
+
+    private ConcurrencyLimitProperties properties;
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimiters limiters;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.getReads().setInitialLimit(40);
+        properties.getWrites().setInitialLimit(20);
+        registry = new SimpleMeterRegistry();
+        limiters = new ConcurrencyLimiters(properties, registry);
+    }
+
+    @Test
+    void forRoute_keepsOneLimiterPerRoute() {
+        AdaptiveConcurrencyLimiter deposit = limiters.forRoute("POST /cuentas/{id}/deposito");
+
+        assertThat(limiters.forRoute("POST /cuentas/{id}/deposito")).isSameAs(deposit);
+        assertThat(limiters.forRoute("POST /cuentas/{id}/retiro")).isNotSameAs(deposit);
+        assertThat(limiters.all()).hasSize(2);
+    }
+
+    @Test
+    void forRoute_readOnlyPostUsesReadSettings() {
+        assertThat(limiters.forRoute("POST /cuentas/saldos").getLimit()).isEqualTo(40);
+        assertThat(limiters.forRoute("GET /cuentas/{id}").getLimit()).isEqualTo(40);
+        assertThat(limiters.forRoute("POST /cuentas").getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void forRoute_publishesLimitAndInflightGauges() {
+        AdaptiveConcurrencyLimiter limiter = limiters.forRoute("POST /cuentas/saldos");
+        limiter.tryAcquire();
+
+        assertThat(registry.get("account.concurrency.limit").tag("route", "POST /cuentas/saldos").tag("kind", "read")
+                .gauge().value()).isEqualTo(40);
+        assertThat(registry.get("account.concurrency.inflight").tag("route", "POST /cuentas/saldos")
+                .gauge().value()).isEqualTo(1);
+    }
+}
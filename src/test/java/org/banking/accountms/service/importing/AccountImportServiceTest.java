@@ -0,0 +1,181 @@
+package org.banking.accountms.service.importing;
+
+import org.banking.accountms.common.Messages;
+import org.banking.accountms.config.AccountImportProperties;
+import org.banking.accountms.dto.response.AccountImportResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.service.AccountNumberGenerator;
+import org.banking.accountms.service.AccountValidator;
+import org.banking.accountms.service.cache.AccountCacheInvalidator;
+import org.banking.accountms.service.validation.AccountTypeValidation;
+import org.banking.accountms.service.validation.BalanceValidation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccountImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private AccountNumberGenerator generator;
+    private AccountImportProperties properties;
+    private AccountCacheInvalidator cacheInvalidator;
+    private AccountImportService service;
+    private final AtomicInteger numbers = new AtomicInteger();
+
+    @TempDir
+    Path dir;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:account_import;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "account_number VARCHAR(255) NOT NULL UNIQUE, balance DECIMAL(19, 2), type VARCHAR(255), "
+                + "client_id BIGINT, active BOOLEAN)");
+        jdbcTemplate.execute("CREATE TABLE account_movements (id BIGINT AUTO_INCREMENT PRIMARY KEY, account_id BIGINT, "
+                + "amount DECIMAL(19, 2), resulting_balance DECIMAL(19, 2), type VARCHAR(20), created_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE account_import_checkpoints (file_name VARCHAR(255) PRIMARY KEY, "
+                + "file_size BIGINT, byte_offset BIGINT, lines_read BIGINT, imported BIGINT, rejected BIGINT, "
+                + "reject_offset BIGINT, completed BOOLEAN, updated_at TIMESTAMP)");
+
+        generator = mock(AccountNumberGenerator.class);
+        when(generator.generateBlock(any(AccountType.class), anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(1);
+            return IntStream.range(0, count).mapToObj(i -> "IMP-" + numbers.incrementAndGet()).collect(Collectors.toList());
+        });
+        cacheInvalidator = mock(AccountCacheInvalidator.class);
+        properties = new AccountImportProperties();
+        properties.setDirectory(dir.toString());
+        properties.setChunkSize(2);
+        properties.setReadBufferBytes(64);
+        service = new AccountImportService(
+                new AccountValidator(List.of(new AccountTypeValidation(), new BalanceValidation())),
+                generator, new NamedParameterJdbcTemplate(dataSource),
+                new DataSourceTransactionManager(dataSource), cacheInvalidator, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE accounts");
+        jdbcTemplate.execute("DROP TABLE account_movements");
+        jdbcTemplate.execute("DROP TABLE account_import_checkpoints");
+    }
+
+    @Test
+    void importFile_insertsValidRowsWithOpeningMovementAndWritesRejects() throws Exception {
+        write("legacy.csv", "client_id,type,initial_balance\r\n"
+                + "1,SAVINGS,100.50\r\n"
+                + "2,CHECKING,20\r\n"
+                + "\r\n"
+                + "3,LOAN,10\r\n"
+                + "4,SAVINGS,0\r\n"
+                + "5,\"CHECKING\",7.25\r\n"
+                + "6,SAVINGS,1" + "0".repeat(80) + "\r\n"
+                + "7,SAVINGS,3.999");
+
+        AccountImportResponse response = service.importFile("legacy.csv");
+
+        assertThat(response.getRowsRead()).isEqualTo(9);
+        assertThat(response.getImported()).isEqualTo(3);
+        assertThat(response.getRejected()).isEqualTo(4);
+        assertThat(response.getResumedFromOffset()).isZero();
+        assertThat(response.getBytesRead()).isEqualTo(Files.size(dir.resolve("legacy.csv")));
+        assertThat(jdbcTemplate.queryForList("SELECT client_id FROM accounts ORDER BY client_id", Long.class))
+                .containsExactly(1L, 2L, 5L);
+        assertThat(jdbcTemplate.queryForObject("SELECT SUM(amount) FROM account_movements WHERE type = 'OPENING'",
+                java.math.BigDecimal.class)).isEqualByComparingTo("127.75");
+        assertThat(Files.readAllLines(dir.resolve(response.getRejectFile()))).containsExactly(
+                "linea,motivo,registro",
+                "5,\"" + Messages.INVALID_ACCOUNT_TYPE + "\",\"3,LOAN,10\"",
+                "6,\"" + Messages.BALANCE_MUST_BE_POSITIVE + "\",\"4,SAVINGS,0\"",
+                "8,\"" + Messages.IMPORT_LINE_TOO_LONG + "\",\"\"",
+                "9,\"" + Messages.INVALID_AMOUNT_SCALE + "\",\"7,SAVINGS,3.999\"");
+        List<Long> notified = new ArrayList<>();
+        mockingDetails(cacheInvalidator).getInvocations().stream()
+                .filter(invocation -> invocation.getMethod().getName().equals("accountsInserted"))
+                .forEach(invocation -> notified.addAll(invocation.getArgument(0)));
+        assertThat(notified).containsExactlyInAnyOrderElementsOf(
+                jdbcTemplate.queryForList("SELECT id FROM accounts", Long.class));
+        verify(cacheInvalidator, never()).evictAll();
+        verify(cacheInvalidator, never()).evictAccounts(any());
+    }
+
+    @Test
+    void importFile_resumesAfterTheLastCommittedChunk() throws Exception {
+        write("legacy.csv", IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> i + ",SAVINGS," + (i == 2 ? "-1" : "10"))
+                .collect(Collectors.joining("\n", "", "\n")));
+        AtomicInteger calls = new AtomicInteger();
+        when(generator.generateBlock(any(AccountType.class), anyInt())).thenAnswer(invocation -> {
+            if (calls.incrementAndGet() == 3) {
+                throw new IllegalStateException("caída simulada");
+            }
+            int count = invocation.getArgument(1);
+            return IntStream.range(0, count).mapToObj(i -> "IMP-" + numbers.incrementAndGet()).collect(Collectors.toList());
+        });
+
+        assertThatThrownBy(() -> service.importFile("legacy.csv")).isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts", Long.class)).isEqualTo(3);
+
+        AccountImportResponse response = service.importFile("legacy.csv");
+
+        assertThat(response.getResumedFromOffset()).isEqualTo("1,SAVINGS,10\n2,SAVINGS,-1\n3,SAVINGS,10\n4,SAVINGS,10\n".length());
+        assertThat(response.getRowsRead()).isEqualTo(3);
+        assertThat(response.getTotalImported()).isEqualTo(6);
+        assertThat(response.getTotalRejected()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT client_id FROM accounts ORDER BY client_id", Long.class))
+                .containsExactly(1L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM account_movements", Long.class)).isEqualTo(6);
+        assertThat(Files.readAllLines(dir.resolve("legacy.csv.rechazos.csv"))).hasSize(2);
+    }
+
+    @Test
+    void importFile_completedFileIsNotReadAgain() throws Exception {
+        write("legacy.csv", "1,SAVINGS,10\n");
+        service.importFile("legacy.csv");
+
+        AccountImportResponse again = service.importFile("legacy.csv");
+
+        assertThat(again.getRowsRead()).isZero();
+        assertThat(again.getTotalImported()).isEqualTo(1);
+        assertThat(again.getRejectFile()).isNull();
+        assertThat(Files.exists(dir.resolve("legacy.csv.rechazos.csv"))).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM accounts", Long.class)).isEqualTo(1);
+    }
+
+    @Test
+    void importFile_rejectsChangedFilesAndPathsOutsideTheDirectory() throws Exception {
+        write("legacy.csv", "1,SAVINGS,10\n");
+        service.importFile("legacy.csv");
+        write("legacy.csv", "1,SAVINGS,10\n2,SAVINGS,10\n");
+
+        assertThatThrownBy(() -> service.importFile("legacy.csv"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage(Messages.IMPORT_FILE_CHANGED);
+        assertThatThrownBy(() -> service.importFile("../legacy.csv"))
+                .isInstanceOf(IllegalArgumentException.class).hasMessage(Messages.IMPORT_FILE_INVALID);
+        assertThatThrownBy(() -> service.importFile("missing.csv")).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private void write(String name, String content) throws Exception {
+        Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,89 @@
+package org.banking.accountms.service.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.banking.accountms.dto.request.CreateAccountRequest;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.repository.AccountRepository;
+import org.banking.accountms.service.AccountNumberGenerator;
+import org.banking.accountms.service.AccountValidator;
+import org.banking.accountms.service.bloom.AccountNumberIndex;
+import org.banking.accountms.service.validation.ValidationRule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.validation.ValidationException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class JfrStageSummaryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void events_areDisabledUnlessARecordingEnablesThem() {
+        assertThat(new AccountValidationEvent().isEnabled()).isFalse();
+    }
+
+    @Test
+    void bundledProfile_recordsEachStageAndTheSummaryGroupsThem() throws Exception {
+        AccountRepository repository = mock(AccountRepository.class);
+        AccountNumberIndex index = mock(AccountNumberIndex.class);
+        when(index.mightContain(anyString())).thenReturn(true);
+        when(repository.existsByAccountNumber(anyString())).thenReturn(true, false);
+        AccountNumberGenerator generator = new AccountNumberGenerator(repository, index);
+        ValidationRule rejecting = request -> {
+            throw new ValidationException("rechazada");
+        };
+        AccountValidator validator = new AccountValidator(List.of(rejecting));
+        CreateAccountRequest request = new CreateAccountRequest(1L, AccountType.CHECKING, BigDecimal.TEN);
+
+        Path file = dir.resolve("accountms.jfr");
+        try (Reader profile = new InputStreamReader(getClass().getResourceAsStream("/jfr/accountms.jfc"),
+                StandardCharsets.UTF_8); Recording recording = new Recording(Configuration.create(profile))) {
+            recording.start();
+            generator.generate(AccountType.SAVINGS);
+            assertThatThrownBy(() -> validator.validate(request)).isInstanceOf(ValidationException.class);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith(JfrStageSummary.EVENT_PREFIX))
+                .collect(Collectors.toList());
+        RecordedEvent generation = only(events, AccountNumberGenerationEvent.NAME);
+        assertThat(generation.getInt("attempts")).isEqualTo(2);
+        assertThat(generation.getString("accountType")).isEqualTo("SAVINGS");
+        assertThat(generation.getString("outcome")).isEqualTo(AccountPipelineEvent.OK);
+        assertThat(only(events, AccountValidationEvent.NAME).getString("outcome"))
+                .isEqualTo(AccountPipelineEvent.REJECTED);
+        assertThat(events).filteredOn(event -> event.getEventType().getName().equals(RepositoryCallEvent.NAME))
+                .extracting(event -> event.getString("operation"))
+                .containsExactly("accounts.existsByAccountNumber", "accounts.existsByAccountNumber");
+
+        assertThat(JfrStageSummary.summarize(file)).contains(
+                "AccountNumberGeneration [OK]",
+                "AccountValidation [REJECTED]",
+                "RepositoryCall accounts.existsByAccountNumber [OK]");
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+        assertThat(matching).hasSize(1);
+        return matching.get(0);
+    }
+}
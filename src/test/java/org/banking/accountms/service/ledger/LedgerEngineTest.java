@@ -0,0 +1,229 @@
+package org.banking.accountms.service.ledger;
+
+import org.banking.accountms.config.LedgerProperties;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.exception.ResourceNotFoundException;
+import org.banking.accountms.model.Account;
+import org.banking.accountms.model.AccountType;
+import org.banking.accountms.model.MovementType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.validation.ValidationException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class LedgerEngineTest {
+
+    @TempDir
+    Path dir;
+
+    private LedgerProperties properties;
+    private LedgerStore store;
+    private LedgerInvalidations invalidations;
+    private LedgerEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LedgerProperties();
+        properties.setRingSize(64);
+        properties.setFsync(false);
+        properties.setFlushIntervalMs(10);
+        properties.setJournalPath(dir.resolve("ledger.journal").toString());
+        store = mock(LedgerStore.class);
+        invalidations = new LedgerInvalidations();
+        when(store.load(1L)).thenAnswer(i -> Optional.of(account(1L, AccountType.SAVINGS, "100")));
+        when(store.load(2L)).thenAnswer(i -> Optional.of(account(2L, AccountType.CHECKING, "0")));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (engine != null) {
+            engine.stop();
+        }
+    }
+
+    @Test
+    void commands_areAppliedInMemoryAndWrittenInBatches() throws Exception {
+        engine = started();
+
+        engine.deposit(1L, new BigDecimal("50"));
+        AccountResponse response = engine.withdraw(1L, new BigDecimal("30.25"));
+
+        assertThat(response.getBalance()).isEqualByComparingTo("119.75");
+        verify(store, times(1)).load(1L);
+        engine.stop();
+        List<LedgerEntry> written = writtenEntries();
+        assertThat(engine.persistedSequence()).isEqualTo(2);
+        engine = null;
+        assertThat(written).extracting(LedgerEntry::getAmount)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("50"), new BigDecimal("-30.25"));
+        assertThat(written.get(1).getResultingBalance()).isEqualByComparingTo("119.75");
+    }
+
+    @Test
+    void withdraw_keepsTheOverdraftRules() throws IOException {
+        engine = started();
+
+        assertThatThrownBy(() -> engine.withdraw(1L, new BigDecimal("100.01")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(engine.withdraw(2L, new BigDecimal("500")).getBalance()).isEqualByComparingTo("-500");
+        assertThatThrownBy(() -> engine.withdraw(2L, new BigDecimal("0.01")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deposit_unknownAccount_throwsNotFound() throws IOException {
+        engine = started();
+
+        assertThatThrownBy(() -> engine.deposit(9L, BigDecimal.ONE)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void deposit_stripedAccount_isRejected() throws IOException {
+        Account striped = account(3L, AccountType.CHECKING, "0");
+        striped.setBalanceStripes(4);
+        when(store.load(3L)).thenReturn(Optional.of(striped));
+        engine = started();
+
+        assertThatThrownBy(() -> engine.deposit(3L, BigDecimal.ONE)).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void deposit_withMoreThanTwoDecimals_isRejectedBeforeQueueing() throws IOException {
+        engine = started();
+
+        assertThatThrownBy(() -> engine.deposit(1L, new BigDecimal("0.001")))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(store, never()).load(anyLong());
+    }
+
+    @Test
+    void start_replaysJournalRecordsAfterTheCheckpoint() throws Exception {
+        try (LedgerJournal journal = new LedgerJournal(dir.resolve("ledger.journal"), false, 8)) {
+            journal.append(1, 1L, 1_000L, MovementType.DEPOSIT);
+            journal.append(2, 1L, 2_000L, MovementType.DEPOSIT);
+            journal.append(3, 1L, -500L, MovementType.WITHDRAWAL);
+        }
+        when(store.lastSequence("ledger")).thenReturn(1L);
+
+        engine = started();
+
+        ArgumentCaptor<LedgerFlush> flush = ArgumentCaptor.forClass(LedgerFlush.class);
+        verify(store).write(eq("ledger"), flush.capture());
+        assertThat(flush.getValue().getLastSequence()).isEqualTo(3);
+        assertThat(flush.getValue().getEntries()).extracting(LedgerEntry::getSequence).containsExactly(2L, 3L);
+        assertThat(flush.getValue().getAccounts().get(0).getBalance()).isEqualByComparingTo("115");
+        assertThat(engine.deposit(1L, BigDecimal.ONE).getBalance()).isEqualByComparingTo("116");
+    }
+
+    @Test
+    void stop_flushesPendingCommandsBeforeReturning() throws Exception {
+        properties.setFlushIntervalMs(60_000);
+        engine = started();
+        engine.deposit(1L, BigDecimal.TEN);
+
+        engine.stop();
+        engine = null;
+
+        verify(store).write(eq("ledger"), argThat(flush -> flush.getLastSequence() == 1));
+    }
+
+    @Test
+    void exclusive_runsAfterPendingCommandsArePersistedAndReloadsTheAccounts() throws IOException {
+        properties.setFlushIntervalMs(60_000);
+        engine = started();
+        engine.deposit(1L, BigDecimal.TEN);
+
+        long persistedDuringAction = engine.exclusive(List.of(1L), () -> engine.persistedSequence());
+
+        assertThat(persistedDuringAction).isEqualTo(1);
+        // El mock devuelve de nuevo el saldo de 100: la cuenta se recargó.
+        assertThat(engine.deposit(1L, BigDecimal.ONE).getBalance()).isEqualByComparingTo("101");
+        verify(store, times(2)).load(1L);
+    }
+
+    @Test
+    void exclusive_failingAction_propagatesTheExceptionAndStillReloads() throws IOException {
+        engine = started();
+        engine.deposit(1L, BigDecimal.TEN);
+
+        assertThatThrownBy(() -> engine.exclusive(List.of(1L), () -> {
+            throw new IllegalStateException("fallo");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("fallo");
+        engine.deposit(1L, BigDecimal.ONE);
+
+        verify(store, times(2)).load(1L);
+    }
+
+    @Test
+    void externalChange_reloadsTheAccountOncePersisted() throws IOException {
+        engine = started();
+        engine.deposit(1L, BigDecimal.TEN);
+        awaitPersisted(1);
+
+        invalidations.accountsChanged(1L);
+        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+
+        assertThat(engine.deposit(1L, BigDecimal.ONE).getBalance()).isEqualByComparingTo("101");
+    }
+
+    @Test
+    void accounts_beyondTheLimit_areDroppedOncePersisted() throws IOException {
+        properties.setMaxCachedAccounts(1);
+        engine = started();
+        engine.deposit(1L, BigDecimal.TEN);
+        awaitPersisted(1);
+        engine.deposit(2L, BigDecimal.TEN);
+
+        assertThat(engine.deposit(1L, BigDecimal.ONE).getBalance()).isEqualByComparingTo("101");
+        verify(store, times(2)).load(1L);
+    }
+
+    private void awaitPersisted(long sequence) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (engine.persistedSequence() < sequence && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertThat(engine.persistedSequence()).isGreaterThanOrEqualTo(sequence);
+    }
+
+    private LedgerEngine started() throws IOException {
+        LedgerEngine started = new LedgerEngine(properties, store, invalidations);
+        started.start();
+        return started;
+    }
+
+    private List<LedgerEntry> writtenEntries() {
+        ArgumentCaptor<LedgerFlush> flushes = ArgumentCaptor.forClass(LedgerFlush.class);
+        verify(store, atLeastOnce()).write(eq("ledger"), flushes.capture());
+        List<LedgerEntry> entries = new ArrayList<>();
+        flushes.getAllValues().forEach(flush -> entries.addAll(flush.getEntries()));
+        return entries;
+    }
+
+    private static Account account(Long id, AccountType type, String balance) {
+        return Account.builder()
+                .id(id)
+                .accountNumber("ACC-" + id)
+                .balance(new BigDecimal(balance))
+                .type(type)
+                .clientId(7L)
+                .active(true)
+                .build();
+    }
+}
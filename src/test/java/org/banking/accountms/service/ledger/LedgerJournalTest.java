@@ -0,0 +1,83 @@
+package org.banking.accountms.service.ledger;
+
+import org.banking.accountms.model.MovementType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LedgerJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void reopen_recoversSyncedRecords() throws IOException {
+        Path path = dir.resolve("ledger.journal");
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            for (int i = 1; i <= 6; i++) {
+                journal.append(i, 10L + i, i * 100L, MovementType.DEPOSIT);
+            }
+            journal.append(7, 11L, -250L, MovementType.WITHDRAWAL);
+        }
+
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            assertThat(journal.recovered()).hasSize(7);
+            assertThat(journal.recovered().get(6))
+                    .isEqualTo(new LedgerJournal.Record(7, 11L, -250L, MovementType.WITHDRAWAL));
+        }
+    }
+
+    @Test
+    void reopen_discardsATornTail() throws IOException {
+        Path path = dir.resolve("ledger.journal");
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            journal.append(1, 1L, 100L, MovementType.DEPOSIT);
+            journal.append(2, 1L, 100L, MovementType.DEPOSIT);
+        }
+        Files.write(path, new byte[LedgerJournal.RECORD_BYTES / 2], StandardOpenOption.APPEND);
+
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            assertThat(journal.recovered()).hasSize(2);
+            assertThat(journal.size()).isEqualTo(2L * LedgerJournal.RECORD_BYTES);
+        }
+    }
+
+    @Test
+    void discardUnsynced_dropsRecordsWrittenAfterTheLastSync() throws IOException {
+        Path path = dir.resolve("ledger.journal");
+        try (LedgerJournal journal = new LedgerJournal(path, false, 1)) {
+            journal.append(1, 1L, 100L, MovementType.DEPOSIT);
+            journal.sync();
+            journal.append(2, 1L, 100L, MovementType.DEPOSIT);
+            journal.append(3, 1L, 100L, MovementType.DEPOSIT);
+
+            journal.discardUnsynced();
+        }
+
+        try (LedgerJournal journal = new LedgerJournal(path, false, 1)) {
+            assertThat(journal.recovered()).extracting(LedgerJournal.Record::getSequence).containsExactly(1L);
+        }
+    }
+
+    @Test
+    void reopen_stopsAtACorruptedRecord() throws IOException {
+        Path path = dir.resolve("ledger.journal");
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            journal.append(1, 1L, 100L, MovementType.DEPOSIT);
+            journal.append(2, 1L, 100L, MovementType.DEPOSIT);
+        }
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[LedgerJournal.RECORD_BYTES + 17] ^= 1;
+        Files.write(path, bytes);
+
+        try (LedgerJournal journal = new LedgerJournal(path, false, 4)) {
+            assertThat(journal.recovered()).extracting(LedgerJournal.Record::getSequence).containsExactly(1L);
+        }
+    }
+}
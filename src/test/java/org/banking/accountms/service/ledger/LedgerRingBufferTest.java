@@ -0,0 +1,52 @@
+package org.banking.accountms.service.ledger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LedgerRingBufferTest {
+
+    @Test
+    void constructor_rejectsCapacityThatIsNotAPowerOfTwo() {
+        assertThatThrownBy(() -> new LedgerRingBuffer(6)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tryClaim_returnsMinusOneWhenFullUntilReleased() {
+        LedgerRingBuffer ring = new LedgerRingBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.tryClaim()).isEqualTo(i);
+        }
+
+        assertThat(ring.tryClaim()).isEqualTo(-1);
+        ring.release(1);
+        assertThat(ring.tryClaim()).isEqualTo(4);
+    }
+
+    @Test
+    void highestPublished_stopsAtTheFirstGap() {
+        LedgerRingBuffer ring = new LedgerRingBuffer(8);
+        for (int i = 0; i < 4; i++) {
+            ring.tryClaim();
+        }
+        ring.publish(0);
+        ring.publish(1);
+        ring.publish(3);
+
+        assertThat(ring.highestPublished(0)).isEqualTo(1);
+        ring.publish(2);
+        assertThat(ring.highestPublished(0)).isEqualTo(3);
+        assertThat(ring.highestPublished(4)).isEqualTo(3);
+    }
+
+    @Test
+    void highestPublished_ignoresSlotsFromThePreviousLap() {
+        LedgerRingBuffer ring = new LedgerRingBuffer(2);
+        ring.tryClaim();
+        ring.publish(0);
+        ring.release(0);
+
+        assertThat(ring.highestPublished(2)).isEqualTo(1);
+        assertThat(ring.isEmpty()).isTrue();
+    }
+}
@@ -0,0 +1,153 @@
+package org.banking.accountms.service.ratelimit;
+
+import org.banking.accountms.config.RateLimitProperties;
+import org.banking.accountms.exception.RateLimitExceededException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountCreationRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private RateLimitProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        properties = new RateLimitProperties();
+        properties.setClientPermitsPerSecond(10);
+        properties.setClientBurst(2);
+        properties.setCallerPermitsPerSecond(1_000);
+        properties.setCallerBurst(1_000);
+    }
+
+    @Test
+    void acquire_allowsBurstThenRejectsWithRetryAfter() {
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+
+        limiter.acquire(1L, "caller");
+        limiter.acquire(1L, "caller");
+
+        assertThatThrownBy(() -> limiter.acquire(1L, "caller"))
+                .isInstanceOf(RateLimitExceededException.class)
+                .extracting("retryAfterSeconds").isEqualTo(1L);
+    }
+
+    @Test
+    void acquire_refillsAtConfiguredRate() {
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+        limiter.acquire(1L, "caller");
+        limiter.acquire(1L, "caller");
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertThatCode(() -> limiter.acquire(1L, "caller")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acquire_clientsHaveIndependentBuckets() {
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+        limiter.acquire(1L, "caller");
+        limiter.acquire(1L, "caller");
+
+        assertThatCode(() -> limiter.acquire(2L, "caller")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acquire_rejectedByClientBucket_doesNotConsumeTheCallerBucket() {
+        properties.setCallerPermitsPerSecond(1);
+        properties.setCallerBurst(3);
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+        limiter.acquire(1L, "caller");
+        limiter.acquire(1L, "caller");
+
+        assertThatThrownBy(() -> limiter.acquire(1L, "caller")).isInstanceOf(RateLimitExceededException.class);
+
+        assertThatCode(() -> limiter.acquire(2L, "caller")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void evictIdle_removesFullBucketsOnly() {
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+        limiter.acquire(1L, "caller");
+        assertThat(limiter.bucketCount()).isEqualTo(2);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        limiter.evictIdle();
+
+        assertThat(limiter.bucketCount()).isZero();
+    }
+
+    @Test
+    void acquire_beyondMaxBuckets_sharesOverflowBucket() {
+        properties.setMaxBuckets(1);
+        properties.setCallerBurst(1);
+        properties.setCallerPermitsPerSecond(1);
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties, clock::get);
+
+        limiter.acquire(null, "a");
+        limiter.acquire(null, "b");
+
+        assertThatThrownBy(() -> limiter.acquire(null, "c")).isInstanceOf(RateLimitExceededException.class);
+    }
+
+    /**
+     * Bajo sobrecarga, un inquilino con 8 hilos golpeando el endpoint no obtiene más cupo que
+     * otro con un solo hilo: cada uno recibe aproximadamente su ritmo configurado.
+     */
+    @Test
+    void acquire_underOverload_givesTenantsFairThroughput() throws InterruptedException {
+        properties.setClientPermitsPerSecond(200);
+        properties.setClientBurst(20);
+        AccountCreationRateLimiter limiter = new AccountCreationRateLimiter(properties);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+
+        ExecutorService pool = Executors.newFixedThreadPool(9);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong noisyGranted = new AtomicLong();
+        AtomicLong quietGranted = new AtomicLong();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(hammer(limiter, 1L, "noisy-" + i, noisyGranted, start, deadline));
+        }
+        tasks.add(hammer(limiter, 2L, "quiet", quietGranted, start, deadline));
+        tasks.forEach(pool::execute);
+
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+        long expectedMax = (200 / 2 + 20) * 6 / 5;
+        assertThat(noisyGranted.get()).isBetween(60L, expectedMax);
+        assertThat(quietGranted.get()).isBetween(60L, expectedMax);
+        assertThat(Math.abs(noisyGranted.get() - quietGranted.get())).isLessThan(expectedMax / 4);
+    }
+
+    private Runnable hammer(AccountCreationRateLimiter limiter, Long clientId, String caller,
+                            AtomicLong granted, CountDownLatch start, long deadline) {
+        return () -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            while (System.nanoTime() < deadline) {
+                try {
+                    limiter.acquire(clientId, caller);
+                    granted.incrementAndGet();
+                } catch (RateLimitExceededException e) {
+                    Thread.onSpinWait();
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,131 @@
+package org.banking.accountms.service.readmodel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.banking.accountms.config.ReadModelProperties;
+import org.banking.accountms.dto.event.AccountEvent;
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountEventType;
+import org.banking.accountms.model.AccountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountReadModelTest {
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+    private ReadModelProperties properties;
+    private AccountReadModel readModel;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:read_model;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE accounts (id BIGINT PRIMARY KEY, account_number VARCHAR(255), "
+                + "balance DECIMAL(19, 2), type VARCHAR(255), client_id BIGINT, active BOOLEAN)");
+        for (long id = 1; id <= 25; id++) {
+            insert(id, 10 + id % 4, "100.00");
+        }
+        properties = new ReadModelProperties();
+        properties.setEnabled(true);
+        properties.setDirectory(dir.toString());
+        properties.setLoadBatchSize(7);
+        properties.setSegmentRecords(8);
+        readModel = new AccountReadModel(new NamedParameterJdbcTemplate(dataSource), properties, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        readModel.close();
+        jdbcTemplate.execute("DROP TABLE accounts");
+    }
+
+    @Test
+    void maintain_buildsTheModelFromTheTable() {
+        assertThat(readModel.isReady()).isFalse();
+
+        readModel.maintain();
+
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.listAll()).hasSize(25);
+        assertThat(readModel.listByClient(11)).extracting(AccountResponse::getId).containsExactly(1L, 5L, 9L, 13L, 17L, 21L, 25L);
+    }
+
+    @Test
+    void onAccountEvent_appliesTheSnapshotRightAway() {
+        readModel.maintain();
+
+        readModel.onAccountEvent(event(AccountEventType.CREATED, 30, 11, "5.00"));
+        readModel.onAccountEvent(event(AccountEventType.BALANCE_CHANGED, 1, 11, "42.00"));
+        readModel.onAccountEvent(AccountEvent.builder().accountId(5L).type(AccountEventType.DELETED).build());
+
+        assertThat(readModel.listByClient(11)).extracting(AccountResponse::getId, AccountResponse::getBalance)
+                .containsExactly(tuple(1L, new BigDecimal("42.00")), tuple(9L, new BigDecimal("100.00")),
+                        tuple(13L, new BigDecimal("100.00")), tuple(17L, new BigDecimal("100.00")),
+                        tuple(21L, new BigDecimal("100.00")), tuple(25L, new BigDecimal("100.00")),
+                        tuple(30L, new BigDecimal("5.00")));
+    }
+
+    @Test
+    void accountsChanged_rereadsChangedAndDeletedAccounts() {
+        readModel.maintain();
+        jdbcTemplate.update("UPDATE accounts SET balance = 7.77, active = FALSE WHERE id = 2");
+        jdbcTemplate.update("DELETE FROM accounts WHERE id = 3");
+
+        readModel.accountsChanged(2L);
+        readModel.accountsChanged(3L);
+        readModel.maintain();
+
+        assertThat(readModel.listAll()).hasSize(24)
+                .filteredOn(account -> account.getId() == 2L).singleElement()
+                .satisfies(account -> {
+                    assertThat(account.getBalance()).isEqualByComparingTo("7.77");
+                    assertThat(account.isActive()).isFalse();
+                });
+    }
+
+    @Test
+    void accountsChanged_all_fallsBackUntilRebuilt() {
+        readModel.maintain();
+        insert(26, 11, "1.00");
+
+        readModel.accountsChanged(null);
+        assertThat(readModel.isReady()).isFalse();
+
+        properties.setRebuildMinIntervalMs(0);
+        readModel.maintain();
+        assertThat(readModel.isReady()).isTrue();
+        assertThat(readModel.listAll()).hasSize(26);
+    }
+
+    @Test
+    void maintain_accountThatDoesNotFit_keepsTheModelUnused() {
+        jdbcTemplate.update("UPDATE accounts SET account_number = ? WHERE id = 4", "X".repeat(40));
+
+        readModel.maintain();
+
+        assertThat(readModel.isReady()).isFalse();
+    }
+
+    private void insert(long id, long clientId, String balance) {
+        jdbcTemplate.update("INSERT INTO accounts VALUES (?, ?, ?, 'SAVINGS', ?, TRUE)",
+                id, "SVG-" + id, new BigDecimal(balance), clientId);
+    }
+
+    private static AccountEvent event(AccountEventType type, long id, long clientId, String balance) {
+        return AccountEvent.builder().accountId(id).type(type).account(AccountResponse.builder()
+                .id(id).accountNumber("SVG-" + id).balance(new BigDecimal(balance)).type(AccountType.SAVINGS)
+                .clientId(clientId).active(true).build()).build();
+    }
+}
@@ -0,0 +1,86 @@
+package org.banking.accountms.service.readmodel;
+
+import org.banking.accountms.dto.response.AccountResponse;
+import org.banking.accountms.model.AccountType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccountRecordStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private AccountRecordStore store;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // segmentos de 4 registros para cruzar varias regiones mapeadas
+        store = new AccountRecordStore(dir.resolve("accounts-1.dat"), 4, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        store.close();
+    }
+
+    @Test
+    void put_roundTripsEveryFieldAcrossSegments() throws Exception {
+        for (long id = 1; id <= 10; id++) {
+            assertThat(store.put(id, "SVG-000000000" + (id % 10), new BigDecimal("-12.5").add(BigDecimal.valueOf(id)),
+                    id % 2 == 0 ? AccountType.SAVINGS : AccountType.CHECKING, 100 + id % 3, id != 7)).isTrue();
+        }
+
+        assertThat(store.size()).isEqualTo(10);
+        assertThat(store.all()).hasSize(10).element(6).isEqualTo(AccountResponse.builder()
+                .id(7L).accountNumber("SVG-0000000007").balance(new BigDecimal("-5.50"))
+                .type(AccountType.CHECKING).clientId(101L).active(false).build());
+        assertThat(store.byClient(101)).extracting(AccountResponse::getId).containsExactly(1L, 4L, 7L, 10L);
+        assertThat(store.byClient(999)).isEmpty();
+    }
+
+    @Test
+    void put_sameIdReplacesTheRecordAndRemoveHidesIt() throws Exception {
+        store.put(5, "CH-1", BigDecimal.ONE, AccountType.CHECKING, 0, true);
+        store.put(6, "CH-2", BigDecimal.ONE, AccountType.CHECKING, 0, true);
+        store.put(5, "CH-1", new BigDecimal("80.25"), AccountType.CHECKING, 0, false);
+        store.remove(6);
+        store.remove(6);
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.byClient(0)).singleElement().satisfies(account -> {
+            assertThat(account.getBalance()).isEqualByComparingTo("80.25");
+            assertThat(account.isActive()).isFalse();
+        });
+
+        store.put(6, "CH-2", BigDecimal.TEN, AccountType.CHECKING, 0, true);
+        assertThat(store.byClient(0)).extracting(AccountResponse::getId).containsExactly(5L, 6L);
+    }
+
+    @Test
+    void put_rejectsValuesThatDoNotFitTheRecord() throws Exception {
+        assertThat(store.put(1, "X".repeat(AccountRecordStore.MAX_NUMBER_BYTES + 1), BigDecimal.ONE,
+                AccountType.SAVINGS, 1, true)).isFalse();
+        assertThat(store.put(2, "CUENTA-Ñ", BigDecimal.ONE, AccountType.SAVINGS, 1, true)).isFalse();
+        assertThat(store.put(3, "SVG-1", new BigDecimal("0.001"), AccountType.SAVINGS, 1, true)).isFalse();
+        assertThat(store.put(4, "SVG-1", new BigDecimal("1e20"), AccountType.SAVINGS, 1, true)).isFalse();
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void close_deletesTheFile() throws Exception {
+        store.put(1, "SVG-1", BigDecimal.ONE, AccountType.SAVINGS, 1, true);
+        assertThat(Files.exists(dir.resolve("accounts-1.dat"))).isTrue();
+
+        store.close();
+
+        assertThat(Files.exists(dir.resolve("accounts-1.dat"))).isFalse();
+    }
+}
@@ -0,0 +1,63 @@
+package org.banking.accountms.service.sql;
+
+import org.banking.accountms.config.TracingProperties;
+import org.banking.accountms.service.tracing.Span;
+import org.banking.accountms.service.tracing.SpanKind;
+import org.banking.accountms.service.tracing.TraceFileExporter;
+import org.banking.accountms.service.tracing.Tracer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CountingDataSourceTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(
+            new CountingDataSource(new DriverManagerDataSource("jdbc:h2:mem:counting;DB_CLOSE_DELAY=-1")));
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.stop();
+        jdbcTemplate.execute("DROP TABLE IF EXISTS items");
+    }
+
+    @Test
+    void countsEachExecutionAndABatchOnce() {
+        jdbcTemplate.execute("CREATE TABLE items (id INT)");
+
+        SqlStatementCounter.start();
+        jdbcTemplate.update("INSERT INTO items VALUES (?)", 1);
+        jdbcTemplate.batchUpdate("INSERT INTO items VALUES (?)", List.of(new Object[]{2}, new Object[]{3}));
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+
+        assertThat(SqlStatementCounter.stop()).isEqualTo(3);
+    }
+
+    @Test
+    void ignoresStatementsOutsideAMeasuredRequest() {
+        jdbcTemplate.execute("CREATE TABLE items (id INT)");
+        jdbcTemplate.update("INSERT INTO items VALUES (1)");
+
+        SqlStatementCounter.start();
+
+        assertThat(SqlStatementCounter.current()).isZero();
+    }
+
+    @Test
+    void feedsTheStatementCountOfTheCurrentSpan() {
+        jdbcTemplate.execute("CREATE TABLE items (id INT)");
+        Tracer tracer = new Tracer(new TracingProperties(), mock(TraceFileExporter.class));
+
+        Span root = tracer.startTrace("GET /cuentas/{id}", SpanKind.SERVER, null);
+        jdbcTemplate.update("INSERT INTO items VALUES (1)");
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Integer.class);
+        tracer.end(root, null);
+
+        assertThat(root.getAttributes()).containsEntry("db.statement_total", 2);
+    }
+}
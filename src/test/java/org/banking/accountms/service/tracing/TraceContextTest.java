@@ -0,0 +1,37 @@
+package org.banking.accountms.service.tracing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TraceContextTest {
+
+    @Test
+    void parse_readsW3cTraceparentAndFormatsItBack() {
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        TraceContext context = TraceContext.parse(header);
+
+        assertThat(context.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(context.getSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(context.isSampled()).isTrue();
+        assertThat(context.traceparent()).isEqualTo(header);
+    }
+
+    @Test
+    void parse_rejectsMalformedHeaders() {
+        assertThat(TraceContext.parse(null)).isNull();
+        assertThat(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7")).isNull();
+        assertThat(TraceContext.parse("01-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceContext.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-0000000000000000-01")).isNull();
+    }
+
+    @Test
+    void newIds_areLowercaseHexOfTheRightLength() {
+        String traceparent = new TraceContext(TraceContext.newTraceId(), TraceContext.newSpanId(), true).traceparent();
+
+        assertThat(TraceContext.parse(traceparent)).isNotNull();
+    }
+}
@@ -0,0 +1,69 @@
+package org.banking.accountms.service.tracing;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.banking.accountms.config.TracingProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TraceFileExporterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void write_producesOtlpJsonLines() throws Exception {
+        TraceFileExporter exporter = new TraceFileExporter(properties(1024 * 1024));
+        Span root = new Span("4bf92f3577b34da6a3ce929d0e0e4736", "00f067aa0ba902b7", null,
+                "GET /cuentas/{id}", SpanKind.SERVER, 1_000L, 0L);
+        root.attribute("http.status_code", 500).fail("HTTP 500");
+        root.end(2_500L);
+
+        exporter.write(List.of(root));
+
+        List<String> lines = Files.readAllLines(dir.resolve("traces.jsonl"));
+        assertThat(lines).hasSize(1);
+        JsonNode resourceSpans = new ObjectMapper().readTree(lines.get(0)).path("resourceSpans").get(0);
+        assertThat(resourceSpans.at("/resource/attributes/0/value/stringValue").asText()).isEqualTo("AccountMS");
+        JsonNode span = resourceSpans.at("/scopeSpans/0/spans/0");
+        assertThat(span.path("traceId").asText()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(span.path("kind").asInt()).isEqualTo(2);
+        assertThat(span.path("startTimeUnixNano").asText()).isEqualTo("1000");
+        assertThat(span.path("endTimeUnixNano").asText()).isEqualTo("3500");
+        assertThat(span.has("parentSpanId")).isFalse();
+        assertThat(span.at("/attributes/0/value/intValue").asText()).isEqualTo("500");
+        assertThat(span.at("/status/code").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void write_rotatesWhenTheFileIsFull() throws Exception {
+        TraceFileExporter exporter = new TraceFileExporter(properties(600));
+
+        for (int i = 0; i < 10; i++) {
+            Span span = new Span(TraceContext.newTraceId(), TraceContext.newSpanId(), null,
+                    "GET /cuentas", SpanKind.SERVER, 0L, 0L);
+            span.end(1L);
+            exporter.write(List.of(span));
+        }
+
+        assertThat(Files.size(dir.resolve("traces.jsonl"))).isLessThanOrEqualTo(600);
+        assertThat(dir.resolve("traces.jsonl.1")).exists();
+        assertThat(dir.resolve("traces.jsonl.2")).exists();
+        assertThat(dir.resolve("traces.jsonl.3")).doesNotExist();
+    }
+
+    private TracingProperties properties(long maxFileBytes) {
+        TracingProperties properties = new TracingProperties();
+        properties.setEnabled(false);
+        properties.setExportPath(dir.resolve("traces.jsonl").toString());
+        properties.setMaxFileBytes(maxFileBytes);
+        properties.setMaxFiles(3);
+        return properties;
+    }
+}
@@ -0,0 +1,120 @@
+package org.banking.accountms.service.tracing;
+
+import org.banking.accountms.config.TracingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TracerTest {
+
+    @Mock
+    private TraceFileExporter exporter;
+
+    private final AtomicLong clock = new AtomicLong();
+    private TracingProperties properties;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TracingProperties();
+        properties.setSlowThresholdMs(100);
+        tracer = new Tracer(properties, exporter, clock::get);
+    }
+
+    @AfterEach
+    void tearDown() {
+        assertThat(tracer.currentTraceparent()).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void slowTrace_isExportedWithNestedSpansAndStatementCounts() {
+        Span root = tracer.startTrace("GET /cuentas/{id}", SpanKind.SERVER,
+                "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+        Span service = tracer.startSpan("AccountService.get", SpanKind.INTERNAL);
+        Span repository = tracer.startSpan("AccountRepository.findById", SpanKind.INTERNAL);
+        Tracer.recordStatement();
+        Tracer.recordStatement();
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(150));
+        tracer.end(repository, null);
+        Tracer.recordStatement();
+        tracer.end(service, null);
+        tracer.end(root, null);
+
+        ArgumentCaptor<List<Span>> spans = ArgumentCaptor.forClass(List.class);
+        verify(exporter).export(spans.capture());
+        assertThat(spans.getValue()).containsExactly(repository, service, root);
+        assertThat(root.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(root.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(service.getParentSpanId()).isEqualTo(root.getSpanId());
+        assertThat(repository.getParentSpanId()).isEqualTo(service.getSpanId());
+        assertThat(repository.getAttributes()).containsEntry("db.statement_count", 2);
+        assertThat(service.getAttributes()).containsEntry("db.statement_count", 1);
+        assertThat(root.getAttributes()).containsEntry("db.statement_total", 3);
+        assertThat(repository.getDurationNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(150));
+    }
+
+    @Test
+    void fastTrace_isDroppedUnlessItFailed() {
+        Span fast = tracer.startTrace("GET /cuentas", SpanKind.SERVER, null);
+        tracer.end(fast, null);
+        verifyNoInteractions(exporter);
+
+        Span failed = tracer.startTrace("POST /cuentas", SpanKind.SERVER, null);
+        tracer.end(failed, new IllegalStateException("sin conexión"));
+
+        verify(exporter).export(List.of(failed));
+        assertThat(failed.getError()).isEqualTo("IllegalStateException: sin conexión");
+    }
+
+    @Test
+    void spansBeyondTheLimit_areCountedButNotRecorded() {
+        properties.setMaxSpansPerTrace(2);
+        properties.setSampleRate(1.0);
+        Span root = tracer.startTrace("GET /cuentas", SpanKind.SERVER, null);
+        Span child = tracer.startSpan("AccountService.list", SpanKind.INTERNAL);
+
+        assertThat(tracer.startSpan("AccountRepository.findAll", SpanKind.INTERNAL)).isNull();
+
+        tracer.end(child, null);
+        tracer.end(root, null);
+        verify(exporter).export(List.of(child, root));
+        assertThat(root.getAttributes()).containsEntry("tracing.dropped_spans", 1);
+    }
+
+    @Test
+    void withoutActiveTrace_nothingIsRecorded() {
+        assertThat(tracer.startSpan("AccountService.get", SpanKind.INTERNAL)).isNull();
+        Tracer.recordStatement();
+
+        properties.setEnabled(false);
+        assertThat(tracer.startTrace("GET /cuentas", SpanKind.SERVER, null)).isNull();
+        verifyNoInteractions(exporter);
+    }
+
+    @Test
+    void currentTraceparent_pointsAtTheInnermostSpan() {
+        Span root = tracer.startTrace("GET /cuentas", SpanKind.SERVER, null);
+        Span gateway = tracer.startSpan("ClientGateway.exists", SpanKind.CLIENT);
+
+        assertThat(tracer.currentTraceparent())
+                .isEqualTo("00-" + root.getTraceId() + "-" + gateway.getSpanId() + "-01");
+
+        tracer.end(gateway, null);
+        tracer.end(root, null);
+        verify(exporter, never()).export(any());
+    }
+}